@@ -0,0 +1,25 @@
+import os
+
+import requests
+
+# 적재가 끝난 뒤 애플리케이션의 인메모리 마커 인덱스를 즉시 갱신한다.
+# APP_BASE_URL / ADMIN_TOKEN 이 없으면 건너뛰며, 이 경우 서버가 주기적으로 변경을 감지한다.
+APP_BASE_URL = os.getenv("APP_BASE_URL", "http://localhost:8080")
+ADMIN_TOKEN = os.getenv("ADMIN_TOKEN")
+
+
+def notify_marker_index_reload():
+    if not ADMIN_TOKEN:
+        print("ℹ ADMIN_TOKEN 미설정 - 마커 인덱스 재적재 요청 생략")
+        return
+
+    try:
+        res = requests.post(
+            f"{APP_BASE_URL}/map/admin/index/reload",
+            headers={"X-Admin-Token": ADMIN_TOKEN},
+            timeout=60,
+        )
+        res.raise_for_status()
+        print(f"🔄 마커 인덱스 재적재 완료: {res.json()}")
+    except Exception as e:
+        print(f"⚠ 마커 인덱스 재적재 요청 실패: {e}")
@@ -0,0 +1,112 @@
+# bench_viewport.py
+# 뷰포트 조회 SQL 전/후 비교 벤치마크 (findByViewport 의 museum / heritage / all 세 가지 모드)
+# - before: 요청마다 regexp_split_to_table + NOT EXISTS(exhibited_at) 계산
+# - after : heritage_designation_codes 사용 (전시 여부는 그대로 NOT EXISTS, exhibited_at(heritages_id) 인덱스)
+# 사전 계산 테이블은 스키마 스크립트(src/main/resources/db/schema)로 만들고 마커 인덱스 재빌드 때 채워진다.
+#
+# 사용: python bench_viewport.py [반복 횟수]
+
+import statistics
+import sys
+
+import psycopg2
+
+from config import DB_CONFIG
+
+# (이름, south, west, north, east)
+BBOXES = [
+    ("서울 도심", 37.54, 126.94, 37.60, 127.03),
+    ("경주", 35.76, 129.15, 35.90, 129.30),
+    ("전국", 33.0, 124.5, 38.7, 131.0),
+]
+DESIGS = ["11", "12", "13"]  # 국보/보물/사적
+LIMIT = 250
+
+MUSEUM_SELECT = """
+    SELECT m.id FROM museums m
+    WHERE m.geom IS NOT NULL
+      AND ST_X(m.geom) <> 0 AND ST_Y(m.geom) <> 0
+      AND ST_Intersects(m.geom, ST_MakeEnvelope(%(w)s,%(s)s,%(e)s,%(n)s,4326))
+      AND {desig}
+"""
+HERITAGE_SELECT = """
+    SELECT h.id FROM heritages h
+    WHERE h.geom IS NOT NULL
+      AND ST_X(h.geom) <> 0 AND ST_Y(h.geom) <> 0
+      AND ST_Intersects(h.geom, ST_MakeEnvelope(%(w)s,%(s)s,%(e)s,%(n)s,4326))
+      AND {visible}
+      AND {desig}
+"""
+
+BEFORE = {
+    "museum_desig": """EXISTS (
+        SELECT 1 FROM exhibited_at ea JOIN heritages h ON h.id = ea.heritages_id
+        WHERE ea.museums_id = m.id
+          AND EXISTS (SELECT 1 FROM regexp_split_to_table(COALESCE(h.designation,''), '[|,/]') AS d(code)
+                      WHERE btrim(d.code) = ANY(%(desigs)s)))""",
+    "heritage_visible": "NOT EXISTS (SELECT 1 FROM exhibited_at ea WHERE ea.heritages_id = h.id)",
+    "heritage_desig": """EXISTS (
+        SELECT 1 FROM regexp_split_to_table(COALESCE(h.designation,''), '[|,/]') AS d(code)
+        WHERE btrim(d.code) = ANY(%(desigs)s))""",
+}
+AFTER = {
+    "museum_desig": """EXISTS (
+        SELECT 1 FROM exhibited_at ea JOIN heritage_designation_codes dc ON dc.heritage_id = ea.heritages_id
+        WHERE ea.museums_id = m.id AND dc.code = ANY(%(desigs)s))""",
+    "heritage_visible": "NOT EXISTS (SELECT 1 FROM exhibited_at ea WHERE ea.heritages_id = h.id)",
+    "heritage_desig": """EXISTS (
+        SELECT 1 FROM heritage_designation_codes dc
+        WHERE dc.heritage_id = h.id AND dc.code = ANY(%(desigs)s))""",
+}
+
+
+def build_sql(mode, parts):
+    museum = MUSEUM_SELECT.format(desig=parts["museum_desig"])
+    heritage = HERITAGE_SELECT.format(visible=parts["heritage_visible"], desig=parts["heritage_desig"])
+    if mode == "museum":
+        body = museum
+    elif mode == "heritage":
+        body = heritage
+    else:
+        body = f"({museum}) UNION ALL ({heritage})"
+    return f"{body} LIMIT {LIMIT}"
+
+
+def measure(cur, sql, params, repeat):
+    times = []
+    for _ in range(repeat):
+        cur.execute("EXPLAIN (ANALYZE, FORMAT JSON) " + sql, params)
+        times.append(cur.fetchone()[0][0]["Execution Time"])
+    return statistics.median(times)
+
+
+def main():
+    repeat = int(sys.argv[1]) if len(sys.argv) > 1 else 20
+    conn = psycopg2.connect(
+        host=DB_CONFIG["host"],
+        port=DB_CONFIG["port"],
+        user=DB_CONFIG["user"],
+        password=DB_CONFIG["password"],
+        dbname=DB_CONFIG["dbname"]
+    )
+    try:
+        with conn.cursor() as cur:
+            cur.execute("SELECT (SELECT count(*) FROM heritages), (SELECT count(*) FROM museums), "
+                        "(SELECT count(*) FROM exhibited_at)")
+            h, m, ea = cur.fetchone()
+            print(f"📊 heritages={h}, museums={m}, exhibited_at={ea}, 반복={repeat} (중앙값, ms)")
+            print(f"{'mode':<9} {'bbox':<6} {'before':>9} {'after':>9} {'배수':>6}")
+
+            for mode in ("museum", "heritage", "all"):
+                for name, s, w, n, e in BBOXES:
+                    params = {"s": s, "w": w, "n": n, "e": e, "desigs": DESIGS}
+                    before = measure(cur, build_sql(mode, BEFORE), params, repeat)
+                    after = measure(cur, build_sql(mode, AFTER), params, repeat)
+                    ratio = before / after if after > 0 else float("inf")
+                    print(f"{mode:<9} {name:<6} {before:9.2f} {after:9.2f} {ratio:5.1f}x")
+    finally:
+        conn.close()
+
+
+if __name__ == "__main__":
+    main()
@@ -1,5 +1,6 @@
 from adapters.heritage_api import get_heritages_by_kind_code
 from db.insert_heritages import insert_heritages
+from adapters.app_notify import notify_marker_index_reload
 import time
 
 
@@ -23,6 +24,7 @@ def main():
             time.sleep(0.5)
 
     print("\n🎉 전체 수집 및 저장 완료")
+    notify_marker_index_reload()
 
 
 if __name__ == "__main__":
@@ -1,5 +1,6 @@
 from adapters.museum_api import get_all_museums
 from db.insert_museums import insert_museums
+from adapters.app_notify import notify_marker_index_reload
 
 
 def main():
@@ -11,6 +12,7 @@ def main():
     if museums:
         print("💾 저장 중...")
         insert_museums(museums)
+        notify_marker_index_reload()
 
     print("🏁 완료")
 
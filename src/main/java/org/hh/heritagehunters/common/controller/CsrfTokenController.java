@@ -0,0 +1,41 @@
+package org.hh.heritagehunters.common.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 세션 CSRF 토큰 발급 (화면 없이 세션 로그인으로 API 를 쓰는 클라이언트용)
+ * - 웹 화면은 템플릿의 _csrf 메타 태그/히든 필드로 받는다
+ */
+@RestController
+@Tag(name = "csrf-token-controller", description = "CSRF Token API Controller")
+public class CsrfTokenController {
+
+  @GetMapping("/csrf")
+  @Operation(
+      summary = "CSRF 토큰 발급",
+      description = "현재 세션의 CSRF 토큰을 돌려줍니다. POST/PUT/DELETE API 는 세션 쿠키(JSESSIONID)와 함께 "
+          + "headerName 헤더에 token 을 담아 보내야 합니다. 로그인(POST /login)에도 필요하며, "
+          + "로그인하면 토큰이 바뀌므로 로그인 후 다시 발급받습니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "발급 성공")
+  })
+  public CsrfTokenResponse csrfToken(@Parameter(hidden = true) CsrfToken token) {
+    return new CsrfTokenResponse(token.getHeaderName(), token.getParameterName(), token.getToken());
+  }
+
+  @Schema(name = "CsrfTokenResponse", description = "CSRF 토큰")
+  public record CsrfTokenResponse(
+      @Schema(description = "토큰을 담을 요청 헤더", example = "X-CSRF-TOKEN") String headerName,
+      @Schema(description = "폼 전송 시 파라미터 이름", example = "_csrf") String parameterName,
+      @Schema(description = "토큰 값") String token) {
+  }
+}
@@ -0,0 +1,15 @@
+package org.hh.heritagehunters.common.exception;
+
+import lombok.Getter;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException{
+
+  private final ErrorCode errorCode;
+
+  public TooManyRequestsException(ErrorCode errorCode) {
+    super(errorCode.getMessage());
+    this.errorCode = errorCode;
+  }
+}
@@ -17,6 +17,7 @@ public enum ErrorCode {
   IMAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "이미지 파일이 너무 큽니다. 최대 크기는 50MB입니다."),
   TOO_MANY_IMAGES(HttpStatus.BAD_REQUEST, "이미지는 최대 3장까지만 업로드할 수 있습니다."),
   IMAGE_UPLOAD_FAILED(HttpStatus.BAD_REQUEST, "이미지 업로드에 실패했습니다."),
+  IMAGE_UPLOAD_NOT_FOUND(HttpStatus.BAD_REQUEST, "업로드된 이미지를 찾을 수 없습니다. 다시 업로드해주세요."),
 
   // 401 - Unauthorized
   LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
@@ -36,6 +37,10 @@ public enum ErrorCode {
   DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
   DUPLICATE_NICKNAME(HttpStatus.CONFLICT, "이미 사용 중인 닉네임입니다."),
 
+  // 429 - Too Many Requests (잠시 후 재시도 가능)
+  UPLOAD_BUSY(HttpStatus.TOO_MANY_REQUESTS, "이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+  UPLOAD_USER_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "진행 중인 이미지 업로드가 많습니다. 잠시 후 다시 시도해주세요."),
+
   //500 - Internal Server Error
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
   DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 오류가 발생했습니다."),
@@ -7,8 +7,10 @@ import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.hh.heritagehunters.common.exception.BadRequestException;
 import org.hh.heritagehunters.common.exception.ConflictException;
+import org.hh.heritagehunters.common.exception.ForbiddenException;
 import org.hh.heritagehunters.common.exception.InternalServerErrorException;
 import org.hh.heritagehunters.common.exception.NotFoundException;
+import org.hh.heritagehunters.common.exception.TooManyRequestsException;
 import org.hh.heritagehunters.common.exception.UnauthorizedException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
 import org.springframework.http.HttpHeaders;
@@ -41,6 +43,9 @@ import java.util.Objects;
 @RestControllerAdvice(annotations = RestController.class)
 public class ApiExceptionHandler {
 
+  /** 과부하 거절 시 재시도 권장 간격 (초) */
+  private static final String RETRY_AFTER_SECONDS = "5";
+
   // ====== 1) 프로젝트 커스텀 예외들 ======
 
   @ExceptionHandler(BadRequestException.class)
@@ -53,6 +58,11 @@ public class ApiExceptionHandler {
     return fromErrorCode(ex.getErrorCode(), null);
   }
 
+  @ExceptionHandler(ForbiddenException.class)
+  public ResponseEntity<ApiErrorResponse> handleForbidden(ForbiddenException ex) {
+    return fromErrorCode(ex.getErrorCode(), null);
+  }
+
   @ExceptionHandler(NotFoundException.class)
   public ResponseEntity<ApiErrorResponse> handleNotFound(NotFoundException ex) {
     return fromErrorCode(ex.getErrorCode(), null);
@@ -63,6 +73,15 @@ public class ApiExceptionHandler {
     return fromErrorCode(ex.getErrorCode(), null);
   }
 
+  /** 일시적 과부하 - 잠시 후 재시도 */
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<ApiErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+    ResponseEntity<ApiErrorResponse> response = fromErrorCode(ex.getErrorCode(), null);
+    return ResponseEntity.status(response.getStatusCode())
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .body(response.getBody());
+  }
+
   @ExceptionHandler(InternalServerErrorException.class)
   public ResponseEntity<ApiErrorResponse> handleInternal(InternalServerErrorException ex) {
     log.error("InternalServerErrorException", ex);
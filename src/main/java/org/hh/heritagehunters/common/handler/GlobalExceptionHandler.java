@@ -10,6 +10,7 @@ import org.hh.heritagehunters.common.exception.oauth.DuplicateNicknameException;
 import org.hh.heritagehunters.common.exception.InternalServerErrorException;
 import org.hh.heritagehunters.common.exception.NotFoundException;
 import org.hh.heritagehunters.common.exception.oauth.PasswordMismatchException;
+import org.hh.heritagehunters.common.exception.TooManyRequestsException;
 import org.hh.heritagehunters.common.exception.UnauthorizedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
@@ -125,6 +126,23 @@ public class GlobalExceptionHandler {
     return redirectToPreviousPage(request);
   }
 
+  /**
+   * TooManyRequestsException
+   * 이미지 업로드가 몰려 요청을 받지 못한 경우 - 잠시 후 다시 시도하도록 안내
+   */
+  @ExceptionHandler(TooManyRequestsException.class)
+  public String handleTooManyRequestsException(
+      TooManyRequestsException e,
+      HttpServletRequest request,
+      RedirectAttributes redirectAttributes) {
+
+    log.warn("TooManyRequestsException: {}, URI: {}", e.getMessage(), request.getRequestURI());
+
+    addToastMessage(redirectAttributes, "warning", e.getErrorCode().getMessage());
+
+    return redirectToPreviousPage(request);
+  }
+
   /**
    * InternalServerErrorException
    */
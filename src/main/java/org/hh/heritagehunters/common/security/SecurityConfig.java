@@ -57,6 +57,7 @@ public class SecurityConfig {
                 "/register",
                 "/login",
                 "/logout",
+                "/csrf",
                 "/map/**",
                 "/heritage/**",
                 "/posts/**",
@@ -90,6 +91,8 @@ public class SecurityConfig {
             })
             .defaultSuccessUrl("/main", true)
         )
+        // ETL 스크립트가 호출하는 관리자 API (X-Admin-Token 헤더로 검증)
+        .csrf(csrf -> csrf.ignoringRequestMatchers("/map/admin/**"))
         .logout(logout -> logout.logoutSuccessUrl("/login?logout").permitAll())
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED));
@@ -1,9 +1,14 @@
 package org.hh.heritagehunters.config;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
+import org.hh.heritagehunters.domain.search.dto.AiType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,4 +18,23 @@ import org.springframework.context.annotation.Configuration;
 @Setter
 public class AiClientProperties {
   private Map<Integer, String> clients = new HashMap<>();
+  private Cache cache = new Cache();
+
+  /**
+   * AI 응답 캐시 (AiResponseCache)
+   */
+  @Getter
+  @Setter
+  public static class Cache {
+    /** 메모리에 두는 최대 응답 수 (0 이면 캐시 끔, 동시 요청 합치기는 유지) */
+    private int maxEntries = 5000;
+    /** 타입별 유지 시간 (날씨는 짧게, 요약은 길게, 없는 타입은 캐시하지 않음) */
+    private Map<AiType, Duration> ttl = new EnumMap<>(Map.of(
+        AiType.weather, Duration.ofMinutes(10),
+        AiType.news, Duration.ofHours(6),
+        AiType.recommends, Duration.ofHours(24),
+        AiType.summary, Duration.ofDays(30)));
+    /** DB(ai_response_cache)에도 저장해 재시작 후에도 쓰는 타입 */
+    private Set<AiType> persistentTypes = EnumSet.of(AiType.summary);
+  }
 }
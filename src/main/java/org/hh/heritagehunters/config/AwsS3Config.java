@@ -1,5 +1,6 @@
 package org.hh.heritagehunters.config;
 
+import java.net.URI;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,8 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 public class AwsS3Config {
@@ -25,20 +28,50 @@ public class AwsS3Config {
   @Value("${cloud.aws.region.static}")
   private String region;
 
+  // S3 호환 저장소(MinIO, LocalStack 등)를 쓸 때만 지정 (비우면 AWS S3)
+  @Value("${cloud.aws.s3.endpoint:}")
+  private String endpoint;
+
+  @Value("${cloud.aws.s3.path-style-access:false}")
+  private boolean pathStyleAccess;
+
   @Bean
   public S3Client s3Client() {
-    S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+    S3ClientBuilder builder = S3Client.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(s3Configuration());
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
 
+  /**
+   * 브라우저가 S3 에 직접 올리도록 서명된 URL 을 만든다 (네트워크 호출 없음)
+   */
+  @Bean(destroyMethod = "close")
+  public S3Presigner s3Presigner() {
+    S3Presigner.Builder builder = S3Presigner.builder()
+        .region(Region.of(region))
+        .credentialsProvider(credentialsProvider())
+        .serviceConfiguration(s3Configuration());
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  private AwsCredentialsProvider credentialsProvider() {
     // 로컬/개발에선 키가 있으면 그걸 사용, 없으면 EC2 Role 등 기본 체인 사용
     if (StringUtils.hasText(accessKey) && StringUtils.hasText(secretKey)) {
-      AwsCredentialsProvider staticCreds =
-          StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
-      builder.credentialsProvider(staticCreds);
-    } else {
-      // EC2 IAM Role, 환경변수, 프로파일 등 기본 자격증명 체인
-      builder.credentialsProvider(DefaultCredentialsProvider.create());
+      return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
     }
+    // EC2 IAM Role, 환경변수, 프로파일 등 기본 자격증명 체인
+    return DefaultCredentialsProvider.create();
+  }
 
-    return builder.build();
+  private S3Configuration s3Configuration() {
+    return S3Configuration.builder().pathStyleAccessEnabled(pathStyleAccess).build();
   }
-}
\ No newline at end of file
+}
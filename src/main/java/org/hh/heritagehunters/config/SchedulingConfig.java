@@ -0,0 +1,13 @@
+package org.hh.heritagehunters.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * - 스레드 수는 spring.task.scheduling.pool.size (S3 호출/색인 재빌드가 카운터 반영 작업을 막지 않도록 여러 개)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
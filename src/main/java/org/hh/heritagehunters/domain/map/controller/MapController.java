@@ -2,6 +2,7 @@ package org.hh.heritagehunters.domain.map.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,10 +14,15 @@ import org.hh.heritagehunters.common.handler.ApiExceptionHandler;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
 import org.hh.heritagehunters.domain.map.service.MapService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
@@ -41,13 +47,15 @@ public class MapController {
       description = "필터 조건에 따라 문화유산 및 박물관의 지도 마커 정보를 JSON 형태로 반환합니다."
   )
   @ApiResponses(value = {
-      @ApiResponse(responseCode = "200", description = "마커 데이터 조회 성공"),
+      @ApiResponse(responseCode = "200", description = "마커 데이터 조회 성공",
+          content = @Content(array = @ArraySchema(schema = @Schema(implementation = MapMarkerDto.class)))),
+      @ApiResponse(responseCode = "304", description = "마커 데이터 변경 없음 (If-None-Match 일치)"),
       @ApiResponse(responseCode = "500", description = "서버 내부 오류",
           content = @Content(schema = @Schema(implementation = ApiExceptionHandler.class))),
   })
   @GetMapping(value = "/map", produces = MediaType.APPLICATION_JSON_VALUE)
   @ResponseBody
-  public List<MapMarkerDto> getMapMarkers(
+  public ResponseEntity<byte[]> getMapMarkers(
       @Parameter(description = "마커 타입 필터 (all/heritage/museum)")
       @RequestParam(required = false, defaultValue = "all") String type,
       @Parameter(description = "문화재 지정 종류 필터", example = "국보")
@@ -55,7 +63,8 @@ public class MapController {
       @Parameter(description = "지역 필터", example = "서울특별시")
       @RequestParam(required = false) String region,
       @Parameter(description = "시대 필터", example = "조선시대")
-      @RequestParam(required = false) String era
+      @RequestParam(required = false) String era,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
   ) {
     // type이 쿼리에 빈 문자열로 들어온 경우까지 all 처리
     String resolvedType = (type == null || type.isBlank()) ? "all" : type;
@@ -66,7 +75,21 @@ public class MapController {
     List<String> regions = (region == null || region.isBlank()) ? null : List.of(region);
     List<String> eras = (era == null || era.isBlank()) ? null : List.of(era);
 
-    return mapService.getMarkers(resolvedType, designations, regions, eras);
+    // 스냅샷 버전이 같으면 같은 URL 의 응답도 같으므로 304 (버전은 데이터보다 먼저 읽는다)
+    String etag = "\"map-v" + mapService.snapshotVersion() + "\"";
+    if (etag.equals(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+
+    // 필터 조합별로 미리 직렬화해 둔 JSON 바이트를 그대로 내려준다
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(etag)
+        .cacheControl(CacheControl.noCache())
+        .body(mapService.getMarkersJson(resolvedType, designations, regions, eras));
   }
 
 }
@@ -0,0 +1,82 @@
+package org.hh.heritagehunters.domain.map.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.common.handler.ApiExceptionHandler;
+import org.hh.heritagehunters.domain.map.tile.MapTileService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/map/tiles")
+@RequiredArgsConstructor
+@Tag(name = "map-tile-controller", description = "Map Vector Tile Controller")
+public class MapTileController {
+
+  public static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+  private static final int MAX_ZOOM = 22;
+
+  private final MapTileService tileService;
+
+  @Operation(
+      summary = "벡터 타일(MVT) 조회",
+      description = "museums / heritages 레이어의 Mapbox Vector Tile 을 반환합니다. "
+          + "필터는 /map/points 와 같고, ETag 가 일치하면 304 를 반환합니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "타일 조회 성공"),
+      @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+      @ApiResponse(responseCode = "400", description = "잘못된 타일 좌표",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  @GetMapping("/{z}/{x}/{y}.mvt")
+  public ResponseEntity<byte[]> tile(
+      @Parameter(description = "줌 (0-22)", example = "7") @PathVariable int z,
+      @Parameter(description = "타일 X", example = "109") @PathVariable int x,
+      @Parameter(description = "타일 Y", example = "50") @PathVariable int y,
+      @Parameter(description = "마커 타입", example = "all")
+      @RequestParam(defaultValue = "all") String type,
+      @Parameter(description = "박물관 카테고리 목록")
+      @RequestParam(name = "museumCats", required = false) List<String> museumCats,
+      @Parameter(description = "문화재 지정 목록")
+      @RequestParam(name = "designations", required = false) List<String> designations,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+  ) {
+    if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+      throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    CacheControl cache = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+    String etag = tileService.etag(z, x, y, type, museumCats, designations);
+    if (etag.equals(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cache).build();
+    }
+
+    MapTileService.Tile tile = tileService.tile(z, x, y, type, museumCats, designations);
+    return ResponseEntity.ok()
+        .contentType(MVT)
+        .eTag(tile.etag())
+        .cacheControl(cache)
+        .body(tile.bytes());
+  }
+}
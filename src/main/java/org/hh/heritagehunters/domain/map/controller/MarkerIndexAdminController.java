@@ -0,0 +1,65 @@
+package org.hh.heritagehunters.domain.map.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.RequiredArgsConstructor;
+import org.hh.heritagehunters.common.exception.ForbiddenException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.common.handler.ApiExceptionHandler;
+import org.hh.heritagehunters.domain.map.dto.MarkerIndexStatusDto;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.service.MarkerIndexService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/map/admin")
+@RequiredArgsConstructor
+@Tag(name = "map-admin-controller", description = "Map Admin Controller")
+public class MarkerIndexAdminController {
+
+  private final MarkerIndexService markerIndexService;
+
+  @Value("${map.admin.token:}")
+  private String adminToken;
+
+  @Operation(
+      summary = "마커 인덱스 재적재",
+      description = "DB에서 박물관/문화재 데이터를 다시 읽어 인메모리 마커 인덱스를 교체합니다. ETL 종료 시 호출됩니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "재적재 성공"),
+      @ApiResponse(responseCode = "403", description = "관리자 토큰 불일치",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  @PostMapping("/index/reload")
+  public MarkerIndexStatusDto reload(
+      @Parameter(description = "관리자 토큰 (map.admin.token)", required = true)
+      @RequestHeader(name = "X-Admin-Token", required = false) String token
+  ) {
+    if (!isAdmin(token)) {
+      throw new ForbiddenException(ErrorCode.ACCESS_DENIED);
+    }
+    MarkerIndex index = markerIndexService.reload();
+    return new MarkerIndexStatusDto(index.getVersion(), index.size(), index.getBuiltAt());
+  }
+
+  // 토큰이 설정되지 않았으면 항상 거부
+  private boolean isAdmin(String token) {
+    if (adminToken == null || adminToken.isBlank() || token == null) {
+      return false;
+    }
+    return MessageDigest.isEqual(
+        adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+  }
+}
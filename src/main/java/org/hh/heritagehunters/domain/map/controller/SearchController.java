@@ -12,7 +12,9 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.common.handler.ApiExceptionHandler;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.dto.SuggestionDto;
 import org.hh.heritagehunters.domain.map.service.SearchService;
+import org.hh.heritagehunters.domain.map.service.SuggestService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +29,7 @@ import java.util.List;
 public class SearchController {
 
   private final SearchService searchService;
+  private final SuggestService suggestService;
 
   @Operation(
       summary = "문화유산 및 박물관 검색",
@@ -54,4 +57,24 @@ public class SearchController {
     List<MapMarkerDto> result = searchService.search(query, type, limit);
     return ResponseEntity.ok(result);
   }
-}
\ No newline at end of file
+
+  @Operation(
+      summary = "검색어 자동완성",
+      description = "입력 중인 접두어로 문화유산/박물관 이름과 지역명을 인기도(게시글 수) 순으로 제안합니다. 초성 입력(예: ㄱㅂㄱ)도 지원하며 limit은 1-20으로 제한됩니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "자동완성 조회 성공 (일치 항목이 없거나 q가 비어 있으면 빈 배열)"),
+      @ApiResponse(responseCode = "400", description = "잘못된 파라미터 (@Min/@Max 검증 실패 시 INVALID_INPUT_VALUE)",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  @GetMapping("/suggest")
+  public ResponseEntity<List<SuggestionDto>> suggest(
+      @Parameter(description = "입력 중인 검색어", example = "경복")
+      @RequestParam(name = "q", defaultValue = "") String query,
+      @Parameter(description = "조회 개수 제한 (1-20)", example = "10")
+      @RequestParam(name = "limit", defaultValue = "10")
+      @Min(1) @Max(20) int limit
+  ) {
+    return ResponseEntity.ok(suggestService.suggest(query, limit));
+  }
+}
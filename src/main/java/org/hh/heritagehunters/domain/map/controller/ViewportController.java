@@ -9,11 +9,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.common.handler.ApiExceptionHandler;
+import org.hh.heritagehunters.domain.map.dto.MapClusterResponseDto;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.dto.MarkerChangesDto;
+import org.hh.heritagehunters.domain.map.index.MarkerClusterer;
+import org.hh.heritagehunters.domain.map.index.NearbyCursor;
 import org.hh.heritagehunters.domain.map.service.ViewportService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/map")
@@ -21,6 +30,8 @@ import java.util.List;
 @Tag(name = "map-viewport-controller", description = "Map Viewport Controller")
 public class ViewportController {
 
+  public static final String MARKER_VERSION_HEADER = "X-Marker-Version";
+
   private final ViewportService service;
 
   @Operation(
@@ -29,11 +40,12 @@ public class ViewportController {
   )
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "마커 목록 조회 성공"),
+      @ApiResponse(responseCode = "304", description = "데이터셋 버전이 같음 (If-None-Match 일치)"),
       @ApiResponse(responseCode = "400", description = "잘못된 bbox 형식",
           content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
   })
   @GetMapping("/points")
-  public List<MapMarkerDto> points(
+  public ResponseEntity<List<MapMarkerDto>> points(
       @Parameter(description = "영역 좌표 (south,west,north,east)", example = "37.55,126.96,37.60,127.02", required = true)
       @RequestParam String bbox,
       @Parameter(description = "조회 개수 제한 (1-2000)", example = "800")
@@ -43,20 +55,54 @@ public class ViewportController {
       @Parameter(description = "박물관 카테고리 목록")
       @RequestParam(name = "museumCats", required = false) List<String> museumCats,
       @Parameter(description = "문화재 지정 목록")
-      @RequestParam(name = "designations", required = false) List<String> designations
+      @RequestParam(name = "designations", required = false) List<String> designations,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
   ) {
     // limit 가드(선택)
-    limit = Math.max(1, Math.min(limit, 2000));
-    return service.fetch(bbox, limit, type, museumCats, designations);
+    int safeLimit = Math.max(1, Math.min(limit, 2000));
+    return versioned(ifNoneMatch, () -> service.fetch(bbox, safeLimit, type, museumCats, designations));
+  }
+
+  @Operation(
+      summary = "지도 영역 내 마커 클러스터 조회",
+      description = "줌 레벨에 맞춰 서버에서 마커를 격자 클러스터로 묶어 반환합니다. "
+          + "필터는 /map/points 와 같으며, 줌 " + MarkerClusterer.MAX_CLUSTER_ZOOM
+          + " 초과면 클러스터 없이 개별 마커(limit 적용)만 반환합니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "클러스터 조회 성공"),
+      @ApiResponse(responseCode = "304", description = "데이터셋 버전이 같음 (If-None-Match 일치)"),
+      @ApiResponse(responseCode = "400", description = "잘못된 bbox 형식",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  @GetMapping("/clusters")
+  public ResponseEntity<MapClusterResponseDto> clusters(
+      @Parameter(description = "영역 좌표 (south,west,north,east)", example = "33.0,124.5,38.7,131.0", required = true)
+      @RequestParam String bbox,
+      @Parameter(description = "지도 줌 레벨 (0-22)", example = "7", required = true)
+      @RequestParam int zoom,
+      @Parameter(description = "개별 마커 조회 개수 제한 (1-2000, 클러스터링하지 않는 줌에서만 적용)", example = "800")
+      @RequestParam(defaultValue = "800") int limit,
+      @Parameter(description = "마커 타입", example = "all")
+      @RequestParam(defaultValue = "all") String type,
+      @Parameter(description = "박물관 카테고리 목록")
+      @RequestParam(name = "museumCats", required = false) List<String> museumCats,
+      @Parameter(description = "문화재 지정 목록")
+      @RequestParam(name = "designations", required = false) List<String> designations,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+  ) {
+    int safeLimit = Math.max(1, Math.min(limit, 2000));
+    return versioned(ifNoneMatch,
+        () -> service.clusters(bbox, zoom, safeLimit, type, museumCats, designations));
   }
 
   @Operation(
       summary = "내 위치 반경 내 마커 조회",
-      description = "지정된 위도/경도를 중심으로 반경 내의 문화유산 및 박물관 마커를 조회합니다. radius는 100m-10km, limit은 1-500으로 제한됩니다."
+      description = "지정된 위도/경도를 중심으로 반경 내의 문화유산 및 박물관 마커를 가까운 순으로 조회합니다. radius는 100m-10km, limit은 1-500으로 제한되며 cursor로 다음 페이지를 이어서 조회합니다."
   )
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "주변 마커 목록 조회 성공"),
-      @ApiResponse(responseCode = "400", description = "잘못된 위도/경도 값",
+      @ApiResponse(responseCode = "400", description = "잘못된 위도/경도 값 또는 커서 형식",
           content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
   })
   @GetMapping("/nearby")
@@ -70,7 +116,9 @@ public class ViewportController {
       @Parameter(description = "마커 타입 (museum/heritage/all)", example = "all")
       @RequestParam(defaultValue = "all") String type,
       @Parameter(description = "조회 개수 제한 (1-500)", example = "100")
-      @RequestParam(defaultValue = "100") int limit
+      @RequestParam(defaultValue = "100") int limit,
+      @Parameter(description = "다음 페이지 커서: 이전 응답 마지막 항목의 \"distanceMeters:type:id\"", example = "1250.5:heritage:42")
+      @RequestParam(required = false) String cursor
   ) {
     // 간단한 방어 로직 (원하면 서비스로 내릴 수 있음)
     if (Double.isNaN(lat) || Double.isNaN(lng)) {
@@ -81,6 +129,43 @@ public class ViewportController {
     // limit: 1 ~ 500
     limit = Math.max(1, Math.min(limit, 500));
 
-    return service.nearby(lat, lng, radius, limit, type);
+    return service.nearby(lat, lng, radius, limit, type, NearbyCursor.parse(cursor));
+  }
+
+  @Operation(
+      summary = "마커 변경분 조회",
+      description = "since 버전 이후 추가/수정/삭제된 마커만 반환합니다. 현재 버전은 마커 응답의 "
+          + MARKER_VERSION_HEADER + " 헤더로 내려가며, since 가 너무 오래되었으면 reset=true 로 전체 재조회를 요청합니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "변경분 조회 성공")
+  })
+  @GetMapping("/markers/changes")
+  public MarkerChangesDto changes(
+      @Parameter(description = "클라이언트가 가진 데이터셋 버전", example = "3", required = true)
+      @RequestParam long since
+  ) {
+    return service.changes(since);
+  }
+
+  // 데이터셋 버전 기반 ETag: 같은 URL 이면 버전이 같을 때 응답도 같으므로 304 로 재사용시킨다
+  private <T> ResponseEntity<T> versioned(String ifNoneMatch, Supplier<T> body) {
+    Long version = service.markerVersion(); // 데이터보다 먼저 읽어야 새 데이터에 옛 버전이 붙을 뿐 반대가 되지 않는다
+    if (version == null) {
+      return ResponseEntity.ok(body.get());
+    }
+    String etag = "\"markers-v" + version + "\"";
+    if (etag.equals(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(CacheControl.noCache())
+          .header(MARKER_VERSION_HEADER, version.toString())
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .cacheControl(CacheControl.noCache())
+        .header(MARKER_VERSION_HEADER, version.toString())
+        .body(body.get());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package org.hh.heritagehunters.domain.map.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "MapClusterDto", description = "지도 마커 클러스터")
+public record MapClusterDto(
+    @Schema(description = "클러스터 중심 위도 (소속 마커 평균)", example = "37.5612")
+    double lat,
+    @Schema(description = "클러스터 중심 경도 (소속 마커 평균)", example = "126.9823")
+    double lng,
+    @Schema(description = "소속 마커 수", example = "42")
+    int count,
+    @Schema(description = "그중 박물관 수", example = "5")
+    int museumCount,
+    @Schema(description = "그중 문화유산 수", example = "37")
+    int heritageCount,
+    @Schema(description = "소속 마커 영역 - 남", example = "37.51")
+    double south,
+    @Schema(description = "소속 마커 영역 - 서", example = "126.93")
+    double west,
+    @Schema(description = "소속 마커 영역 - 북", example = "37.60")
+    double north,
+    @Schema(description = "소속 마커 영역 - 동", example = "127.04")
+    double east
+) {}
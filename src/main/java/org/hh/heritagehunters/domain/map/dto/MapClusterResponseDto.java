@@ -0,0 +1,16 @@
+package org.hh.heritagehunters.domain.map.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(name = "MapClusterResponseDto", description = "줌 레벨별 클러스터 조회 결과")
+public record MapClusterResponseDto(
+    @Schema(description = "요청 줌 레벨", example = "8")
+    int zoom,
+    @Schema(description = "클러스터링 여부 (false면 markers 에 개별 마커만 담김)", example = "true")
+    boolean clustered,
+    @Schema(description = "2개 이상 묶인 클러스터 목록")
+    List<MapClusterDto> clusters,
+    @Schema(description = "묶이지 않은 개별 마커 목록")
+    List<MapMarkerDto> markers
+) {}
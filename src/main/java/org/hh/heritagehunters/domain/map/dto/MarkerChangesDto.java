@@ -0,0 +1,20 @@
+package org.hh.heritagehunters.domain.map.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(name = "MarkerChangesDto", description = "마커 데이터셋 변경분 (since 버전 → 현재 버전)")
+public record MarkerChangesDto(
+    @Schema(description = "요청한 기준 버전", example = "3")
+    long since,
+    @Schema(description = "현재 데이터셋 버전", example = "5")
+    long version,
+    @Schema(description = "true면 변경분을 계산할 수 없으므로 전체를 다시 받아야 함 (기준 버전이 너무 오래됨)", example = "false")
+    boolean reset,
+    @Schema(description = "추가된 마커")
+    List<MapMarkerDto> added,
+    @Schema(description = "내용이 바뀐 마커")
+    List<MapMarkerDto> updated,
+    @Schema(description = "삭제된 마커 키 (\"type:id\")", example = "[\"heritage:42\"]")
+    List<String> removed
+) {}
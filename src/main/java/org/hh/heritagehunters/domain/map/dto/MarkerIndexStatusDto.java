@@ -0,0 +1,15 @@
+package org.hh.heritagehunters.domain.map.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+@Schema(description = "마커 인덱스 상태")
+public record MarkerIndexStatusDto(
+    @Schema(description = "인덱스 버전", example = "3")
+    long version,
+    @Schema(description = "인덱스에 포함된 마커 수", example = "18234")
+    int size,
+    @Schema(description = "빌드 시각")
+    Instant builtAt
+) {
+}
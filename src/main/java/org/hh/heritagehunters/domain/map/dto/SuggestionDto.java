@@ -0,0 +1,15 @@
+package org.hh.heritagehunters.domain.map.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SuggestionDto", description = "검색어 자동완성 항목")
+public record SuggestionDto(
+    @Schema(description = "표시 문자열", example = "경복궁")
+    String text,
+    @Schema(description = "항목 종류", example = "heritage", allowableValues = {"heritage", "museum", "region"})
+    String type,
+    @Schema(description = "문화유산/박물관 ID (지역이면 null)", example = "1")
+    Long id,
+    @Schema(description = "인기도 (게시글 수)", example = "12")
+    int popularity
+) {}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "exhibited_at")
+@Table(name = "exhibited_at", indexes = {
+    // 전시 중인 문화재 제외(NOT EXISTS ... WHERE heritages_id = h.id) 조회용
+    @Index(name = "idx_exhibited_at_heritages_id", columnList = "heritages_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
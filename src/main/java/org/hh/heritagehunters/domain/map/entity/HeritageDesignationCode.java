@@ -0,0 +1,41 @@
+package org.hh.heritagehunters.domain.map.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문화재 종목 코드 (heritages.designation "국보|보물" 등을 코드 단위로 분해한 값)
+ * - 뷰포트 필터가 요청마다 regexp_split_to_table 을 계산하지 않고 PK 조회로 끝나게 한다
+ * - ViewportLookupRepository 가 마커 인덱스 재빌드(ETL 재적재 포함) 때마다 다시 채움
+ * 행은 ViewportLookupRepository(SQL)로만 다룬다 (엔티티는 테이블 정의용)
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "heritage_designation_codes")
+@IdClass(HeritageDesignationCode.Key.class)
+public class HeritageDesignationCode {
+
+  // PK 순서 (code, heritage_id): 코드로 찾는 필터와 문화재별 EXISTS 모두 이 PK 를 탄다
+  @Id
+  @Column(name = "code", nullable = false, columnDefinition = "TEXT")
+  private String code;
+
+  @Id
+  @Column(name = "heritage_id", nullable = false)
+  private Long heritageId;
+
+  @Data
+  @NoArgsConstructor
+  public static class Key implements Serializable {
+
+    private String code;
+    private Long heritageId;
+  }
+}
@@ -0,0 +1,36 @@
+package org.hh.heritagehunters.domain.map.index;
+
+/**
+ * 구면 거리 계산
+ * - PostGIS ST_DistanceSphere 와 같은 지구 반지름을 사용해 DB 조회 결과와 거리 값이 맞도록 한다
+ */
+public final class GeoDistance {
+
+  /** ST_DistanceSphere 의 구 반지름 (m) */
+  static final double EARTH_RADIUS_METERS = 6_370_986.0;
+
+  /** 위도 1도의 길이 (m) */
+  static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+  private GeoDistance() {
+  }
+
+  /**
+   * 두 지점 사이의 haversine 거리 (m)
+   */
+  public static double meters(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+  }
+
+  /**
+   * 위도 lat 에서 경도 1도의 길이 (m)
+   */
+  static double metersPerDegreeLng(double lat) {
+    return METERS_PER_DEGREE * Math.cos(Math.toRadians(Math.min(Math.abs(lat), 89.9)));
+  }
+}
@@ -0,0 +1,66 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색용 한글 문자열 정규화
+ * - NFC 정규화 (자모가 분리되어 저장된 값도 완성형 음절로 맞춤)
+ * - 소문자화, 공백 제거 ("경복 궁" 과 "경복궁" 을 같게 취급)
+ * - 초성 추출 ("경복궁" → "ㄱㅂㄱ")
+ */
+public final class KoreanText {
+
+  private static final char HANGUL_BEGIN = '\uAC00';
+  private static final char HANGUL_END = '\uD7A3';
+  private static final int JUNGSEONG_X_JONGSEONG = 21 * 28;
+
+  private static final char[] CHOSEONG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+  };
+
+  private KoreanText() {
+  }
+
+  public static String normalize(String text) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+    String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    StringBuilder sb = new StringBuilder(nfc.length());
+    for (int i = 0; i < nfc.length(); i++) {
+      char c = nfc.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 완성형 한글 음절을 초성(호환 자모)으로 바꿉니다. 한글이 아닌 문자는 그대로 둡니다
+   */
+  public static String choseong(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+        sb.append(CHOSEONG[(c - HANGUL_BEGIN) / JUNGSEONG_X_JONGSEONG]);
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  public static boolean containsHangulSyllable(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
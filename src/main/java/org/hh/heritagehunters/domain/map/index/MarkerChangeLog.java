@@ -0,0 +1,112 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.dto.MarkerChangesDto;
+
+/**
+ * 마커 인덱스 버전 간 변경 이력
+ * - 인덱스를 교체할 때마다 이전/새 인덱스를 비교해 (추가, 수정, 삭제) 를 한 단계로 기록한다
+ * - 최근 MAX_STEPS 단계만 보관하며, 그보다 오래된 버전이나 이 프로세스가 만들지 않은 버전(재시작 전, 다른 인스턴스)에서의
+ *   요청은 reset(전체 재조회) 으로 응답한다
+ * 마커 키는 "type:id" (박물관과 문화재의 ID 가 겹칠 수 있으므로 타입을 붙인다).
+ */
+public final class MarkerChangeLog {
+
+  static final int MAX_STEPS = 32;
+
+  private final Deque<Step> steps = new ArrayDeque<>();
+
+  /**
+   * previous → next 의 변경분을 기록합니다 (previous 가 null 이면 최초 빌드이므로 기록하지 않음)
+   */
+  public synchronized void record(MarkerIndex previous, MarkerIndex next) {
+    if (previous == null) {
+      return;
+    }
+    Map<String, MapMarkerDto> before = byKey(previous);
+    Map<String, MapMarkerDto> added = new LinkedHashMap<>();
+    Map<String, MapMarkerDto> updated = new LinkedHashMap<>();
+    for (int i = 0; i < next.size(); i++) {
+      MapMarkerDto m = next.marker(i);
+      MapMarkerDto old = before.remove(key(m));
+      if (old == null) {
+        added.put(key(m), m);
+      } else if (!old.equals(m)) {
+        updated.put(key(m), m);
+      }
+    }
+    steps.addLast(new Step(previous.getVersion(), next.getVersion(), added, updated, before.keySet()));
+    while (steps.size() > MAX_STEPS) {
+      steps.removeFirst();
+    }
+  }
+
+  /**
+   * since 버전 이후 current 까지의 누적 변경분
+   */
+  public synchronized MarkerChangesDto since(long since, long current) {
+    if (since == current) {
+      return new MarkerChangesDto(since, current, false, List.of(), List.of(), List.of());
+    }
+    if (since > current || steps.stream().noneMatch(step -> step.from() == since)) {
+      return new MarkerChangesDto(since, current, true, List.of(), List.of(), List.of());
+    }
+
+    // 단계별 변경을 순서대로 합친다 (예: 추가 후 삭제 → 클라이언트 입장에선 변화 없음)
+    Map<String, MapMarkerDto> added = new LinkedHashMap<>();
+    Map<String, MapMarkerDto> updated = new LinkedHashMap<>();
+    Set<String> removed = new LinkedHashSet<>();
+    for (Step step : steps) {
+      if (step.to() <= since) {
+        continue;
+      }
+      step.added().forEach((key, m) -> {
+        if (removed.remove(key)) {
+          updated.put(key, m);  // since 시점에 있던 마커가 다시 생김
+        } else {
+          added.put(key, m);
+        }
+      });
+      step.updated().forEach((key, m) -> {
+        if (added.containsKey(key)) {
+          added.put(key, m);
+        } else {
+          updated.put(key, m);
+        }
+      });
+      for (String key : step.removed()) {
+        if (added.remove(key) == null) {
+          updated.remove(key);
+          removed.add(key);
+        }
+      }
+    }
+    return new MarkerChangesDto(since, current, false,
+        new ArrayList<>(added.values()), new ArrayList<>(updated.values()), new ArrayList<>(removed));
+  }
+
+  public static String key(MapMarkerDto m) {
+    return m.type() + ":" + m.id();
+  }
+
+  private static Map<String, MapMarkerDto> byKey(MarkerIndex index) {
+    Map<String, MapMarkerDto> out = new HashMap<>(index.size() * 2);
+    for (int i = 0; i < index.size(); i++) {
+      out.put(key(index.marker(i)), index.marker(i));
+    }
+    return out;
+  }
+
+  private record Step(long from, long to, Map<String, MapMarkerDto> added,
+      Map<String, MapMarkerDto> updated, Set<String> removed) {
+  }
+}
@@ -0,0 +1,93 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.dto.MapClusterDto;
+import org.hh.heritagehunters.domain.map.dto.MapClusterResponseDto;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+
+/**
+ * 줌 레벨 기준 격자 클러스터링
+ * - 웹 메르카토르 픽셀 좌표에서 CELL_PIXELS 크기 격자로 묶는다 (화면상 약 1.5cm 안의 마커가 한 클러스터)
+ * - 한 칸에 마커가 1개뿐이면 클러스터 대신 개별 마커로 내려준다
+ * 결과 순서는 입력 순서(칸에 처음 들어온 마커 기준)를 따른다.
+ */
+public final class MarkerClusterer {
+
+  /** 이 줌 레벨부터는 클러스터링하지 않고 개별 마커를 그대로 반환 */
+  public static final int MAX_CLUSTER_ZOOM = 14;
+
+  /** 격자 한 칸의 화면 크기(px) */
+  static final int CELL_PIXELS = 64;
+
+  private MarkerClusterer() {
+  }
+
+  public static MapClusterResponseDto cluster(Iterable<MapMarkerDto> markers, int zoom) {
+    // 256px 타일 기준 월드 크기를 칸 크기로 나눈 값 = 한 축의 칸 수
+    double cellsPerWorld = 256.0 * Math.pow(2, zoom) / CELL_PIXELS;
+
+    Map<Long, Cell> cells = new HashMap<>();
+    List<Cell> order = new ArrayList<>();
+    for (MapMarkerDto m : markers) {
+      long cx = (long) Math.floor(WebMercator.x(m.lng()) * cellsPerWorld);
+      long cy = (long) Math.floor(WebMercator.y(m.lat()) * cellsPerWorld);
+      long key = (cx << 32) | (cy & 0xffffffffL);
+      Cell cell = cells.get(key);
+      if (cell == null) {
+        cell = new Cell(m);
+        cells.put(key, cell);
+        order.add(cell);
+      }
+      cell.add(m);
+    }
+
+    List<MapClusterDto> clusters = new ArrayList<>();
+    List<MapMarkerDto> singles = new ArrayList<>();
+    for (Cell cell : order) {
+      if (cell.count == 1) {
+        singles.add(cell.first);
+      } else {
+        clusters.add(cell.toDto());
+      }
+    }
+    return new MapClusterResponseDto(zoom, true, clusters, singles);
+  }
+
+  private static final class Cell {
+
+    final MapMarkerDto first;
+    int count;
+    int museumCount;
+    double sumLat;
+    double sumLng;
+    double south = Double.POSITIVE_INFINITY;
+    double west = Double.POSITIVE_INFINITY;
+    double north = Double.NEGATIVE_INFINITY;
+    double east = Double.NEGATIVE_INFINITY;
+
+    Cell(MapMarkerDto first) {
+      this.first = first;
+    }
+
+    void add(MapMarkerDto m) {
+      count++;
+      if ("museum".equals(m.type())) {
+        museumCount++;
+      }
+      sumLat += m.lat();
+      sumLng += m.lng();
+      south = Math.min(south, m.lat());
+      north = Math.max(north, m.lat());
+      west = Math.min(west, m.lng());
+      east = Math.max(east, m.lng());
+    }
+
+    MapClusterDto toDto() {
+      return new MapClusterDto(sumLat / count, sumLng / count, count,
+          museumCount, count - museumCount, south, west, north, east);
+    }
+  }
+}
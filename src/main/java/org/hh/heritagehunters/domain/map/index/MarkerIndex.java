@@ -0,0 +1,381 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import static org.hh.heritagehunters.common.util.HtmlSanitizer.sanitize;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+
+/**
+ * 뷰포트 조회용 인메모리 공간 인덱스 (불변)
+ * - 좌표는 double[] 로, 마커 DTO는 빌드 시 sanitize 해서 미리 만들어 둔다
+ * - 공간 검색은 고정 크기 격자(grid) + CSR 배열
+ * - 주변(KNN) 조회는 같은 격자를 중심 셀부터 고리(ring) 단위로 넓혀 가며 haversine 거리로 확정
+ * - 박물관 카테고리 / 문화재 종목 필터는 미리 계산한 BitSet 의 합집합/교집합으로 처리
+ * - 전시 중(exhibited_at)인 문화재는 빌드 대상에서 이미 제외되어 있어야 한다
+ *
+ * 인덱스 순서는 [박물관..., 문화재...] 로, 기존 UNION ALL 쿼리의 결과 순서와 같다.
+ */
+public final class MarkerIndex {
+
+  /** 격자 한 칸 기본 크기(도). 0.05° ≒ 5.5km */
+  static final double CELL_DEGREES = 0.05;
+
+  /** 좌표가 잘못 들어간 데이터가 있어도 격자가 과도하게 커지지 않도록 셀 개수 상한 */
+  private static final int MAX_CELLS = 1 << 18;
+
+  /** ViewportRepository 의 regexp_split_to_table(designation, '[|,/]') 와 동일한 분리 규칙 */
+  private static final Pattern DESIGNATION_SPLIT = Pattern.compile("[|,/]");
+
+  private final long version;
+  private final Instant builtAt;
+
+  private final MapMarkerDto[] markers;
+  private final double[] lats;
+  private final double[] lngs;
+
+  private final BitSet museumMask;
+  private final BitSet heritageMask;
+  private final Map<String, BitSet> categoryBits;     // btrim(m.category) -> 박물관
+  private final Map<String, BitSet> designationBits;  // 종목 코드 -> 문화재 + 해당 종목 전시품이 있는 박물관
+
+  // grid (CSR): cellStart[c] ~ cellStart[c+1] 구간의 cellItems 가 셀 c 에 속한 마커 인덱스
+  private final double minLat;
+  private final double minLng;
+  private final double cellDegrees;
+  private final int rows;
+  private final int cols;
+  private final int[] cellStart;
+  private final int[] cellItems;
+
+  private MarkerIndex(long version, List<MarkerRow> rows,
+      Map<Long, ? extends Collection<String>> museumDesignations) {
+    this.version = version;
+    this.builtAt = Instant.now();
+
+    int n = rows.size();
+    this.markers = new MapMarkerDto[n];
+    this.lats = new double[n];
+    this.lngs = new double[n];
+    this.museumMask = new BitSet(n);
+    this.heritageMask = new BitSet(n);
+    this.categoryBits = new HashMap<>();
+    this.designationBits = new HashMap<>();
+
+    double loLat = Double.POSITIVE_INFINITY, loLng = Double.POSITIVE_INFINITY;
+    double hiLat = Double.NEGATIVE_INFINITY, hiLng = Double.NEGATIVE_INFINITY;
+
+    for (int i = 0; i < n; i++) {
+      MarkerRow r = rows.get(i);
+      lats[i] = r.lat();
+      lngs[i] = r.lng();
+      loLat = Math.min(loLat, r.lat());
+      hiLat = Math.max(hiLat, r.lat());
+      loLng = Math.min(loLng, r.lng());
+      hiLng = Math.max(hiLng, r.lng());
+
+      if (r.isMuseum()) {
+        museumMask.set(i);
+        markers[i] = new MapMarkerDto(r.id(), "museum", sanitize(r.name()), r.lat(), r.lng(),
+            sanitize(r.address()), sanitize(r.category() == null ? "" : r.category()), 0.0);
+        if (r.category() != null) {
+          bitsFor(categoryBits, r.category().trim(), n).set(i);
+        }
+        Collection<String> exhibited = museumDesignations.get(r.id());
+        if (exhibited != null) {
+          for (String designation : exhibited) {
+            for (String code : splitDesignation(designation)) {
+              bitsFor(designationBits, code, n).set(i);
+            }
+          }
+        }
+      } else {
+        heritageMask.set(i);
+        markers[i] = new MapMarkerDto(r.id(), "heritage", sanitize(r.name()), r.lat(), r.lng(),
+            sanitize(r.address()), sanitize(r.category()), 0.0);
+        for (String code : splitDesignation(r.designation())) {
+          bitsFor(designationBits, code, n).set(i);
+        }
+      }
+    }
+
+    if (n == 0) {
+      loLat = loLng = hiLat = hiLng = 0;
+    }
+    this.minLat = loLat;
+    this.minLng = loLng;
+    this.cellDegrees = Math.max(CELL_DEGREES,
+        Math.sqrt((hiLat - loLat) * (hiLng - loLng) / MAX_CELLS));
+    this.rows = cellOf(hiLat, loLat) + 1;
+    this.cols = cellOf(hiLng, loLng) + 1;
+
+    // counting sort 로 셀별 마커 배치
+    int cellCount = this.rows * this.cols;
+    this.cellStart = new int[cellCount + 1];
+    int[] cellOfItem = new int[n];
+    for (int i = 0; i < n; i++) {
+      int c = cellOf(lats[i], minLat) * cols + cellOf(lngs[i], minLng);
+      cellOfItem[i] = c;
+      cellStart[c + 1]++;
+    }
+    for (int c = 0; c < cellCount; c++) {
+      cellStart[c + 1] += cellStart[c];
+    }
+    this.cellItems = new int[n];
+    int[] cursor = new int[cellCount];
+    for (int i = 0; i < n; i++) {
+      int c = cellOfItem[i];
+      cellItems[cellStart[c] + cursor[c]++] = i;
+    }
+  }
+
+  /**
+   * 인덱스를 생성합니다
+   *
+   * @param version            인덱스 버전 (빌드마다 증가)
+   * @param rows               박물관 → 문화재 순서로 정렬된 원본 행 (전시 중 문화재 제외)
+   * @param museumDesignations 박물관 ID → 해당 박물관에 전시 중인 문화재들의 designation 원본 문자열
+   */
+  public static MarkerIndex build(long version, List<MarkerRow> rows,
+      Map<Long, ? extends Collection<String>> museumDesignations) {
+    return new MarkerIndex(version, rows, museumDesignations);
+  }
+
+  /**
+   * 뷰포트(bbox) 내 마커 조회 - ViewportRepository.findByViewport 와 같은 의미
+   *
+   * @param type         museum | heritage | all
+   * @param museumCats   박물관 카테고리 (null/빈 값이면 필터 없음)
+   * @param designations 문화재 종목 코드 (null/빈 값이면 필터 없음)
+   */
+  public List<MapMarkerDto> query(double south, double west, double north, double east,
+      int limit, String type, List<String> museumCats, List<String> designations) {
+    return markersOf(select(south, west, north, east, type, museumCats, designations), limit);
+  }
+
+  /**
+   * select 결과를 인덱스 순서대로 최대 limit 개의 마커로 변환합니다
+   */
+  public List<MapMarkerDto> markersOf(BitSet hits, int limit) {
+    List<MapMarkerDto> out = new ArrayList<>(Math.min(limit, hits.cardinality()));
+    for (int i = hits.nextSetBit(0); i >= 0 && out.size() < limit; i = hits.nextSetBit(i + 1)) {
+      out.add(markers[i]);
+    }
+    return out;
+  }
+
+  /**
+   * 조건에 맞는 마커 인덱스 집합을 반환합니다 (limit 미적용)
+   */
+  public BitSet select(double south, double west, double north, double east,
+      String type, List<String> museumCats, List<String> designations) {
+    BitSet hits = inBbox(Math.min(south, north), Math.min(west, east),
+        Math.max(south, north), Math.max(west, east));
+    if (hits.isEmpty()) {
+      return hits;
+    }
+    hits.and(allowed(type, museumCats, designations));
+    return hits;
+  }
+
+  /**
+   * 거리순 주변 조회 - 반경 안에서 가까운 순으로 최대 k 개 (distanceMeters 채움)
+   * 중심 셀에서 고리 단위로 넓혀 가다가, 다음 고리까지의 최소 거리가 현재 k 번째 거리보다 멀면 멈춘다.
+   *
+   * @param type  museum | heritage | all
+   * @param after 이전 페이지 커서 (null 이면 첫 페이지)
+   */
+  public List<MapMarkerDto> nearest(double lat, double lng, double radiusMeters, int k,
+      String type, NearbyCursor after) {
+    if (markers.length == 0 || k <= 0 || radiusMeters <= 0) {
+      return List.of();
+    }
+    String t = (type == null) ? "all" : type;
+    boolean wantMuseum = !"heritage".equals(t);
+    boolean wantHeritage = !"museum".equals(t);
+
+    // 고리 한 칸의 최소 폭(m): 경도 방향이 더 좁으므로 반경 끝 위도 기준 경도 길이로 잡는다
+    double radiusLat = radiusMeters / GeoDistance.METERS_PER_DEGREE;
+    double ringMeters = cellDegrees * GeoDistance.metersPerDegreeLng(Math.abs(lat) + radiusLat);
+    int r0 = cellOf(lat, minLat);
+    int c0 = cellOf(lng, minLng);
+    int maxRing = Math.min((int) Math.ceil(radiusMeters / ringMeters) + 1,
+        Math.max(Math.max(Math.abs(r0), Math.abs(rows - 1 - r0)),
+            Math.max(Math.abs(c0), Math.abs(cols - 1 - c0))));
+
+    // 가장 먼(정렬 키가 가장 큰) 후보가 head 인 최대 힙
+    PriorityQueue<double[]> heap = new PriorityQueue<>(k + 1, (a, b) -> compareHit(b, a));
+    for (int ring = 0; ring <= maxRing; ring++) {
+      if (heap.size() == k && (ring - 1) * ringMeters > heap.peek()[0]) {
+        break;
+      }
+      for (int r = r0 - ring; r <= r0 + ring; r++) {
+        if (r < 0 || r >= rows) {
+          continue;
+        }
+        boolean edgeRow = (r == r0 - ring || r == r0 + ring);
+        for (int c = c0 - ring; c <= c0 + ring; c += (edgeRow || ring == 0) ? 1 : 2 * ring) {
+          if (c < 0 || c >= cols) {
+            continue;
+          }
+          int cell = r * cols + c;
+          for (int p = cellStart[cell], end = cellStart[cell + 1]; p < end; p++) {
+            int i = cellItems[p];
+            boolean museum = museumMask.get(i);
+            if (museum ? !wantMuseum : !wantHeritage) {
+              continue;
+            }
+            double d = GeoDistance.meters(lat, lng, lats[i], lngs[i]);
+            if (d > radiusMeters || (after != null && !after.precedes(d, museum, markers[i].id()))) {
+              continue;
+            }
+            heap.offer(new double[] {d, i});
+            if (heap.size() > k) {
+              heap.poll();
+            }
+          }
+        }
+      }
+    }
+
+    double[][] hits = heap.toArray(new double[0][]);
+    Arrays.sort(hits, this::compareHit);
+    List<MapMarkerDto> out = new ArrayList<>(hits.length);
+    for (double[] h : hits) {
+      MapMarkerDto m = markers[(int) h[1]];
+      out.add(new MapMarkerDto(m.id(), m.type(), m.name(), m.lat(), m.lng(),
+          m.address(), m.category(), h[0]));
+    }
+    return out;
+  }
+
+  public MapMarkerDto marker(int i) {
+    return markers[i];
+  }
+
+  public double lat(int i) {
+    return lats[i];
+  }
+
+  public double lng(int i) {
+    return lngs[i];
+  }
+
+  public boolean isMuseum(int i) {
+    return museumMask.get(i);
+  }
+
+  public int size() {
+    return markers.length;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public Instant getBuiltAt() {
+    return builtAt;
+  }
+
+  // ================= 내부 구현 =================
+
+  private BitSet inBbox(double s, double w, double n, double e) {
+    BitSet hits = new BitSet(markers.length);
+    if (markers.length == 0) {
+      return hits;
+    }
+    int r0 = clamp(cellOf(s, minLat), rows);
+    int r1 = clamp(cellOf(n, minLat), rows);
+    int c0 = clamp(cellOf(w, minLng), cols);
+    int c1 = clamp(cellOf(e, minLng), cols);
+    if (n < minLat || e < minLng || r0 > r1 || c0 > c1) {
+      return hits;
+    }
+    for (int r = r0; r <= r1; r++) {
+      int base = r * cols;
+      for (int c = c0; c <= c1; c++) {
+        for (int k = cellStart[base + c], end = cellStart[base + c + 1]; k < end; k++) {
+          int i = cellItems[k];
+          double la = lats[i], ln = lngs[i];
+          if (la >= s && la <= n && ln >= w && ln <= e) {
+            hits.set(i);
+          }
+        }
+      }
+    }
+    return hits;
+  }
+
+  // {distance, index} 정렬: 거리 → 박물관 먼저 → ID (NearbyCursor 와 같은 순서)
+  private int compareHit(double[] a, double[] b) {
+    int c = Double.compare(a[0], b[0]);
+    if (c != 0) {
+      return c;
+    }
+    int i = (int) a[1], j = (int) b[1];
+    c = Boolean.compare(!museumMask.get(i), !museumMask.get(j));
+    return (c != 0) ? c : Long.compare(markers[i].id(), markers[j].id());
+  }
+
+  private BitSet allowed(String type, List<String> museumCats, List<String> designations) {
+    String t = (type == null) ? "all" : type;
+    boolean wantMuseum = !"heritage".equals(t);
+    boolean wantHeritage = !"museum".equals(t);
+
+    BitSet allowed = new BitSet(markers.length);
+    if (wantMuseum) {
+      allowed.or(isEmpty(museumCats) ? museumMask : union(categoryBits, museumCats));
+    }
+    if (wantHeritage) {
+      allowed.or(heritageMask);
+    }
+    if (!isEmpty(designations)) {
+      allowed.and(union(designationBits, designations));
+    }
+    return allowed;
+  }
+
+  private BitSet union(Map<String, BitSet> bits, List<String> keys) {
+    BitSet out = new BitSet(markers.length);
+    for (String key : keys) {
+      BitSet b = (key == null) ? null : bits.get(key.trim());
+      if (b != null) {
+        out.or(b);
+      }
+    }
+    return out;
+  }
+
+  private static boolean isEmpty(List<String> list) {
+    return list == null || list.isEmpty();
+  }
+
+  private int cellOf(double value, double origin) {
+    return (int) Math.floor((value - origin) / cellDegrees);
+  }
+
+  private static int clamp(int cell, int size) {
+    return Math.max(0, Math.min(cell, size - 1));
+  }
+
+  private static BitSet bitsFor(Map<String, BitSet> bits, String key, int n) {
+    return bits.computeIfAbsent(key, k -> new BitSet(n));
+  }
+
+  static List<String> splitDesignation(String designation) {
+    String[] parts = DESIGNATION_SPLIT.split(designation == null ? "" : designation, -1);
+    List<String> codes = new ArrayList<>(parts.length);
+    for (String p : parts) {
+      codes.add(p.trim());
+    }
+    return codes;
+  }
+}
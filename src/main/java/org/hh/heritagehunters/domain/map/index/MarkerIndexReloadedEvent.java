@@ -0,0 +1,8 @@
+package org.hh.heritagehunters.domain.map.index;
+
+/**
+ * 마커 인덱스가 새로 빌드되어 교체되었을 때 발행되는 이벤트
+ * - 인덱스 기반 파생 캐시(타일 등)는 이 이벤트로 무효화한다
+ */
+public record MarkerIndexReloadedEvent(MarkerIndex index) {
+}
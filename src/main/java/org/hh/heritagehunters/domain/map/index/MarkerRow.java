@@ -0,0 +1,36 @@
+package org.hh.heritagehunters.domain.map.index;
+
+/**
+ * 인덱스 빌드용 원본 행 (DB 값 그대로, sanitize 전)
+ *
+ * @param id          museums.id 또는 heritages.id
+ * @param type        museum | heritage
+ * @param name        이름
+ * @param lat         위도 (ST_Y(geom))
+ * @param lng         경도 (ST_X(geom))
+ * @param address     COALESCE(address, region, '')
+ * @param category    박물관: m.category(원본, null 가능) / 문화재: COALESCE(designation, era, '')
+ * @param designation 문화재 종목 원본 문자열 (박물관은 null)
+ * @param era         문화재 시대 원본 문자열 (박물관은 null, 검색 인덱스용)
+ */
+public record MarkerRow(
+    long id,
+    String type,
+    String name,
+    double lat,
+    double lng,
+    String address,
+    String category,
+    String designation,
+    String era
+) {
+
+  public MarkerRow(long id, String type, String name, double lat, double lng,
+      String address, String category, String designation) {
+    this(id, type, name, lat, lng, address, category, designation, null);
+  }
+
+  public boolean isMuseum() {
+    return "museum".equals(type);
+  }
+}
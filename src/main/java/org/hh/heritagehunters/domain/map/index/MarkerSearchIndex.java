@@ -0,0 +1,139 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+
+/**
+ * 지도 검색용 인메모리 n-gram 역색인 (불변)
+ * - 한글은 음절 단위 bigram 이 형태소 분석 없이도 부분 일치 검색에 잘 맞으므로 1-gram + 2-gram 만 색인한다 (NGrams)
+ * - 후보는 검색어 n-gram posting 의 교집합으로 구한 뒤 실제 부분 문자열 포함 여부로 확정한다 (ILIKE '%q%' 와 같은 결과)
+ * - 점수: 이름 일치 > 이름 접두 > 이름 포함 > 분류(카테고리/종목/시대) 포함 > 주소 포함
+ *
+ * 문서 번호는 MarkerIndex 의 마커 인덱스와 같다 (같은 rows 로 빌드).
+ */
+public final class MarkerSearchIndex {
+
+  private static final int SCORE_NAME_EXACT = 100;
+  private static final int SCORE_NAME_PREFIX = 80;
+  private static final int SCORE_NAME_CONTAINS = 60;
+  private static final int SCORE_CATEGORY = 30;
+  private static final int SCORE_ADDRESS = 20;
+
+  private static final int FIELD_NAME = 0;
+  private static final int FIELD_ADDRESS = 1;
+
+  private final MarkerIndex index;
+  private final String[][] fields;            // 문서별 정규화된 필드 [name, address, 분류...]
+  private final Map<String, int[]> postings;  // n-gram -> 오름차순 문서 번호
+
+  private MarkerSearchIndex(MarkerIndex index, List<MarkerRow> rows) {
+    this.index = index;
+    int n = rows.size();
+    this.fields = new String[n][];
+
+    Map<String, NGrams.IntList> building = new HashMap<>();
+    for (int doc = 0; doc < n; doc++) {
+      MarkerRow r = rows.get(doc);
+      String[] f = r.isMuseum()
+          ? new String[] {r.name(), r.address(), r.category()}
+          : new String[] {r.name(), r.address(), r.designation(), r.era()};
+      for (int k = 0; k < f.length; k++) {
+        f[k] = KoreanText.normalize(f[k]);
+        for (String gram : NGrams.grams(f[k])) {
+          building.computeIfAbsent(gram, g -> new NGrams.IntList()).addDistinct(doc);
+        }
+      }
+      fields[doc] = f;
+    }
+
+    this.postings = new HashMap<>(building.size() * 2);
+    building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+  }
+
+  /**
+   * @param index MarkerIndex.build 에 넘긴 것과 같은 rows 로 만든 인덱스
+   */
+  public static MarkerSearchIndex build(MarkerIndex index, List<MarkerRow> rows) {
+    return new MarkerSearchIndex(index, rows);
+  }
+
+  /**
+   * 관련도 순 검색
+   *
+   * @param type museum | heritage | all
+   */
+  public List<MapMarkerDto> search(String q, String type, int limit) {
+    String query = KoreanText.normalize(q);
+    if (query.isEmpty()) {
+      return List.of();
+    }
+    String t = (type == null) ? "all" : type;
+    boolean wantMuseum = !"heritage".equals(t);
+    boolean wantHeritage = !"museum".equals(t);
+
+    int[] candidates = candidates(query);
+    List<int[]> scored = new ArrayList<>(); // {doc, score}
+    for (int doc : candidates) {
+      boolean museum = index.isMuseum(doc);
+      if ((museum && !wantMuseum) || (!museum && !wantHeritage)) {
+        continue;
+      }
+      int score = score(fields[doc], query);
+      if (score > 0) {
+        scored.add(new int[] {doc, score});
+      }
+    }
+
+    scored.sort(Comparator.<int[]>comparingInt(s -> -s[1])
+        .thenComparingInt(s -> fields[s[0]][FIELD_NAME].length())
+        .thenComparing(s -> index.marker(s[0]).name(), Comparator.nullsLast(Comparator.naturalOrder())));
+
+    List<MapMarkerDto> out = new ArrayList<>(Math.min(limit, scored.size()));
+    for (int k = 0; k < scored.size() && k < limit; k++) {
+      out.add(index.marker(scored.get(k)[0]));
+    }
+    return out;
+  }
+
+  // ================= 내부 구현 =================
+
+  private int[] candidates(String query) {
+    List<int[]> lists = new ArrayList<>();
+    for (String gram : NGrams.queryGrams(query)) {
+      int[] list = postings.get(gram);
+      if (list == null) {
+        return new int[0];
+      }
+      lists.add(list);
+    }
+    lists.sort(Comparator.comparingInt(l -> l.length));
+    int[] acc = lists.get(0);
+    for (int k = 1; k < lists.size() && acc.length > 0; k++) {
+      acc = NGrams.intersect(acc, lists.get(k));
+    }
+    return acc;
+  }
+
+  private static int score(String[] f, String query) {
+    String name = f[FIELD_NAME];
+    if (name.equals(query)) {
+      return SCORE_NAME_EXACT;
+    }
+    if (name.startsWith(query)) {
+      return SCORE_NAME_PREFIX;
+    }
+    if (name.contains(query)) {
+      return SCORE_NAME_CONTAINS;
+    }
+    for (int k = FIELD_ADDRESS + 1; k < f.length; k++) {
+      if (f[k].contains(query)) {
+        return SCORE_CATEGORY;
+      }
+    }
+    return f[FIELD_ADDRESS].contains(query) ? SCORE_ADDRESS : 0;
+  }
+}
@@ -0,0 +1,206 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+
+/**
+ * /map JSON 응답용 마커 스냅샷 (불변)
+ * - 마커 DTO는 빌드 시 sanitize 된 상태로 보관하고, 좌표/ID는 기본형 배열로 둔다
+ * - 문화재 designation / region / era 필터는 값별 BitSet (HeritageRepository.findForMap 의 in 조건과 동일)
+ * - 자주 쓰이는 필터 조합의 JSON 직렬화 결과를 바이트로 캐시한다 (스냅샷과 수명이 같음)
+ *
+ * 인덱스 순서는 [박물관..., 문화재...] 이다.
+ */
+public final class MarkerSnapshot {
+
+  /** 필터 조합별 JSON 캐시 최대 개수 (초과분은 매번 직렬화) */
+  static final int MAX_CACHED_RESPONSES = 128;
+
+  private final long version;
+  private final Instant builtAt;
+
+  private final MapMarkerDto[] markers;
+  private final long[] ids;
+  private final double[] lats;
+  private final double[] lngs;
+  private final int museumCount;
+
+  private final Map<String, BitSet> byDesignation;
+  private final Map<String, BitSet> byRegion;
+  private final Map<String, BitSet> byEra;
+
+  private final Map<String, byte[]> jsonCache = new ConcurrentHashMap<>();
+
+  private MarkerSnapshot(long version, Builder b) {
+    this.version = version;
+    this.builtAt = Instant.now();
+
+    List<MapMarkerDto> all = new ArrayList<>(b.museums.size() + b.heritages.size());
+    all.addAll(b.museums);
+    all.addAll(b.heritages);
+
+    int n = all.size();
+    this.markers = all.toArray(new MapMarkerDto[0]);
+    this.ids = new long[n];
+    this.lats = new double[n];
+    this.lngs = new double[n];
+    for (int i = 0; i < n; i++) {
+      ids[i] = markers[i].id();
+      lats[i] = markers[i].lat();
+      lngs[i] = markers[i].lng();
+    }
+    this.museumCount = b.museums.size();
+
+    this.byDesignation = b.byDesignation;
+    this.byRegion = b.byRegion;
+    this.byEra = b.byEra;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * 조건에 맞는 마커 목록 - 박물관은 필터 없이 전체, 문화재는 designation/region/era 교집합
+   *
+   * @param designations null 이면 필터 없음
+   * @param regions      null 이면 필터 없음
+   * @param eras         null 이면 필터 없음
+   */
+  public List<MapMarkerDto> select(boolean wantMuseum, boolean wantHeritage,
+      List<String> designations, List<String> regions, List<String> eras) {
+    List<MapMarkerDto> out = new ArrayList<>();
+    if (wantMuseum) {
+      for (int i = 0; i < museumCount; i++) {
+        out.add(markers[i]);
+      }
+    }
+    if (wantHeritage) {
+      BitSet hits = new BitSet(markers.length);
+      hits.set(museumCount, markers.length);
+      and(hits, byDesignation, designations);
+      and(hits, byRegion, regions);
+      and(hits, byEra, eras);
+      for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+        out.add(markers[i]);
+      }
+    }
+    return out;
+  }
+
+  /**
+   * 필터 조합(key)별 직렬화 결과를 캐시에서 꺼내거나 새로 만듭니다
+   */
+  public byte[] json(String key, Supplier<byte[]> serializer) {
+    byte[] cached = jsonCache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    byte[] bytes = serializer.get();
+    if (jsonCache.size() < MAX_CACHED_RESPONSES) {
+      jsonCache.putIfAbsent(key, bytes);
+    }
+    return bytes;
+  }
+
+  public int size() {
+    return markers.length;
+  }
+
+  public long id(int i) {
+    return ids[i];
+  }
+
+  public double lat(int i) {
+    return lats[i];
+  }
+
+  public double lng(int i) {
+    return lngs[i];
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public Instant getBuiltAt() {
+    return builtAt;
+  }
+
+  private static void and(BitSet hits, Map<String, BitSet> bits, List<String> values) {
+    if (values == null) {
+      return;
+    }
+    BitSet union = new BitSet();
+    for (String v : values) {
+      BitSet b = bits.get(v);
+      if (b != null) {
+        union.or(b);
+      }
+    }
+    hits.and(union);
+  }
+
+  public static final class Builder {
+
+    private final List<MapMarkerDto> museums = new ArrayList<>();
+    private final List<MapMarkerDto> heritages = new ArrayList<>();
+    private final Map<String, BitSet> byDesignation = new HashMap<>();
+    private final Map<String, BitSet> byRegion = new HashMap<>();
+    private final Map<String, BitSet> byEra = new HashMap<>();
+
+    private Builder() {
+    }
+
+    /** sanitize 된 박물관 마커 */
+    public Builder museum(MapMarkerDto marker) {
+      museums.add(marker);
+      return this;
+    }
+
+    /**
+     * sanitize 된 문화재 마커 + 필터용 원본 값 (DB 값 그대로, null 가능)
+     * 문화재 위치는 박물관 전체 뒤에 오므로 BitSet 에는 상대 위치로 기록하고 build 에서 보정한다
+     */
+    public Builder heritage(MapMarkerDto marker, String designation, String region, String era) {
+      int pos = heritages.size();
+      heritages.add(marker);
+      mark(byDesignation, designation, pos);
+      mark(byRegion, region, pos);
+      mark(byEra, era, pos);
+      return this;
+    }
+
+    public MarkerSnapshot build(long version) {
+      shift(byDesignation);
+      shift(byRegion);
+      shift(byEra);
+      return new MarkerSnapshot(version, this);
+    }
+
+    private static void mark(Map<String, BitSet> bits, String value, int pos) {
+      if (value != null) {
+        bits.computeIfAbsent(value, k -> new BitSet()).set(pos);
+      }
+    }
+
+    // 문화재 상대 위치 → 전체 인덱스 (박물관 개수만큼 뒤로)
+    private void shift(Map<String, BitSet> bits) {
+      int offset = museums.size();
+      bits.replaceAll((k, b) -> {
+        BitSet shifted = new BitSet(offset + heritages.size());
+        for (int i = b.nextSetBit(0); i >= 0; i = b.nextSetBit(i + 1)) {
+          shifted.set(offset + i);
+        }
+        return shifted;
+      });
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 인메모리 n-gram 역색인 공통 도구 (MarkerSearchIndex, PostSearchIndex)
+ * - 색인은 정규화된(KoreanText.normalize) 문자열의 모든 1-gram + 2-gram
+ * - 검색은 한 글자면 1-gram, 그 이상이면 2-gram 들의 posting 교집합
+ */
+public final class NGrams {
+
+  private NGrams() {
+  }
+
+  /** 색인: 모든 1-gram + 2-gram */
+  public static Set<String> grams(String text) {
+    Set<String> out = new LinkedHashSet<>();
+    for (int i = 0; i < text.length(); i++) {
+      out.add(text.substring(i, i + 1));
+      if (i + 1 < text.length()) {
+        out.add(text.substring(i, i + 2));
+      }
+    }
+    return out;
+  }
+
+  /** 검색: 한 글자면 1-gram, 그 이상이면 2-gram 들 */
+  public static Set<String> queryGrams(String query) {
+    if (query.length() == 1) {
+      return Set.of(query);
+    }
+    Set<String> out = new LinkedHashSet<>();
+    for (int i = 0; i + 1 < query.length(); i++) {
+      out.add(query.substring(i, i + 2));
+    }
+    return out;
+  }
+
+  /** 오름차순 문서 번호 배열의 교집합 */
+  public static int[] intersect(int[] a, int[] b) {
+    int[] out = new int[Math.min(a.length, b.length)];
+    int i = 0, j = 0, k = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        out[k++] = a[i];
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return Arrays.copyOf(out, k);
+  }
+
+  /** 빌드용 가변 int 배열 (문서 번호가 오름차순으로 들어오므로 마지막 값만 보고 중복 제거) */
+  public static final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    public void addDistinct(int v) {
+      if (size > 0 && values[size - 1] == v) {
+        return;
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = v;
+    }
+
+    public int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
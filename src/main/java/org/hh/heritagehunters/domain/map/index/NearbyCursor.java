@@ -0,0 +1,55 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+
+/**
+ * 거리순 주변 조회의 페이지 커서 - 이전 페이지 마지막 항목의 (거리, 타입, ID)
+ * - 정렬 키: 거리 오름차순 → 박물관 먼저 → ID 오름차순
+ * - 문자열 형식: "{distanceMeters}:{type}:{id}" (예: "1250.5:heritage:42")
+ */
+public record NearbyCursor(double distanceMeters, String type, long id) {
+
+  /** 이전 페이지의 마지막 항목으로 커서 생성 */
+  public static NearbyCursor after(MapMarkerDto last) {
+    return new NearbyCursor(last.distanceMeters(), last.type(), last.id());
+  }
+
+  /**
+   * 커서 문자열 파싱 (null/빈 문자열이면 null = 첫 페이지)
+   */
+  public static NearbyCursor parse(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    String[] sp = cursor.trim().split(":");
+    if (sp.length != 3 || !("museum".equals(sp[1]) || "heritage".equals(sp[1]))) {
+      throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    try {
+      return new NearbyCursor(Double.parseDouble(sp[0]), sp[1], Long.parseLong(sp[2]));
+    } catch (NumberFormatException e) {
+      throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+  }
+
+  /**
+   * 커서가 (distance, type, id) 보다 앞이면 true (= 그 항목은 다음 페이지 대상)
+   */
+  public boolean precedes(double distance, boolean museum, long id) {
+    int c = Double.compare(distance, distanceMeters);
+    if (c == 0) {
+      c = Integer.compare(museum ? 0 : 1, "museum".equals(type) ? 0 : 1);
+    }
+    if (c == 0) {
+      c = Long.compare(id, this.id);
+    }
+    return c > 0;
+  }
+
+  @Override
+  public String toString() {
+    return distanceMeters + ":" + type + ":" + id;
+  }
+}
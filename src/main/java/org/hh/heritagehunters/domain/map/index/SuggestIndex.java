@@ -0,0 +1,194 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.hh.heritagehunters.domain.map.dto.SuggestionDto;
+
+/**
+ * 검색어 자동완성용 접두 색인 (불변)
+ * - 키(정규화된 이름/한자 이름/지역명, 그리고 각각의 초성)를 정렬된 배열로 두고 이진 탐색으로 접두 구간을 찾는다
+ * - 짧은 접두(1~3자)는 구간이 넓으므로 빌드 시 상위 MAX_K 개를 미리 계산해 둔다
+ * - 순위: 인기도(게시글 수) 내림차순 → 짧은 이름 → 가나다순
+ */
+public final class SuggestIndex {
+
+  /** 한 번에 돌려줄 수 있는 최대 개수 */
+  public static final int MAX_K = 20;
+
+  /** 접두 구간이 이보다 넓은 짧은 접두는 상위 K 를 미리 계산 */
+  static final int SCAN_LIMIT = 256;
+  private static final int CACHED_PREFIX_LENGTH = 3;
+
+  // 항목 (표시 단위)
+  private final String[] texts;
+  private final String[] types;
+  private final Long[] ids;
+  private final int[] popularity;
+
+  // 정렬된 키 → 항목 번호
+  private final String[] keys;
+  private final int[] keyEntry;
+
+  private final Map<String, int[]> topByPrefix = new HashMap<>();
+
+  private SuggestIndex(List<SuggestRow> rows) {
+    List<String> textList = new ArrayList<>();
+    List<String> typeList = new ArrayList<>();
+    List<Long> idList = new ArrayList<>();
+    List<Integer> popList = new ArrayList<>();
+    List<Key> keyList = new ArrayList<>();
+
+    // 지역은 이름별로 하나의 항목 (인기도 = 소속 문화재 게시글 수 합)
+    Map<String, Integer> regionPopularity = new LinkedHashMap<>();
+    for (SuggestRow r : rows) {
+      int entry = textList.size();
+      textList.add(r.name());
+      typeList.add(r.type());
+      idList.add(r.id());
+      popList.add(r.postCount());
+      addKeys(keyList, r.name(), entry);
+      addKeys(keyList, r.nameHanja(), entry);
+      if (r.region() != null && !r.region().isBlank()) {
+        regionPopularity.merge(r.region().trim(), r.postCount(), Integer::sum);
+      }
+    }
+    regionPopularity.forEach((region, pop) -> {
+      int entry = textList.size();
+      textList.add(region);
+      typeList.add("region");
+      idList.add(null);
+      popList.add(pop);
+      addKeys(keyList, region, entry);
+    });
+
+    this.texts = textList.toArray(new String[0]);
+    this.types = typeList.toArray(new String[0]);
+    this.ids = idList.toArray(new Long[0]);
+    this.popularity = popList.stream().mapToInt(Integer::intValue).toArray();
+
+    keyList.sort(Comparator.comparing(Key::key));
+    this.keys = new String[keyList.size()];
+    this.keyEntry = new int[keyList.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keyList.get(i).key();
+      keyEntry[i] = keyList.get(i).entry();
+    }
+
+    buildTopByPrefix();
+  }
+
+  public static SuggestIndex build(List<SuggestRow> rows) {
+    return new SuggestIndex(rows);
+  }
+
+  /**
+   * 접두 q 로 시작하는 항목 상위 k 개 (초성만 입력해도 매칭: "ㄱㅂㄱ" → 경복궁)
+   */
+  public List<SuggestionDto> suggest(String q, int k) {
+    String prefix = KoreanText.normalize(q);
+    int limit = Math.max(1, Math.min(k, MAX_K));
+    if (prefix.isEmpty()) {
+      return List.of();
+    }
+
+    int[] top = topByPrefix.get(prefix);
+    if (top == null) {
+      int lo = lowerBound(prefix);
+      int hi = lowerBound(prefix + Character.MAX_VALUE);
+      top = topK(lo, hi, limit);
+    }
+
+    List<SuggestionDto> out = new ArrayList<>(Math.min(limit, top.length));
+    for (int i = 0; i < top.length && i < limit; i++) {
+      int e = top[i];
+      out.add(new SuggestionDto(texts[e], types[e], ids[e], popularity[e]));
+    }
+    return out;
+  }
+
+  public int size() {
+    return texts.length;
+  }
+
+  // ================= 내부 구현 =================
+
+  private static void addKeys(List<Key> keyList, String text, int entry) {
+    String key = KoreanText.normalize(text);
+    if (key.isEmpty()) {
+      return;
+    }
+    keyList.add(new Key(key, entry));
+    if (KoreanText.containsHangulSyllable(key)) {
+      keyList.add(new Key(KoreanText.choseong(key), entry));
+    }
+  }
+
+  private void buildTopByPrefix() {
+    for (int len = 1; len <= CACHED_PREFIX_LENGTH; len++) {
+      int start = 0;
+      while (start < keys.length) {
+        if (keys[start].length() < len) {
+          start++;
+          continue;
+        }
+        String prefix = keys[start].substring(0, len);
+        int end = start + 1;
+        while (end < keys.length && keys[end].startsWith(prefix)) {
+          end++;
+        }
+        if (end - start > SCAN_LIMIT) {
+          topByPrefix.put(prefix, topK(start, end, MAX_K));
+        }
+        start = end;
+      }
+    }
+  }
+
+  // keys[lo, hi) 구간에서 중복 없이 상위 k 개 항목
+  private int[] topK(int lo, int hi, int k) {
+    Comparator<Integer> rank = Comparator
+        .<Integer>comparingInt(e -> -popularity[e])
+        .thenComparingInt(e -> texts[e].length())
+        .thenComparing(e -> texts[e]);
+
+    PriorityQueue<Integer> heap = new PriorityQueue<>(rank.reversed()); // 가장 낮은 순위가 head
+    BitSet seen = new BitSet(texts.length);
+    for (int i = lo; i < hi; i++) {
+      int e = keyEntry[i];
+      if (seen.get(e)) {
+        continue;
+      }
+      seen.set(e);
+      heap.offer(e);
+      if (heap.size() > k) {
+        heap.poll();
+      }
+    }
+    Integer[] sorted = heap.toArray(new Integer[0]);
+    Arrays.sort(sorted, rank);
+    return Arrays.stream(sorted).mapToInt(Integer::intValue).toArray();
+  }
+
+  private int lowerBound(String key) {
+    int lo = 0, hi = keys.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (keys[mid].compareTo(key) < 0) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  private record Key(String key, int entry) {
+  }
+}
@@ -0,0 +1,21 @@
+package org.hh.heritagehunters.domain.map.index;
+
+/**
+ * 자동완성 인덱스 빌드용 원본 행
+ *
+ * @param id        museums.id 또는 heritages.id
+ * @param type      museum | heritage
+ * @param name      이름
+ * @param nameHanja 한자 이름 (문화재만, null 가능)
+ * @param region    지역 (null 가능)
+ * @param postCount 해당 문화재의 게시글 수 (인기도, 박물관은 0)
+ */
+public record SuggestRow(
+    long id,
+    String type,
+    String name,
+    String nameHanja,
+    String region,
+    int postCount
+) {
+}
@@ -0,0 +1,18 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데이터셋 버전 발급
+ * - 버전 = 빌드 시각(epoch ms), 같은 ms 에 다시 빌드하면 +1 (항상 증가)
+ * - 1부터 세는 카운터와 달리 재시작하거나 인스턴스가 달라도 같은 번호가 다른 데이터를 가리키지 않으므로
+ *   ETag 와 변경분 기준 버전(since)이 프로세스 사이에서 섞이지 않는다
+ */
+public final class VersionClock {
+
+  private final AtomicLong last = new AtomicLong();
+
+  public long next() {
+    return last.updateAndGet(prev -> Math.max(prev + 1, System.currentTimeMillis()));
+  }
+}
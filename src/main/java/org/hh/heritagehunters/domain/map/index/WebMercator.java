@@ -0,0 +1,31 @@
+package org.hh.heritagehunters.domain.map.index;
+
+/**
+ * 웹 메르카토르(EPSG:3857) 정규화 좌표 변환
+ * - x, y 모두 0~1 범위 (좌상단 0,0) 이며, 줌 z 의 타일/픽셀 좌표는 여기에 2^z 를 곱해 구한다
+ */
+public final class WebMercator {
+
+  public static final double MAX_LAT = 85.05112878;
+
+  private WebMercator() {
+  }
+
+  public static double x(double lng) {
+    return (lng + 180.0) / 360.0;
+  }
+
+  public static double y(double lat) {
+    double clamped = Math.max(-MAX_LAT, Math.min(lat, MAX_LAT));
+    double sin = Math.sin(Math.toRadians(clamped));
+    return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+  }
+
+  public static double lng(double x) {
+    return x * 360.0 - 180.0;
+  }
+
+  public static double lat(double y) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+  }
+}
@@ -0,0 +1,180 @@
+package org.hh.heritagehunters.domain.map.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.index.MarkerRow;
+import org.hh.heritagehunters.domain.map.index.SuggestRow;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인메모리 마커 인덱스(MarkerIndex) 빌드용 원본 데이터 조회
+ * - ViewportRepository 와 같은 좌표/표시 규칙(COALESCE)을 사용
+ */
+@Repository
+public class MarkerIndexRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public MarkerIndexRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  private static final RowMapper<MarkerRow> MAPPER = (rs, i) -> new MarkerRow(
+      rs.getLong("id"),
+      rs.getString("type"),
+      rs.getString("name"),
+      rs.getDouble("lat"),
+      rs.getDouble("lng"),
+      rs.getString("address"),
+      rs.getString("category"),
+      rs.getString("designation"),
+      rs.getString("era")
+  );
+
+  /**
+   * 좌표가 유효한 박물관 → 전시 중이 아닌 문화재 순서로 전체 조회
+   */
+  public List<MarkerRow> findAllRows() {
+    final String museumsSql = """
+      SELECT
+        m.id                                   AS id,
+        'museum'                               AS type,
+        m.name                                 AS name,
+        ST_Y(m.geom)                           AS lat,
+        ST_X(m.geom)                           AS lng,
+        COALESCE(m.address, m.region, '')      AS address,
+        m.category                             AS category,
+        NULL                                   AS designation,
+        NULL                                   AS era
+      FROM museums m
+      WHERE m.geom IS NOT NULL
+        AND ST_X(m.geom) <> 0 AND ST_Y(m.geom) <> 0
+      ORDER BY m.id
+      """;
+
+    final String heritagesSql = """
+      SELECT
+        h.id                                   AS id,
+        'heritage'                             AS type,
+        h.name                                 AS name,
+        ST_Y(h.geom)                           AS lat,
+        ST_X(h.geom)                           AS lng,
+        COALESCE(h.address, h.region, '')      AS address,
+        COALESCE(h.designation, h.era, '')     AS category,
+        h.designation                          AS designation,
+        h.era                                  AS era
+      FROM heritages h
+      WHERE h.geom IS NOT NULL
+        AND ST_X(h.geom) <> 0 AND ST_Y(h.geom) <> 0
+        AND NOT EXISTS (SELECT 1 FROM exhibited_at ea WHERE ea.heritages_id = h.id)
+      ORDER BY h.id
+      """;
+
+    List<MarkerRow> rows = new ArrayList<>(jdbc.query(museumsSql, Map.of(), MAPPER));
+    rows.addAll(jdbc.query(heritagesSql, Map.of(), MAPPER));
+    return rows;
+  }
+
+  /**
+   * 게시글-문화재 연결용: 위도/경도가 있는 모든 문화재 (전시 중 포함, 이름 등은 생략)
+   */
+  public List<MarkerRow> findHeritagePoints() {
+    final String sql = """
+      SELECT
+        h.id                                   AS id,
+        'heritage'                             AS type,
+        NULL                                   AS name,
+        h.latitude                             AS lat,
+        h.longitude                            AS lng,
+        NULL                                   AS address,
+        NULL                                   AS category,
+        NULL                                   AS designation,
+        NULL                                   AS era
+      FROM heritages h
+      WHERE h.latitude IS NOT NULL AND h.longitude IS NOT NULL
+      ORDER BY h.id
+      """;
+    return jdbc.query(sql, Map.of(), MAPPER);
+  }
+
+  /**
+   * 박물관 ID → 전시 중인 문화재들의 designation 원본 문자열
+   */
+  public Map<Long, List<String>> findExhibitedDesignationsByMuseum() {
+    final String sql = """
+      SELECT ea.museums_id AS museum_id, h.designation AS designation
+      FROM exhibited_at ea
+      JOIN heritages h ON h.id = ea.heritages_id
+      """;
+
+    Map<Long, List<String>> out = new HashMap<>();
+    jdbc.query(sql, Map.of(), rs -> {
+      out.computeIfAbsent(rs.getLong("museum_id"), k -> new ArrayList<>())
+          .add(rs.getString("designation"));
+    });
+    return out;
+  }
+
+  /**
+   * 자동완성 원본: 지도에 표시되는 박물관/문화재 (전시 중 문화재 제외) + 문화재별 게시글 수
+   */
+  public List<SuggestRow> findSuggestRows() {
+    final String sql = """
+      SELECT
+        h.id                      AS id,
+        'heritage'                AS type,
+        h.name                    AS name,
+        h.name_hanja              AS name_hanja,
+        h.region                  AS region,
+        COALESCE(p.cnt, 0)        AS post_count
+      FROM heritages h
+      LEFT JOIN (SELECT heritage_id, count(*) AS cnt FROM posts GROUP BY heritage_id) p
+        ON p.heritage_id = h.id
+      WHERE h.geom IS NOT NULL
+        AND ST_X(h.geom) <> 0 AND ST_Y(h.geom) <> 0
+        AND NOT EXISTS (SELECT 1 FROM exhibited_at ea WHERE ea.heritages_id = h.id)
+      UNION ALL
+      SELECT
+        m.id                      AS id,
+        'museum'                  AS type,
+        m.name                    AS name,
+        NULL                      AS name_hanja,
+        m.region                  AS region,
+        0                         AS post_count
+      FROM museums m
+      WHERE m.geom IS NOT NULL
+        AND ST_X(m.geom) <> 0 AND ST_Y(m.geom) <> 0
+      """;
+    return jdbc.query(sql, Map.of(), (rs, i) -> new SuggestRow(
+        rs.getLong("id"),
+        rs.getString("type"),
+        rs.getString("name"),
+        rs.getString("name_hanja"),
+        rs.getString("region"),
+        rs.getInt("post_count")
+    ));
+  }
+
+  /**
+   * 데이터 변경 감지용 지문 (행 수 + 최대 ID)
+   * - ETL 적재/삭제는 감지되며, 값만 바뀐 수정은 관리자 재적재로 반영한다
+   */
+  public String fingerprint() {
+    final String sql = """
+      SELECT
+        (SELECT count(*) FROM museums)              AS museum_count,
+        (SELECT COALESCE(max(id), 0) FROM museums)  AS museum_max,
+        (SELECT count(*) FROM heritages)            AS heritage_count,
+        (SELECT COALESCE(max(id), 0) FROM heritages) AS heritage_max,
+        (SELECT count(*) FROM exhibited_at)         AS exhibited_count
+      """;
+    return jdbc.queryForObject(sql, Map.of(), (rs, i) ->
+        rs.getLong("museum_count") + ":" + rs.getLong("museum_max") + "/"
+            + rs.getLong("heritage_count") + ":" + rs.getLong("heritage_max") + "/"
+            + rs.getLong("exhibited_count"));
+  }
+}
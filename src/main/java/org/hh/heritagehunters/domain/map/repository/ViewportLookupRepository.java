@@ -0,0 +1,38 @@
+package org.hh.heritagehunters.domain.map.repository;
+
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 뷰포트 필터용 사전 계산 테이블 관리
+ * - heritage_designation_codes : designation("국보|보물" 등)을 코드 단위로 분해한 (코드, 문화재) 쌍
+ * 요청마다 regexp_split_to_table 을 계산하지 않고 PK 조회로 끝나게 한다.
+ * 테이블은 스키마 스크립트(db/schema)로 만들고, 전시 여부(exhibited_at)는 사전 계산하지 않고 그때그때 조회한다.
+ */
+@Repository
+public class ViewportLookupRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public ViewportLookupRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /**
+   * 원본(heritages.designation)으로부터 종목 코드를 다시 채웁니다
+   * - 한 트랜잭션에서 교체하므로 조회 중인 요청은 이전 값 또는 새 값만 본다
+   */
+  @Transactional
+  public void refresh() {
+    jdbc.update("DELETE FROM heritage_designation_codes", Map.of());
+    jdbc.update("""
+      INSERT INTO heritage_designation_codes (heritage_id, code)
+      SELECT DISTINCT h.id, btrim(d.code)
+      FROM heritages h,
+           regexp_split_to_table(COALESCE(h.designation, ''), '[|,/]') AS d(code)
+      WHERE btrim(d.code) <> ''
+      """, Map.of());
+  }
+}
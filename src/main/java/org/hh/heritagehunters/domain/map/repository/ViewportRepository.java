@@ -71,19 +71,15 @@ public class ViewportRepository {
       AND ST_Intersects(m.geom, ST_MakeEnvelope(:w,:s,:e,:n,4326))
       -- 박물관 카테고리 필터
       AND (:catsEmpty OR btrim(m.category) = ANY(:cats))
-      -- ⬇⬇ 문화재 종목 필터: 선택되었을 때만 '그 종목 전시품이 있는 박물관'으로 한정
+      -- ⬇⬇ 문화재 종목 필터: 선택되었을 때만 '그 종목 전시품이 있는 박물관'으로 한정 (분해해 둔 종목 코드)
       AND (
         :desigsEmpty
         OR EXISTS (
              SELECT 1
              FROM exhibited_at ea
-             JOIN heritages h ON h.id = ea.heritages_id
+             JOIN heritage_designation_codes dc ON dc.heritage_id = ea.heritages_id
              WHERE ea.museums_id = m.id
-               AND EXISTS (
-                    SELECT 1
-                    FROM regexp_split_to_table(COALESCE(h.designation,''), '[|,/]') AS d(code)
-                    WHERE btrim(d.code) = ANY(:desigs)
-               )
+               AND dc.code = ANY(:desigs)
         )
       )
     LIMIT :limit
@@ -122,14 +118,15 @@ public class ViewportRepository {
       AND ST_X(h.geom) <> 0 AND ST_Y(h.geom) <> 0
       AND ST_Intersects(h.geom, ST_MakeEnvelope(:w,:s,:e,:n,4326))
       AND NOT EXISTS (SELECT 1 FROM exhibited_at ea WHERE ea.heritages_id = h.id)
-      -- 선택 종목이 있을 때만 필터: designation을 분해해서 ANY(:desigs)와 매칭
+      -- 선택 종목이 있을 때만 필터: 분해해 둔 종목 코드(heritage_designation_codes)와 매칭
       AND (
         :desigsEmpty
         OR EXISTS (
              SELECT 1
-             FROM regexp_split_to_table(COALESCE(h.designation,''), '[|,/]') AS d(code)
-             WHERE btrim(d.code) = ANY(:desigs)
-           )
+             FROM heritage_designation_codes dc
+             WHERE dc.heritage_id = h.id
+               AND dc.code = ANY(:desigs)
+        )
       )
     LIMIT :limit
   """;
@@ -170,13 +167,9 @@ public class ViewportRepository {
         OR EXISTS (
              SELECT 1
              FROM exhibited_at ea
-             JOIN heritages h ON h.id = ea.heritages_id
+             JOIN heritage_designation_codes dc ON dc.heritage_id = ea.heritages_id
              WHERE ea.museums_id = m.id
-               AND EXISTS (
-                    SELECT 1
-                    FROM regexp_split_to_table(COALESCE(h.designation,''), '[|,/]') AS d(code)
-                    WHERE btrim(d.code) = ANY(:desigs)
-               )
+               AND dc.code = ANY(:desigs)
         )
       )
   )
@@ -200,8 +193,9 @@ public class ViewportRepository {
         :desigsEmpty
         OR EXISTS (
              SELECT 1
-             FROM regexp_split_to_table(COALESCE(h.designation,''), '[|,/]') AS d(code)
-             WHERE btrim(d.code) = ANY(:desigs)
+             FROM heritage_designation_codes dc
+             WHERE dc.heritage_id = h.id
+               AND dc.code = ANY(:desigs)
         )
       )
   )
@@ -224,6 +218,8 @@ public class ViewportRepository {
 
   /**
    * 내 위치 주변 반경 m 이내 지점 조회 (거리순)
+   * - geography 캐스팅 없이 geometry GiST 인덱스로 반경을 감싸는 도(degree) 범위를 먼저 거른 뒤
+   *   ST_DistanceSphere 로 실제 반경을 확정한다
    */
   public List<MapMarkerDto> findNearby(double lat, double lng, double radiusMeters, int limit, String type) {
     return switch (type == null ? "all" : type) {
@@ -247,11 +243,12 @@ public class ViewportRepository {
       FROM museums m
       WHERE m.geom IS NOT NULL
         AND ST_X(m.geom) <> 0 AND ST_Y(m.geom) <> 0
-        AND ST_DWithin(m.geom::geography, ST_SetSRID(ST_MakePoint(:lng,:lat),4326)::geography, :radius)
+        AND ST_DWithin(m.geom, ST_SetSRID(ST_MakePoint(:lng,:lat),4326), :radiusDeg)
+        AND ST_DistanceSphere(ST_SetSRID(ST_MakePoint(:lng,:lat),4326), m.geom) <= :radius
       ORDER BY distanceMeters ASC
       LIMIT :limit
       """;
-    return jdbc.query(sql, Map.of("lat", lat, "lng", lng, "radius", radius, "limit", limit), MAPPER);
+    return jdbc.query(sql, nearbyParams(lat, lng, radius, limit), MAPPER);
   }
 
   private List<MapMarkerDto> findNearbyHeritagesExcludingExhibited(double lat, double lng, double radius, int limit) {
@@ -269,11 +266,12 @@ public class ViewportRepository {
       WHERE h.geom IS NOT NULL
         AND ST_X(h.geom) <> 0 AND ST_Y(h.geom) <> 0
         AND NOT EXISTS (SELECT 1 FROM exhibited_at ea WHERE ea.heritages_id = h.id)
-        AND ST_DWithin(h.geom::geography, ST_SetSRID(ST_MakePoint(:lng,:lat),4326)::geography, :radius)
+        AND ST_DWithin(h.geom, ST_SetSRID(ST_MakePoint(:lng,:lat),4326), :radiusDeg)
+        AND ST_DistanceSphere(ST_SetSRID(ST_MakePoint(:lng,:lat),4326), h.geom) <= :radius
       ORDER BY distanceMeters ASC
       LIMIT :limit
       """;
-    return jdbc.query(sql, Map.of("lat", lat, "lng", lng, "radius", radius, "limit", limit), MAPPER);
+    return jdbc.query(sql, nearbyParams(lat, lng, radius, limit), MAPPER);
   }
 
   private List<MapMarkerDto> findNearbyAllMixed(double lat, double lng, double radius, int limit) {
@@ -291,7 +289,8 @@ public class ViewportRepository {
         FROM museums m
         WHERE m.geom IS NOT NULL
           AND ST_X(m.geom) <> 0 AND ST_Y(m.geom) <> 0
-          AND ST_DWithin(m.geom::geography, ST_SetSRID(ST_MakePoint(:lng,:lat),4326)::geography, :radius)
+          AND ST_DWithin(m.geom, ST_SetSRID(ST_MakePoint(:lng,:lat),4326), :radiusDeg)
+          AND ST_DistanceSphere(ST_SetSRID(ST_MakePoint(:lng,:lat),4326), m.geom) <= :radius
       )
       UNION ALL
       (
@@ -308,11 +307,20 @@ public class ViewportRepository {
         WHERE h.geom IS NOT NULL
           AND ST_X(h.geom) <> 0 AND ST_Y(h.geom) <> 0
           AND NOT EXISTS (SELECT 1 FROM exhibited_at ea WHERE ea.heritages_id = h.id)
-          AND ST_DWithin(h.geom::geography, ST_SetSRID(ST_MakePoint(:lng,:lat),4326)::geography, :radius)
+          AND ST_DWithin(h.geom, ST_SetSRID(ST_MakePoint(:lng,:lat),4326), :radiusDeg)
+          AND ST_DistanceSphere(ST_SetSRID(ST_MakePoint(:lng,:lat),4326), h.geom) <= :radius
       )
       ORDER BY distanceMeters ASC
       LIMIT :limit
       """;
-    return jdbc.query(sql, Map.of("lat", lat, "lng", lng, "radius", radius, "limit", limit), MAPPER);
+    return jdbc.query(sql, nearbyParams(lat, lng, radius, limit), MAPPER);
+  }
+
+  // 반경(m)을 감싸는 도(degree) 거리: 경도 1도가 가장 짧은 쪽(반경 끝 위도) 기준
+  private static Map<String, Object> nearbyParams(double lat, double lng, double radius, int limit) {
+    double metersPerDegree = 111_195.0;
+    double edgeLat = Math.min(Math.abs(lat) + radius / metersPerDegree, 89.0);
+    double radiusDeg = radius / (metersPerDegree * Math.cos(Math.toRadians(edgeLat)));
+    return Map.of("lat", lat, "lng", lng, "radius", radius, "radiusDeg", radiusDeg, "limit", limit);
   }
-}
\ No newline at end of file
+}
@@ -2,42 +2,117 @@ package org.hh.heritagehunters.domain.map.service;
 
 import static org.hh.heritagehunters.common.util.HtmlSanitizer.sanitize;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.common.exception.InternalServerErrorException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
 import org.hh.heritagehunters.domain.map.entity.Museum;
+import org.hh.heritagehunters.domain.map.index.MarkerIndexReloadedEvent;
+import org.hh.heritagehunters.domain.map.index.MarkerSnapshot;
+import org.hh.heritagehunters.domain.map.index.VersionClock;
 import org.hh.heritagehunters.domain.map.repository.MuseumRepository;
 import org.hh.heritagehunters.domain.search.entity.Heritage;
 import org.hh.heritagehunters.domain.search.repository.HeritageRepository;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+/**
+ * /map JSON 마커 조회
+ * - 박물관/문화재 전체를 한 번 읽어 MarkerSnapshot 으로 만들어 두고, 요청은 스냅샷을 잘라서 응답한다
+ * - 스냅샷은 첫 요청 또는 마커 인덱스 재빌드(ETL/관리자 재적재) 시점에 새로 만든다
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MapService {
 
   private final MuseumRepository museumRepository;
   private final HeritageRepository heritageRepository;
+  private final ObjectMapper objectMapper;
+
+  private final AtomicReference<MarkerSnapshot> snapshot = new AtomicReference<>();
+  private final VersionClock versions = new VersionClock();
 
   /** 지도에 뿌릴 모든 마커(박물관 + 문화재) */
   public List<MapMarkerDto> getAllMarkers() {
-    List<MapMarkerDto> museums = museumRepository.findAll().stream()
-        .filter(m -> validLatLng(m.getLatitude(), m.getLongitude()))
-        .map(this::museumToDto)
-        .toList();
+    return snapshot().select(true, true, null, null, null);
+  }
 
-    List<MapMarkerDto> heritages = heritageRepository.findAll().stream()
-        .filter(h -> validLatLng(h.getLatitude(), h.getLongitude()))
-        .map(this::heritageToDto)
-        .toList();
+  public List<MapMarkerDto> getMarkers(
+      String type, List<String> designation, List<String> region, List<String> era) {
+
+    designation = (designation == null || designation.isEmpty()) ? null : designation;
+    region      = (region == null || region.isEmpty()) ? null : region;
+    era         = (era == null || era.isEmpty()) ? null : era;
+
+    boolean wantMuseum   = type == null || "all".equalsIgnoreCase(type) || "museum".equalsIgnoreCase(type);
+    boolean wantHeritage = type == null || "all".equalsIgnoreCase(type) || "heritage".equalsIgnoreCase(type);
+
+    return snapshot().select(wantMuseum, wantHeritage, designation, region, era);
+  }
 
-    return Stream.concat(museums.stream(), heritages.stream()).toList();
+  /**
+   * getMarkers 결과를 JSON 바이트로 반환 (필터 조합별로 스냅샷에 캐시)
+   */
+  public byte[] getMarkersJson(
+      String type, List<String> designation, List<String> region, List<String> era) {
+    String key = (type == null ? "all" : type.toLowerCase()) + "|" + designation + "|" + region + "|" + era;
+    return snapshot().json(key, () -> {
+      try {
+        return objectMapper.writeValueAsBytes(getMarkers(type, designation, region, era));
+      } catch (JsonProcessingException e) {
+        throw new InternalServerErrorException(ErrorCode.INTERNAL_SERVER_ERROR);
+      }
+    });
   }
 
-  private boolean nonNullLatLng(BigDecimal lat, BigDecimal lng) {
-    return lat != null && lng != null;
+  /** 현재 스냅샷 버전 (JSON 응답의 ETag 로 사용, 빌드 시각 기반이라 재시작/인스턴스 간에도 겹치지 않음) */
+  public long snapshotVersion() {
+    return snapshot().getVersion();
+  }
+
+  /** 현재 스냅샷 (없으면 이 자리에서 빌드) */
+  public MarkerSnapshot snapshot() {
+    MarkerSnapshot current = snapshot.get();
+    return (current != null) ? current : loadIfAbsent();
+  }
+
+  @EventListener
+  public void onIndexReloaded(MarkerIndexReloadedEvent event) {
+    try {
+      snapshot.set(load());
+    } catch (Exception e) {
+      // 기존 스냅샷을 계속 사용
+      log.warn("마커 스냅샷 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  private synchronized MarkerSnapshot loadIfAbsent() {
+    MarkerSnapshot current = snapshot.get();
+    if (current == null) {
+      current = load();
+      snapshot.set(current);
+    }
+    return current;
+  }
+
+  private MarkerSnapshot load() {
+    MarkerSnapshot.Builder builder = MarkerSnapshot.builder();
+    museumRepository.findAll().stream()
+        .filter(m -> validLatLng(m.getLatitude(), m.getLongitude()))
+        .forEach(m -> builder.museum(museumToDto(m)));
+    heritageRepository.findAll().stream()
+        .filter(h -> validLatLng(h.getLatitude(), h.getLongitude()))
+        .forEach(h -> builder.heritage(heritageToDto(h), h.getDesignation(), h.getRegion(), h.getEra()));
+    MarkerSnapshot built = builder.build(versions.next());
+    log.info("마커 스냅샷 빌드 완료: version={}, size={}", built.getVersion(), built.size());
+    return built;
   }
 
   private MapMarkerDto museumToDto(Museum m) {
@@ -66,36 +141,9 @@ public class MapService {
     );
   }
 
-  public List<MapMarkerDto> getMarkers(
-      String type, List<String> designation, List<String> region, List<String> era) {
-
-    designation = (designation == null || designation.isEmpty()) ? null : designation;
-    region      = (region == null || region.isEmpty()) ? null : region;
-    era         = (era == null || era.isEmpty()) ? null : era;
-
-    boolean wantMuseum   = type == null || "all".equalsIgnoreCase(type) || "museum".equalsIgnoreCase(type);
-    boolean wantHeritage = type == null || "all".equalsIgnoreCase(type) || "heritage".equalsIgnoreCase(type);
-
-    var result = new java.util.ArrayList<MapMarkerDto>();
-
-    if (wantMuseum) {
-      museumRepository.findAll().stream()
-          .filter(m -> validLatLng(m.getLatitude(), m.getLongitude()))
-          .map(this::museumToDto)
-          .forEach(result::add);
-    }
-    if (wantHeritage) {
-      heritageRepository.findForMap(designation, region, era).stream()
-          .filter(h -> validLatLng(h.getLatitude(), h.getLongitude()))
-          .map(this::heritageToDto)
-          .forEach(result::add);
-    }
-    return result;
-  }
-
   private boolean validLatLng(BigDecimal lat, BigDecimal lng) {
     return lat != null && lng != null
         && lat.compareTo(BigDecimal.ZERO) != 0
         && lng.compareTo(BigDecimal.ZERO) != 0;
   }
-}
\ No newline at end of file
+}
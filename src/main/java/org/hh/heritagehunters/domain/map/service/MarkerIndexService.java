@@ -0,0 +1,121 @@
+package org.hh.heritagehunters.domain.map.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.map.dto.MarkerChangesDto;
+import org.hh.heritagehunters.domain.map.index.MarkerChangeLog;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.index.MarkerIndexReloadedEvent;
+import org.hh.heritagehunters.domain.map.index.MarkerRow;
+import org.hh.heritagehunters.domain.map.index.MarkerSearchIndex;
+import org.hh.heritagehunters.domain.map.index.VersionClock;
+import org.hh.heritagehunters.domain.map.repository.MarkerIndexRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 뷰포트 마커 인덱스 보관/갱신
+ * - 애플리케이션 기동 직후 1회 빌드
+ * - 주기적으로 데이터 지문(fingerprint)을 확인해 바뀌었을 때만 재빌드
+ * - ETL 종료 시/관리자 요청 시 reload() 로 즉시 재빌드
+ * - 같은 원본 행으로 검색용 n-gram 색인(MarkerSearchIndex)도 함께 만든다
+ * - 인덱스 버전이 곧 마커 데이터셋 버전(빌드 시각 기반, VersionClock)이며, 버전 간 변경분(MarkerChangeLog)을 함께 기록한다
+ * 새 인덱스는 완성된 뒤 AtomicReference 로 한 번에 교체되므로, 조회 중인 요청은 이전 인덱스를 그대로 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarkerIndexService {
+
+  private final MarkerIndexRepository repo;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final AtomicReference<MarkerIndex> current = new AtomicReference<>();
+  private final AtomicReference<MarkerSearchIndex> currentSearch = new AtomicReference<>();
+  private final VersionClock versions = new VersionClock();
+  private final MarkerChangeLog changeLog = new MarkerChangeLog();
+  private volatile String fingerprint;
+
+  /**
+   * 현재 인덱스 (아직 빌드되지 않았으면 null)
+   */
+  public MarkerIndex current() {
+    return current.get();
+  }
+
+  /**
+   * 현재 검색 인덱스 (아직 빌드되지 않았으면 null)
+   */
+  public MarkerSearchIndex currentSearch() {
+    return currentSearch.get();
+  }
+
+  /**
+   * since 버전 이후의 마커 변경분 (인덱스가 없으면 이 자리에서 빌드)
+   */
+  public MarkerChangesDto changesSince(long since) {
+    return changeLog.since(since, currentOrLoad().getVersion());
+  }
+
+  /**
+   * 현재 인덱스 (아직 빌드되지 않았으면 이 자리에서 빌드)
+   */
+  public MarkerIndex currentOrLoad() {
+    MarkerIndex index = current.get();
+    return (index != null) ? index : loadIfAbsent();
+  }
+
+  private synchronized MarkerIndex loadIfAbsent() {
+    MarkerIndex index = current.get();
+    return (index != null) ? index : reload();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    try {
+      reload();
+    } catch (Exception e) {
+      // 인덱스가 없으면 ViewportService 가 DB 조회로 대체하므로 기동은 계속한다
+      log.warn("마커 인덱스 초기 빌드 실패 - DB 조회로 대체합니다: {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${map.index.refresh-interval:PT5M}",
+      fixedDelayString = "${map.index.refresh-interval:PT5M}")
+  public void refreshIfChanged() {
+    try {
+      String fp = repo.fingerprint();
+      if (current.get() == null || !fp.equals(fingerprint)) {
+        reload();
+      }
+    } catch (Exception e) {
+      log.warn("마커 인덱스 갱신 확인 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * DB에서 다시 읽어 인덱스를 재빌드하고 교체합니다
+   */
+  public synchronized MarkerIndex reload() {
+    long started = System.currentTimeMillis();
+    String fp = repo.fingerprint();
+    List<MarkerRow> rows = repo.findAllRows();
+    MarkerIndex index = MarkerIndex.build(versions.next(),
+        rows, repo.findExhibitedDesignationsByMuseum());
+    MarkerSearchIndex search = MarkerSearchIndex.build(index, rows);
+    changeLog.record(current.get(), index);
+    current.set(index);
+    currentSearch.set(search);
+    fingerprint = fp;
+    log.info("마커 인덱스 빌드 완료: version={}, size={}, {}ms",
+        index.getVersion(), index.size(), System.currentTimeMillis() - started);
+    eventPublisher.publishEvent(new MarkerIndexReloadedEvent(index));
+    return index;
+  }
+}
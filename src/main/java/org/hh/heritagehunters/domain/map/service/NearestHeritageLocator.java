@@ -0,0 +1,83 @@
+package org.hh.heritagehunters.domain.map.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.index.MarkerIndexReloadedEvent;
+import org.hh.heritagehunters.domain.map.repository.MarkerIndexRepository;
+import org.hh.heritagehunters.domain.search.entity.Heritage;
+import org.hh.heritagehunters.domain.search.repository.HeritageRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌표에서 가장 가까운 문화유산 찾기 (게시글 작성 시 문화유산 연결/우표 지급에 사용)
+ * - 위도/경도가 있는 모든 문화유산(전시 중 포함)을 격자 인덱스(MarkerIndex)로 메모리에 올려 두고 KNN 으로 찾는다
+ * - 마커 인덱스 재빌드(ETL 적재/데이터 변경) 때 함께 다시 만든다
+ * - 인덱스를 만들 수 없으면 기존 DB 거리 계산 쿼리로 대체한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearestHeritageLocator {
+
+  private final MarkerIndexRepository markerIndexRepository;
+  private final HeritageRepository heritageRepository;
+
+  private final AtomicReference<MarkerIndex> points = new AtomicReference<>();
+
+  /**
+   * maxDistanceMeters 이내의 가장 가까운 문화유산
+   *
+   * @return 범위 안에 없거나 좌표가 없으면 empty
+   */
+  public Optional<Heritage> nearest(Double lat, Double lng, double maxDistanceMeters) {
+    if (lat == null || lng == null) {
+      return Optional.empty();
+    }
+
+    MarkerIndex index;
+    try {
+      index = currentOrLoad();
+    } catch (Exception e) {
+      log.warn("문화유산 좌표 인덱스 빌드 실패 - DB 조회로 대체합니다: {}", e.getMessage());
+      return Optional.ofNullable(heritageRepository.findNearestHeritages(lat, lng, maxDistanceMeters));
+    }
+
+    List<MapMarkerDto> hit = index.nearest(lat, lng, maxDistanceMeters, 1, "heritage", null);
+    return hit.isEmpty() ? Optional.empty() : heritageRepository.findById(hit.get(0).id());
+  }
+
+  @EventListener
+  public void onIndexReloaded(MarkerIndexReloadedEvent event) {
+    try {
+      points.set(load());
+    } catch (Exception e) {
+      // 기존 인덱스를 계속 사용
+      log.warn("문화유산 좌표 인덱스 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  private MarkerIndex currentOrLoad() {
+    MarkerIndex index = points.get();
+    return (index != null) ? index : loadIfAbsent();
+  }
+
+  private synchronized MarkerIndex loadIfAbsent() {
+    MarkerIndex index = points.get();
+    if (index == null) {
+      index = load();
+      points.set(index);
+    }
+    return index;
+  }
+
+  private MarkerIndex load() {
+    return MarkerIndex.build(0L, markerIndexRepository.findHeritagePoints(), Map.of());
+  }
+}
@@ -2,6 +2,7 @@ package org.hh.heritagehunters.domain.map.service;
 
 import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.index.MarkerSearchIndex;
 import org.hh.heritagehunters.domain.map.repository.SearchRepository;
 import org.springframework.stereotype.Service;
 
@@ -12,9 +13,11 @@ import java.util.List;
 public class SearchService {
 
   private final SearchRepository searchRepository;
+  private final MarkerIndexService markerIndexService;
 
   /**
    * 지도 내 DB 정보 검색
+   * - 인메모리 검색 색인이 준비되어 있으면 관련도 순으로 색인에서 조회, 아니면 DB ILIKE 검색
    * @param q 검색어 (필수)
    * @param type museum | heritage | all
    * @param limit 최대 결과 수
@@ -25,6 +28,10 @@ public class SearchService {
     }
     int safeLimit = Math.max(1, Math.min(limit, 500)); // 1~500 제한
 
+    MarkerSearchIndex index = markerIndexService.currentSearch();
+    if (index != null) {
+      return index.search(q.trim(), type, safeLimit);
+    }
     return searchRepository.search(q.trim(), safeLimit, type).stream()
         // lat/lng가 모두 0.0이면 제외
         .filter(d -> !(d.lat() == 0.0 && d.lng() == 0.0))
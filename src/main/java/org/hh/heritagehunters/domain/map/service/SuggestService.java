@@ -0,0 +1,65 @@
+package org.hh.heritagehunters.domain.map.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.map.dto.SuggestionDto;
+import org.hh.heritagehunters.domain.map.index.MarkerIndexReloadedEvent;
+import org.hh.heritagehunters.domain.map.index.SuggestIndex;
+import org.hh.heritagehunters.domain.map.repository.MarkerIndexRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색어 자동완성
+ * - 이름/한자 이름/지역명 접두 색인(SuggestIndex)을 메모리에 두고 요청마다 DB 를 조회하지 않는다
+ * - 마커 인덱스 재빌드 시, 그리고 인기도(게시글 수) 반영을 위해 주기적으로 다시 만든다
+ * 색인이 아직 없으면 빈 목록을 돌려준다 (자동완성은 보조 기능이므로 DB 로 대체하지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+  private final MarkerIndexRepository repo;
+
+  private final AtomicReference<SuggestIndex> current = new AtomicReference<>();
+
+  /**
+   * @param q     입력 중인 검색어 (초성만 입력해도 됨)
+   * @param limit 최대 결과 수 (1~20)
+   */
+  public List<SuggestionDto> suggest(String q, int limit) {
+    SuggestIndex index = current.get();
+    if (index == null || q == null || q.isBlank()) {
+      return List.of();
+    }
+    return index.suggest(q, limit);
+  }
+
+  @EventListener
+  public void onIndexReloaded(MarkerIndexReloadedEvent event) {
+    rebuild();
+  }
+
+  @Scheduled(
+      initialDelayString = "${map.suggest.refresh-interval:PT30M}",
+      fixedDelayString = "${map.suggest.refresh-interval:PT30M}")
+  public void refresh() {
+    rebuild();
+  }
+
+  private void rebuild() {
+    try {
+      long started = System.currentTimeMillis();
+      SuggestIndex index = SuggestIndex.build(repo.findSuggestRows());
+      current.set(index);
+      log.info("자동완성 색인 빌드 완료: size={}, {}ms", index.size(), System.currentTimeMillis() - started);
+    } catch (Exception e) {
+      // 기존 색인을 계속 사용
+      log.warn("자동완성 색인 빌드 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.hh.heritagehunters.domain.map.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.map.index.MarkerIndexReloadedEvent;
+import org.hh.heritagehunters.domain.map.repository.ViewportLookupRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 뷰포트 필터용 사전 계산 테이블 갱신
+ * - 마커 인덱스 빌드(기동 직후, ETL 종료 알림, 데이터 변경 감지) 때마다 다시 채움
+ * - designation 은 ETL 만 쓰므로 ETL 재적재 알림 뒤에 채우면 원본과 맞는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewportLookupService {
+
+  private final ViewportLookupRepository repo;
+
+  @EventListener
+  public void onIndexReloaded(MarkerIndexReloadedEvent event) {
+    refresh();
+  }
+
+  private void refresh() {
+    try {
+      long started = System.currentTimeMillis();
+      repo.refresh();
+      log.info("뷰포트 필터 테이블 갱신 완료: {}ms", System.currentTimeMillis() - started);
+    } catch (Exception e) {
+      log.warn("뷰포트 필터 테이블 갱신 실패: {}", e.getMessage());
+    }
+  }
+}
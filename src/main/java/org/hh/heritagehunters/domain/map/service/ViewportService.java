@@ -1,7 +1,12 @@
 package org.hh.heritagehunters.domain.map.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hh.heritagehunters.domain.map.dto.MapClusterResponseDto;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.dto.MarkerChangesDto;
+import org.hh.heritagehunters.domain.map.index.MarkerClusterer;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.index.NearbyCursor;
 import org.hh.heritagehunters.domain.map.repository.ViewportRepository;
 import org.springframework.stereotype.Service;
 
@@ -11,30 +16,100 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ViewportService {
   private final ViewportRepository repo;
+  private final MarkerIndexService markerIndexService;
 
   public List<MapMarkerDto> fetch(String bbox, int limit, String type,
       List<String> museumCats, List<String> designations) {
-    String[] sp = bbox.split(",");
-    if (sp.length != 4) {
-      throw new IllegalArgumentException("bbox must be 'south,west,north,east'");
-    }
-    double south = Double.parseDouble(sp[0]);
-    double west  = Double.parseDouble(sp[1]);
-    double north = Double.parseDouble(sp[2]);
-    double east  = Double.parseDouble(sp[3]);
+    double[] b = parseBbox(bbox);
 
     if (museumCats != null && museumCats.isEmpty()) museumCats = null;
     if (designations != null && designations.isEmpty()) designations = null;
 
     limit = Math.max(1, Math.min(limit, 2000)); // 여기서도 한번 가드
-    return repo.findByViewport(south, west, north, east, limit,
-        (type == null ? "all" : type), museumCats, designations);
+    type = (type == null ? "all" : type);
+
+    // 인메모리 인덱스가 준비되어 있으면 DB를 거치지 않는다
+    MarkerIndex index = markerIndexService.current();
+    if (index != null) {
+      return index.query(b[0], b[1], b[2], b[3], limit, type, museumCats, designations);
+    }
+    return repo.findByViewport(b[0], b[1], b[2], b[3], limit, type, museumCats, designations);
+  }
+
+  // 줌 레벨 기준 서버 클러스터링 (MAX_CLUSTER_ZOOM 초과면 개별 마커만 반환)
+  public MapClusterResponseDto clusters(String bbox, int zoom, int limit, String type,
+      List<String> museumCats, List<String> designations) {
+    zoom = Math.max(0, Math.min(zoom, 22));
+    if (zoom > MarkerClusterer.MAX_CLUSTER_ZOOM) {
+      return new MapClusterResponseDto(zoom, false, List.of(),
+          fetch(bbox, limit, type, museumCats, designations));
+    }
+
+    double[] b = parseBbox(bbox);
+    if (museumCats != null && museumCats.isEmpty()) museumCats = null;
+    if (designations != null && designations.isEmpty()) designations = null;
+    type = (type == null ? "all" : type);
+
+    // 클러스터는 영역 내 전체 마커를 대상으로 한다 (DB 대체 경로는 최대 2000건)
+    MarkerIndex index = markerIndexService.current();
+    List<MapMarkerDto> markers = (index != null)
+        ? index.markersOf(index.select(b[0], b[1], b[2], b[3], type, museumCats, designations),
+            Integer.MAX_VALUE)
+        : repo.findByViewport(b[0], b[1], b[2], b[3], 2000, type, museumCats, designations);
+    return MarkerClusterer.cluster(markers, zoom);
   }
 
   // 내 위치 반경 조회 (거리순)
   public List<MapMarkerDto> nearby(double lat, double lng, double radiusMeters, int limit, String type) {
+    return nearby(lat, lng, radiusMeters, limit, type, null);
+  }
+
+  /**
+   * 내 위치 반경 조회 (거리순, 커서 페이징)
+   * - 인메모리 인덱스의 격자 KNN 으로 처리하고, 인덱스가 없을 때만 DB 로 대체
+   * - 다음 페이지는 이전 페이지 마지막 항목의 커서(NearbyCursor)로 이어서 조회
+   */
+  public List<MapMarkerDto> nearby(double lat, double lng, double radiusMeters, int limit, String type,
+      NearbyCursor after) {
     if (radiusMeters <= 0) radiusMeters = 2000;           // 기본 2km
     if (limit <= 0 || limit > 500) limit = 100;           // 안전 상한
-    return repo.findNearby(lat, lng, radiusMeters, limit, (type == null ? "all" : type));
+    type = (type == null ? "all" : type);
+
+    MarkerIndex index = markerIndexService.current();
+    if (index == null && after != null) {
+      // DB 경로는 커서를 지원하지 않으므로 인덱스를 만들어 이어서 조회
+      index = markerIndexService.currentOrLoad();
+    }
+    if (index != null) {
+      return index.nearest(lat, lng, radiusMeters, limit, type, after);
+    }
+    return repo.findNearby(lat, lng, radiusMeters, limit, type);
+  }
+
+  /**
+   * 현재 마커 데이터셋 버전 (인덱스가 아직 없으면 null - 이 경우 응답은 DB 조회 결과라 버전을 붙이지 않는다)
+   */
+  public Long markerVersion() {
+    MarkerIndex index = markerIndexService.current();
+    return (index == null) ? null : index.getVersion();
+  }
+
+  // 마커 변경분 (since 버전 이후 추가/수정/삭제)
+  public MarkerChangesDto changes(long since) {
+    return markerIndexService.changesSince(since);
+  }
+
+  // "south,west,north,east" → {south, west, north, east}
+  private static double[] parseBbox(String bbox) {
+    String[] sp = bbox.split(",");
+    if (sp.length != 4) {
+      throw new IllegalArgumentException("bbox must be 'south,west,north,east'");
+    }
+    return new double[] {
+        Double.parseDouble(sp[0]),
+        Double.parseDouble(sp[1]),
+        Double.parseDouble(sp[2]),
+        Double.parseDouble(sp[3])
+    };
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,235 @@
+package org.hh.heritagehunters.domain.map.tile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.index.MarkerIndexReloadedEvent;
+import org.hh.heritagehunters.domain.map.index.WebMercator;
+import org.hh.heritagehunters.domain.map.service.MarkerIndexService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 벡터 타일(MVT) 생성 + 파일 캐시
+ * - 타일은 인메모리 마커 인덱스에서 만들며, 전시 중 문화재 제외 규칙도 인덱스와 동일하다
+ * - 캐시 경로: {cache-dir}/{generation}/{z}/{x}/{y}-{filterKey}.mvt
+ * - 파일 캐시는 기본 조합(all, 필터 없음) + cache-max-zoom 이하 + 국내 영역 타일만 (개수 상한이 정해짐)
+ *   필터 조합/고배율/국외 타일은 요청마다 인덱스에서 만든다 (공개 API 라 임의 조합으로 디스크를 채울 수 없게)
+ * - 인덱스가 재빌드되면(ETL/관리자 재적재) 캐시를 비우고 저배율 기본 타일을 미리 생성한다
+ */
+@Slf4j
+@Service
+public class MapTileService {
+
+  /** 사전 생성 대상 영역 (대한민국 전역) */
+  private static final double[] KOREA_BBOX = {33.0, 124.5, 38.7, 131.0};
+
+  private static final String DEFAULT_FILTER_KEY = "all";
+
+  private final MarkerIndexService markerIndexService;
+  private final Path cacheDir;
+  private final int pregenerateMaxZoom;
+  private final int cacheMaxZoom;
+
+  public MapTileService(MarkerIndexService markerIndexService,
+      @Value("${map.tile.cache-dir:${java.io.tmpdir}/heritage-tiles}") String cacheDir,
+      @Value("${map.tile.pregenerate-max-zoom:8}") int pregenerateMaxZoom,
+      @Value("${map.tile.cache-max-zoom:12}") int cacheMaxZoom) {
+    this.markerIndexService = markerIndexService;
+    this.cacheDir = Paths.get(cacheDir);
+    this.pregenerateMaxZoom = pregenerateMaxZoom;
+    this.cacheMaxZoom = Math.max(cacheMaxZoom, pregenerateMaxZoom);
+  }
+
+  /**
+   * 타일 + 강한 ETag
+   */
+  public record Tile(byte[] bytes, String etag) {
+  }
+
+  /**
+   * 타일 ETag 만 계산합니다 (If-None-Match 비교용, 타일 생성 없음)
+   */
+  public String etag(int z, int x, int y, String type, List<String> museumCats,
+      List<String> designations) {
+    MarkerIndex index = markerIndexService.currentOrLoad();
+    return etag(index, z, x, y, filterKey(type, museumCats, designations));
+  }
+
+  public Tile tile(int z, int x, int y, String type, List<String> museumCats,
+      List<String> designations) {
+    MarkerIndex index = markerIndexService.currentOrLoad();
+    String key = filterKey(type, museumCats, designations);
+    if (!cacheable(z, x, y, key, cacheMaxZoom)) {
+      return new Tile(render(index, z, x, y, type, museumCats, designations), etag(index, z, x, y, key));
+    }
+
+    Path file = tilePath(index, z, x, y, key);
+    byte[] bytes = readCached(file);
+    if (bytes == null) {
+      bytes = render(index, z, x, y, type, museumCats, designations);
+      writeCached(file, bytes);
+    }
+    return new Tile(bytes, etag(index, z, x, y, key));
+  }
+
+  @EventListener
+  public void onIndexReloaded(MarkerIndexReloadedEvent event) {
+    try {
+      clearCache();
+      int count = pregenerate(event.index());
+      log.info("기본 타일 사전 생성 완료: generation={}, tiles={}", generation(event.index()), count);
+    } catch (Exception e) {
+      // 타일은 요청 시 생성되므로 사전 생성 실패는 기록만 한다
+      log.warn("타일 캐시 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  // ================= 내부 구현 =================
+
+  private byte[] render(MarkerIndex index, int z, int x, int y, String type,
+      List<String> museumCats, List<String> designations) {
+    double[] b = MvtEncoder.bounds(z, x, y);
+    BitSet hits = index.select(b[0], b[1], b[2], b[3], type, museumCats, designations);
+    return MvtEncoder.encode(index, hits, z, x, y);
+  }
+
+  private int pregenerate(MarkerIndex index) {
+    int count = 0;
+    for (int z = 0; z <= pregenerateMaxZoom; z++) {
+      int[] r = koreaTileRange(z);
+      for (int x = r[0]; x <= r[1]; x++) {
+        for (int y = r[2]; y <= r[3]; y++) {
+          writeCached(tilePath(index, z, x, y, DEFAULT_FILTER_KEY),
+              render(index, z, x, y, "all", null, null));
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * 파일 캐시 대상인지: 기본 조합 + maxZoom 이하 + 국내 영역 타일
+   */
+  static boolean cacheable(int z, int x, int y, String key, int maxZoom) {
+    if (!DEFAULT_FILTER_KEY.equals(key) || z > maxZoom) {
+      return false;
+    }
+    int[] r = koreaTileRange(z);
+    return x >= r[0] && x <= r[1] && y >= r[2] && y <= r[3];
+  }
+
+  // 줌 z 에서 국내 영역을 덮는 타일 범위 {x0, x1, y0, y1}
+  private static int[] koreaTileRange(int z) {
+    int scale = 1 << z;
+    return new int[] {
+        (int) Math.floor(WebMercator.x(KOREA_BBOX[1]) * scale),
+        (int) Math.floor(WebMercator.x(KOREA_BBOX[3]) * scale),
+        (int) Math.floor(WebMercator.y(KOREA_BBOX[2]) * scale),
+        (int) Math.floor(WebMercator.y(KOREA_BBOX[0]) * scale)
+    };
+  }
+
+  private Path tilePath(MarkerIndex index, int z, int x, int y, String key) {
+    return cacheDir.resolve(generation(index))
+        .resolve(Integer.toString(z))
+        .resolve(Integer.toString(x))
+        .resolve(y + "-" + key + ".mvt");
+  }
+
+  private static String etag(MarkerIndex index, int z, int x, int y, String key) {
+    return "\"" + generation(index) + "-" + z + "-" + x + "-" + y + "-" + key + "\"";
+  }
+
+  // 재시작하면 version 이 다시 1부터 시작하므로 빌드 시각을 함께 쓴다
+  private static String generation(MarkerIndex index) {
+    return index.getBuiltAt().toEpochMilli() + "." + index.getVersion();
+  }
+
+  /**
+   * 필터 조합 → 캐시 키. 기본 조합(all, 필터 없음)은 "all", 그 외는 정렬 후 해시
+   */
+  static String filterKey(String type, List<String> museumCats, List<String> designations) {
+    String t = (type == null) ? "all" : type;
+    boolean noCats = museumCats == null || museumCats.isEmpty();
+    boolean noDesigs = designations == null || designations.isEmpty();
+    if ("all".equals(t) && noCats && noDesigs) {
+      return DEFAULT_FILTER_KEY;
+    }
+    String raw = t + "|" + sorted(museumCats) + "|" + sorted(designations);
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, 8);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static List<String> sorted(List<String> values) {
+    if (values == null) {
+      return List.of();
+    }
+    List<String> out = new ArrayList<>(values.size());
+    for (String v : values) {
+      out.add(v == null ? "" : v.trim());
+    }
+    out.sort(Comparator.naturalOrder());
+    return out;
+  }
+
+  private byte[] readCached(Path file) {
+    try {
+      return Files.exists(file) ? Files.readAllBytes(file) : null;
+    } catch (IOException e) {
+      log.warn("타일 캐시 읽기 실패: {}", file, e);
+      return null;
+    }
+  }
+
+  // 임시 파일에 쓴 뒤 rename 해서, 동시에 읽는 요청이 반쯤 쓰인 파일을 보지 않도록 한다
+  private void writeCached(Path file, byte[] bytes) {
+    try {
+      Files.createDirectories(file.getParent());
+      Path tmp = Files.createTempFile(file.getParent(), "tile", ".tmp");
+      Files.write(tmp, bytes);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("타일 캐시 쓰기 실패: {}", file, e);
+    }
+  }
+
+  private void clearCache() {
+    if (!Files.isDirectory(cacheDir)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(cacheDir)) {
+      paths.sorted(Comparator.reverseOrder())
+          .filter(p -> !p.equals(cacheDir))
+          .forEach(p -> {
+            try {
+              Files.deleteIfExists(p);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package org.hh.heritagehunters.domain.map.tile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.index.WebMercator;
+
+/**
+ * Mapbox Vector Tile(v2) 인코더 - 포인트 전용
+ * - 레이어: museums, heritages
+ * - 속성: type, name, category, address (feature id = DB id)
+ * 라이브러리 없이 필요한 protobuf 필드만 직접 기록한다 (vector_tile.proto 참고).
+ */
+final class MvtEncoder {
+
+  static final int EXTENT = 4096;
+
+  /** 타일 경계 밖으로 포함할 여유 (extent 단위) - 경계에 걸친 아이콘 잘림 방지 */
+  static final int BUFFER = 64;
+
+  // vector_tile.proto 필드 번호
+  private static final int TILE_LAYERS = 3;
+  private static final int LAYER_NAME = 1;
+  private static final int LAYER_FEATURES = 2;
+  private static final int LAYER_KEYS = 3;
+  private static final int LAYER_VALUES = 4;
+  private static final int LAYER_EXTENT = 5;
+  private static final int LAYER_VERSION = 15;
+  private static final int FEATURE_ID = 1;
+  private static final int FEATURE_TAGS = 2;
+  private static final int FEATURE_TYPE = 3;
+  private static final int FEATURE_GEOMETRY = 4;
+  private static final int VALUE_STRING = 1;
+
+  private static final int GEOM_TYPE_POINT = 1;
+  private static final int CMD_MOVE_TO_ONE = (1 & 0x7) | (1 << 3);
+
+  private static final String[] KEYS = {"type", "name", "category", "address"};
+
+  private MvtEncoder() {
+  }
+
+  /**
+   * 타일 z/x/y 에 해당하는 마커들을 인코딩합니다
+   *
+   * @param hits 타일 영역(+버퍼) 안에서 필터를 통과한 마커 인덱스
+   */
+  static byte[] encode(MarkerIndex index, BitSet hits, int z, int x, int y) {
+    LayerBuilder museums = new LayerBuilder("museums");
+    LayerBuilder heritages = new LayerBuilder("heritages");
+
+    double scale = Math.pow(2, z);
+    for (int i = hits.nextSetBit(0); i >= 0; i = hits.nextSetBit(i + 1)) {
+      int px = (int) Math.round((WebMercator.x(index.lng(i)) * scale - x) * EXTENT);
+      int py = (int) Math.round((WebMercator.y(index.lat(i)) * scale - y) * EXTENT);
+      if (px < -BUFFER || px > EXTENT + BUFFER || py < -BUFFER || py > EXTENT + BUFFER) {
+        continue;
+      }
+      (index.isMuseum(i) ? museums : heritages).addPoint(index.marker(i), px, py);
+    }
+
+    ProtoWriter tile = new ProtoWriter();
+    if (museums.count > 0) {
+      tile.writeMessage(TILE_LAYERS, museums.finish());
+    }
+    if (heritages.count > 0) {
+      tile.writeMessage(TILE_LAYERS, heritages.finish());
+    }
+    return tile.toByteArray();
+  }
+
+  /**
+   * 타일 z/x/y 의 위경도 범위(버퍼 포함) - {south, west, north, east}
+   */
+  static double[] bounds(int z, int x, int y) {
+    double scale = Math.pow(2, z);
+    double pad = (double) BUFFER / EXTENT;
+    double west = WebMercator.lng((x - pad) / scale);
+    double east = WebMercator.lng((x + 1 + pad) / scale);
+    double north = WebMercator.lat((y - pad) / scale);
+    double south = WebMercator.lat((y + 1 + pad) / scale);
+    return new double[] {south, west, north, east};
+  }
+
+  private static final class LayerBuilder {
+
+    private final String name;
+    private final ProtoWriter features = new ProtoWriter();
+    private final Map<String, Integer> values = new LinkedHashMap<>();
+    private int count;
+
+    LayerBuilder(String name) {
+      this.name = name;
+    }
+
+    void addPoint(MapMarkerDto m, int px, int py) {
+      int[] tags = {
+          0, valueIndex(m.type()),
+          1, valueIndex(m.name()),
+          2, valueIndex(m.category()),
+          3, valueIndex(m.address())
+      };
+
+      ProtoWriter feature = new ProtoWriter();
+      feature.writeVarintField(FEATURE_ID, m.id());
+      feature.writePacked(FEATURE_TAGS, tags);
+      feature.writeVarintField(FEATURE_TYPE, GEOM_TYPE_POINT);
+      feature.writePacked(FEATURE_GEOMETRY, new int[] {CMD_MOVE_TO_ONE, zigzag(px), zigzag(py)});
+      features.writeMessage(LAYER_FEATURES, feature.toByteArray());
+      count++;
+    }
+
+    byte[] finish() {
+      ProtoWriter layer = new ProtoWriter();
+      layer.writeVarintField(LAYER_VERSION, 2);
+      layer.writeString(LAYER_NAME, name);
+      layer.writeRaw(features.toByteArray());
+      for (String key : KEYS) {
+        layer.writeString(LAYER_KEYS, key);
+      }
+      for (String value : values.keySet()) {
+        ProtoWriter v = new ProtoWriter();
+        v.writeString(VALUE_STRING, value);
+        layer.writeMessage(LAYER_VALUES, v.toByteArray());
+      }
+      layer.writeVarintField(LAYER_EXTENT, EXTENT);
+      return layer.toByteArray();
+    }
+
+    private int valueIndex(String value) {
+      return values.computeIfAbsent(value == null ? "" : value, k -> values.size());
+    }
+  }
+
+  private static int zigzag(int n) {
+    return (n << 1) ^ (n >> 31);
+  }
+
+  /**
+   * 최소한의 protobuf 쓰기 도우미 (varint / length-delimited 만 사용)
+   */
+  private static final class ProtoWriter {
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    void writeVarintField(int field, long value) {
+      writeVarint(((long) field << 3) | WIRE_VARINT);
+      writeVarint(value);
+    }
+
+    void writeString(int field, String value) {
+      writeMessage(field, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeMessage(int field, byte[] bytes) {
+      writeVarint(((long) field << 3) | WIRE_LENGTH_DELIMITED);
+      writeVarint(bytes.length);
+      out.writeBytes(bytes);
+    }
+
+    void writePacked(int field, int[] values) {
+      ProtoWriter packed = new ProtoWriter();
+      for (int v : values) {
+        packed.writeVarint(v & 0xffffffffL);
+      }
+      writeMessage(field, packed.toByteArray());
+    }
+
+    void writeRaw(byte[] bytes) {
+      out.writeBytes(bytes);
+    }
+
+    void writeVarint(long value) {
+      while ((value & ~0x7FL) != 0) {
+        out.write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      out.write((int) value);
+    }
+
+    byte[] toByteArray() {
+      return out.toByteArray();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.hh.heritagehunters.domain.oauth.service;
 
 import jakarta.transaction.Transactional;
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +12,10 @@ import org.hh.heritagehunters.common.exception.payload.ErrorCode;
 import org.hh.heritagehunters.domain.oauth.entity.User;
 import org.hh.heritagehunters.domain.oauth.repository.UserRepository;
 import org.hh.heritagehunters.domain.profile.dto.ProfileUpdateRequestDto;
+import org.hh.heritagehunters.domain.post.repository.StagedImage;
+import org.hh.heritagehunters.domain.post.service.ImageService;
 import org.hh.heritagehunters.domain.post.service.ImageUploadService;
+import org.hh.heritagehunters.domain.post.service.S3DeletionQueue;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.Map;
@@ -29,6 +33,8 @@ public class UserFacade {
 
   private final UserRepository userRepository;
   private final ImageUploadService imageUploadService;
+  private final S3DeletionQueue s3DeletionQueue;
+  private final ImageService imageService;
 
   public User updateProfile(Long targetUserId,
       User currentUser,
@@ -57,14 +63,9 @@ public class UserFacade {
 
     // 프로필 이미지 변경
     if (profileImage != null && !profileImage.isEmpty()) {
-      // 기존 이미지 삭제 (있을 경우)
+      // 기존 이미지 삭제 예약 (있을 경우, 커밋 후 비동기 삭제)
       if (user.getProfileImage() != null && !user.getProfileImage().isEmpty()) {
-        try {
-          imageUploadService.deleteImage(user.getProfileImage());
-          log.info("기존 프로필 이미지 삭제 완료: {}", user.getProfileImage());
-        } catch (Exception e) {
-          log.warn("기존 프로필 이미지 삭제 실패: {}", e.getMessage());
-        }
+        s3DeletionQueue.enqueueUrls(List.of(user.getProfileImage()));
       }
       // 신규 업로드
       String newImageUrl = imageUploadService.uploadImage(profileImage);
@@ -73,8 +74,39 @@ public class UserFacade {
 
     // 저장
     User updated = userRepository.save(user);
+    refreshAuthentication(updated);
+    return updated;
+  }
+
+  /**
+   * 직접 업로드(presigned URL)를 마친 이미지로 프로필 사진을 바꿉니다
+   * - 업로드를 확인한 뒤 커밋과 함께 연결하고, 커밋 후 임시 경로에서 정식 경로로 옮긴다
+   */
+  public User updateProfileImage(Long targetUserId, User currentUser, Long uploadId) {
+    if (!targetUserId.equals(currentUser.getId())) {
+      throw new UnauthorizedException(ErrorCode.OWNER_ONLY);
+    }
+
+    User user = userRepository.findById(targetUserId)
+        .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
 
-// 저장 직후 Authentication 갱신
+    List<StagedImage> staged = imageService.confirm(targetUserId, List.of(uploadId));
+    String newImageUrl = imageService.attachStagedWithoutPost(staged.get(0));
+
+    // 기존 이미지 삭제 예약 (있을 경우, 커밋 후 비동기 삭제)
+    if (user.getProfileImage() != null && !user.getProfileImage().isEmpty()) {
+      s3DeletionQueue.enqueueUrls(List.of(user.getProfileImage()));
+    }
+    user.setProfileImage(newImageUrl);
+    imageService.promoteAfterCommit(staged);
+
+    User updated = userRepository.save(user);
+    refreshAuthentication(updated);
+    return updated;
+  }
+
+  // 저장 직후 Authentication 갱신
+  private void refreshAuthentication(User updated) {
     var ctx = SecurityContextHolder.getContext();
     var cur = ctx.getAuthentication();
     if (cur != null && cur.getPrincipal() instanceof CustomUserDetails cud) {
@@ -91,6 +123,5 @@ public class UserFacade {
       if (cur.getDetails() != null) newAuth.setDetails(cur.getDetails());
       ctx.setAuthentication(newAuth);
     }
-    return updated;
   }
-}
\ No newline at end of file
+}
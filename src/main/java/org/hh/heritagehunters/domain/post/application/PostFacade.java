@@ -2,30 +2,42 @@ package org.hh.heritagehunters.domain.post.application;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hh.heritagehunters.common.exception.ForbiddenException;
 import org.hh.heritagehunters.common.exception.UnauthorizedException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
 import org.hh.heritagehunters.domain.oauth.entity.User;
+import org.hh.heritagehunters.domain.post.dto.CommentCursor;
+import org.hh.heritagehunters.domain.post.dto.CommentDto;
+import org.hh.heritagehunters.domain.post.dto.PostFeedCursor;
 import org.hh.heritagehunters.domain.post.dto.request.CommentCreateRequestDto;
+import org.hh.heritagehunters.domain.post.dto.request.ImageUploadRequestDto;
 import org.hh.heritagehunters.domain.post.dto.request.PostCreateRequestDto;
 import org.hh.heritagehunters.domain.post.dto.request.PostUpdateRequestDto;
-import org.hh.heritagehunters.domain.post.dto.response.CommentResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.CommentPageResponseDto;
 import org.hh.heritagehunters.domain.post.dto.response.PostCreateResponseDto;
 import org.hh.heritagehunters.domain.post.dto.response.PostDetailResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.PostFeedResponseDto;
 import org.hh.heritagehunters.domain.post.dto.response.PostListResponseDto;
-import org.hh.heritagehunters.domain.post.entity.Comment;
+import org.hh.heritagehunters.domain.post.dto.response.PresignedUploadResponseDto;
 import org.hh.heritagehunters.domain.post.entity.Post;
-import org.hh.heritagehunters.domain.post.repository.CommentRepository;
+import org.hh.heritagehunters.domain.post.repository.PostListProjection;
+import org.hh.heritagehunters.domain.post.repository.PostSortKey;
+import org.hh.heritagehunters.domain.post.repository.StagedImage;
 import org.hh.heritagehunters.domain.post.service.CommentService;
 import org.hh.heritagehunters.domain.post.service.ImageService;
+import org.hh.heritagehunters.domain.post.service.LikeCountBuffer;
 import org.hh.heritagehunters.domain.post.service.LikeService;
+import org.hh.heritagehunters.domain.post.service.PostFeedCache;
 import org.hh.heritagehunters.domain.post.service.PostReader;
 import org.hh.heritagehunters.domain.post.service.PostWriter;
+import org.hh.heritagehunters.domain.post.service.ViewCountBuffer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,11 +48,17 @@ import org.springframework.web.multipart.MultipartFile;
 public class PostFacade {
 
   private final PostReader postReader;
+  private final PostFeedCache postFeedCache;
+  private final ViewCountBuffer viewCountBuffer;
+  private final LikeCountBuffer likeCountBuffer;
   private final PostWriter postWriter;
   private final ImageService imageService;
   private final LikeService likeService;
   private final CommentService commentService;
-  private final CommentRepository commentRepository;
+
+  /** 게시글 상세에 함께 내려주는 댓글 첫 페이지 크기 */
+  @Value("${post.comments.first-page-size:20}")
+  private int firstCommentPageSize;
 
   /**
    * 게시글 목록을 조회합니다
@@ -59,53 +77,134 @@ public class PostFacade {
       String keyword, String region,
       String sort, String direction,
       int page, int size) {
-    Page<Post> posts = postReader.getPage(keyword, region, sort, direction, page, size);
-    Set<Long> likedIds = (currentUser == null)
-        ? Set.of()
-        : postReader.findLikedPostIds(currentUser.getId(), posts.getContent());
-    return posts.map(p -> PostListResponseDto.from(p, likedIds.contains(p.getId())));
+    // 모든 사용자가 공유하는 본문은 캐시, 좋아요 여부만 사용자별로 조회해 덧씌움
+    Page<PostListResponseDto> shared = postFeedCache.get(
+        postReader.cacheKey(keyword, region, sort, direction, page, size),
+        () -> postReader.getPage(keyword, region, sort, direction, page, size)
+            .map(p -> PostListResponseDto.from(p, false)));
+    if (currentUser == null || shared.isEmpty()) {
+      return shared;
+    }
+    List<Long> postIds = shared.getContent().stream().map(PostListResponseDto::getId).toList();
+    Set<Long> likedIds = postReader.findLikedInPostIds(currentUser.getId(), postIds);
+    return shared.map(p -> p.withLikedByCurrentUser(likedIds.contains(p.getId())));
   }
 
-  @Transactional
+  /**
+   * 게시글 목록을 커서 방식으로 조회합니다 (전체 개수 없이 다음 페이지 커서만 제공)
+   *
+   * @param currentUser 현재 로그인한 사용자
+   * @param keyword     검색 키워드
+   * @param region      지역 필터
+   * @param sort        정렬 기준
+   * @param direction   정렬 방향
+   * @param cursor      이전 응답의 nextCursor (없으면 첫 페이지)
+   * @param size        페이지 크기
+   * @return 게시글 목록과 다음 페이지 커서
+   */
+  @Transactional(readOnly = true)
+  public PostFeedResponseDto feed(User currentUser,
+      String keyword, String region,
+      String sort, String direction,
+      String cursor, int size) {
+    PostSortKey key = PostSortKey.from(sort);
+    Slice<PostListProjection> posts = postReader.getFeed(keyword, region, sort, direction,
+        PostFeedCursor.parse(cursor, key), size);
+
+    List<PostListProjection> content = posts.getContent();
+    Set<Long> likedIds = likedIds(currentUser, content);
+
+    return PostFeedResponseDto.builder()
+        .posts(content.stream()
+            .map(p -> PostListResponseDto.from(p, likedIds.contains(p.getId())))
+            .toList())
+        .nextCursor(posts.hasNext()
+            ? PostFeedCursor.after(key, content.get(content.size() - 1)).toString()
+            : null)
+        .hasNext(posts.hasNext())
+        .build();
+  }
+
+  /**
+   * 게시글을 작성합니다
+   * - 이미지는 트랜잭션 밖에서 임시 경로로 올리고, 게시글/이미지 행만 짧은 트랜잭션으로 저장한다
+   *   (업로드 동안 DB 커넥션을 잡지 않음)
+   * - 이미지 검증/업로드에 실패하면 게시글을 저장하지 않는다
+   *
+   * @param user      작성자
+   * @param req       게시글 작성 데이터
+   * @param images    업로드할 이미지 목록
+   * @param uploadIds 직접 업로드(presigned URL)를 마친 이미지 (null 가능, images 보다 앞에 붙음)
+   * @return 작성 결과
+   */
   public PostCreateResponseDto create(User user, PostCreateRequestDto req,
-      List<MultipartFile> images) {
-    // 1단계: 게시글 먼저 저장
-    Post post = postWriter.create(user, req);
+      List<MultipartFile> images, List<Long> uploadIds) {
+    // 0단계: 직접 업로드 확인 (올라오지 않은 업로드는 거절)
+    List<StagedImage> uploaded = imageService.confirm(user.getId(), uploadIds);
 
-    // 2단계: 이미지 처리 (이 부분이 오래 걸림)
+    // 1단계: 이미지 임시 업로드 (이 부분이 오래 걸림)
+    // - 잘못된 이미지/업로드 실패(BadRequestException), 업로드 혼잡(TooManyRequestsException)은 게시글 저장 전에 그대로 전달
+    // - 확인만 한 직접 업로드는 STAGED 로 남아 ImageOutboxWorker 가 정리한다
+    List<StagedImage> staged = concat(uploaded, imageService.stage(user.getId(), images));
+
+    // 2단계: 게시글 + 이미지 행 저장 (짧은 트랜잭션)
+    Post post;
     try {
-      imageService.attachImages(images, post);
-    } catch (Exception e) {
-      // 이미지 처리 실패해도 게시글은 유지
-      log.warn("이미지 처리 실패: {}", e.getMessage());
+      post = postWriter.create(user, req, staged);
+    } catch (RuntimeException e) {
+      imageService.discard(staged);
+      throw e;
     }
 
+    // 3단계: 커밋된 이미지를 정식 경로로 이동
+    imageService.promote(staged);
+
     return new PostCreateResponseDto(post.getId(), "게시글이 성공적으로 등록되었습니다.",
         post.getHeritage() != null ? 1 : 0);
   }
 
   /**
-   * 게시글 상세 정보를 조회합니다
+   * 게시글 상세 정보를 조회합니다 (조회수 중복 판별 없이 항상 셈)
    *
    * @param postId      조회할 게시글 ID
    * @param currentUser 현재 로그인한 사용자
    * @return 게시글 상세 정보
    */
-  @Transactional
+  @Transactional(readOnly = true)
   public PostDetailResponseDto detail(Long postId, User currentUser) {
+    return detail(postId, currentUser, null);
+  }
+
+  /**
+   * 게시글 상세 정보를 조회합니다
+   * - 조회수는 ViewCountBuffer 에 기록만 하고 DB 반영은 일괄 처리하므로 읽기 전용 트랜잭션이다
+   *
+   * @param postId      조회할 게시글 ID
+   * @param currentUser 현재 로그인한 사용자
+   * @param sessionId   비로그인 조회자의 세션 ID (조회수 중복 판별용, 없으면 null)
+   * @return 게시글 상세 정보
+   */
+  @Transactional(readOnly = true)
+  public PostDetailResponseDto detail(Long postId, User currentUser, String sessionId) {
     // 1. 게시글 + 이미지 조회 (1개 쿼리)
     Post post = postReader.getPostWithImages(postId);
 
-    // 2. 댓글 조회 (1개 쿼리)  
-    List<Comment> comments = postReader.loadComments(postId);
+    // 2. 댓글 첫 페이지 조회 (1개 쿼리, 댓글 수와 무관하게 first-page-size 건만)
+    CommentPageResponseDto comments = CommentPageResponseDto.from(
+        postReader.getComments(postId, null, firstCommentPageSize));
 
-    // 3. 조회수 증가
-    post.incrementViewCount();
+    // 3. 조회수 기록 (write-behind)
+    String viewerKey = (currentUser != null) ? "u:" + currentUser.getId()
+        : (sessionId != null) ? "s:" + sessionId : null;
+    viewCountBuffer.record(postId, viewerKey);
 
     boolean isLiked = currentUser != null && likeService.isLiked(postId, currentUser.getId());
     boolean isOwner = currentUser != null && post.getUser().getId().equals(currentUser.getId());
 
-    return PostDetailResponseDto.from(post, comments, isLiked, isOwner);
+    PostDetailResponseDto dto = PostDetailResponseDto.from(post, comments, isLiked, isOwner);
+    dto.setViewCount((int) (post.getViewCount() + viewCountBuffer.pending(postId)));
+    dto.setLikeCount(currentLikeCount(post));
+    return dto;
   }
 
   /**
@@ -127,30 +226,83 @@ public class PostFacade {
 
   /**
    * 게시글과 이미지를 함께 수정합니다
+   * - 새 이미지는 작성과 같이 트랜잭션 밖에서 임시 경로로 올린 뒤 짧은 트랜잭션으로 연결한다
    *
    * @param postId       수정할 게시글 ID
    * @param user         수정 요청자
    * @param dto          게시글 수정 데이터
    * @param newImages    새로 업로드할 이미지 목록
    * @param keepImageIds 유지할 기존 이미지 ID 목록
+   * @param uploadIds    직접 업로드(presigned URL)를 마친 새 이미지 (null 가능)
    */
-  @Transactional
   public void update(Long postId, User user, PostUpdateRequestDto dto,
-      List<MultipartFile> newImages, List<Long> keepImageIds) {
+      List<MultipartFile> newImages, List<Long> keepImageIds, List<Long> uploadIds) {
     Post post = postReader.getById(postId);
     if (!post.getUser().getId().equals(user.getId())) {
       throw new UnauthorizedException(ErrorCode.OWNER_ONLY);
     }
 
-    // 기본 정보 수정
-    postWriter.update(post, dto);
+    // 새 이미지는 트랜잭션 밖에서 임시 경로로 업로드 (직접 업로드는 확인만)
+    List<StagedImage> staged = null;
+    if (newImages != null || uploadIds != null) {
+      List<StagedImage> uploaded = imageService.confirm(user.getId(), uploadIds);
+      staged = concat(uploaded, newImages == null ? List.of() : imageService.stage(user.getId(), newImages));
+    }
+
+    // 기본 정보 + 이미지 수정 (짧은 트랜잭션)
+    try {
+      postWriter.update(postId, dto, staged, keepImageIds);
+    } catch (RuntimeException e) {
+      if (staged != null) {
+        imageService.discard(staged);
+      }
+      throw e;
+    }
 
-    // 이미지 처리
-    if (newImages != null || keepImageIds != null) {
-      imageService.updateImages(post, newImages, keepImageIds);
+    if (staged != null) {
+      imageService.promote(staged);
     }
   }
 
+  /**
+   * 이미지 직접 업로드용 presigned URL 을 발급합니다 (게시글/프로필 공용)
+   *
+   * @param user  요청자
+   * @param files 올릴 파일 정보
+   * @return 파일 순서대로 발급한 URL
+   */
+  public List<PresignedUploadResponseDto> presignImages(User user, List<ImageUploadRequestDto> files) {
+    return imageService.presign(user.getId(), files);
+  }
+
+  /**
+   * 직접 업로드를 마친 이미지를 확인하고 기존 게시글 뒤에 붙입니다
+   * - 기존 이미지와 합쳐 게시글당 최대 개수를 넘으면 TOO_MANY_IMAGES 로 거절하고 올린 업로드는 버린다
+   *
+   * @param postId    게시글 ID
+   * @param user      요청자 (게시글 작성자만 가능)
+   * @param uploadIds presign 이 돌려준 uploadId
+   */
+  public void attachUploadedImages(Long postId, User user, List<Long> uploadIds) {
+    Post post = postReader.getById(postId);
+    if (!post.getUser().getId().equals(user.getId())) {
+      throw new UnauthorizedException(ErrorCode.OWNER_ONLY);
+    }
+
+    List<StagedImage> staged = imageService.confirm(user.getId(), uploadIds);
+    try {
+      postWriter.addImages(postId, staged);
+    } catch (RuntimeException e) {
+      imageService.discard(staged);
+      throw e;
+    }
+    imageService.promote(staged);
+  }
+
+  private static List<StagedImage> concat(List<StagedImage> a, List<StagedImage> b) {
+    return Stream.concat(a.stream(), b.stream()).toList();
+  }
+
   /**
    * 게시글을 삭제합니다
    *
@@ -164,17 +316,9 @@ public class PostFacade {
       throw new UnauthorizedException(ErrorCode.OWNER_ONLY);
     }
 
-    // 1. S3에서 이미지 파일 삭제 (비동기 처리)
-    if (post.getImages() != null && !post.getImages().isEmpty()) {
-      log.info("게시글 삭제 시 S3에서 {}개의 이미지 파일을 삭제합니다.", post.getImages().size());
-      post.getImages().forEach(image -> {
-        try {
-          imageService.deleteImage(image.getUrl());
-        } catch (Exception e) {
-          // S3 파일 삭제에 실패하더라도 게시글 삭제는 계속 진행 (로그만 남김)
-          log.warn("게시글 삭제 중 S3 파일 삭제 실패: {}. 게시글은 DB에서 제거됩니다.", image.getUrl(), e);
-        }
-      });
+    // 1. S3 이미지 파일 삭제 예약 (커밋 후 비동기 일괄 삭제 → 이미지 수와 무관하게 바로 응답)
+    if (post.getImages() != null) {
+      imageService.deleteImages(post.getImages());
     }
 
     // 2. DB에서 게시글 및 연관된 PostImage 엔티티 삭제 (orphanRemoval = true에 의해 자동 처리)
@@ -194,64 +338,71 @@ public class PostFacade {
   }
 
   /**
-   * 게시글에 댓글을 추가합니다
+   * 게시글의 현재 좋아요 수를 조회합니다 (아직 DB 에 반영되지 않은 증감분 포함)
    *
    * @param postId 게시글 ID
-   * @param user   댓글 작성자
-   * @param dto    댓글 생성 데이터
+   * @return 좋아요 수
    */
-  @Transactional
-  public void addComment(Long postId, User user, CommentCreateRequestDto dto) {
-    commentService.add(postId, user, dto);
+  @Transactional(readOnly = true)
+  public int likeCount(Long postId) {
+    return currentLikeCount(postReader.getById(postId));
+  }
+
+  private int currentLikeCount(Post post) {
+    return (int) Math.max(0, post.getLikeCount() + likeCountBuffer.pending(post.getId()));
+  }
+
+  /**
+   * 게시글의 댓글을 커서 페이지로 조회합니다
+   *
+   * @param postId 게시글 ID
+   * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param size   페이지 크기
+   * @return 댓글 페이지
+   */
+  @Transactional(readOnly = true)
+  public CommentPageResponseDto comments(Long postId, String cursor, int size) {
+    return CommentPageResponseDto.from(postReader.getComments(postId, CommentCursor.parse(cursor), size));
   }
 
   /**
-   * 게시글에 댓글을 추가한 후, 댓글 목록 불러오기까지 한 트랜잭션으로 묶습니다.
+   * 게시글에 댓글을 추가합니다
+   * - 댓글 목록을 다시 읽지 않고 새 댓글만 돌려준다 (목록은 클라이언트가 이어 붙임)
    *
    * @param postId 게시글 ID
    * @param user   댓글 작성자
    * @param dto    댓글 생성 데이터
+   * @return 추가된 댓글
    */
   @Transactional
-  public List<CommentResponseDto> addCommentAndFetchAll(Long postId, User user, CommentCreateRequestDto dto) {
-    // 댓글 저장 + post.commentCount 업데이트
-    commentService.add(postId, user, dto);
-
-    // 댓글 + 작성자를 fetch join으로 한 번에 가져오고, 여기서 DTO로 변환
-    return commentRepository.findAllByPostIdWithUser(postId)
-        .stream()
-        .map(CommentResponseDto::from)
-        .toList();
+  public CommentDto addComment(Long postId, User user, CommentCreateRequestDto dto) {
+    return CommentDto.from(commentService.add(postId, user, dto));
   }
 
   @Transactional(readOnly = true)
   public Page<PostListResponseDto> userPosts(Long targetUserId, User currentUser, int page, int size) {
-    Page<Post> posts = postReader.getUserPosts(targetUserId, page, size);
-    return mapWithLikeAndThumbnails(posts, currentUser);
+    Page<PostListProjection> posts = postReader.getUserPosts(targetUserId, page, size);
+    return withLiked(posts, currentUser);
   }
 
   @Transactional(readOnly = true)
   public Page<PostListResponseDto> likedPosts(Long targetUserId, User currentUser, int page, int size) {
-    Page<Post> posts = postReader.getLikedPosts(targetUserId, page, size);
-    return mapWithLikeAndThumbnails(posts, currentUser);
+    Page<PostListProjection> posts = postReader.getLikedPosts(targetUserId, page, size);
+    return withLiked(posts, currentUser);
   }
 
-  private Page<PostListResponseDto> mapWithLikeAndThumbnails(Page<Post> posts, User currentUser) {
-    if (posts.isEmpty()) return posts.map(p -> PostListResponseDto.fromEntityAndThumb(p, false, null));
-
-    List<Long> postIds = posts.getContent().stream().map(Post::getId).toList();
-
-    Set<Long> likedIds = (currentUser == null)
-        ? Collections.emptySet()
-        : postReader.findLikedInPostIds(currentUser.getId(), postIds);
-
-    Map<Long, String> thumbMap = postReader.findThumbnailUrls(postIds);
+  // 목록 행에 현재 사용자의 좋아요 여부만 덧씌움 (썸네일/작성자/문화유산은 projection 에 포함)
+  private Page<PostListResponseDto> withLiked(Page<PostListProjection> posts, User currentUser) {
+    Set<Long> likedIds = likedIds(currentUser, posts.getContent());
+    return posts.map(p -> PostListResponseDto.from(p, likedIds.contains(p.getId())));
+  }
 
-    return posts.map(p -> PostListResponseDto.fromEntityAndThumb(
-        p,
-        likedIds.contains(p.getId()),
-        thumbMap.get(p.getId())
-    ));
+  private Set<Long> likedIds(User currentUser, List<PostListProjection> posts) {
+    if (currentUser == null || posts.isEmpty()) {
+      return Collections.emptySet();
+    }
+    List<Long> postIds = posts.stream().map(PostListProjection::getId).toList();
+    return postReader.findLikedInPostIds(currentUser.getId(), postIds);
   }
 
   /**
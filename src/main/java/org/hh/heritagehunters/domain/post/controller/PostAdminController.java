@@ -0,0 +1,63 @@
+package org.hh.heritagehunters.domain.post.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.RequiredArgsConstructor;
+import org.hh.heritagehunters.common.exception.ForbiddenException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.common.handler.ApiExceptionHandler;
+import org.hh.heritagehunters.domain.post.dto.response.UploadStatsResponseDto;
+import org.hh.heritagehunters.domain.post.service.UploadScheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/posts/admin")
+@RequiredArgsConstructor
+@Tag(name = "post-admin-controller", description = "Post Admin Controller")
+public class PostAdminController {
+
+  private final UploadScheduler uploadScheduler;
+
+  @Value("${post.admin.token:}")
+  private String adminToken;
+
+  @Operation(
+      summary = "이미지 업로드 상태",
+      description = "업로드 대기/실행 수, 처리 중인 바이트, 완료/실패/거절 수, 업로드 시간 분포를 조회합니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(responseCode = "403", description = "관리자 토큰 불일치",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  @GetMapping("/uploads")
+  public UploadStatsResponseDto uploads(
+      @Parameter(description = "관리자 토큰 (post.admin.token)", required = true)
+      @RequestHeader(name = "X-Admin-Token", required = false) String token
+  ) {
+    if (!isAdmin(token)) {
+      throw new ForbiddenException(ErrorCode.ACCESS_DENIED);
+    }
+    return uploadScheduler.snapshot();
+  }
+
+  // 토큰이 설정되지 않았으면 항상 거부
+  private boolean isAdmin(String token) {
+    if (adminToken == null || adminToken.isBlank() || token == null) {
+      return false;
+    }
+    return MessageDigest.isEqual(
+        adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+  }
+}
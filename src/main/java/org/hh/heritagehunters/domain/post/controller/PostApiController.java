@@ -0,0 +1,152 @@
+package org.hh.heritagehunters.domain.post.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hh.heritagehunters.common.exception.UnauthorizedException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.common.handler.ApiExceptionHandler;
+import org.hh.heritagehunters.common.security.CustomUserDetails;
+import org.hh.heritagehunters.domain.oauth.entity.User;
+import org.hh.heritagehunters.domain.post.application.PostFacade;
+import org.hh.heritagehunters.domain.post.dto.request.ImageConfirmRequestDto;
+import org.hh.heritagehunters.domain.post.dto.request.ImagePresignRequestDto;
+import org.hh.heritagehunters.domain.post.dto.response.CommentPageResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.PostFeedResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.PresignedUploadResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/posts")
+@Validated
+@Tag(name = "post-api-controller", description = "Post API Controller")
+public class PostApiController {
+
+  private final PostFacade postFacade;
+
+  @Operation(
+      summary = "게시글 피드 조회 (커서 페이지)",
+      description = "정렬 기준(createdAt/viewCount/likeCount/commentCount)과 게시글 ID 로 이어서 조회합니다. "
+          + "전체 개수는 제공하지 않으며, 응답의 nextCursor 를 다음 요청의 cursor 로 넘깁니다. size는 1-50으로 제한됩니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "게시글 피드 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 파라미터 (INVALID_INPUT_VALUE)",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  @GetMapping("/feed")
+  public PostFeedResponseDto feed(
+      @Parameter(description = "검색 키워드", example = "경복궁")
+      @RequestParam(value = "keyword", required = false) String keyword,
+      @Parameter(description = "지역 필터", example = "서울")
+      @RequestParam(value = "region", required = false) String region,
+      @Parameter(description = "정렬 기준", example = "createdAt")
+      @RequestParam(value = "sort", defaultValue = "createdAt") String sort,
+      @Parameter(description = "정렬 방향 (asc/desc)", example = "desc")
+      @RequestParam(value = "direction", defaultValue = "desc") String direction,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @Parameter(description = "페이지 크기 (1-50)", example = "16")
+      @RequestParam(value = "size", defaultValue = "16") @Min(1) @Max(50) int size,
+      @Parameter(hidden = true)
+      @AuthenticationPrincipal CustomUserDetails principal) {
+    User current = principal != null ? principal.getUser() : null;
+    return postFacade.feed(current, keyword, region, sort, direction, cursor, size);
+  }
+
+  @Operation(
+      summary = "게시글 댓글 조회 (커서 페이지)",
+      description = "댓글을 작성 순(작성일시, ID)으로 이어서 조회합니다. "
+          + "게시글 상세의 commentsNextCursor 또는 이전 응답의 nextCursor 를 cursor 로 넘깁니다. size는 1-50으로 제한됩니다."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "댓글 조회 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 파라미터 (INVALID_INPUT_VALUE)",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  @GetMapping("/{postId}/comments")
+  public CommentPageResponseDto comments(
+      @Parameter(description = "게시글 ID", example = "1")
+      @PathVariable Long postId,
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @Parameter(description = "페이지 크기 (1-50)", example = "20")
+      @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(50) int size) {
+    return postFacade.comments(postId, cursor, size);
+  }
+
+  @Operation(
+      summary = "이미지 직접 업로드 URL 발급",
+      description = "파일마다 S3 presigned PUT URL 을 발급합니다. 응답의 headers 를 그대로 붙여 url 로 PUT 한 뒤, "
+          + "uploadId 를 게시글 작성/수정(uploadIds)이나 이미지 추가 API 로 넘깁니다. 이미지 바이트는 서버를 거치지 않습니다. "
+          + "API 클라이언트용이며 웹 작성/수정 화면은 multipart 업로드를 씁니다 (직접 업로드한 이미지는 썸네일/상세 파생본 없이 원본을 씀). "
+          + "세션 로그인 쿠키와 함께 CSRF 토큰을 헤더로 보내야 합니다 (GET /csrf 로 발급)."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "발급 성공"),
+      @ApiResponse(responseCode = "400", description = "이미지가 아니거나 크기 초과 (INVALID_IMAGE_FORMAT, IMAGE_TOO_LARGE)",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "401", description = "로그인 필요",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "403", description = "CSRF 토큰 없음/불일치")
+  })
+  @PostMapping("/images/presign")
+  public List<PresignedUploadResponseDto> presignImages(
+      @Valid @RequestBody ImagePresignRequestDto request,
+      @Parameter(hidden = true)
+      @AuthenticationPrincipal CustomUserDetails principal) {
+    return postFacade.presignImages(requireUser(principal), request.getFiles());
+  }
+
+  @Operation(
+      summary = "직접 업로드한 이미지 추가",
+      description = "presigned URL 로 올린 이미지가 실제로 있는지 확인하고 게시글 이미지 뒤에 붙입니다. "
+          + "기존 이미지와 합쳐 게시글당 최대 3장입니다. "
+          + "세션 로그인 쿠키와 함께 CSRF 토큰을 헤더로 보내야 합니다 (GET /csrf 로 발급)."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "204", description = "추가 성공"),
+      @ApiResponse(responseCode = "400",
+          description = "업로드를 찾을 수 없거나 이미지가 아님, 게시글 이미지가 너무 많음 (IMAGE_UPLOAD_NOT_FOUND, TOO_MANY_IMAGES)",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "401", description = "로그인 필요 또는 작성자가 아님",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "403", description = "CSRF 토큰 없음/불일치")
+  })
+  @PostMapping("/{postId}/images")
+  public ResponseEntity<Void> attachImages(
+      @Parameter(description = "게시글 ID", example = "1")
+      @PathVariable Long postId,
+      @Valid @RequestBody ImageConfirmRequestDto request,
+      @Parameter(hidden = true)
+      @AuthenticationPrincipal CustomUserDetails principal) {
+    postFacade.attachUploadedImages(postId, requireUser(principal), request.getUploadIds());
+    return ResponseEntity.noContent().build();
+  }
+
+  private static User requireUser(CustomUserDetails principal) {
+    if (principal == null || principal.getUser() == null) {
+      throw new UnauthorizedException(ErrorCode.LOGIN_REQUIRED);
+    }
+    return principal.getUser();
+  }
+}
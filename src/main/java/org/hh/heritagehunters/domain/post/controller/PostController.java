@@ -1,6 +1,7 @@
 package org.hh.heritagehunters.domain.post.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -105,6 +106,7 @@ public class PostController {
    * @param request 게시글 작성 요청 데이터
    * @param bindingResult 유효성 검증 결과
    * @param images 업로드할 이미지 파일 목록
+   * @param uploadIds 직접 업로드(presigned URL)를 마친 이미지 ID 목록
    * @param redirectAttributes 리다이렉트 시 전달할 속성
    * @return 리다이렉트 URL
    */
@@ -113,7 +115,8 @@ public class PostController {
       @AuthenticationPrincipal CustomUserDetails currentUserDetails,
       @Valid @ModelAttribute PostCreateRequestDto request,
       BindingResult bindingResult,
-      @RequestParam(value = "images") List<MultipartFile> images,
+      @RequestParam(value = "images", required = false) List<MultipartFile> images,
+      @RequestParam(value = "uploadIds", required = false) List<Long> uploadIds,
       RedirectAttributes redirectAttributes) {
 
     if (currentUserDetails == null || currentUserDetails.getUser() == null) {
@@ -124,7 +127,7 @@ public class PostController {
       return redirectWithError(redirectAttributes, "입력값을 확인해주세요.", "/posts");
     }
 
-    PostCreateResponseDto response = postFacade.create(currentUserDetails.getUser(), request, images);
+    PostCreateResponseDto response = postFacade.create(currentUserDetails.getUser(), request, images, uploadIds);
 
     if (response.getPointsEarned() > 0) {
       redirectAttributes.addFlashAttribute("pointsEarned", response.getPointsEarned());
@@ -170,6 +173,7 @@ public class PostController {
    * @param bindingResult 유효성 검증 결과
    * @param newImages 새로 업로드할 이미지 파일 목록
    * @param keepImageIds 유지할 기존 이미지 ID 목록
+   * @param uploadIds 직접 업로드(presigned URL)를 마친 새 이미지 ID 목록
    * @param redirectAttributes 리다이렉트 시 전달할 속성
    * @return 리다이렉트 URL
    */
@@ -181,6 +185,7 @@ public class PostController {
       BindingResult bindingResult,
       @RequestParam(value = "images", required = false) List<MultipartFile> newImages,
       @RequestParam(value = "keepImages", required = false) List<Long> keepImageIds,
+      @RequestParam(value = "uploadIds", required = false) List<Long> uploadIds,
       RedirectAttributes redirectAttributes,
       HttpServletRequest request) {
 
@@ -192,7 +197,8 @@ public class PostController {
       return redirectWithError(redirectAttributes, "입력값을 확인해주세요.", "/posts/" + postId);
     }
 
-    postFacade.update(postId, currentUserDetails.getUser(), postUpdateRequestDto, newImages, keepImageIds);
+    postFacade.update(postId, currentUserDetails.getUser(), postUpdateRequestDto, newImages, keepImageIds,
+        uploadIds);
 
     // AJAX 요청인 경우, 빈 뷰를 반환하여 페이지 리로드 방지
     if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
@@ -213,11 +219,15 @@ public class PostController {
   @GetMapping("/{id}")
   public String getPostDetail(@PathVariable("id") Long postId,
       @AuthenticationPrincipal CustomUserDetails currentUserDetails,
-      Model model) {
+      Model model,
+      HttpServletRequest request) {
 
     User currentUser = (currentUserDetails != null) ? currentUserDetails.getUser() : null;
+    // 세션을 새로 만들지 않음 (조회수 중복 판별용)
+    HttpSession session = request.getSession(false);
 
-    PostDetailResponseDto post = postFacade.detail(postId, currentUser);
+    PostDetailResponseDto post = postFacade.detail(postId, currentUser,
+        session != null ? session.getId() : null);
 
     model.addAttribute("post", post);
     model.addAttribute("currentUser", currentUser);
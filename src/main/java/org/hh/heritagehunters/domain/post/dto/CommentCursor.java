@@ -0,0 +1,43 @@
+package org.hh.heritagehunters.domain.post.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+
+/**
+ * 댓글 목록의 페이지 커서 - 이전 페이지 마지막 댓글의 (작성일시, ID)
+ * - 문자열 형식: "{createdAt}:{id}" (예: "2025-08-05T10:30:00.123456:42")
+ */
+public record CommentCursor(LocalDateTime createdAt, long id) {
+
+  /** 이전 페이지의 마지막 댓글로 커서 생성 */
+  public static CommentCursor after(CommentDto last) {
+    return new CommentCursor(last.getCreatedAt(), last.getId());
+  }
+
+  /**
+   * 커서 문자열 파싱 (null/빈 문자열이면 null = 첫 페이지)
+   */
+  public static CommentCursor parse(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    String raw = cursor.trim();
+    int sep = raw.lastIndexOf(':');
+    if (sep <= 0 || sep == raw.length() - 1) {
+      throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    try {
+      return new CommentCursor(LocalDateTime.parse(raw.substring(0, sep)),
+          Long.parseLong(raw.substring(sep + 1)));
+    } catch (NumberFormatException | DateTimeParseException e) {
+      throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return createdAt + ":" + id;
+  }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hh.heritagehunters.domain.post.entity.Comment;
+import org.hh.heritagehunters.domain.post.repository.CommentListProjection;
 
 @Data
 @NoArgsConstructor
@@ -28,4 +29,15 @@ public class CommentDto {
         comment.getUser().getProfileImage()
     );
   }
+
+  public static CommentDto from(CommentListProjection row) {
+    return new CommentDto(
+        row.getId(),
+        row.getContent(),
+        row.getCreatedAt(),
+        row.getUserId(),
+        row.getUserNickname(),
+        row.getUserProfileImage()
+    );
+  }
 }
@@ -0,0 +1,49 @@
+package org.hh.heritagehunters.domain.post.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.post.repository.PostListProjection;
+import org.hh.heritagehunters.domain.post.repository.PostSortKey;
+
+/**
+ * 게시글 피드의 페이지 커서 - 이전 페이지 마지막 게시글의 (정렬 키 값, ID)
+ * - 문자열 형식: "{value}:{id}" (예: "2025-08-05T10:30:00.123456:42", "15:42")
+ * - 값의 타입은 정렬 기준에 따라 다르므로 파싱할 때 정렬 기준을 함께 받는다
+ */
+public record PostFeedCursor(Object value, long id) {
+
+  /** 이전 페이지의 마지막 게시글로 커서 생성 */
+  public static PostFeedCursor after(PostSortKey key, PostListProjection last) {
+    return new PostFeedCursor(key.valueOf(last), last.getId());
+  }
+
+  /**
+   * 커서 문자열 파싱 (null/빈 문자열이면 null = 첫 페이지)
+   */
+  public static PostFeedCursor parse(String cursor, PostSortKey key) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    String raw = cursor.trim();
+    int sep = raw.lastIndexOf(':');
+    if (sep <= 0 || sep == raw.length() - 1) {
+      throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    try {
+      String value = raw.substring(0, sep);
+      long id = Long.parseLong(raw.substring(sep + 1));
+      return (key == PostSortKey.CREATED_AT)
+          ? new PostFeedCursor(LocalDateTime.parse(value), id)
+          : new PostFeedCursor(Integer.parseInt(value), id);
+    } catch (NumberFormatException | DateTimeParseException e) {
+      throw new BadRequestException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return value + ":" + id;
+  }
+}
@@ -12,6 +12,8 @@ public class PostImageDto {
 
   private Long id;
   private String url;
+  private String thumbnailUrl;
+  private String detailUrl;
   private Integer orderIndex;
   private boolean isMainImage;
 
@@ -19,6 +21,8 @@ public class PostImageDto {
     return new PostImageDto(
         postImage.getId(),
         postImage.getUrl(),
+        postImage.getThumbnailUrl() != null ? postImage.getThumbnailUrl() : postImage.getUrl(),
+        postImage.getDetailUrl() != null ? postImage.getDetailUrl() : postImage.getUrl(),
         postImage.getOrderIndex(),
         postImage.isMainImage()
     );
@@ -0,0 +1,19 @@
+package org.hh.heritagehunters.domain.post.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직접 업로드를 마친 이미지 (presigned URL 발급 때 받은 uploadId)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageConfirmRequestDto {
+
+  @NotEmpty(message = "확인할 업로드가 없습니다.")
+  private List<Long> uploadIds;
+}
@@ -0,0 +1,19 @@
+package org.hh.heritagehunters.domain.post.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImagePresignRequestDto {
+
+  @NotEmpty(message = "업로드할 파일이 없습니다.")
+  @Size(max = 3, message = "한 번에 최대 3개까지 요청할 수 있습니다.")
+  private List<@Valid ImageUploadRequestDto> files;
+}
@@ -0,0 +1,27 @@
+package org.hh.heritagehunters.domain.post.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직접 업로드할 이미지 파일 정보 (presigned URL 발급용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadRequestDto {
+
+  @NotBlank(message = "파일 이름은 필수입니다.")
+  private String filename;
+
+  @NotBlank(message = "파일 형식은 필수입니다.")
+  private String contentType;
+
+  @NotNull(message = "파일 크기는 필수입니다.")
+  @Positive(message = "빈 파일은 올릴 수 없습니다.")
+  private Long size;
+}
@@ -0,0 +1,36 @@
+package org.hh.heritagehunters.domain.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import org.hh.heritagehunters.domain.post.dto.CommentCursor;
+import org.hh.heritagehunters.domain.post.dto.CommentDto;
+import org.hh.heritagehunters.domain.post.repository.CommentListProjection;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@Builder
+@Schema(name = "CommentPageResponseDto", description = "댓글 목록(커서 페이지) 응답")
+public class CommentPageResponseDto {
+
+  @Schema(description = "댓글 목록 (작성 순)")
+  private List<CommentDto> comments;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "2025-08-05T10:30:00.123456:42")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+
+  public static CommentPageResponseDto from(Slice<CommentListProjection> slice) {
+    List<CommentDto> comments = slice.getContent().stream().map(CommentDto::from).toList();
+    return CommentPageResponseDto.builder()
+        .comments(comments)
+        .nextCursor(slice.hasNext()
+            ? CommentCursor.after(comments.get(comments.size() - 1)).toString()
+            : null)
+        .hasNext(slice.hasNext())
+        .build();
+  }
+}
@@ -1,23 +0,0 @@
-package org.hh.heritagehunters.domain.post.dto.response;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import org.hh.heritagehunters.domain.post.entity.Comment;
-
-@Getter
-@AllArgsConstructor(staticName = "from")
-public class CommentResponseDto {
-  private Long id;
-  private String content;
-  private String authorNickname;
-  private String createdAt;
-
-  public static CommentResponseDto from(Comment comment) {
-    return new CommentResponseDto(
-        comment.getId(),
-        comment.getContent(),
-        comment.getUser().getNickname(),
-        comment.getCreatedAt().toString()
-    );
-  }
-}
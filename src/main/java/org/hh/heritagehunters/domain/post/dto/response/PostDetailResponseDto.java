@@ -7,7 +7,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hh.heritagehunters.domain.post.dto.CommentDto;
 import org.hh.heritagehunters.domain.post.dto.PostImageDto;
-import org.hh.heritagehunters.domain.post.entity.Comment;
 import org.hh.heritagehunters.domain.post.entity.Post;
 
 @Data
@@ -36,8 +35,10 @@ public class PostDetailResponseDto {
   // 이미지 목록
   private List<PostImageDto> images;
 
-  // 댓글 목록
+  // 댓글 첫 페이지 (이후는 commentsNextCursor 로 댓글 API 에서 이어서 조회)
   private List<CommentDto> comments;
+  private String commentsNextCursor;
+  private boolean hasMoreComments;
 
   // 현재 사용자 관련
   private boolean isLiked;
@@ -71,10 +72,8 @@ public class PostDetailResponseDto {
         .map(PostImageDto::from)
         .toList());
 
-    // 댓글 목록 (Post 엔티티의 댓글 사용)
-    dto.setComments(post.getComments().stream()
-        .map(CommentDto::from)
-        .toList());
+    // 댓글은 포함하지 않음 (Post.comments 를 로딩하지 않도록)
+    dto.setComments(List.of());
 
     dto.setLiked(isLiked);
     dto.setOwner(isOwner);
@@ -82,42 +81,15 @@ public class PostDetailResponseDto {
     return dto;
   }
 
-  public static PostDetailResponseDto from(Post post, List<Comment> comments, boolean isLiked, boolean isOwner) {
-    PostDetailResponseDto dto = new PostDetailResponseDto();
-
-    dto.setId(post.getId());
-    dto.setContent(post.getContent());
-    dto.setLocation(post.getLocation());
-    dto.setCreatedAt(post.getCreatedAt());
-    dto.setViewCount(post.getViewCount());
-    dto.setCommentCount(post.getCommentCount());
-    dto.setLikeCount(post.getLikeCount());
-
-    // 작성자 정보
-    dto.setUserId(post.getUser().getId());
-    dto.setUserNickname(post.getUser().getNickname());
-    dto.setUserProfileImage(post.getUser().getProfileImage());
+  public static PostDetailResponseDto from(Post post, CommentPageResponseDto comments, boolean isLiked,
+      boolean isOwner) {
+    PostDetailResponseDto dto = from(post, isLiked, isOwner);
 
-    // 문화유산 정보
-    if (post.getHeritage() != null) {
-      dto.setHeritageId(post.getHeritage().getId());
-      dto.setHeritageName(post.getHeritage().getName());
-      dto.setHeritageRegion(post.getHeritage().getRegion());
-    }
-
-    // 이미지 목록
-    dto.setImages(post.getImages().stream()
-        .map(PostImageDto::from)
-        .toList());
-
-    // 댓글 목록 (별도 조회된 댓글 사용)
-    dto.setComments(comments.stream()
-        .map(CommentDto::from)
-        .toList());
-
-    dto.setLiked(isLiked);
-    dto.setOwner(isOwner);
+    // 댓글 첫 페이지 (별도 조회된 댓글 사용)
+    dto.setComments(comments.getComments());
+    dto.setCommentsNextCursor(comments.getNextCursor());
+    dto.setHasMoreComments(comments.isHasNext());
 
     return dto;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package org.hh.heritagehunters.domain.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(name = "PostFeedResponseDto", description = "게시글 피드(커서 페이지) 응답")
+public class PostFeedResponseDto {
+
+  @Schema(description = "게시글 목록")
+  private List<PostListResponseDto> posts;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "2025-08-05T10:30:00.123456:42")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+}
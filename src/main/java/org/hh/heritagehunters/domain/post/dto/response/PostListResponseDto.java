@@ -2,13 +2,12 @@ package org.hh.heritagehunters.domain.post.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
-import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
-import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.repository.PostListProjection;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @Schema(name = "PostListResponseDto", description = "게시글 목록 응답")
 public class PostListResponseDto {
 
@@ -36,8 +35,8 @@ public class PostListResponseDto {
   @Schema(description = "작성자 정보")
   private UserInfo user;
 
-  @Schema(description = "이미지 URL 목록")
-  private List<String> images;
+  @Schema(description = "이미지 수", example = "3")
+  private int imageCount;
 
   @Schema(description = "메인 이미지 URL")
   private String mainImageUrl;
@@ -66,60 +65,39 @@ public class PostListResponseDto {
     private String profileImage;
   }
 
-  public static PostListResponseDto from(Post post, boolean likedByCurrentUser) {
-    return PostListResponseDto.builder()
-        .id(post.getId())
-        .content(post.getContent())
-        .location(post.getLocation())
-        .createdAt(post.getCreatedAt())
-        .viewCount(post.getViewCount())
-        .likeCount(post.getLikeCount())
-        .commentCount(post.getCommentCount())
-        .likedByCurrentUser(likedByCurrentUser)
-
-        .heritage(post.getHeritage() != null ? HeritageInfo.builder()
-            .id(post.getHeritage().getId())
-            .name(post.getHeritage().getName())
-            .designation(post.getHeritage().getDesignation())
-            .build() : null)
-
-        .user(UserInfo.builder()
-            .id(post.getUser().getId())
-            .nickname(post.getUser().getNickname())
-            .profileImage(post.getUser().getProfileImage())
-            .build())
-
-        .images(post.getImages().stream()
-            .map(image -> image.getUrl())
-            .toList())
-        .mainImageUrl(post.getImages().isEmpty() ? null : post.getImages().get(0).getUrl())
-        .build();
+  /**
+   * 좋아요 여부만 바꾼 사본 (공유 캐시 본문에 사용자별 좋아요를 덧씌울 때 사용)
+   */
+  public PostListResponseDto withLikedByCurrentUser(boolean liked) {
+    return liked == likedByCurrentUser ? this : toBuilder().likedByCurrentUser(liked).build();
   }
 
   /**
-   * Service에서 미리 조회한 썸네일 URL을 주입하는 팩토리 메서드
+   * 목록 행(projection)과 현재 사용자의 좋아요 여부로 응답을 만듭니다
    */
-  public static PostListResponseDto fromEntityAndThumb(Post post, boolean likedByCurrentUser, String thumbnailUrl) {
+  public static PostListResponseDto from(PostListProjection row, boolean likedByCurrentUser) {
     return PostListResponseDto.builder()
-        .id(post.getId())
-        .content(post.getContent())
-        .location(post.getLocation())
-        .createdAt(post.getCreatedAt())
-        .viewCount(post.getViewCount())
-        .likeCount(post.getLikeCount())
-        .commentCount(post.getCommentCount())
+        .id(row.getId())
+        .content(row.getContent())
+        .location(row.getLocation())
+        .createdAt(row.getCreatedAt())
+        .viewCount(row.getViewCount())
+        // 좋아요 수는 일괄 반영 중 잠깐 음수일 수 있음
+        .likeCount(Math.max(0, row.getLikeCount()))
+        .commentCount(row.getCommentCount())
         .likedByCurrentUser(likedByCurrentUser)
-        .heritage(post.getHeritage() != null ? HeritageInfo.builder()
-            .id(post.getHeritage().getId())
-            .name(post.getHeritage().getName())
-            .designation(post.getHeritage().getDesignation())
+        .heritage(row.getHeritageId() != null ? HeritageInfo.builder()
+            .id(row.getHeritageId())
+            .name(row.getHeritageName())
+            .designation(row.getHeritageDesignation())
             .build() : null)
         .user(UserInfo.builder()
-            .id(post.getUser().getId())
-            .nickname(post.getUser().getNickname())
-            .profileImage(post.getUser().getProfileImage())
+            .id(row.getUserId())
+            .nickname(row.getUserNickname())
+            .profileImage(row.getUserProfileImage())
             .build())
-        .mainImageUrl(thumbnailUrl)
+        .imageCount(row.getImageCount() != null ? row.getImageCount().intValue() : 0)
+        .mainImageUrl(row.getThumbnailUrl())
         .build();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package org.hh.heritagehunters.domain.post.dto.response;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 직접 업로드용 presigned URL
+ * - 클라이언트는 url 로 headers 를 그대로 붙여 PUT 한 뒤, uploadId 로 게시글/프로필에 연결(확인)한다
+ */
+@Getter
+@AllArgsConstructor
+public class PresignedUploadResponseDto {
+  private Long uploadId;
+  private String method;
+  private String url;
+  private Map<String, String> headers;
+  private Instant expiresAt;
+}
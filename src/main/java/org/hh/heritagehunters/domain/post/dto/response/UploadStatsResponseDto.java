@@ -0,0 +1,44 @@
+package org.hh.heritagehunters.domain.post.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "이미지 업로드 스케줄러 상태")
+public record UploadStatsResponseDto(
+    @Schema(description = "실행 방식 (platform / virtual)", example = "platform")
+    String mode,
+    @Schema(description = "동시에 처리하는 업로드 수 (platform)", example = "8")
+    int threads,
+    @Schema(description = "받아들이는 최대 업로드 수 (실행 + 대기)", example = "40")
+    int maxInFlight,
+    @Schema(description = "사용자당 최대 동시 업로드 수", example = "6")
+    int perUserLimit,
+    @Schema(description = "대기 중인 업로드 수", example = "0")
+    int queued,
+    @Schema(description = "실행 중인 업로드 수", example = "2")
+    int active,
+    @Schema(description = "받아들인 업로드의 바이트 합", example = "7340032")
+    long bytesInFlight,
+    @Schema(description = "완료된 업로드 수", example = "1532")
+    long completed,
+    @Schema(description = "실패한 업로드 수", example = "3")
+    long failed,
+    @Schema(description = "전체 용량 초과로 거절된 요청 수", example = "0")
+    long rejectedBusy,
+    @Schema(description = "사용자 한도 초과로 거절된 요청 수", example = "1")
+    long rejectedUserLimit,
+    @Schema(description = "업로드 시간 합 (ms)", example = "842311")
+    long latencySumMs,
+    @Schema(description = "업로드 시간 분포 (누적 아님, 마지막 구간은 leMs = -1)")
+    List<LatencyBucket> latency
+) {
+
+  @Schema(description = "업로드 시간 구간")
+  public record LatencyBucket(
+      @Schema(description = "구간 상한 (ms, -1 이면 무한대)", example = "500")
+      long leMs,
+      @Schema(description = "이 구간에 든 업로드 수", example = "120")
+      long count
+  ) {
+  }
+}
@@ -0,0 +1,64 @@
+package org.hh.heritagehunters.domain.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 이미지 업로드 outbox
+ * - 업로드 전에 행을 남기고(STAGED) 임시 경로(staging/)에 올린 뒤, 게시글 트랜잭션에서 COMMITTED 로 바꾼다
+ *   (브라우저가 presigned URL 로 직접 올리는 경우도 URL 발급 시 같은 행을 남김)
+ * - 커밋 후 정식 경로로 옮기면 행을 지우고, 남은 행은 ImageOutboxWorker 가 옮기거나 정리한다
+ * 행은 ImageOutboxRepository(SQL)로만 다룬다 (엔티티는 테이블 정의용)
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "image_outbox", indexes = {
+    // 정리 작업: 상태별로 오래된 행부터
+    @Index(name = "idx_image_outbox_status_created_at", columnList = "status, created_at")
+})
+public class ImageOutbox {
+
+  public enum Status {
+    /** 임시 경로에 업로드 중이거나 업로드됨 (아직 게시글에 연결되지 않음) */
+    STAGED,
+    /** 게시글 이미지로 커밋됨 - 정식 경로로 옮기기만 남음 */
+    COMMITTED,
+    /** 버리기로 함 - 임시 객체 삭제만 남음 */
+    ABANDONED
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "staging_key", nullable = false, columnDefinition = "TEXT")
+  private String stagingKey;
+
+  @Column(name = "final_key", nullable = false, columnDefinition = "TEXT")
+  private String finalKey;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 16)
+  private Status status;
+
+  @Column(name = "post_id")
+  private Long postId;
+
+  /** 업로드한 사용자 - 직접 업로드(presigned URL) 확인 시 본인 것만 연결 */
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
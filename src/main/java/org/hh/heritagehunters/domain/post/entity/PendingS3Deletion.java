@@ -0,0 +1,46 @@
+package org.hh.heritagehunters.domain.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제 대기 중인 S3 객체
+ * - 게시글/이미지/프로필 이미지를 지우는 트랜잭션에서 키를 남기고, 커밋 후 S3DeletionQueue 가 일괄 삭제한다
+ * - 삭제에 성공하면 행을 지우고, 실패하면 next_attempt_at 을 미뤄 다시 시도한다 (서버가 죽어도 행이 남음)
+ * 행은 PendingS3DeletionRepository(SQL)로만 다룬다 (엔티티는 테이블 정의용)
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "s3_pending_deletions", indexes = {
+    // 삭제 작업: 시도할 때가 된 행부터
+    @Index(name = "idx_s3_pending_deletions_next_attempt_at", columnList = "next_attempt_at")
+})
+public class PendingS3Deletion {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "object_key", nullable = false, columnDefinition = "TEXT")
+  private String objectKey;
+
+  /** 실패한 삭제 시도 횟수 (재시도 간격 계산용) */
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  /** 이 시각 이후에 삭제를 시도 (가져간 작업이 끝나지 않으면 lease 만큼 뒤) */
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
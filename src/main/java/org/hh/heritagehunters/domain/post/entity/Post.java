@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -28,7 +29,13 @@ import org.hibernate.annotations.CreationTimestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "posts")
+// 피드 커서 조회용 (정렬 키, id) 복합 인덱스
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_posts_view_count_id", columnList = "view_count, id"),
+    @Index(name = "idx_posts_like_count_id", columnList = "like_count, id"),
+    @Index(name = "idx_posts_comment_count_id", columnList = "comment_count, id")
+})
 public class Post {
 
   @Id
@@ -53,13 +60,16 @@ public class Post {
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
-  @Column(nullable = false)
+  // 조회수는 ViewCountBuffer 가 SQL 로 일괄 반영 (엔티티 UPDATE 가 덮어쓰지 않도록 제외)
+  @Column(name = "view_count", nullable = false, updatable = false)
   private Integer viewCount = 0;
 
-  @Column(nullable = false)
+  // 댓글 수는 CommentService 가 SQL 로 증가 (엔티티 UPDATE 가 덮어쓰지 않도록 제외)
+  @Column(name = "comment_count", nullable = false, updatable = false)
   private Integer commentCount = 0;
 
-  @Column(nullable = false)
+  // 좋아요 수는 LikeCountBuffer 가 SQL 로 일괄 반영 (엔티티 UPDATE 가 덮어쓰지 않도록 제외)
+  @Column(name = "like_count", nullable = false, updatable = false)
   private Integer likeCount = 0;
 
   @BatchSize(size = 100)
@@ -96,36 +106,6 @@ public class Post {
     return post;
   }
 
-  /**
-   * 게시글 조회수를 1 증가시킵니다
-   */
-  public void incrementViewCount() {
-    this.viewCount++;
-  }
-
-  /**
-   * 게시글 좋아요 수를 1 증가시킵니다
-   */
-  public void incrementLikeCount() {
-    this.likeCount++;
-  }
-
-  /**
-   * 게시글 좋아요 수를 1 감소시킵니다
-   */
-  public void decrementLikeCount() {
-    if (this.likeCount > 0) {
-      this.likeCount--;
-    }
-  }
-
-  /**
-   * 댓글 수를 실제 댓글 목록 크기와 동기화합니다
-   */
-  public void syncCommentCount() {
-    this.commentCount = this.comments.size();
-  }
-
   /**
    * 게시글의 메인 이미지 URL을 반환합니다 (orderIndex = 0 기준)
    * @return 메인 이미지 URL (없으면 null)
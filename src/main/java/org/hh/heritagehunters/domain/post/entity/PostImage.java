@@ -6,9 +6,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,7 +21,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "post_images")
+// 목록 썸네일(order_index = 0)/이미지 수 서브쿼리용
+@Table(name = "post_images", indexes = {
+    @Index(name = "idx_post_images_post_id_order", columnList = "post_id, order_index")
+})
 public class PostImage {
 
   @Id
@@ -34,6 +41,13 @@ public class PostImage {
   @Column(name = "order_index", nullable = false)
   private Integer orderIndex;
 
+  // 파생본 URL (업로드 시 만들지 못했으면 null → 원본 URL 사용)
+  @Column(name = "thumbnail_url", columnDefinition = "TEXT")
+  private String thumbnailUrl;
+
+  @Column(name = "detail_url", columnDefinition = "TEXT")
+  private String detailUrl;
+
 
   /**
    * 이 이미지가 메인 이미지인지 확인합니다
@@ -43,6 +57,14 @@ public class PostImage {
     return orderIndex != null && orderIndex == 0;
   }
 
+  /**
+   * S3 에 저장된 이 이미지의 모든 URL (원본 + 파생본)
+   * @return URL 목록
+   */
+  public List<String> storedUrls() {
+    return Stream.of(url, thumbnailUrl, detailUrl).filter(Objects::nonNull).toList();
+  }
+
   /**
    * 이미지의 순서를 업데이트합니다
    * @param newOrder 새로운 순서 인덱스
@@ -0,0 +1,19 @@
+package org.hh.heritagehunters.domain.post.event;
+
+/**
+ * 게시글 목록에 보이는 값이 바뀌었을 때 발행되는 이벤트
+ * - 목록 캐시 등 게시글 파생 데이터는 이 이벤트(커밋 이후)로 무효화한다
+ *
+ * @param postId 변경된 게시글 ID
+ * @param type   변경 종류
+ */
+public record PostChangedEvent(Long postId, Type type) {
+
+  public enum Type {
+    CREATED,
+    UPDATED,
+    DELETED,
+    LIKED,
+    COMMENTED
+  }
+}
@@ -0,0 +1,271 @@
+package org.hh.heritagehunters.domain.post.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+/**
+ * 업로드 이미지 한 장을 한 번만 디코딩해 파생본(ImageVariant)들을 JPEG 로 만든다
+ * - 원본이 가장 큰 파생본보다 2배 이상 크면 읽을 때부터 픽셀을 건너뛰어(subsampling) 메모리/시간을 줄인다
+ * - 큰 파생본부터 만들고, 그 결과를 다음(더 작은) 파생본의 입력으로 다시 쓴다
+ * - JPEG EXIF 회전 정보를 픽셀에 반영한다 (파생본에는 EXIF 가 없으므로)
+ * 디스크 캐시(ImageIO 기본값) 없이 메모리 스트림으로만 읽고 쓴다.
+ */
+@Component
+public class ImageResizer {
+
+  private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+  private static final int APP1_MARKER = 0xE1;
+  private static final int ORIENTATION_TAG = 0x0112;
+
+  private final long maxPixels;
+  private final float jpegQuality;
+
+  public ImageResizer(
+      @Value("${post.image.max-pixels:80000000}") long maxPixels,
+      @Value("${post.image.jpeg-quality:0.82}") float jpegQuality) {
+    this.maxPixels = maxPixels;
+    this.jpegQuality = jpegQuality;
+  }
+
+  /**
+   * 파생본들을 만듭니다
+   *
+   * @param in 원본 이미지 (닫지 않음)
+   * @return 파생본 → JPEG 바이트
+   * @throws IOException 읽을 수 없는 형식이거나 해상도가 max-pixels 를 넘을 때
+   */
+  public Map<ImageVariant, byte[]> resize(InputStream in) throws IOException {
+    ImageInputStream iis = new MemoryCacheImageInputStream(in);
+    try {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+      if (!readers.hasNext()) {
+        throw new IOException("지원하지 않는 이미지 형식");
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(iis, true, false);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxPixels) {
+          throw new IOException("이미지 해상도가 너무 큼: " + width + "x" + height);
+        }
+        int orientation = orientation(reader);
+
+        ImageVariant[] variants = ImageVariant.values();
+        Arrays.sort(variants, Comparator.comparingInt(ImageVariant::maxSide).reversed());
+
+        ImageReadParam param = reader.getDefaultReadParam();
+        int step = Math.max(1, Math.max(width, height) / (variants[0].maxSide() * 2));
+        param.setSourceSubsampling(step, step, 0, 0);
+        BufferedImage current = toRgb(reader.read(0, param));
+
+        Map<ImageVariant, byte[]> out = new EnumMap<>(ImageVariant.class);
+        for (int i = 0; i < variants.length; i++) {
+          current = scaleToFit(current, variants[i].maxSide());
+          if (i == 0) {
+            // 가장 큰 파생본 크기에서 한 번만 회전 (작은 파생본은 이 결과에서 만듦)
+            current = orient(current, orientation);
+          }
+          out.put(variants[i], encodeJpeg(current));
+        }
+        return out;
+      } finally {
+        reader.dispose();
+      }
+    } finally {
+      iis.close();
+    }
+  }
+
+  /** JPEG 에는 알파가 없으므로 흰 배경 RGB 로 옮김 */
+  private static BufferedImage toRgb(BufferedImage image) {
+    if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+      return image;
+    }
+    BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = rgb.createGraphics();
+    try {
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+      g.drawImage(image, 0, 0, null);
+    } finally {
+      g.dispose();
+    }
+    return rgb;
+  }
+
+  /**
+   * 긴 변이 maxSide 이하가 되도록 축소 (확대하지 않음)
+   * - 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+   */
+  static BufferedImage scaleToFit(BufferedImage image, int maxSide) {
+    int w = image.getWidth();
+    int h = image.getHeight();
+    if (Math.max(w, h) <= maxSide) {
+      return image;
+    }
+    double ratio = (double) maxSide / Math.max(w, h);
+    int targetW = Math.max(1, (int) Math.round(w * ratio));
+    int targetH = Math.max(1, (int) Math.round(h * ratio));
+
+    BufferedImage current = image;
+    while (w / 2 >= targetW && h / 2 >= targetH) {
+      w /= 2;
+      h /= 2;
+      current = draw(current, w, h);
+    }
+    return (w == targetW && h == targetH) ? current : draw(current, targetW, targetH);
+  }
+
+  private static BufferedImage draw(BufferedImage src, int w, int h) {
+    BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = dst.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.drawImage(src, 0, 0, w, h, null);
+    } finally {
+      g.dispose();
+    }
+    return dst;
+  }
+
+  /**
+   * EXIF 방향(1~8)대로 픽셀을 옮김
+   * (2: 좌우 반전, 3: 180°, 4: 상하 반전, 5: 전치, 6: 시계 90°, 7: 반대 전치, 8: 반시계 90°)
+   */
+  static BufferedImage orient(BufferedImage image, int orientation) {
+    if (orientation < 2 || orientation > 8) {
+      return image;
+    }
+    int w = image.getWidth();
+    int h = image.getHeight();
+    boolean swap = orientation >= 5;
+    int outW = swap ? h : w;
+    int outH = swap ? w : h;
+    int[] src = image.getRGB(0, 0, w, h, null, 0, w);
+    int[] dst = new int[src.length];
+    for (int y = 0; y < h; y++) {
+      for (int x = 0; x < w; x++) {
+        int dx;
+        int dy;
+        switch (orientation) {
+          case 2 -> { dx = w - 1 - x; dy = y; }
+          case 3 -> { dx = w - 1 - x; dy = h - 1 - y; }
+          case 4 -> { dx = x; dy = h - 1 - y; }
+          case 5 -> { dx = y; dy = x; }
+          case 6 -> { dx = h - 1 - y; dy = x; }
+          case 7 -> { dx = h - 1 - y; dy = w - 1 - x; }
+          default -> { dx = y; dy = w - 1 - x; }
+        }
+        dst[dy * outW + dx] = src[y * w + x];
+      }
+    }
+    BufferedImage out = new BufferedImage(outW, outH, BufferedImage.TYPE_INT_RGB);
+    out.setRGB(0, 0, outW, outH, dst, 0, outW);
+    return out;
+  }
+
+  private byte[] encodeJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (MemoryCacheImageOutputStream out = new MemoryCacheImageOutputStream(bytes)) {
+      writer.setOutput(out);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(jpegQuality);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return bytes.toByteArray();
+  }
+
+  /** 메타데이터를 읽을 수 없으면 회전 없음으로 봄 (픽셀은 읽힐 수 있음) */
+  private static int orientation(ImageReader reader) {
+    try {
+      return orientation(reader.getImageMetadata(0));
+    } catch (IOException | RuntimeException e) {
+      return 1;
+    }
+  }
+
+  /** JPEG APP1(Exif) 의 IFD0 Orientation 태그 (없거나 JPEG 가 아니면 1) */
+  static int orientation(IIOMetadata metadata) {
+    if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+      return 1;
+    }
+    Node markers = findChild(metadata.getAsTree(JPEG_METADATA_FORMAT), "markerSequence");
+    if (markers == null) {
+      return 1;
+    }
+    for (Node n = markers.getFirstChild(); n != null; n = n.getNextSibling()) {
+      if (n instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+          && String.valueOf(APP1_MARKER).equals(node.getAttribute("MarkerTag"))
+          && node.getUserObject() instanceof byte[] data) {
+        int o = exifOrientation(data);
+        if (o > 0) {
+          return o;
+        }
+      }
+    }
+    return 1;
+  }
+
+  /** "Exif\0\0" + TIFF 헤더 + IFD0 에서 Orientation 값 (없으면 0) */
+  static int exifOrientation(byte[] app1) {
+    if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+      return 0;
+    }
+    ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+    tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    try {
+      int ifd = tiff.getInt(4);
+      int count = tiff.getShort(ifd) & 0xFFFF;
+      for (int i = 0; i < count; i++) {
+        int entry = ifd + 2 + i * 12;
+        if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+          return tiff.getShort(entry + 8) & 0xFFFF;
+        }
+      }
+    } catch (IndexOutOfBoundsException e) {
+      // 잘린 EXIF 는 무시
+    }
+    return 0;
+  }
+
+  private static Node findChild(Node parent, String name) {
+    for (Node n = parent.getFirstChild(); n != null; n = n.getNextSibling()) {
+      if (name.equals(n.getNodeName())) {
+        return n;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,31 @@
+package org.hh.heritagehunters.domain.post.image;
+
+/**
+ * 게시글 이미지 파생본 (원본은 업로드한 그대로 두고 별도 JPEG 로 만든다)
+ * - S3 키는 원본 키 뒤에 접미사를 붙인다: posts/.../UUID_photo.png → posts/.../UUID_photo.png_thumb.jpg
+ */
+public enum ImageVariant {
+
+  /** 목록/프로필 그리드 썸네일 */
+  THUMBNAIL("thumb", 400),
+  /** 상세 화면 */
+  DETAIL("detail", 1280);
+
+  private final String suffix;
+  private final int maxSide;
+
+  ImageVariant(String suffix, int maxSide) {
+    this.suffix = suffix;
+    this.maxSide = maxSide;
+  }
+
+  /** 긴 변의 최대 길이 (px) */
+  public int maxSide() {
+    return maxSide;
+  }
+
+  /** 원본 키에 대응하는 파생본 키 */
+  public String key(String originalKey) {
+    return originalKey + "_" + suffix + ".jpg";
+  }
+}
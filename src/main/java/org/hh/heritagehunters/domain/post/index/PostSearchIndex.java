@@ -0,0 +1,119 @@
+package org.hh.heritagehunters.domain.post.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.index.KoreanText;
+import org.hh.heritagehunters.domain.map.index.NGrams;
+
+/**
+ * 게시글 키워드 검색용 인메모리 n-gram 역색인 (불변)
+ * - 내용/문화유산 이름/위치를 필드별로 정규화해 1-gram + 2-gram 을 색인한다 (한글 형태소 분석 없이 부분 일치)
+ * - 후보는 검색어 n-gram posting 의 교집합으로 구한 뒤 필드별 부분 문자열 포함 여부로 확정한다
+ *   (LIKE '%kw%' 와 같은 결과, 단 공백/대소문자는 무시)
+ * - 순위는 매기지 않고 게시글 ID 집합만 돌려준다 (정렬/페이지는 DB 에서)
+ */
+public final class PostSearchIndex {
+
+  private final long[] ids;                   // 문서 번호 → 게시글 ID
+  private final String[][] fields;            // 문서별 정규화된 필드 [content, heritageName, location]
+  private final Map<String, int[]> postings;  // n-gram -> 오름차순 문서 번호
+
+  private PostSearchIndex(List<PostSearchRow> rows) {
+    int n = rows.size();
+    this.ids = new long[n];
+    this.fields = new String[n][];
+
+    Map<String, NGrams.IntList> building = new HashMap<>();
+    for (int doc = 0; doc < n; doc++) {
+      PostSearchRow r = rows.get(doc);
+      ids[doc] = r.id();
+      String[] f = normalizedFields(r);
+      for (String field : f) {
+        for (String gram : NGrams.grams(field)) {
+          building.computeIfAbsent(gram, g -> new NGrams.IntList()).addDistinct(doc);
+        }
+      }
+      fields[doc] = f;
+    }
+
+    this.postings = new HashMap<>(building.size() * 2);
+    building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+  }
+
+  public static PostSearchIndex build(List<PostSearchRow> rows) {
+    return new PostSearchIndex(rows);
+  }
+
+  /** 검색어 정규화 (색인과 같은 규칙) */
+  public static String normalize(String keyword) {
+    return KoreanText.normalize(keyword);
+  }
+
+  /**
+   * 한 행이 정규화된 검색어와 일치하는지 (색인에 아직 반영되지 않은 변경분 확인용)
+   */
+  public static boolean matches(PostSearchRow row, String query) {
+    for (String field : normalizedFields(row)) {
+      if (field.contains(query)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 정규화된 검색어를 포함하는 게시글 ID (오름차순)
+   */
+  public long[] search(String query) {
+    if (query.isEmpty()) {
+      return new long[0];
+    }
+    int[] candidates = candidates(query);
+    long[] out = new long[candidates.length];
+    int k = 0;
+    for (int doc : candidates) {
+      for (String field : fields[doc]) {
+        if (field.contains(query)) {
+          out[k++] = ids[doc];
+          break;
+        }
+      }
+    }
+    return Arrays.copyOf(out, k);
+  }
+
+  public int size() {
+    return ids.length;
+  }
+
+  // ================= 내부 구현 =================
+
+  private int[] candidates(String query) {
+    List<int[]> lists = new ArrayList<>();
+    for (String gram : NGrams.queryGrams(query)) {
+      int[] list = postings.get(gram);
+      if (list == null) {
+        return new int[0];
+      }
+      lists.add(list);
+    }
+    lists.sort(Comparator.comparingInt(l -> l.length));
+    int[] acc = lists.get(0);
+    for (int k = 1; k < lists.size() && acc.length > 0; k++) {
+      acc = NGrams.intersect(acc, lists.get(k));
+    }
+    return acc;
+  }
+
+  private static String[] normalizedFields(PostSearchRow r) {
+    return new String[] {
+        KoreanText.normalize(r.content()),
+        KoreanText.normalize(r.heritageName()),
+        KoreanText.normalize(r.location())
+    };
+  }
+}
@@ -0,0 +1,17 @@
+package org.hh.heritagehunters.domain.post.index;
+
+/**
+ * 게시글 검색 색인 빌드용 원본 행
+ *
+ * @param id           posts.id
+ * @param content      게시글 내용
+ * @param location     위치
+ * @param heritageName 문화유산 이름 (null 가능)
+ */
+public record PostSearchRow(
+    long id,
+    String content,
+    String location,
+    String heritageName
+) {
+}
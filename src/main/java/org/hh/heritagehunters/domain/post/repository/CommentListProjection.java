@@ -0,0 +1,21 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 행 - 화면에 표시하는 작성자 필드만 함께 읽는다 (User 엔티티를 로딩하지 않음)
+ */
+public interface CommentListProjection {
+
+  Long getId();
+
+  String getContent();
+
+  LocalDateTime getCreatedAt();
+
+  Long getUserId();
+
+  String getUserNickname();
+
+  String getUserProfileImage();
+}
@@ -1,18 +1,49 @@
 package org.hh.heritagehunters.domain.post.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.hh.heritagehunters.domain.post.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+  /** 댓글 목록 행 (작성 순, idx_comments_post_id_created_at_id 를 따라 읽음) */
+  String LIST_SELECT = """
+      SELECT c.id as id, c.content as content, c.createdAt as createdAt,
+             u.id as userId, u.nickname as userNickname, u.profileImage as userProfileImage
+      FROM Comment c JOIN c.user u
+      """;
+
+  /**
+   * 게시글의 첫 댓글 페이지를 조회합니다
+   * @param postId 게시글 ID
+   * @param pageable 조회 개수 (offset 은 항상 0)
+   * @return (작성일시, ID) 오름차순 댓글 목록
+   */
+  @Query(LIST_SELECT + """
+      WHERE c.post.id = :postId
+      ORDER BY c.createdAt ASC, c.id ASC
+      """)
+  List<CommentListProjection> findFirstPage(@Param("postId") Long postId, Pageable pageable);
+
   /**
-   * 게시글의 모든 댓글을 작성자 정보와 함께 조회합니다
+   * 커서 다음의 댓글 페이지를 조회합니다
    * @param postId 게시글 ID
-   * @return 생성일시 순으로 정렬된 댓글 목록
+   * @param afterCreatedAt 이전 페이지 마지막 댓글의 작성일시
+   * @param afterId 이전 페이지 마지막 댓글의 ID
+   * @param pageable 조회 개수 (offset 은 항상 0)
+   * @return (작성일시, ID) 오름차순 댓글 목록
    */
-  @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId ORDER BY c.createdAt ASC")
-  List<Comment> findAllByPostIdWithUser(@Param("postId") Long postId);
+  @Query(LIST_SELECT + """
+      WHERE c.post.id = :postId
+        AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId))
+      ORDER BY c.createdAt ASC, c.id ASC
+      """)
+  List<CommentListProjection> findPageAfter(@Param("postId") Long postId,
+      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+      @Param("afterId") Long afterId,
+      Pageable pageable);
 }
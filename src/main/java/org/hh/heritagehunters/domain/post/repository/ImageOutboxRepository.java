@@ -0,0 +1,108 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.post.entity.ImageOutbox.Status;
+import org.hh.heritagehunters.domain.post.image.ImageVariant;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 이미지 업로드 outbox(image_outbox) SQL
+ * - 상태 전이는 조건부 UPDATE 한 문장 → 게시글 커밋(STAGED → COMMITTED)과 정리 작업(STAGED → ABANDONED)이
+ *   같은 행을 두고 경합해도 한쪽만 성공한다
+ * - 시간 비교는 DB 시계(now()) 기준
+ */
+@Repository
+public class ImageOutboxRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public ImageOutboxRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /**
+   * 업로드 전에 STAGED 행을 남깁니다
+   */
+  public StagedImage insert(String stagingKey, String finalKey, Long userId) {
+    Long id = jdbc.queryForObject("""
+        INSERT INTO image_outbox (staging_key, final_key, status, user_id, created_at)
+        VALUES (:stagingKey, :finalKey, :status, :userId, now())
+        RETURNING id
+        """, new MapSqlParameterSource()
+        .addValue("stagingKey", stagingKey)
+        .addValue("finalKey", finalKey)
+        .addValue("status", Status.STAGED.name())
+        .addValue("userId", userId),
+        Long.class);
+    return new StagedImage(id, stagingKey, finalKey, EnumSet.noneOf(ImageVariant.class));
+  }
+
+  /**
+   * 사용자가 올린 아직 연결되지 않은(STAGED) 행을 조회합니다 (직접 업로드 확인용)
+   *
+   * @return 찾은 행 (다른 사용자 것, 이미 연결/정리된 행은 빠짐)
+   */
+  public List<StagedImage> findStaged(List<Long> ids, Long userId) {
+    return jdbc.query("""
+        SELECT id, staging_key, final_key FROM image_outbox
+        WHERE id IN (:ids) AND user_id = :userId AND status = :staged
+        """, new MapSqlParameterSource()
+        .addValue("ids", ids)
+        .addValue("userId", userId)
+        .addValue("staged", Status.STAGED.name()),
+        (rs, i) -> new StagedImage(rs.getLong("id"), rs.getString("staging_key"), rs.getString("final_key"),
+            EnumSet.noneOf(ImageVariant.class)));
+  }
+
+  /**
+   * STAGED 행을 게시글에 연결된 COMMITTED 로 바꿉니다 (게시글/프로필 트랜잭션 안에서 호출, 프로필은 postId 가 null)
+   *
+   * @return 바뀐 행 수 (정리 작업이 먼저 버린 행은 제외)
+   */
+  public int markCommitted(List<Long> ids, Long postId) {
+    return jdbc.update("""
+        UPDATE image_outbox SET status = :committed, post_id = :postId
+        WHERE id IN (:ids) AND status = :staged
+        """, new MapSqlParameterSource()
+        .addValue("ids", ids)
+        .addValue("postId", postId)
+        .addValue("committed", Status.COMMITTED.name())
+        .addValue("staged", Status.STAGED.name()));
+  }
+
+  /**
+   * 아직 커밋되지 않은 행을 ABANDONED 로 바꿉니다
+   *
+   * @return 바꿨으면 true (이미 커밋된 행이면 false)
+   */
+  public boolean abandon(long id) {
+    return jdbc.update("""
+        UPDATE image_outbox SET status = :abandoned
+        WHERE id = :id AND status IN (:staged, :abandoned)
+        """, Map.of("id", id, "staged", Status.STAGED.name(), "abandoned", Status.ABANDONED.name())) == 1;
+  }
+
+  public void delete(long id) {
+    jdbc.update("DELETE FROM image_outbox WHERE id = :id", Map.of("id", id));
+  }
+
+  /**
+   * 주어진 상태로 minAge 이상 머문 행을 오래된 순으로 조회합니다
+   * - 어떤 파생본을 올렸는지는 기록하지 않으므로 모든 파생본이 있을 수 있는 것으로 본다
+   */
+  public List<StagedImage> findOlderThan(Status status, Duration minAge, int limit) {
+    return jdbc.query("""
+        SELECT id, staging_key, final_key FROM image_outbox
+        WHERE status = :status AND created_at < now() - make_interval(secs => :seconds)
+        ORDER BY created_at
+        LIMIT :limit
+        """, Map.of("status", status.name(), "seconds", minAge.toSeconds(), "limit", limit),
+        (rs, i) -> new StagedImage(rs.getLong("id"), rs.getString("staging_key"), rs.getString("final_key"),
+            EnumSet.allOf(ImageVariant.class)));
+  }
+}
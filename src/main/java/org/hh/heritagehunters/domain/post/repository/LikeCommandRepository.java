@@ -0,0 +1,45 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요 행 추가/삭제 - 조회 후 분기하지 않고 한 문장의 결과로 상태 변화를 판단한다
+ * - 같은 (user, post)에 대한 동시 요청이 와도 PK 충돌/중복 삭제 없이 한쪽만 성공한다
+ */
+@Repository
+public class LikeCommandRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public LikeCommandRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /**
+   * 좋아요를 추가합니다
+   *
+   * @return 새로 추가되었으면 true (이미 있었으면 false)
+   */
+  public boolean insertIfAbsent(Long userId, Long postId) {
+    return jdbc.update("""
+        INSERT INTO likes (user_id, post_id, created_at)
+        VALUES (:userId, :postId, now())
+        ON CONFLICT (user_id, post_id) DO NOTHING
+        """, Map.of("userId", userId, "postId", postId)) == 1;
+  }
+
+  /**
+   * 좋아요를 삭제합니다
+   *
+   * @return 실제로 삭제되었으면 true (없었으면 false)
+   */
+  public boolean deleteIfPresent(Long userId, Long postId) {
+    return !jdbc.queryForList("""
+        DELETE FROM likes
+        WHERE user_id = :userId AND post_id = :postId
+        RETURNING post_id
+        """, Map.of("userId", userId, "postId", postId), Long.class).isEmpty();
+  }
+}
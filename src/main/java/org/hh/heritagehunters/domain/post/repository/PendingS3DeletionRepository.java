@@ -0,0 +1,80 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 삭제 대기 S3 객체(s3_pending_deletions) SQL
+ * - 가져가기(claim)는 next_attempt_at 을 lease 만큼 미루는 UPDATE 한 문장 (SKIP LOCKED)
+ *   → 인스턴스가 여럿이어도 같은 행을 동시에 가져가지 않고, 처리 중 죽으면 lease 후 다시 보인다
+ * - 시간 비교는 DB 시계(now()) 기준
+ */
+@Repository
+public class PendingS3DeletionRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public PendingS3DeletionRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /** 가져간 삭제 대기 행 */
+  public record Claimed(long id, String key) {
+  }
+
+  /**
+   * 삭제할 키를 남깁니다 (호출한 트랜잭션과 함께 커밋/롤백)
+   */
+  public void insertAll(Collection<String> keys) {
+    SqlParameterSource[] batch = keys.stream()
+        .map(key -> new MapSqlParameterSource("key", key))
+        .toArray(SqlParameterSource[]::new);
+    jdbc.batchUpdate("""
+        INSERT INTO s3_pending_deletions (object_key, attempts, next_attempt_at, created_at)
+        VALUES (:key, 0, now(), now())
+        """, batch);
+  }
+
+  /**
+   * 시도할 때가 된 행을 오래된 순으로 가져가고, lease 동안 다른 작업이 가져가지 못하게 합니다
+   */
+  public List<Claimed> claimDue(Duration lease, int limit) {
+    return jdbc.query("""
+        UPDATE s3_pending_deletions SET next_attempt_at = now() + make_interval(secs => :lease)
+        WHERE id IN (
+          SELECT id FROM s3_pending_deletions
+          WHERE next_attempt_at <= now()
+          ORDER BY next_attempt_at
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id, object_key
+        """, Map.of("lease", lease.toSeconds(), "limit", limit),
+        (rs, i) -> new Claimed(rs.getLong("id"), rs.getString("object_key")));
+  }
+
+  public void deleteAll(Collection<Long> ids) {
+    jdbc.update("DELETE FROM s3_pending_deletions WHERE id IN (:ids)", Map.of("ids", ids));
+  }
+
+  /**
+   * 실패한 행을 지수 백오프(base × 2^attempts, 최대 max) 뒤로 미룹니다
+   */
+  public void retryLater(Collection<Long> ids, Duration base, Duration max) {
+    jdbc.update("""
+        UPDATE s3_pending_deletions
+        SET attempts = attempts + 1,
+            next_attempt_at = now() + make_interval(secs => LEAST(:base * power(2, LEAST(attempts, 20)), :max))
+        WHERE id IN (:ids)
+        """, new MapSqlParameterSource()
+        .addValue("ids", ids)
+        .addValue("base", base.toSeconds())
+        .addValue("max", max.toSeconds()));
+  }
+}
@@ -0,0 +1,110 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 카운터(조회수/좋아요 수/댓글 수) SQL 반영
+ * - 모아 둔 증감분을 UPDATE ... FROM (VALUES ...) 한 문장으로 여러 게시글에 더한다
+ * - 댓글 수처럼 바로 반영할 값은 한 행 UPDATE 로 더한다 (엔티티/댓글 목록을 읽지 않음)
+ * - 이 컬럼들은 JPA 에서 갱신하지 않으므로(updatable = false) 여기서만 바뀐다
+ */
+@Repository
+public class PostCounterRepository {
+
+  /** 한 문장에 담는 게시글 수 (바인드 파라미터 수 제한 대비) */
+  private static final int CHUNK = 500;
+
+  public enum Counter {
+    VIEW("view_count"),
+    LIKE("like_count"),
+    COMMENT("comment_count");
+
+    private final String column;
+
+    Counter(String column) {
+      this.column = column;
+    }
+  }
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public PostCounterRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /**
+   * 한 게시글의 카운터에 증감분을 바로 더합니다
+   *
+   * @param counter 대상 카운터
+   * @param postId  게시글 ID
+   * @param delta   증감분
+   * @return 게시글이 있어 갱신되었으면 true
+   */
+  public boolean add(Counter counter, Long postId, int delta) {
+    return jdbc.update("""
+        UPDATE posts SET %1$s = %1$s + :delta WHERE id = :postId
+        """.formatted(counter.column), Map.of("postId", postId, "delta", delta)) == 1;
+  }
+
+  /**
+   * 게시글별 증감분을 더합니다 (삭제된 게시글은 무시)
+   * - 하한(0)을 두지 않는다: 동시 토글에서 -1 이 +1 보다 먼저 반영될 수 있어 잘라내면 값이 어긋난다
+   * - 여러 청크를 한 트랜잭션으로 반영한다: 일부만 커밋된 뒤 실패하면 호출자가 전체를 되돌려 다시 더하므로
+   *   청크별로 커밋하면 먼저 커밋된 청크가 두 번 더해진다
+   *
+   * @param counter 대상 카운터
+   * @param deltas  게시글 ID → 증감분
+   * @return 갱신된 행 수
+   */
+  @Transactional
+  public int addDeltas(Counter counter, Map<Long, Long> deltas) {
+    List<Map.Entry<Long, Long>> all = new ArrayList<>(deltas.entrySet());
+    int updated = 0;
+    for (int from = 0; from < all.size(); from += CHUNK) {
+      List<Map.Entry<Long, Long>> chunk = all.subList(from, Math.min(from + CHUNK, all.size()));
+      MapSqlParameterSource params = new MapSqlParameterSource();
+      StringBuilder values = new StringBuilder();
+      for (int i = 0; i < chunk.size(); i++) {
+        if (i > 0) {
+          values.append(", ");
+        }
+        values.append("(CAST(:id").append(i).append(" AS BIGINT), CAST(:d").append(i).append(" AS INT))");
+        params.addValue("id" + i, chunk.get(i).getKey());
+        params.addValue("d" + i, chunk.get(i).getValue());
+      }
+      updated += jdbc.update("""
+          UPDATE posts AS p
+          SET %1$s = p.%1$s + v.delta
+          FROM (VALUES %2$s) AS v(id, delta)
+          WHERE p.id = v.id
+          """.formatted(counter.column, values), params);
+    }
+    return updated;
+  }
+
+  /**
+   * likes 테이블 기준으로 like_count 를 다시 맞춥니다 (값이 다른 행만 갱신)
+   *
+   * @return 보정된 게시글 ID 목록
+   */
+  public List<Long> recountLikes() {
+    return jdbc.queryForList("""
+        UPDATE posts AS p
+        SET like_count = c.cnt
+        FROM (
+          SELECT p2.id, COUNT(l.post_id)::INT AS cnt
+          FROM posts p2
+          LEFT JOIN likes l ON l.post_id = p2.id
+          GROUP BY p2.id
+        ) c
+        WHERE p.id = c.id AND p.like_count <> c.cnt
+        RETURNING p.id
+        """, Map.of(), Long.class);
+  }
+}
@@ -0,0 +1,119 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.util.Arrays;
+import java.util.List;
+import org.hh.heritagehunters.domain.post.dto.PostFeedCursor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 피드 커서(keyset) 조회
+ * - OFFSET/COUNT 없이 (정렬 키, id) 행 비교로 다음 페이지 시작점을 찾으므로 깊은 페이지도 인덱스 탐색 한 번
+ * - 여기서는 ID 만 고르고, 엔티티/썸네일은 ID 목록으로 따로 일괄 조회한다
+ * - 키워드 검색은 검색 색인(PostSearchService)이 고른 ID 집합으로 받는다 (LIKE 는 색인이 없을 때만)
+ */
+@Repository
+public class PostFeedRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public PostFeedRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /**
+   * 필터/정렬 조건에 맞는 게시글 ID 를 정렬 순서대로 조회합니다
+   *
+   * @param keyword 검색 키워드 (내용, 문화유산명, 위치에서 LIKE 검색, null 이면 무시)
+   * @param ids     검색 색인이 고른 게시글 ID (null 이면 무시)
+   * @param region  지역 필터 (null 이면 무시)
+   * @param key     정렬 기준
+   * @param asc     오름차순 여부
+   * @param after   이전 페이지 마지막 게시글 커서 (null 이면 첫 페이지)
+   * @param limit   최대 반환 개수
+   */
+  public List<Long> findFeedIds(String keyword, long[] ids, String region, PostSortKey key, boolean asc,
+      PostFeedCursor after, int limit) {
+    String col = "p." + key.column();
+    String dir = asc ? "ASC" : "DESC";
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue("limit", limit);
+
+    StringBuilder sql = new StringBuilder("SELECT p.id");
+    appendFilters(sql, params, keyword, ids, region);
+    if (after != null) {
+      // 행 값 비교 → (col, id) 인덱스 범위 탐색
+      sql.append(" AND (").append(col).append(", p.id) ").append(asc ? ">" : "<")
+          .append(" (:afterValue, :afterId)");
+      params.addValue("afterValue", after.value()).addValue("afterId", after.id());
+    }
+    sql.append(" ORDER BY ").append(col).append(' ').append(dir)
+        .append(", p.id ").append(dir)
+        .append(" LIMIT :limit");
+
+    return jdbc.queryForList(sql.toString(), params, Long.class);
+  }
+
+  /**
+   * 검색 색인이 고른 게시글 중 한 페이지의 ID 를 정렬 순서대로 조회합니다 (번호 페이지용)
+   *
+   * @param ids    검색 색인이 고른 게시글 ID
+   * @param region 지역 필터 (null 이면 무시)
+   * @param key    정렬 기준
+   * @param asc    오름차순 여부
+   * @param offset 건너뛸 개수
+   * @param limit  최대 반환 개수
+   */
+  public List<Long> findPageIds(long[] ids, String region, PostSortKey key, boolean asc,
+      long offset, int limit) {
+    String col = "p." + key.column();
+    String dir = asc ? "ASC" : "DESC";
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("offset", offset)
+        .addValue("limit", limit);
+
+    StringBuilder sql = new StringBuilder("SELECT p.id");
+    appendFilters(sql, params, null, ids, region);
+    sql.append(" ORDER BY ").append(col).append(' ').append(dir)
+        .append(", p.id ").append(dir)
+        .append(" OFFSET :offset LIMIT :limit");
+
+    return jdbc.queryForList(sql.toString(), params, Long.class);
+  }
+
+  /**
+   * 검색 색인이 고른 게시글 중 지역 필터에 맞는 개수
+   */
+  public long countIds(long[] ids, String region) {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    StringBuilder sql = new StringBuilder("SELECT COUNT(*)");
+    appendFilters(sql, params, null, ids, region);
+    Long count = jdbc.queryForObject(sql.toString(), params, Long.class);
+    return count != null ? count : 0;
+  }
+
+  // FROM ~ WHERE 절 (이후 조건은 AND 로 이어 붙임)
+  private static void appendFilters(StringBuilder sql, MapSqlParameterSource params,
+      String keyword, long[] ids, String region) {
+    sql.append(" FROM posts p");
+    if (keyword != null || region != null) {
+      sql.append(" JOIN heritages h ON h.id = p.heritage_id");
+    }
+    sql.append(" WHERE TRUE");
+    if (ids != null) {
+      // ID 가 많아도 바인드 파라미터 하나 (BIGINT[] 배열로 바인딩)
+      sql.append(" AND p.id = ANY(:ids)");
+      params.addValue("ids", Arrays.stream(ids).boxed().toArray(Long[]::new));
+    }
+    if (keyword != null) {
+      sql.append(" AND (LOWER(p.content) LIKE '%' || LOWER(:keyword) || '%'")
+          .append(" OR LOWER(h.name) LIKE '%' || LOWER(:keyword) || '%'")
+          .append(" OR LOWER(p.location) LIKE '%' || LOWER(:keyword) || '%')");
+      params.addValue("keyword", keyword);
+    }
+    if (region != null) {
+      sql.append(" AND h.region = :region");
+      params.addValue("region", region);
+    }
+  }
+}
@@ -1,24 +1,42 @@
 package org.hh.heritagehunters.domain.post.repository;
 
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 줄 (게시글 + 작성자 + 문화유산 + 썸네일)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 목록 카드에 필요한 값만 평평하게 읽는다
+ * - 별칭은 PostRepository.LIST_SELECT 와 일치해야 한다
+ */
 public interface PostListProjection {
 
-  Long getPostId();
+  Long getId();
 
-  String getTitle();
+  String getContent();
 
-  String getThumbnailUrl();
+  String getLocation();
+
+  LocalDateTime getCreatedAt();
+
+  Integer getViewCount();
 
-  java.time.LocalDateTime getCreatedAt();
+  Integer getLikeCount();
 
-  Long getAuthorId();
+  Integer getCommentCount();
 
-  String getAuthorNickname();
+  Long getUserId();
+
+  String getUserNickname();
+
+  String getUserProfileImage();
 
   Long getHeritageId();
 
   String getHeritageName();
 
-  Long getLikeCount();
+  String getHeritageDesignation();
+
+  /** orderIndex = 0 이미지 URL (없으면 null) */
+  String getThumbnailUrl();
 
-  Long getCommentCount();
+  Long getImageCount();
 }
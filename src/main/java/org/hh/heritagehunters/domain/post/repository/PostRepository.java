@@ -1,12 +1,12 @@
 package org.hh.heritagehunters.domain.post.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.hh.heritagehunters.domain.oauth.entity.User;
 import org.hh.heritagehunters.domain.post.entity.Post;
 import org.hh.heritagehunters.domain.search.entity.Heritage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +15,20 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+  /**
+   * 목록용 projection 의 select 절 (from 절에서 게시글 별칭은 p, 작성자 u, 문화유산 h)
+   * - 썸네일/이미지 수는 게시글당 스칼라 서브쿼리 (post_images(post_id, order_index) 인덱스 사용)
+   * - 썸네일은 작은 파생본(없으면 원본)
+   */
+  String LIST_SELECT = """
+        select p.id as id, p.content as content, p.location as location, p.createdAt as createdAt,
+               p.viewCount as viewCount, p.likeCount as likeCount, p.commentCount as commentCount,
+               u.id as userId, u.nickname as userNickname, u.profileImage as userProfileImage,
+               h.id as heritageId, h.name as heritageName, h.designation as heritageDesignation,
+               (select min(coalesce(i.thumbnailUrl, i.url)) from PostImage i where i.post = p and i.orderIndex = 0) as thumbnailUrl,
+               (select count(i2) from PostImage i2 where i2.post = p) as imageCount
+      """;
+
   /**
    * 키워드와 지역 필터로 게시글 목록을 조회합니다
    *
@@ -23,16 +37,28 @@ public interface PostRepository extends JpaRepository<Post, Long> {
    * @param pageable 페이지네이션 정보
    * @return 필터링된 게시글 목록
    */
-  @Query("SELECT DISTINCT p FROM Post p " +
-      "LEFT JOIN FETCH p.user " +
-      "LEFT JOIN FETCH p.heritage " +
-      "LEFT JOIN FETCH p.images " +
-      "WHERE (:keyword IS NULL OR :keyword = '' OR " +
-      "       LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-      "       LOWER(p.heritage.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-      "       LOWER(p.location) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-      "AND (:region IS NULL OR :region = '' OR p.heritage.region = :region)")
-  Page<Post> findPostsWithFilters(@Param("keyword") String keyword,
+  @Query(
+      value = LIST_SELECT + """
+            from Post p
+            left join p.user u
+            join p.heritage h
+            where (:keyword is null or :keyword = '' or
+                   lower(p.content) like lower(concat('%', :keyword, '%')) or
+                   lower(h.name) like lower(concat('%', :keyword, '%')) or
+                   lower(p.location) like lower(concat('%', :keyword, '%')))
+              and (:region is null or :region = '' or h.region = :region)
+          """,
+      countQuery = """
+            select count(p) from Post p
+            join p.heritage h
+            where (:keyword is null or :keyword = '' or
+                   lower(p.content) like lower(concat('%', :keyword, '%')) or
+                   lower(h.name) like lower(concat('%', :keyword, '%')) or
+                   lower(p.location) like lower(concat('%', :keyword, '%')))
+              and (:region is null or :region = '' or h.region = :region)
+          """
+  )
+  Page<PostListProjection> findPostListWithFilters(@Param("keyword") String keyword,
       @Param("region") String region,
       Pageable pageable);
 
@@ -51,38 +77,52 @@ public interface PostRepository extends JpaRepository<Post, Long> {
       """)
   Optional<Post> findByIdWithImages(@Param("postId") Long postId);
 
-  // 유저의 글: to-one만 fetch (컬렉션은 별도 일괄 조회)
+  /**
+   * ID 목록의 게시글 목록 행을 조회합니다 (순서 보장 없음)
+   *
+   * @param ids 게시글 ID 목록
+   * @return 게시글 목록 행
+   */
+  @Query(LIST_SELECT + """
+            from Post p
+            left join p.user u
+            join p.heritage h
+            where p.id in :ids
+          """)
+  List<PostListProjection> findPostListByIdIn(@Param("ids") List<Long> ids);
+
+  // 유저의 글
   @Query(
-      value = """
-              select p from Post p
-              join fetch p.user
-              join fetch p.heritage
-              where p.user.id = :userId
-              order by p.id desc
+      value = LIST_SELECT + """
+            from Post p
+            left join p.user u
+            join p.heritage h
+            where p.user.id = :userId
+            order by p.id desc
           """,
       countQuery = """
-              select count(p) from Post p
-              where p.user.id = :userId
+            select count(p) from Post p
+            where p.user.id = :userId
           """
   )
-  Page<Post> findPageWithToOnesByUserId(@Param("userId") Long userId, Pageable pageable);
+  Page<PostListProjection> findPostListByUserId(@Param("userId") Long userId, Pageable pageable);
 
-  // 좋아요한 글: to-one만 fetch + countQuery 분리
+  // 좋아요한 글 (좋아요 누른 순)
   @Query(
-      value = """
-              select p from Like l
-              join l.post p
-              join fetch p.user
-              join fetch p.heritage
-              where l.user.id = :userId
-              order by l.createdAt desc
+      value = LIST_SELECT + """
+            from Like l
+            join l.post p
+            left join p.user u
+            join p.heritage h
+            where l.userId = :userId
+            order by l.createdAt desc
           """,
       countQuery = """
-              select count(l) from Like l
-              where l.user.id = :userId
+            select count(l) from Like l
+            where l.userId = :userId
           """
   )
-  Page<Post> findLikedPostsPageWithToOnes(@Param("userId") Long userId, Pageable pageable);
+  Page<PostListProjection> findLikedPostList(@Param("userId") Long userId, Pageable pageable);
 
   // 특정 유저의 특정 Heritage에 대한 다른 게시글이 있는지 확인 (현재 게시글 제외)
   boolean existsByUserAndHeritageAndIdNot(User user, Heritage heritage, Long id);
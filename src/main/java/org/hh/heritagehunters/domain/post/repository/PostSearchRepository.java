@@ -0,0 +1,45 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.hh.heritagehunters.domain.post.index.PostSearchRow;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 검색 색인(PostSearchIndex) 원본 조회 - 검색 대상 텍스트 컬럼만 읽는다
+ */
+@Repository
+public class PostSearchRepository {
+
+  private static final String SELECT = """
+      SELECT p.id, p.content, p.location, h.name AS heritage_name
+      FROM posts p
+      LEFT JOIN heritages h ON h.id = p.heritage_id
+      """;
+
+  private static final RowMapper<PostSearchRow> ROW_MAPPER = (rs, i) -> new PostSearchRow(
+      rs.getLong("id"),
+      rs.getString("content"),
+      rs.getString("location"),
+      rs.getString("heritage_name"));
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public PostSearchRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /** 전체 게시글 (ID 오름차순) */
+  public List<PostSearchRow> findAllRows() {
+    return jdbc.query(SELECT + "ORDER BY p.id", Map.of(), ROW_MAPPER);
+  }
+
+  /** 게시글 한 건 (없으면 empty = 삭제됨) */
+  public Optional<PostSearchRow> findRow(Long postId) {
+    return jdbc.query(SELECT + "WHERE p.id = :postId", Map.of("postId", postId), ROW_MAPPER)
+        .stream().findFirst();
+  }
+}
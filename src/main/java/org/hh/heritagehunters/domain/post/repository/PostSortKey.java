@@ -0,0 +1,53 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+/**
+ * 게시글 목록 정렬 기준
+ * - property : JPA 정렬용 엔티티 필드명
+ * - column   : 커서(keyset) 조회용 posts 컬럼명 - (column, id) 복합 인덱스가 있어야 한다
+ */
+public enum PostSortKey {
+  CREATED_AT("createdAt", "created_at"),
+  VIEW_COUNT("viewCount", "view_count"),
+  LIKE_COUNT("likeCount", "like_count"),
+  COMMENT_COUNT("commentCount", "comment_count");
+
+  private final String property;
+  private final String column;
+
+  PostSortKey(String property, String column) {
+    this.property = property;
+    this.column = column;
+  }
+
+  public String property() {
+    return property;
+  }
+
+  public String column() {
+    return column;
+  }
+
+  /**
+   * 요청 파라미터(sort)를 정렬 기준으로 변환합니다 (대소문자 무시, 알 수 없으면 작성일)
+   */
+  public static PostSortKey from(String sort) {
+    return switch (sort != null ? sort.toLowerCase() : "createdat") {
+      case "viewcount" -> VIEW_COUNT;
+      case "likecount" -> LIKE_COUNT;
+      case "commentcount" -> COMMENT_COUNT;
+      default -> CREATED_AT;
+    };
+  }
+
+  /**
+   * 게시글의 정렬 키 값 (작성일은 LocalDateTime, 나머지는 Integer)
+   */
+  public Object valueOf(PostListProjection post) {
+    return switch (this) {
+      case CREATED_AT -> post.getCreatedAt();
+      case VIEW_COUNT -> post.getViewCount();
+      case LIKE_COUNT -> post.getLikeCount();
+      case COMMENT_COUNT -> post.getCommentCount();
+    };
+  }
+}
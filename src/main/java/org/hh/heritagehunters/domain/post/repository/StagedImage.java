@@ -0,0 +1,19 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import java.util.Set;
+import org.hh.heritagehunters.domain.post.image.ImageVariant;
+
+/**
+ * 임시 경로에 올린 게시글 이미지 (image_outbox 행)
+ *
+ * @param id         outbox 행 ID
+ * @param stagingKey 임시 S3 키 (staging/...)
+ * @param finalKey   정식 S3 키 (PostImage URL 이 가리키는 곳)
+ * @param variants   함께 올린 파생본 (ImageVariant.key 로 키를 만듦)
+ */
+public record StagedImage(long id, String stagingKey, String finalKey, Set<ImageVariant> variants) {
+
+  public StagedImage withVariants(Set<ImageVariant> variants) {
+    return new StagedImage(id, stagingKey, finalKey, variants);
+  }
+}
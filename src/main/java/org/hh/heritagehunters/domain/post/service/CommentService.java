@@ -6,9 +6,11 @@ import org.hh.heritagehunters.common.exception.payload.ErrorCode;
 import org.hh.heritagehunters.domain.oauth.entity.User;
 import org.hh.heritagehunters.domain.post.dto.request.CommentCreateRequestDto;
 import org.hh.heritagehunters.domain.post.entity.Comment;
-import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
 import org.hh.heritagehunters.domain.post.repository.CommentRepository;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository;
 import org.hh.heritagehunters.domain.post.repository.PostRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,13 +21,23 @@ public class CommentService {
 
   private final PostRepository postRepository;
   private final CommentRepository commentRepository;
+  private final PostCounterRepository counterRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
+  /**
+   * 댓글을 추가하고 댓글 수를 1 올립니다
+   * - 게시글/댓글 목록을 읽지 않는다: comment_count + 1 UPDATE 결과로 게시글 존재를 확인하고 참조 프록시로 연결
+   *   → 댓글이 많은 게시글에서도 비용이 같다
+   *
+   * @return 저장된 댓글 (작성자는 전달받은 사용자)
+   */
   public Comment add(Long postId, User user, CommentCreateRequestDto dto) {
-    Post post = postRepository.findById(postId)
-        .orElseThrow(() -> new NotFoundException(ErrorCode.POST_NOT_FOUND));
-    Comment comment = Comment.create(user, post, dto.getContent());
+    if (!counterRepository.add(PostCounterRepository.Counter.COMMENT, postId, 1)) {
+      throw new NotFoundException(ErrorCode.POST_NOT_FOUND);
+    }
+    Comment comment = Comment.create(user, postRepository.getReferenceById(postId), dto.getContent());
     commentRepository.save(comment);
-    post.syncCommentCount();
+    eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.COMMENTED));
     return comment;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 카운터 증감분 누적기 (write-behind 버퍼의 메모리 부분)
+ * - 게시글 ID 마다 LongAdder 를 두어 같은 글에 몰리는 증가도 경합 없이 더한다
+ * - drain 은 카운터를 지우지 않고 읽은 합계만큼 빼므로 drain 중에 들어온 증감분도 잃지 않는다
+ * - 카운터 수가 maxCounters 를 넘으면 새 맵으로 교체하고, 이전 맵은 다음 drain 때 한 번 더 비운 뒤 버린다
+ * drain/restore 는 한 스레드(flush)에서만 호출한다고 가정한다.
+ */
+final class CounterDeltas {
+
+  private final int maxCounters;
+
+  private final AtomicReference<ConcurrentHashMap<Long, LongAdder>> active =
+      new AtomicReference<>(new ConcurrentHashMap<>());
+  private volatile ConcurrentHashMap<Long, LongAdder> retired;
+
+  CounterDeltas(int maxCounters) {
+    this.maxCounters = maxCounters;
+  }
+
+  void add(Long postId, long delta) {
+    active.get().computeIfAbsent(postId, k -> new LongAdder()).add(delta);
+  }
+
+  /** 아직 drain 되지 않은 증감분 */
+  long pending(Long postId) {
+    ConcurrentHashMap<Long, LongAdder> old = retired;
+    return count(active.get(), postId) + (old != null ? count(old, postId) : 0);
+  }
+
+  /** 누적된 증감분을 꺼냅니다 (0 인 게시글 제외) */
+  Map<Long, Long> drain() {
+    Map<Long, Long> deltas = new HashMap<>();
+    if (retired != null) {
+      drain(retired, deltas);
+      retired = null;
+    }
+    ConcurrentHashMap<Long, LongAdder> current = active.get();
+    drain(current, deltas);
+    if (current.size() > maxCounters) {
+      retired = active.getAndSet(new ConcurrentHashMap<>());
+    }
+    return deltas;
+  }
+
+  /** 반영에 실패한 증감분을 되돌려 놓습니다 (다음 drain 에서 다시 꺼냄) */
+  void restore(Map<Long, Long> deltas) {
+    deltas.forEach(this::add);
+  }
+
+  private static void drain(ConcurrentHashMap<Long, LongAdder> counters, Map<Long, Long> into) {
+    counters.forEach((id, adder) -> {
+      long v = adder.sum();
+      if (v != 0) {
+        adder.add(-v);
+        into.merge(id, v, Long::sum);
+      }
+    });
+  }
+
+  private static long count(ConcurrentHashMap<Long, LongAdder> counters, Long postId) {
+    LongAdder adder = counters.get(postId);
+    return adder == null ? 0 : adder.sum();
+  }
+}
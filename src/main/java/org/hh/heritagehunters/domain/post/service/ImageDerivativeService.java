@@ -0,0 +1,71 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.post.image.ImageResizer;
+import org.hh.heritagehunters.domain.post.image.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 게시글 이미지 파생본(썸네일/상세) 생성
+ * - 디코딩은 CPU/메모리를 많이 쓰므로 업로드 풀과 별도의 작은 풀에서 돌린다
+ * - 대기열이 차면 요청한 스레드가 직접 처리 → 업로드가 몰려도 동시 디코딩 수와 대기 메모리가 제한된다
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+  private final ImageResizer resizer;
+  private final ThreadPoolExecutor executor;
+
+  public ImageDerivativeService(
+      ImageResizer resizer,
+      @Value("${post.image.resize-threads:2}") int threads,
+      @Value("${post.image.resize-queue:16}") int queueCapacity) {
+    this.resizer = resizer;
+    AtomicInteger seq = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        r -> {
+          Thread t = new Thread(r, "image-resize-" + seq.incrementAndGet());
+          t.setDaemon(true);
+          return t;
+        },
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * 파생본 생성을 시작합니다
+   *
+   * @param file 원본 이미지
+   * @return 파생본 → JPEG 바이트 (읽을 수 없는 이미지면 빈 맵 - 원본 URL 로 대체됨)
+   */
+  public CompletableFuture<Map<ImageVariant, byte[]>> derive(MultipartFile file) {
+    return CompletableFuture.supplyAsync(() -> {
+      long started = System.currentTimeMillis();
+      try (InputStream in = file.getInputStream()) {
+        Map<ImageVariant, byte[]> out = resizer.resize(in);
+        log.debug("이미지 파생본 생성: {} ({}ms)", file.getOriginalFilename(),
+            System.currentTimeMillis() - started);
+        return out;
+      } catch (Exception e) {
+        log.warn("이미지 파생본 생성 실패 (원본 사용): {} - {}", file.getOriginalFilename(), e.getMessage());
+        return Map.of();
+      }
+    }, executor);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
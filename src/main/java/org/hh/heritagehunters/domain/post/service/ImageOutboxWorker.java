@@ -0,0 +1,62 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.post.entity.ImageOutbox.Status;
+import org.hh.heritagehunters.domain.post.repository.ImageOutboxRepository;
+import org.hh.heritagehunters.domain.post.repository.StagedImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 이미지 업로드 outbox 정리 작업
+ * - COMMITTED: 게시글은 커밋됐지만 정식 경로로 옮기지 못한 이미지 → 다시 옮김
+ * - STAGED: staged-ttl 이 지나도록 게시글에 연결되지 않은 업로드 (요청 실패/서버 중단) → 임시 객체 삭제
+ * - ABANDONED: 삭제하다 실패한 임시 객체 → 다시 삭제
+ * 옮기기/삭제는 여러 번 실행해도 같은 결과라 인스턴스가 여럿이어도 잠금 없이 돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageOutboxWorker {
+
+  /** 한 번에 처리하는 상태별 최대 행 수 */
+  private static final int BATCH = 100;
+
+  private final ImageOutboxRepository repository;
+  private final ImageService imageService;
+
+  /** 게시글 저장 요청이 업로드를 마치고 커밋하기까지 충분한 시간 */
+  @Value("${post.image-outbox.staged-ttl:PT30M}")
+  private Duration stagedTtl;
+
+  /** 커밋 직후 요청 스레드가 옮기는 중인 이미지는 건드리지 않음 */
+  @Value("${post.image-outbox.promote-delay:PT1M}")
+  private Duration promoteDelay;
+
+  @Scheduled(
+      initialDelayString = "${post.image-outbox.interval:PT1M}",
+      fixedDelayString = "${post.image-outbox.interval:PT1M}")
+  public void run() {
+    try {
+      List<StagedImage> committed = repository.findOlderThan(Status.COMMITTED, promoteDelay, BATCH);
+      imageService.promote(committed);
+
+      List<StagedImage> orphaned = repository.findOlderThan(Status.STAGED, stagedTtl, BATCH);
+      List<StagedImage> abandoned = repository.findOlderThan(Status.ABANDONED, Duration.ZERO, BATCH);
+      imageService.discard(orphaned);
+      imageService.discard(abandoned);
+
+      if (!committed.isEmpty() || !orphaned.isEmpty() || !abandoned.isEmpty()) {
+        log.info("이미지 업로드 outbox 정리: 이동 {}건, 고아 삭제 {}건, 삭제 재시도 {}건",
+            committed.size(), orphaned.size(), abandoned.size());
+      }
+    } catch (Exception e) {
+      // 다음 주기에 다시 시도
+      log.warn("이미지 업로드 outbox 정리 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -1,92 +1,323 @@
 package org.hh.heritagehunters.domain.post.service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.TooManyRequestsException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.post.dto.request.ImageUploadRequestDto;
+import org.hh.heritagehunters.domain.post.dto.response.PresignedUploadResponseDto;
 import org.hh.heritagehunters.domain.post.entity.Post;
 import org.hh.heritagehunters.domain.post.entity.PostImage;
-import org.hh.heritagehunters.domain.post.service.ImageUploadService;
+import org.hh.heritagehunters.domain.post.image.ImageVariant;
+import org.hh.heritagehunters.domain.post.repository.ImageOutboxRepository;
+import org.hh.heritagehunters.domain.post.repository.StagedImage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
-import jakarta.annotation.PreDestroy;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ImageService {
 
+  /** 임시 업로드 경로 접두사 (정식 키 앞에 붙임) */
+  private static final String STAGING_PREFIX = "staging/";
+
+  /** 파생본은 모두 JPEG */
+  private static final String DERIVATIVE_CONTENT_TYPE = "image/jpeg";
+
+  /** 이미지 한 장 최대 크기 */
+  private static final long MAX_IMAGE_BYTES = 50L * 1024 * 1024;
+
+  /** 게시글 한 개의 최대 이미지 수 (작성/수정 화면, TOO_MANY_IMAGES 메시지와 같은 값) */
+  private static final int MAX_IMAGES_PER_POST = 3;
+
   private final ImageUploadService imageUploadService;
-  
-  // 이미지 업로드용 스레드 풀 (CPU 코어 수만큼 스레드)
-  private final ExecutorService imageUploadExecutor = Executors.newFixedThreadPool(
-      Math.min(Runtime.getRuntime().availableProcessors(), 8)
-  );
+  private final ImageOutboxRepository outboxRepository;
+  private final ImageDerivativeService imageDerivativeService;
+  private final UploadScheduler uploadScheduler;
+  private final S3DeletionQueue s3DeletionQueue;
+
+  /** 직접 업로드 URL 유효 시간 (outbox staged-ttl 보다 짧아야 함) */
+  @Value("${post.upload.presign-ttl:PT10M}")
+  private Duration presignTtl;
 
   /**
-   * 게시글에 새 이미지들을 첨부합니다 (병렬 처리)
-   * @param images 업로드할 이미지 파일 목록
-   * @param post 이미지를 첨부할 게시글
+   * 새 이미지들과 파생본(썸네일/상세)을 임시 경로(staging/)에 업로드합니다 (병렬 처리, DB 트랜잭션 밖에서 호출)
+   * - 업로드 전에 outbox 행을 남기므로, 도중에 멈춰도 ImageOutboxWorker 가 임시 객체를 정리한다
+   * - 결과는 게시글 트랜잭션에서 attachStaged 로 연결하고, 커밋 후 promote(실패 시 discard)로 마무리한다
+   * - 업로드 실행기(UploadScheduler)에 자리가 없으면 outbox 기록 전에 바로 거절된다
+   * @param userId 요청 사용자 ID (사용자당 동시 업로드 한도용)
+   * @param images 업로드할 이미지 파일 목록 (빈 파일은 무시)
+   * @return 임시 경로에 올린 이미지 (업로드 순서, 올릴 이미지가 없으면 빈 목록)
+   * @throws BadRequestException 이미지가 아니거나 너무 크거나 많을 때, 업로드에 실패했을 때
+   * @throws TooManyRequestsException 업로드가 몰려 받을 수 없을 때 (잠시 후 재시도)
    */
-  public void attachImages(List<MultipartFile> images, Post post) {
-    if (images == null || images.isEmpty()) {
-      throw new BadRequestException(ErrorCode.EMPTY_IMAGE_FILE);
-    }
+  public List<StagedImage> stage(Long userId, List<MultipartFile> images) {
+    List<MultipartFile> validImages = images == null ? List.of() : images.stream()
+        .filter(image -> !image.isEmpty())
+        .toList();
 
     // 1단계: 이미지 유효성 검증 (빠른 실패)
-    for (MultipartFile image : images) {
+    if (validImages.size() > MAX_IMAGES_PER_POST) {
+      throw new BadRequestException(ErrorCode.TOO_MANY_IMAGES);
+    }
+    for (MultipartFile image : validImages) {
       validateImage(image);
     }
+    if (validImages.isEmpty()) {
+      return List.of();
+    }
+
+    // 2단계: 업로드 자리 확보 (없으면 바로 거절)
+    long totalBytes = validImages.stream().mapToLong(MultipartFile::getSize).sum();
+    try (UploadScheduler.Permit permit = uploadScheduler.admit(userId, validImages.size(), totalBytes)) {
+      return uploadToStaging(userId, validImages);
+    }
+  }
+
+  private List<StagedImage> uploadToStaging(Long userId, List<MultipartFile> validImages) {
+    // outbox 행 기록 (업로드 전)
+    List<StagedImage> staged = new ArrayList<>();
+    for (MultipartFile image : validImages) {
+      String finalKey = imageUploadService.newImageKey(image.getOriginalFilename());
+      staged.add(outboxRepository.insert(STAGING_PREFIX + finalKey, finalKey, userId));
+    }
 
     try {
-      // 2단계: 병렬로 이미지 업로드
-      List<CompletableFuture<String>> uploadFutures = IntStream.range(0, images.size())
-          .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+      // 병렬로 임시 경로에 업로드 (파생본 생성은 원본 업로드와 동시에 진행)
+      List<CompletableFuture<StagedImage>> uploadFutures = IntStream.range(0, validImages.size())
+          .mapToObj(i -> uploadScheduler.submit(() -> {
             try {
-              MultipartFile image = images.get(i);
+              MultipartFile image = validImages.get(i);
               log.debug("이미지 업로드 시작: {} ({}번째)", image.getOriginalFilename(), i);
-              String url = imageUploadService.uploadImage(image);
-              log.debug("이미지 업로드 완료: {} -> {}", image.getOriginalFilename(), url);
-              return url;
+              CompletableFuture<Map<ImageVariant, byte[]>> derivatives =
+                  imageDerivativeService.derive(image);
+              imageUploadService.uploadImage(image, staged.get(i).stagingKey());
+              return uploadDerivatives(staged.get(i), derivatives.join());
             } catch (Exception e) {
-              log.error("이미지 업로드 실패: {}", images.get(i).getOriginalFilename(), e);
+              log.error("이미지 업로드 실패: {}", validImages.get(i).getOriginalFilename(), e);
               throw new RuntimeException("이미지 업로드 실패: " + e.getMessage(), e);
             }
-          }, imageUploadExecutor))
+          }))
           .toList();
 
-      // 3단계: 모든 업로드 완료 대기
-      CompletableFuture<Void> allUploads = CompletableFuture.allOf(
-          uploadFutures.toArray(new CompletableFuture[0])
-      );
-
-      // 모든 업로드 완료 후 결과 수집
-      List<String> uploadedUrls = allUploads
-          .thenApply(v -> uploadFutures.stream()
-              .map(CompletableFuture::join)
-              .toList())
-          .join();
-
-      // 4단계: PostImage 엔티티 생성 및 연결
-      for (int i = 0; i < uploadedUrls.size(); i++) {
-        post.getImages().add(new PostImage(null, post, uploadedUrls.get(i), i));
-      }
+      // 모든 업로드 완료 대기 (하나가 실패해도 나머지가 끝날 때까지 기다린 뒤 자리 반납)
+      CompletableFuture.allOf(uploadFutures.toArray(new CompletableFuture[0])).join();
+      List<StagedImage> uploaded = uploadFutures.stream().map(CompletableFuture::join).toList();
 
-      log.info("이미지 {}개 병렬 업로드 완료", uploadedUrls.size());
+      log.info("이미지 {}개 임시 경로 업로드 완료", uploaded.size());
+      return uploaded;
 
     } catch (Exception e) {
       log.error("이미지 병렬 업로드 중 오류 발생", e);
+      discard(staged);
       throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
     }
   }
 
+  /**
+   * 브라우저가 임시 경로(staging/)에 직접 올릴 presigned PUT URL 을 발급합니다 (이미지 바이트가 앱 서버를 거치지 않음)
+   * - 발급 시 outbox 행을 남기므로, 올리고 확인하지 않은 객체는 ImageOutboxWorker 가 정리한다
+   * - 업로드 후 confirm 으로 확인한 결과를 stage 결과처럼 게시글/프로필에 연결한다
+   * @param userId 요청 사용자 ID (확인 시 본인 업로드만 허용)
+   * @param files 올릴 파일 정보
+   * @return 파일 순서대로 발급한 URL
+   */
+  public List<PresignedUploadResponseDto> presign(Long userId, List<ImageUploadRequestDto> files) {
+    for (ImageUploadRequestDto file : files) {
+      validateImage(file.getContentType(), file.getSize());
+    }
+
+    List<PresignedUploadResponseDto> out = new ArrayList<>();
+    for (ImageUploadRequestDto file : files) {
+      String finalKey = imageUploadService.newImageKey(file.getFilename());
+      StagedImage staged = outboxRepository.insert(STAGING_PREFIX + finalKey, finalKey, userId);
+      PresignedPutObjectRequest request = imageUploadService.presignUpload(
+          staged.stagingKey(), file.getContentType(), file.getSize(), presignTtl);
+      out.add(new PresignedUploadResponseDto(staged.id(), "PUT", request.url().toString(),
+          // host/content-length 는 브라우저가 직접 붙임 (실제 크기가 서명과 다르면 S3 가 거절)
+          request.signedHeaders().entrySet().stream()
+              .filter(h -> !h.getKey().equalsIgnoreCase("host") && !h.getKey().equalsIgnoreCase("content-length"))
+              .collect(Collectors.toMap(Map.Entry::getKey, h -> String.join(",", h.getValue()))),
+          request.expiration()));
+    }
+    log.info("이미지 직접 업로드 URL {}개 발급", out.size());
+    return out;
+  }
+
+  /**
+   * 직접 업로드를 확인합니다 - 본인이 발급받은 업로드인지, 객체가 실제로 올라왔고 이미지인지 본다
+   * - 확인한 이미지는 attachStaged 로 연결하고 커밋 후 promote 한다 (stage 결과와 같음, 파생본은 없음)
+   * @param userId 요청 사용자 ID
+   * @param uploadIds presign 이 돌려준 uploadId
+   * @return 요청 순서대로 확인한 이미지 (uploadIds 가 null/빈 목록이면 빈 목록)
+   * @throws BadRequestException 업로드를 찾을 수 없거나(IMAGE_UPLOAD_NOT_FOUND) 이미지가 아니거나 너무 많을 때
+   */
+  public List<StagedImage> confirm(Long userId, List<Long> uploadIds) {
+    if (uploadIds == null || uploadIds.isEmpty()) {
+      return List.of();
+    }
+    List<Long> ids = uploadIds.stream().distinct().toList();
+    if (ids.size() > MAX_IMAGES_PER_POST) {
+      throw new BadRequestException(ErrorCode.TOO_MANY_IMAGES);
+    }
+    // 다른 사용자의 업로드, 이미 연결/정리된 업로드는 여기서 빠짐
+    Map<Long, StagedImage> found = outboxRepository.findStaged(ids, userId).stream()
+        .collect(Collectors.toMap(StagedImage::id, Function.identity()));
+
+    List<StagedImage> confirmed = new ArrayList<>();
+    for (Long id : ids) {
+      StagedImage image = found.get(id);
+      if (image == null) {
+        throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_NOT_FOUND);
+      }
+      HeadObjectResponse head = imageUploadService.headImage(image.stagingKey())
+          .orElseThrow(() -> new BadRequestException(ErrorCode.IMAGE_UPLOAD_NOT_FOUND));
+      validateImage(head.contentType(), head.contentLength());
+      confirmed.add(image);
+    }
+    return confirmed;
+  }
+
+  /**
+   * 파생본을 원본 임시 키 옆에 올리고, 올린 파생본을 기록합니다
+   */
+  private StagedImage uploadDerivatives(StagedImage image, Map<ImageVariant, byte[]> derivatives) {
+    Set<ImageVariant> variants = EnumSet.noneOf(ImageVariant.class);
+    derivatives.forEach((variant, data) -> {
+      imageUploadService.uploadBytes(variant.key(image.stagingKey()), data, DERIVATIVE_CONTENT_TYPE);
+      variants.add(variant);
+    });
+    return image.withVariants(variants);
+  }
+
+  /**
+   * 임시 경로에 올린 이미지를 게시글에 연결합니다 (게시글 트랜잭션 안에서 호출)
+   * - PostImage URL(원본/파생본)은 정식 경로를 가리키고, outbox 행은 COMMITTED 로 바뀐다
+   * - 기존 이미지와 합쳐 게시글당 최대 개수를 넘으면 거절한다 (트랜잭션 롤백 → 호출 측이 discard)
+   * @param post 이미지를 연결할 게시글 (저장되어 ID 가 있어야 함)
+   * @param staged 임시 경로에 올린 이미지
+   * @throws BadRequestException 게시글 이미지가 너무 많을 때(TOO_MANY_IMAGES), 정리 작업이 이미 버린 업로드일 때
+   */
+  public void attachStaged(Post post, List<StagedImage> staged) {
+    if (staged.isEmpty()) {
+      return;
+    }
+    if (post.getImages().size() + staged.size() > MAX_IMAGES_PER_POST) {
+      throw new BadRequestException(ErrorCode.TOO_MANY_IMAGES);
+    }
+
+    int startIndex = post.getImages().size(); // 기존 이미지 개수부터 시작
+    for (int i = 0; i < staged.size(); i++) {
+      StagedImage image = staged.get(i);
+      post.getImages().add(new PostImage(null, post,
+          imageUploadService.getImageUrl(image.finalKey()), startIndex + i,
+          variantUrl(image, ImageVariant.THUMBNAIL), variantUrl(image, ImageVariant.DETAIL)));
+    }
+
+    List<Long> ids = staged.stream().map(StagedImage::id).toList();
+    if (outboxRepository.markCommitted(ids, post.getId()) != ids.size()) {
+      // 업로드가 너무 오래 걸려 정리 작업이 이미 버린 경우 → 트랜잭션 롤백
+      throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+    }
+  }
+
+  /**
+   * 임시 경로에 올린 이미지 한 장을 게시글 없이 커밋합니다 (프로필 이미지, 호출한 트랜잭션 안에서)
+   * @return 정식 경로의 이미지 URL
+   */
+  public String attachStagedWithoutPost(StagedImage image) {
+    if (outboxRepository.markCommitted(List.of(image.id()), null) != 1) {
+      throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
+    }
+    return imageUploadService.getImageUrl(image.finalKey());
+  }
+
+  private String variantUrl(StagedImage image, ImageVariant variant) {
+    return image.variants().contains(variant)
+        ? imageUploadService.getImageUrl(variant.key(image.finalKey()))
+        : null;
+  }
+
+  /**
+   * 커밋된 이미지를 임시 경로에서 정식 경로로 옮기고 outbox 행을 지웁니다
+   * - 실패한 이미지는 행이 남아 ImageOutboxWorker 가 다시 시도한다
+   * @param staged 게시글 트랜잭션이 커밋된 이미지
+   */
+  public void promote(List<StagedImage> staged) {
+    for (StagedImage image : staged) {
+      try {
+        if (!imageUploadService.moveImage(image.stagingKey(), image.finalKey())) {
+          // 다른 인스턴스가 이미 옮긴 경우
+          log.debug("임시 이미지가 이미 없음: {}", image.stagingKey());
+        }
+        for (ImageVariant variant : image.variants()) {
+          imageUploadService.moveImage(variant.key(image.stagingKey()), variant.key(image.finalKey()));
+        }
+        outboxRepository.delete(image.id());
+      } catch (Exception e) {
+        log.warn("이미지 정식 경로 이동 실패 (다음 정리 작업에서 재시도): {}", image.stagingKey(), e);
+      }
+    }
+  }
+
+  /**
+   * 호출한 트랜잭션이 커밋된 뒤 promote 합니다 (트랜잭션 밖이면 바로)
+   * - 커밋 전에 죽으면 ImageOutboxWorker 가 옮긴다
+   */
+  public void promoteAfterCommit(List<StagedImage> staged) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          promote(staged);
+        }
+      });
+    } else {
+      promote(staged);
+    }
+  }
+
+  /**
+   * 커밋되지 않은 임시 이미지를 삭제하고 outbox 행을 지웁니다
+   * - 이미 커밋된 이미지는 건드리지 않는다
+   * @param staged 임시 경로에 올린 이미지
+   */
+  public void discard(List<StagedImage> staged) {
+    for (StagedImage image : staged) {
+      try {
+        if (!outboxRepository.abandon(image.id())) {
+          continue;
+        }
+        imageUploadService.deleteImageByKey(image.stagingKey());
+        // 파생본은 만들다 말았을 수도 있으므로 모두 지움 (없는 키 삭제는 무시됨)
+        for (ImageVariant variant : ImageVariant.values()) {
+          imageUploadService.deleteImageByKey(variant.key(image.stagingKey()));
+        }
+        outboxRepository.delete(image.id());
+      } catch (Exception e) {
+        log.warn("임시 이미지 삭제 실패 (다음 정리 작업에서 재시도): {}", image.stagingKey(), e);
+      }
+    }
+  }
+
   /**
    * 이미지 파일 유효성 검증
    */
@@ -94,38 +325,33 @@ public class ImageService {
     if (image.isEmpty()) {
       throw new BadRequestException(ErrorCode.EMPTY_IMAGE_FILE);
     }
-    if (image.getContentType() == null || !image.getContentType().startsWith("image/")) {
+    validateImage(image.getContentType(), image.getSize());
+  }
+
+  private void validateImage(String contentType, Long size) {
+    if (size == null || size <= 0) {
+      throw new BadRequestException(ErrorCode.EMPTY_IMAGE_FILE);
+    }
+    if (contentType == null || !contentType.startsWith("image/")) {
       throw new BadRequestException(ErrorCode.INVALID_IMAGE_FORMAT);
     }
-    if (image.getSize() > 50L * 1024 * 1024) {
+    if (size > MAX_IMAGE_BYTES) {
       throw new BadRequestException(ErrorCode.IMAGE_TOO_LARGE);
     }
   }
 
   /**
-   * 게시글 이미지를 수정합니다 (병렬 처리)
+   * 게시글 이미지를 수정합니다 (게시글 트랜잭션 안에서 호출)
    * @param post 이미지를 수정할 게시글
-   * @param newImages 새로 추가할 이미지 파일 목록
+   * @param newImages 새로 추가할 이미지 (stage 로 임시 경로에 올린 것, null 가능)
    * @param keepImageIds 유지할 기존 이미지 ID 목록
    */
-  public void updateImages(Post post, List<MultipartFile> newImages, List<Long> keepImageIds) {
-    // 1. 삭제될 이미지들의 실제 파일을 먼저 S3에서 삭제
+  public void updateImages(Post post, List<StagedImage> newImages, List<Long> keepImageIds) {
+    // 1. 삭제될 이미지들의 파일 삭제 예약 (커밋 후 비동기 일괄 삭제)
     Set<Long> keepIds = (keepImageIds == null) ? Set.of() : Set.copyOf(keepImageIds);
-    List<PostImage> imagesToDelete = post.getImages().stream()
+    deleteImages(post.getImages().stream()
         .filter(image -> !keepIds.contains(image.getId()))
-        .toList();
-
-    if (!imagesToDelete.isEmpty()) {
-      log.info("S3에서 {}개의 이미지 파일을 삭제합니다.", imagesToDelete.size());
-      imagesToDelete.forEach(image -> {
-        try {
-          imageUploadService.deleteImage(image.getUrl());
-        } catch (Exception e) {
-          // S3 파일 삭제에 실패하더라도 DB는 업데이트 되어야 하므로, 로그만 남기고 계속 진행
-          log.warn("S3 파일 삭제 실패: {}. DB에서는 해당 이미지 정보가 제거됩니다.", image.getUrl(), e);
-        }
-      });
-    }
+        .toList());
 
     // 2. DB에서 PostImage 엔티티 제거 (JPA가 DB에서 삭제 처리)
     if (keepImageIds != null) {
@@ -134,64 +360,9 @@ public class ImageService {
       post.getImages().clear();
     }
 
-    // 3. 새 이미지가 있으면 병렬로 업로드
-    if (newImages != null && !newImages.isEmpty()) {
-      // 유효한 이미지만 필터링
-      List<MultipartFile> validImages = newImages.stream()
-          .filter(image -> !image.isEmpty())
-          .toList();
-
-      if (validImages.isEmpty()) {
-        return;
-      }
-
-      // 이미지 유효성 검증
-      for (MultipartFile image : validImages) {
-        validateImage(image);
-      }
-
-      try {
-        int startIndex = post.getImages().size(); // 기존 이미지 개수부터 시작
-
-        // 병렬로 새 이미지 업로드
-        List<CompletableFuture<String>> uploadFutures = IntStream.range(0, validImages.size())
-            .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
-              try {
-                MultipartFile image = validImages.get(i);
-                log.debug("수정 시 이미지 업로드 시작: {} ({}번째)", image.getOriginalFilename(), i);
-                String url = imageUploadService.uploadImage(image);
-                log.debug("수정 시 이미지 업로드 완료: {} -> {}", image.getOriginalFilename(), url);
-                return url;
-              } catch (Exception e) {
-                log.error("수정 시 이미지 업로드 실패: {}", validImages.get(i).getOriginalFilename(), e);
-                throw new RuntimeException("이미지 업로드 실패: " + e.getMessage(), e);
-              }
-            }, imageUploadExecutor))
-            .toList();
-
-        // 모든 업로드 완료 대기
-        CompletableFuture<Void> allUploads = CompletableFuture.allOf(
-            uploadFutures.toArray(new CompletableFuture[0])
-        );
-
-        // 업로드된 URL 수집 및 PostImage 엔티티 생성
-        List<String> uploadedUrls = allUploads
-            .thenApply(v -> uploadFutures.stream()
-                .map(CompletableFuture::join)
-                .toList())
-            .join();
-
-        // PostImage 엔티티 생성 및 연결
-        for (int i = 0; i < uploadedUrls.size(); i++) {
-          post.getImages().add(new PostImage(null, post, uploadedUrls.get(i), startIndex + i));
-        }
-
-        log.info("수정 시 이미지 {}개 병렬 업로드 완료", uploadedUrls.size());
-
-      } catch (Exception e) {
-        log.error("수정 시 이미지 병렬 업로드 중 오류 발생", e);
-        throw new BadRequestException(ErrorCode.IMAGE_UPLOAD_FAILED);
-      }
+    // 3. 미리 올려 둔 새 이미지 연결
+    if (newImages != null) {
+      attachStaged(post, newImages);
     }
 
     // 4. 이미지 순서 재정렬
@@ -206,33 +377,17 @@ public class ImageService {
   }
 
   /**
-   * S3에서 이미지 파일을 삭제합니다.
-   * 이 메서드는 PostFacade에서 호출됩니다.
-   * @param imageUrl 삭제할 이미지의 URL
+   * 이미지 파일(원본 + 파생본) 삭제를 예약합니다 (호출한 트랜잭션이 커밋된 뒤 S3DeletionQueue 가 일괄 삭제)
+   * 이 메서드는 PostFacade에서도 호출됩니다.
+   * @param images 삭제할 이미지
    */
-  public void deleteImage(String imageUrl) {
-    imageUploadService.deleteImage(imageUrl);
-  }
-
-  /**
-   * 스레드 풀 정리 (애플리케이션 종료 시)
-   */
-  @PreDestroy
-  public void cleanup() {
-    if (imageUploadExecutor != null && !imageUploadExecutor.isShutdown()) {
-      log.info("이미지 업로드 스레드 풀 종료 중...");
-      imageUploadExecutor.shutdown();
-      try {
-        if (!imageUploadExecutor.awaitTermination(5, java.util.concurrent.TimeUnit.SECONDS)) {
-          log.warn("스레드 풀 정상 종료 실패, 강제 종료");
-          imageUploadExecutor.shutdownNow();
-        }
-      } catch (InterruptedException e) {
-        log.warn("스레드 풀 종료 대기 중 인터럽트 발생");
-        imageUploadExecutor.shutdownNow();
-        Thread.currentThread().interrupt();
-      }
-      log.info("이미지 업로드 스레드 풀 종료 완료");
+  public void deleteImages(Collection<PostImage> images) {
+    if (images.isEmpty()) {
+      return;
     }
+    log.info("S3 이미지 파일 {}개 삭제를 예약합니다.", images.size());
+    s3DeletionQueue.enqueueUrls(images.stream()
+        .flatMap(image -> image.storedUrls().stream())
+        .toList());
   }
 }
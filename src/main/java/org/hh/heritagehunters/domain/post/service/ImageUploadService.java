@@ -1,14 +1,19 @@
 package org.hh.heritagehunters.domain.post.service;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 /**
  * 이미지 업로드 관련 비즈니스 로직을 담당하는 서비스
@@ -28,25 +33,28 @@ public class ImageUploadService {
    * @throws RuntimeException 업로드 실패 시
    */
   public String uploadImage(MultipartFile file) {
-    log.debug("이미지 업로드 시작: {}", file.getOriginalFilename());
+    // 1. S3 키 생성
+    String s3Key = newImageKey(file.getOriginalFilename());
+    log.debug("S3 키 생성: {}", s3Key);
 
-    File tempFile = null;
-    try {
-      // 1. MultipartFile → 임시 파일 변환
-      tempFile = createTempFile(file);
-
-      // 2. S3 키 생성
-      String s3Key = generateS3Key(file.getOriginalFilename());
-      log.debug("S3 키 생성: {}", s3Key);
-
-      // 3. S3 업로드
-      s3Service.uploadFile(s3Key, tempFile);
+    // 2. 업로드 후 S3 URL 생성
+    uploadImage(file, s3Key);
+    return s3Service.getFileUrl(s3Key);
+  }
 
-      // 4. S3 URL 생성
-      String imageUrl = s3Service.getFileUrl(s3Key);
-      log.info("이미지 업로드 성공: {} -> {}", file.getOriginalFilename(), imageUrl);
+  /**
+   * 이미지를 지정한 S3 키로 업로드합니다
+   * @param file 업로드할 이미지 파일
+   * @param s3Key 저장할 S3 키
+   * @throws RuntimeException 업로드 실패 시
+   */
+  public void uploadImage(MultipartFile file, String s3Key) {
+    log.debug("이미지 업로드 시작: {} -> {}", file.getOriginalFilename(), s3Key);
 
-      return imageUrl;
+    // 업로드 스트림을 그대로 S3로 전달 (임시 파일 복사 없음)
+    try (InputStream in = file.getInputStream()) {
+      s3Service.upload(s3Key, in, file.getSize(), file.getContentType());
+      log.info("이미지 업로드 성공: {} -> {}", file.getOriginalFilename(), s3Key);
 
     } catch (IOException e) {
       log.error("파일 처리 오류: {}", e.getMessage());
@@ -55,11 +63,62 @@ public class ImageUploadService {
     } catch (Exception e) {
       log.error("이미지 업로드 실패: {}", file.getOriginalFilename(), e);
       throw new RuntimeException("이미지 업로드 실패: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 메모리에 만든 이미지(파생본)를 지정한 S3 키로 업로드합니다
+   * @param s3Key 저장할 S3 키
+   * @param data 이미지 바이트
+   * @param contentType MIME 타입
+   * @throws RuntimeException 업로드 실패 시
+   */
+  public void uploadBytes(String s3Key, byte[] data, String contentType) {
+    s3Service.upload(s3Key, new ByteArrayInputStream(data), data.length, contentType);
+  }
 
-    } finally {
-      // 5. 임시 파일 정리
-      cleanupTempFile(tempFile);
+  /**
+   * 업로드된 이미지를 다른 키로 옮깁니다 (복사 후 원본 삭제)
+   * @param fromKey 현재 S3 키
+   * @param toKey 옮길 S3 키
+   * @return 옮겼으면 true, 원본이 이미 없으면 false
+   * @throws RuntimeException 복사/삭제 실패 시
+   */
+  public boolean moveImage(String fromKey, String toKey) {
+    if (!s3Service.copyFile(fromKey, toKey)) {
+      return false;
     }
+    s3Service.deleteFile(fromKey);
+    return true;
+  }
+
+  /**
+   * 브라우저가 S3 키로 직접 올릴 수 있는 서명된 PUT 요청을 만듭니다
+   */
+  public PresignedPutObjectRequest presignUpload(String s3Key, String contentType, long size, Duration ttl) {
+    return s3Service.presignUpload(s3Key, contentType, size, ttl);
+  }
+
+  /**
+   * 업로드된 이미지의 크기/타입을 조회합니다 (없으면 empty)
+   */
+  public Optional<HeadObjectResponse> headImage(String s3Key) {
+    return s3Service.headFile(s3Key);
+  }
+
+  /**
+   * S3 키로 이미지를 삭제합니다
+   * @param s3Key 삭제할 S3 키
+   */
+  public void deleteImageByKey(String s3Key) {
+    s3Service.deleteFile(s3Key);
+  }
+
+  /**
+   * S3 키의 공개 URL을 반환합니다
+   */
+  public String getImageUrl(String s3Key) {
+    return s3Service.getFileUrl(s3Key);
   }
 
   /**
@@ -81,46 +140,12 @@ public class ImageUploadService {
   }
 
   /**
-   * MultipartFile로부터 임시 파일을 생성합니다
-   */
-  private File createTempFile(MultipartFile file) throws IOException {
-    String originalFilename = file.getOriginalFilename();
-    String fileExtension = "";
-
-    if (originalFilename != null && originalFilename.contains(".")) {
-      fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-    }
-
-    String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-    String safeFilename = UUID.randomUUID().toString() + "_" + timestamp + fileExtension;
-
-    File tempFile = File.createTempFile("heritage-upload-", "-" + safeFilename);
-    file.transferTo(tempFile);
-
-    log.debug("임시 파일 생성: {} (size: {})", tempFile.getAbsolutePath(), tempFile.length());
-    return tempFile;
-  }
-
-  /**
-   * S3 키를 생성합니다
+   * 새 이미지의 S3 키를 생성합니다
    * 형식: posts/yyyy/MM/dd/UUID_원본파일명
    */
-  private String generateS3Key(String originalFilename) {
+  public String newImageKey(String originalFilename) {
     String datePrefix = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
     String uuid = UUID.randomUUID().toString();
     return String.format("posts/%s/%s_%s", datePrefix, uuid, originalFilename);
   }
-
-  /**
-   * 임시 파일을 정리합니다
-   */
-  private void cleanupTempFile(File tempFile) {
-    if (tempFile != null && tempFile.exists()) {
-      if (tempFile.delete()) {
-        log.debug("임시 파일 삭제 완료: {}", tempFile.getAbsolutePath());
-      } else {
-        log.warn("임시 파일 삭제 실패: {}", tempFile.getAbsolutePath());
-      }
-    }
-  }
-}
\ No newline at end of file
+}
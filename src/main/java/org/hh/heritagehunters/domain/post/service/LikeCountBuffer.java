@@ -0,0 +1,141 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 좋아요 수(posts.like_count) write-behind 버퍼
+ * - 좋아요 행(likes)이 실제로 추가/삭제된 경우에만 ±1 을 모았다가 주기적으로 한 번에 반영한다
+ *   → 인기 글에 좋아요가 몰려도 posts 행 잠금 경합이 없다
+ * - 반영한 게시글마다 PostChangedEvent(LIKED)를 발행해 목록 캐시를 무효화한다
+ * - 주기적으로 likes 테이블 기준 재집계로 어긋난 값을 보정한다
+ *   좋아요 트랜잭션은 기록 시점부터 커밋 후 버퍼에 넣을 때까지 읽기 잠금을, 재집계는 쓰기 잠금을 잡는다
+ *   → 재집계는 "커밋됐지만 아직 버퍼에 없는" 증감분이 없는 순간에 flush 후 집계하므로 같은 좋아요를 두 번 세지 않는다
+ *   (재집계 동안 좋아요 커밋이 잠깐 멈춘다 - 주기가 길어 감수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+  /** 게시글별 카운터 최대 개수 (넘치면 맵 교체) */
+  private static final int MAX_COUNTERS = 50_000;
+
+  private final PostCounterRepository repository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final CounterDeltas likes = new CounterDeltas(MAX_COUNTERS);
+
+  /** 좋아요 트랜잭션(읽기) ↔ 재집계(쓰기) */
+  private final ReentrantReadWriteLock recountGate = new ReentrantReadWriteLock();
+
+  /**
+   * 좋아요 수 증감을 기록합니다 - 트랜잭션 안이면 커밋된 뒤에만 반영 (롤백 시 버림)
+   */
+  public void add(Long postId, long delta) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // 커밋 ~ 버퍼 기록 사이에 재집계가 끼지 않도록 트랜잭션이 끝날 때까지 잡아 둔다
+      Lock gate = recountGate.readLock();
+      gate.lock();
+      try {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            likes.add(postId, delta);
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            gate.unlock();
+          }
+        });
+      } catch (RuntimeException e) {
+        gate.unlock();
+        throw e;
+      }
+    } else {
+      likes.add(postId, delta);
+    }
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 좋아요 수 증감분
+   */
+  public long pending(Long postId) {
+    return likes.pending(postId);
+  }
+
+  @Scheduled(
+      initialDelayString = "${post.like-count.flush-interval:PT2S}",
+      fixedDelayString = "${post.like-count.flush-interval:PT2S}")
+  public synchronized void flush() {
+    applyPending();
+  }
+
+  /**
+   * 모아 둔 증감분을 반영합니다
+   *
+   * @return 반영할 것이 없었거나 모두 반영했으면 true (실패하면 되돌려 두고 false)
+   */
+  private boolean applyPending() {
+    Map<Long, Long> deltas = likes.drain();
+    if (deltas.isEmpty()) {
+      return true;
+    }
+    try {
+      repository.addDeltas(PostCounterRepository.Counter.LIKE, deltas);
+    } catch (Exception e) {
+      // 한 트랜잭션이라 아무것도 반영되지 않았음 → 전부 되돌려 다음 flush 에서 다시 시도
+      log.warn("좋아요 수 반영 실패 ({}건): {}", deltas.size(), e.getMessage());
+      likes.restore(deltas);
+      return false;
+    }
+    deltas.keySet().forEach(this::publishChanged);
+    return true;
+  }
+
+  @Scheduled(
+      initialDelayString = "${post.like-count.recount-interval:PT1H}",
+      fixedDelayString = "${post.like-count.recount-interval:PT1H}")
+  public synchronized void recount() {
+    Lock gate = recountGate.writeLock();
+    gate.lock();
+    try {
+      // 진행 중인 좋아요 트랜잭션이 모두 버퍼에 기록된 상태 → 전부 반영한 뒤 집계
+      // (반영에 실패하면 버퍼에 남은 증감분이 집계와 겹치므로 이번 재집계는 건너뜀)
+      if (!applyPending()) {
+        return;
+      }
+      List<Long> corrected = repository.recountLikes();
+      if (!corrected.isEmpty()) {
+        log.info("좋아요 수 재집계 보정: {}건", corrected.size());
+        corrected.forEach(this::publishChanged);
+      }
+    } catch (Exception e) {
+      log.warn("좋아요 수 재집계 실패: {}", e.getMessage());
+    } finally {
+      gate.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  private void publishChanged(Long postId) {
+    eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.LIKED));
+  }
+}
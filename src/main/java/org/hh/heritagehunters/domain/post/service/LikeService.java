@@ -4,8 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.common.exception.NotFoundException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
 import org.hh.heritagehunters.domain.oauth.entity.User;
-import org.hh.heritagehunters.domain.post.entity.Like;
-import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.repository.LikeCommandRepository;
 import org.hh.heritagehunters.domain.post.repository.LikeRepository;
 import org.hh.heritagehunters.domain.post.repository.PostRepository;
 import org.springframework.stereotype.Service;
@@ -18,25 +17,34 @@ public class LikeService {
 
   private final PostRepository postRepository;
   private final LikeRepository likeRepository;
+  private final LikeCommandRepository likeCommandRepository;
+  private final LikeCountBuffer likeCountBuffer;
 
+  /**
+   * 좋아요를 토글합니다
+   * - 삭제를 먼저 시도하고, 지운 행이 없으면 추가 (각각 한 문장, 조회 후 분기 없음)
+   * - 좋아요 수는 실제로 행이 바뀐 경우에만 ±1 을 버퍼에 기록하고 일괄 반영한다 (게시글 행 잠금 없음)
+   *
+   * @return 토글 후 좋아요 상태 (좋아요면 true, 취소면 false)
+   */
   public boolean toggle(Long postId, User user) {
-    Post post = postRepository.findById(postId)
-        .orElseThrow(() -> new NotFoundException(ErrorCode.POST_NOT_FOUND));
+    if (!postRepository.existsById(postId)) {
+      throw new NotFoundException(ErrorCode.POST_NOT_FOUND);
+    }
 
-    boolean liked = likeRepository.existsByUserIdAndPostId(user.getId(), postId);
-    if (liked) {
-      likeRepository.deleteByUserIdAndPostId(user.getId(), postId);
-      post.decrementLikeCount();
+    if (likeCommandRepository.deleteIfPresent(user.getId(), postId)) {
+      likeCountBuffer.add(postId, -1);
       return false;
-    } else {
-      likeRepository.save(Like.create(user, post));
-      post.incrementLikeCount();
-      return true;
     }
+    if (likeCommandRepository.insertIfAbsent(user.getId(), postId)) {
+      likeCountBuffer.add(postId, 1);
+    }
+    // 추가가 충돌했다면 동시 요청이 이미 좋아요를 남긴 것 → 상태는 좋아요
+    return true;
   }
 
   @Transactional(readOnly = true)
   public boolean isLiked(Long postId, Long userId) {
     return likeRepository.existsByUserIdAndPostId(userId, postId);
   }
-}
\ No newline at end of file
+}
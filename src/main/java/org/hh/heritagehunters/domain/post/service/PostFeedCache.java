@@ -0,0 +1,149 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.hh.heritagehunters.domain.post.dto.response.PostListResponseDto;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
+import org.hh.heritagehunters.domain.post.repository.PostSortKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 목록(/posts) 페이지 캐시 - 모든 사용자가 공유하는 본문만 담는다 (좋아요 여부는 요청마다 덧씌움)
+ * - 키: (keyword, region, sort, direction, page, size), 앞쪽 페이지(max-page 미만)만 캐시
+ * - 크기 기준 LRU + TTL: 추정 바이트 합이 max-bytes 를 넘으면 가장 오래 안 쓴 항목부터 버린다
+ * - PostChangedEvent(커밋 이후)로 무효화
+ *   · 작성/수정/삭제: 전체 (새 글이 어느 페이지/검색 결과에 들어갈지 알 수 없음)
+ *   · 좋아요/댓글: 그 게시글이 담긴 항목 + 해당 카운트로 정렬한 항목 (순서가 바뀔 수 있음)
+ * 조회수 정렬은 조회마다 무효화하지 않으며 TTL 만큼 늦게 반영된다.
+ */
+@Component
+public class PostFeedCache {
+
+  private final long maxBytes;
+  private final long ttlMillis;
+  private final int maxPage;
+
+  // access-order LinkedHashMap = LRU
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+  private long totalBytes;
+  // 무효화 세대 - 로딩 중에 무효화가 일어났으면 그 결과는 넣지 않는다
+  private long generation;
+
+  public PostFeedCache(
+      @Value("${post.feed-cache.max-bytes:4194304}") long maxBytes,
+      @Value("${post.feed-cache.ttl:PT30S}") Duration ttl,
+      @Value("${post.feed-cache.max-page:5}") int maxPage) {
+    this.maxBytes = maxBytes;
+    this.ttlMillis = ttl.toMillis();
+    this.maxPage = maxPage;
+  }
+
+  public record Key(String keyword, String region, PostSortKey sort, boolean asc, int page, int size) {
+  }
+
+  private record Entry(Page<PostListResponseDto> page, long bytes, long expiresAt) {
+  }
+
+  /**
+   * 캐시된 페이지를 돌려주거나, 없으면 loader 로 읽어 캐시합니다
+   */
+  public Page<PostListResponseDto> get(Key key, Supplier<Page<PostListResponseDto>> loader) {
+    if (maxBytes <= 0 || key.page() >= maxPage) {
+      return loader.get();
+    }
+
+    long loadGeneration;
+    synchronized (this) {
+      Entry e = entries.get(key);
+      if (e != null && e.expiresAt() > System.currentTimeMillis()) {
+        return e.page();
+      }
+      if (e != null) {
+        remove(key);
+      }
+      loadGeneration = generation;
+    }
+
+    Page<PostListResponseDto> page = loader.get();
+    long bytes = estimateBytes(page);
+
+    synchronized (this) {
+      if (loadGeneration == generation && bytes <= maxBytes) {
+        remove(key);
+        entries.put(key, new Entry(page, bytes, System.currentTimeMillis() + ttlMillis));
+        totalBytes += bytes;
+        evictOverflow();
+      }
+    }
+    return page;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPostChanged(PostChangedEvent event) {
+    switch (event.type()) {
+      case LIKED -> evictContaining(event.postId(), PostSortKey.LIKE_COUNT);
+      case COMMENTED -> evictContaining(event.postId(), PostSortKey.COMMENT_COUNT);
+      default -> clear();
+    }
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    totalBytes = 0;
+    generation++;
+  }
+
+  private synchronized void evictContaining(Long postId, PostSortKey affectedSort) {
+    Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Key, Entry> e = it.next();
+      boolean hit = e.getKey().sort() == affectedSort
+          || e.getValue().page().getContent().stream().anyMatch(p -> p.getId().equals(postId));
+      if (hit) {
+        totalBytes -= e.getValue().bytes();
+        it.remove();
+      }
+    }
+    generation++;
+  }
+
+  private void remove(Key key) {
+    Entry old = entries.remove(key);
+    if (old != null) {
+      totalBytes -= old.bytes();
+    }
+  }
+
+  private void evictOverflow() {
+    Iterator<Entry> it = entries.values().iterator();
+    while (totalBytes > maxBytes && it.hasNext()) {
+      totalBytes -= it.next().bytes();
+      it.remove();
+    }
+  }
+
+  // 문자열 길이 기반 대략적인 힙 사용량 (객체 헤더/필드 포함 상수 + UTF-16 2바이트)
+  private static long estimateBytes(Page<PostListResponseDto> page) {
+    long bytes = 256;
+    for (PostListResponseDto p : page.getContent()) {
+      bytes += 320 + 2L * (len(p.getContent()) + len(p.getLocation()) + len(p.getMainImageUrl()));
+      if (p.getUser() != null) {
+        bytes += 2L * (len(p.getUser().getNickname()) + len(p.getUser().getProfileImage()));
+      }
+      if (p.getHeritage() != null) {
+        bytes += 2L * (len(p.getHeritage().getName()) + len(p.getHeritage().getDesignation()));
+      }
+    }
+    return bytes;
+  }
+
+  private static int len(String s) {
+    return s == null ? 0 : s.length();
+  }
+}
@@ -4,21 +4,28 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.common.exception.NotFoundException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
-import org.hh.heritagehunters.domain.post.entity.Comment;
+import org.hh.heritagehunters.domain.post.dto.CommentCursor;
+import org.hh.heritagehunters.domain.post.dto.PostFeedCursor;
 import org.hh.heritagehunters.domain.post.entity.Post;
-import org.hh.heritagehunters.domain.post.entity.PostImage;
+import org.hh.heritagehunters.domain.post.repository.CommentListProjection;
 import org.hh.heritagehunters.domain.post.repository.CommentRepository;
 import org.hh.heritagehunters.domain.post.repository.LikeRepository;
-import org.hh.heritagehunters.domain.post.repository.PostImageRepository;
+import org.hh.heritagehunters.domain.post.repository.PostFeedRepository;
+import org.hh.heritagehunters.domain.post.repository.PostListProjection;
 import org.hh.heritagehunters.domain.post.repository.PostRepository;
+import org.hh.heritagehunters.domain.post.repository.PostSortKey;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,9 +39,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostReader {
 
   private final PostRepository postRepository;
-  private final PostImageRepository postImageRepository;
+  private final PostFeedRepository postFeedRepository;
   private final CommentRepository commentRepository;
   private final LikeRepository likeRepository;
+  private final PostSearchService postSearchService;
 
   /**
    * 게시글 목록을 페이지네이션으로 조회합니다
@@ -47,14 +55,88 @@ public class PostReader {
    * @param size      페이지 크기
    * @return 게시글 목록 페이지
    */
-  public Page<Post> getPage(String keyword, String region, String sort, String direction, int page, int size) {
+  public Page<PostListProjection> getPage(String keyword, String region, String sort, String direction, int page, int size) {
     // 정렬/검증 로직은 기존 PostService.getPostsWithFilters 사용
     Sort sortCondition = createSortCondition(sort, direction);
     Pageable pageable = PageRequest.of(page, size, sortCondition);
     String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
     String searchRegion = (region != null && !region.trim().isEmpty()) ? region.trim() : null;
-    // 기존 findPostsWithFilters 그대로 활용
-    return postRepository.findPostsWithFilters(searchKeyword, searchRegion, pageable);
+
+    // 키워드 검색은 검색 색인이 고른 ID 안에서 정렬/페이지 → ID 목록으로 한 번에 채움
+    long[] matched = (searchKeyword != null) ? postSearchService.search(searchKeyword) : null;
+    if (matched != null) {
+      if (matched.length == 0) {
+        return Page.empty(pageable);
+      }
+      PostSortKey key = PostSortKey.from(sort);
+      boolean asc = "asc".equalsIgnoreCase(direction);
+      long total = (searchRegion == null) ? matched.length : postFeedRepository.countIds(matched, searchRegion);
+      List<Long> ids = postFeedRepository.findPageIds(matched, searchRegion, key, asc, pageable.getOffset(), size);
+      return new PageImpl<>(findPostList(ids), pageable, total);
+    }
+
+    // 엔티티 대신 목록 행(projection)으로 조회 - 영속성 컨텍스트/이미지 컬렉션 로딩 없음
+    // (검색 색인이 아직 없으면 키워드도 LIKE 로 검색)
+    return postRepository.findPostListWithFilters(searchKeyword, searchRegion, pageable);
+  }
+
+  /**
+   * getPage 와 같은 정규화(공백 제거, 정렬 기준 변환)를 거친 목록 캐시 키
+   */
+  public PostFeedCache.Key cacheKey(String keyword, String region, String sort, String direction,
+      int page, int size) {
+    String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+    String searchRegion = (region != null && !region.trim().isEmpty()) ? region.trim() : null;
+    return new PostFeedCache.Key(searchKeyword, searchRegion, PostSortKey.from(sort),
+        "asc".equalsIgnoreCase(direction), page, size);
+  }
+
+  /**
+   * 게시글 목록을 커서(keyset) 방식으로 조회합니다
+   * - (정렬 키, id) 비교로 다음 페이지를 찾으므로 OFFSET 스캔과 전체 개수(COUNT) 조회가 없다
+   * - ID 를 먼저 고른 뒤 목록 행(projection)을 ID 목록으로 한 번에 채운다
+   *
+   * @param keyword   검색 키워드
+   * @param region    지역 필터
+   * @param sort      정렬 기준
+   * @param direction 정렬 방향
+   * @param after     이전 페이지 마지막 게시글 커서 (null 이면 첫 페이지)
+   * @param size      페이지 크기
+   * @return 게시글 슬라이스 (다음 페이지 존재 여부 포함)
+   */
+  public Slice<PostListProjection> getFeed(String keyword, String region, String sort, String direction,
+      PostFeedCursor after, int size) {
+    String searchKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+    String searchRegion = (region != null && !region.trim().isEmpty()) ? region.trim() : null;
+    boolean asc = "asc".equalsIgnoreCase(direction);
+
+    // 키워드는 검색 색인이 고른 ID 로 좁힘 (색인이 아직 없으면 LIKE)
+    long[] matched = (searchKeyword != null) ? postSearchService.search(searchKeyword) : null;
+    if (matched != null && matched.length == 0) {
+      return new SliceImpl<>(List.of(), PageRequest.ofSize(size), false);
+    }
+
+    // 한 건 더 읽어 다음 페이지 존재 여부 판단
+    List<Long> ids = postFeedRepository.findFeedIds(matched == null ? searchKeyword : null, matched,
+        searchRegion, PostSortKey.from(sort), asc, after, size + 1);
+    boolean hasNext = ids.size() > size;
+    if (hasNext) {
+      ids = ids.subList(0, size);
+    }
+    return new SliceImpl<>(findPostList(ids), PageRequest.ofSize(size), hasNext);
+  }
+
+  // ID 순서를 유지한 목록 행 (한 번의 IN 조회)
+  private List<PostListProjection> findPostList(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, PostListProjection> byId = postRepository.findPostListByIdIn(ids).stream()
+        .collect(Collectors.toMap(PostListProjection::getId, p -> p));
+    return ids.stream()
+        .map(byId::get)
+        .filter(Objects::nonNull)
+        .toList();
   }
 
   /**
@@ -80,24 +162,21 @@ public class PostReader {
   }
 
   /**
-   * 게시글의 댓글 목록을 조회합니다
+   * 게시글의 댓글을 커서 페이지로 조회합니다
    *
    * @param postId 게시글 ID
-   * @return 댓글 목록
+   * @param after  이전 페이지 마지막 댓글 커서 (null 이면 첫 페이지)
+   * @param size   페이지 크기
+   * @return 댓글 목록 (다음 페이지 존재 여부 포함)
    */
-  public List<Comment> loadComments(Long postId) {
-    return commentRepository.findAllByPostIdWithUser(postId);
-  }
-
-  /**
-   * 사용자가 좋아요를 누른 게시글 ID 목록을 조회합니다
-   *
-   * @param userId 사용자 ID
-   * @param posts  게시글 목록
-   * @return 좋아요를 누른 게시글 ID 집합
-   */
-  public Set<Long> findLikedPostIds(Long userId, List<Post> posts) {
-    return likeRepository.findLikedPostIds(userId, posts);
+  public Slice<CommentListProjection> getComments(Long postId, CommentCursor after, int size) {
+    // 한 건 더 읽어 다음 페이지 존재 여부 판단
+    Pageable limit = PageRequest.of(0, size + 1);
+    List<CommentListProjection> rows = (after == null)
+        ? commentRepository.findFirstPage(postId, limit)
+        : commentRepository.findPageAfter(postId, after.createdAt(), after.id(), limit);
+    boolean hasNext = rows.size() > size;
+    return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.ofSize(size), hasNext);
   }
 
   /**
@@ -109,23 +188,16 @@ public class PostReader {
    */
   private Sort createSortCondition(String sort, String direction) {
     Sort.Direction dir = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
-    return switch (sort != null ? sort.toLowerCase() : "createdat") {
-      case "viewcount" -> Sort.by(dir, "viewCount");
-      case "likecount" -> Sort.by(dir, "likeCount");
-      case "commentcount" -> Sort.by(dir, "commentCount");
-      case "createdat" -> Sort.by(dir, "createdAt");
-      default -> Sort.by(dir, "createdAt");
-    };
+    return Sort.by(dir, PostSortKey.from(sort).property());
   }
 
-  public Page<Post> getUserPosts(Long userId, int page, int size) {
-    Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-    return postRepository.findPageWithToOnesByUserId(userId, pageable);
+  // 정렬은 쿼리에 고정 (작성 최신순 / 좋아요 누른 순)
+  public Page<PostListProjection> getUserPosts(Long userId, int page, int size) {
+    return postRepository.findPostListByUserId(userId, PageRequest.of(page, size));
   }
 
-  public Page<Post> getLikedPosts(Long userId, int page, int size) {
-    Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-    return postRepository.findLikedPostsPageWithToOnes(userId, pageable);
+  public Page<PostListProjection> getLikedPosts(Long userId, int page, int size) {
+    return postRepository.findLikedPostList(userId, PageRequest.of(page, size));
   }
 
   public Set<Long> findLikedInPostIds(Long userId, List<Long> postIds) {
@@ -134,16 +206,4 @@ public class PostReader {
     }
     return new HashSet<>(likeRepository.findLikedInPostIds(userId, postIds));
   }
-
-  public Map<Long, String> findThumbnailUrls(List<Long> postIds) {
-    if (postIds.isEmpty()) {
-      return Collections.emptyMap();
-    }
-    return postImageRepository.findThumbnailsByPostIds(postIds).stream()
-        .collect(Collectors.toMap(
-            img -> img.getPost().getId(),
-            PostImage::getUrl,
-            (a, b) -> a
-        ));
-  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
+import org.hh.heritagehunters.domain.post.index.PostSearchIndex;
+import org.hh.heritagehunters.domain.post.index.PostSearchRow;
+import org.hh.heritagehunters.domain.post.repository.PostSearchRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 키워드 검색
+ * - 전체 게시글로 만든 n-gram 색인(PostSearchIndex)과, 그 뒤에 생성/수정/삭제된 게시글의 변경분을 함께 본다
+ *   (변경분은 PostChangedEvent 커밋 후 한 건씩 다시 읽어 둠 → 다음 재빌드 때 색인에 합쳐지고 비워짐)
+ * - 다른 인스턴스에서 바뀐 게시글은 주기적 재빌드로 반영된다
+ * 색인이 아직 없으면 null 을 돌려주고, 호출 측은 DB LIKE 검색으로 대체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+  private final PostSearchRepository repo;
+
+  private final AtomicReference<PostSearchIndex> current = new AtomicReference<>();
+
+  // 색인 빌드 이후 바뀐 게시글 (row 가 null 이면 삭제)
+  private final Map<Long, Change> changes = new ConcurrentHashMap<>();
+  private final AtomicLong changeSeq = new AtomicLong();
+
+  private record Change(PostSearchRow row, long seq) {
+  }
+
+  /**
+   * 키워드를 내용/문화유산 이름/위치에 포함하는 게시글 ID
+   *
+   * @return 게시글 ID (순서 없음, 색인이 아직 없으면 null)
+   */
+  public long[] search(String keyword) {
+    PostSearchIndex index = current.get();
+    if (index == null) {
+      return null;
+    }
+    String query = PostSearchIndex.normalize(keyword);
+    if (query.isEmpty()) {
+      return new long[0];
+    }
+    long[] indexed = index.search(query);
+    if (changes.isEmpty()) {
+      return indexed;
+    }
+    // 변경된 게시글은 색인 결과 대신 최신 행으로 판단
+    Map<Long, Change> snapshot = Map.copyOf(changes);
+    LongStream fromIndex = Arrays.stream(indexed).filter(id -> !snapshot.containsKey(id));
+    LongStream fromChanges = snapshot.values().stream()
+        .filter(c -> c.row() != null && PostSearchIndex.matches(c.row(), query))
+        .mapToLong(c -> c.row().id());
+    return LongStream.concat(fromIndex, fromChanges).toArray();
+  }
+
+  // 목록 캐시 무효화(PostFeedCache)보다 먼저 반영 → 무효화 직후 다시 채워지는 캐시가 이전 검색 결과를 담지 않도록
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPostChanged(PostChangedEvent event) {
+    switch (event.type()) {
+      case CREATED, UPDATED -> changes.put(event.postId(),
+          new Change(repo.findRow(event.postId()).orElse(null), changeSeq.incrementAndGet()));
+      case DELETED -> changes.put(event.postId(), new Change(null, changeSeq.incrementAndGet()));
+      default -> {
+        // 좋아요/댓글은 검색 대상 텍스트와 무관
+      }
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    rebuild();
+  }
+
+  @Scheduled(
+      initialDelayString = "${post.search.rebuild-interval:PT1H}",
+      fixedDelayString = "${post.search.rebuild-interval:PT1H}")
+  public void refresh() {
+    rebuild();
+  }
+
+  private synchronized void rebuild() {
+    try {
+      long started = System.currentTimeMillis();
+      // 이 시점까지 기록된 변경분은 아래 전체 조회에 이미 반영되어 있음
+      long mark = changeSeq.get();
+      PostSearchIndex index = PostSearchIndex.build(repo.findAllRows());
+      current.set(index);
+      changes.values().removeIf(c -> c.seq() <= mark);
+      log.info("게시글 검색 색인 빌드 완료: size={}, {}ms", index.size(), System.currentTimeMillis() - started);
+    } catch (Exception e) {
+      // 기존 색인(또는 DB 검색 대체)을 계속 사용
+      log.warn("게시글 검색 색인 빌드 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -1,19 +1,24 @@
 package org.hh.heritagehunters.domain.post.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.NotFoundException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.map.service.NearestHeritageLocator;
 import org.hh.heritagehunters.domain.oauth.entity.User;
 import org.hh.heritagehunters.domain.oauth.repository.UserRepository;
 import org.hh.heritagehunters.domain.post.dto.request.PostCreateRequestDto;
 import org.hh.heritagehunters.domain.post.dto.request.PostUpdateRequestDto;
 import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
 import org.hh.heritagehunters.domain.post.repository.PostRepository;
+import org.hh.heritagehunters.domain.post.repository.StagedImage;
 import org.hh.heritagehunters.domain.profile.entity.UserStamp;
 import org.hh.heritagehunters.domain.profile.repository.UserStampRepository;
 import org.hh.heritagehunters.domain.search.entity.Heritage;
-import org.hh.heritagehunters.domain.search.repository.HeritageRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,18 +29,21 @@ public class PostWriter {
 
 
   private final PostRepository postRepository;
-  private final HeritageRepository heritageRepository;
+  private final NearestHeritageLocator nearestHeritageLocator;
   private final UserRepository userRepository;
   private final UserStampRepository userStampRepository;
+  private final ImageService imageService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 새로운 게시글을 생성합니다
    *
    * @param user    게시글 작성자
    * @param request 게시글 생성 요청 데이터
+   * @param images  미리 임시 경로에 올린 이미지 (ImageService.stage)
    * @return 생성된 게시글 엔티티
    */
-  public Post create(User user, PostCreateRequestDto request) {
+  public Post create(User user, PostCreateRequestDto request, List<StagedImage> images) {
     if (user == null) {
       throw new BadRequestException(ErrorCode.LOGIN_REQUIRED);
     }
@@ -52,18 +60,44 @@ public class PostWriter {
       // 우표 중복 체크 및 생성
       createStampIfNotExists(user.getId(), nearest.getId());
     }
-    return postRepository.save(post);
+    Post saved = postRepository.save(post);
+    imageService.attachStaged(saved, images);
+    eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), PostChangedEvent.Type.CREATED));
+    return saved;
   }
 
   /**
-   * 게시글 정보를 수정합니다
+   * 게시글 정보와 이미지를 수정합니다
    *
-   * @param post 수정할 게시글 엔티티
-   * @param dto  수정 데이터
+   * @param postId       수정할 게시글 ID
+   * @param dto          수정 데이터
+   * @param newImages    미리 임시 경로에 올린 새 이미지 (null 가능)
+   * @param keepImageIds 유지할 기존 이미지 ID 목록
    */
-  public void update(Post post, PostUpdateRequestDto dto) {
+  public void update(Long postId, PostUpdateRequestDto dto, List<StagedImage> newImages,
+      List<Long> keepImageIds) {
+    Post post = postRepository.findById(postId)
+        .orElseThrow(() -> new NotFoundException(ErrorCode.POST_NOT_FOUND));
     post.setContent(dto.getContent());
     post.setLocation(dto.getLocation());
+
+    if (newImages != null || keepImageIds != null) {
+      imageService.updateImages(post, newImages, keepImageIds);
+    }
+    eventPublisher.publishEvent(new PostChangedEvent(post.getId(), PostChangedEvent.Type.UPDATED));
+  }
+
+  /**
+   * 미리 임시 경로에 올린 이미지를 기존 이미지 뒤에 붙입니다
+   *
+   * @param postId 게시글 ID
+   * @param images 확인한 직접 업로드 이미지 (ImageService.confirm)
+   */
+  public void addImages(Long postId, List<StagedImage> images) {
+    Post post = postRepository.findById(postId)
+        .orElseThrow(() -> new NotFoundException(ErrorCode.POST_NOT_FOUND));
+    imageService.attachStaged(post, images);
+    eventPublisher.publishEvent(new PostChangedEvent(post.getId(), PostChangedEvent.Type.UPDATED));
   }
 
   /**
@@ -75,6 +109,7 @@ public class PostWriter {
     }
     post.setContent(newContent);
     postRepository.save(post);
+    eventPublisher.publishEvent(new PostChangedEvent(post.getId(), PostChangedEvent.Type.UPDATED));
   }
 
 
@@ -111,6 +146,7 @@ public class PostWriter {
     }
     
     postRepository.delete(post);
+    eventPublisher.publishEvent(new PostChangedEvent(post.getId(), PostChangedEvent.Type.DELETED));
   }
 
   /**
@@ -127,7 +163,7 @@ public class PostWriter {
 
     final double MAX_DISTANCE_METERS = 200.0;
 
-    return heritageRepository.findNearestHeritages(lat, lng, MAX_DISTANCE_METERS);
+    return nearestHeritageLocator.nearest(lat, lng, MAX_DISTANCE_METERS).orElse(null);
   }
 
   /**
@@ -0,0 +1,141 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.post.repository.PendingS3DeletionRepository;
+import org.hh.heritagehunters.domain.post.repository.PendingS3DeletionRepository.Claimed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * S3 객체 비동기 일괄 삭제
+ * - enqueue: 삭제할 키를 s3_pending_deletions 에 남김 (호출한 트랜잭션과 함께 커밋 → 롤백되면 지우지 않음)
+ * - 커밋 후 백그라운드 스레드가 DeleteObjects(요청당 최대 1000개)로 지우고, 실패한 키는 백오프 후 다시 시도
+ * - 요청 스레드는 S3 를 기다리지 않으므로 게시글 삭제 시간이 이미지 수와 무관하다
+ * - 주기 작업이 남은 행(실패/서버 중단)을 이어서 처리한다
+ */
+@Slf4j
+@Service
+public class S3DeletionQueue {
+
+  private final PendingS3DeletionRepository repository;
+  private final S3Service s3Service;
+  private final ThreadPoolExecutor executor;
+
+  /** 가져간 행을 처리하다 서버가 죽으면 이 시간 뒤 다른 작업이 다시 가져감 */
+  @Value("${post.s3-deletion.lease:PT5M}")
+  private Duration lease;
+
+  @Value("${post.s3-deletion.backoff-base:PT10S}")
+  private Duration backoffBase;
+
+  @Value("${post.s3-deletion.backoff-max:PT1H}")
+  private Duration backoffMax;
+
+  public S3DeletionQueue(PendingS3DeletionRepository repository, S3Service s3Service) {
+    this.repository = repository;
+    this.s3Service = s3Service;
+    // 삭제 스레드 하나 + 대기 한 건 → 커밋이 몰려도 이미 예약된 drain 한 번이 모두 처리
+    this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(1),
+        r -> {
+          Thread t = new Thread(r, "s3-deletion");
+          t.setDaemon(true);
+          return t;
+        },
+        new ThreadPoolExecutor.DiscardPolicy());
+  }
+
+  /**
+   * S3 키 삭제를 예약합니다 (트랜잭션 안이면 커밋 후 삭제 시작)
+   * @param keys 삭제할 S3 키
+   */
+  public void enqueue(Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    repository.insertAll(keys);
+    log.debug("S3 삭제 예약: {}개", keys.size());
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          executor.execute(S3DeletionQueue.this::drain);
+        }
+      });
+    } else {
+      executor.execute(this::drain);
+    }
+  }
+
+  /**
+   * URL 로 가리킨 S3 파일 삭제를 예약합니다 (이 버킷 밖의 URL 은 무시)
+   * @param urls 삭제할 파일의 S3 URL
+   */
+  public void enqueueUrls(Collection<String> urls) {
+    enqueue(urls.stream()
+        .filter(s3Service::isFileUrl)
+        .map(s3Service::extractKeyFromUrl)
+        .toList());
+  }
+
+  @Scheduled(
+      initialDelayString = "${post.s3-deletion.interval:PT1M}",
+      fixedDelayString = "${post.s3-deletion.interval:PT1M}")
+  public void retry() {
+    executor.execute(this::drain);
+  }
+
+  /**
+   * 시도할 때가 된 행이 없을 때까지 1000개씩 삭제합니다
+   */
+  void drain() {
+    try {
+      List<Claimed> claimed;
+      do {
+        claimed = repository.claimDue(lease, S3Service.MAX_DELETE_BATCH);
+        if (!claimed.isEmpty()) {
+          process(claimed);
+        }
+      } while (claimed.size() == S3Service.MAX_DELETE_BATCH);
+    } catch (Exception e) {
+      // 가져간 행은 lease 가 지나면 다시 시도됨
+      log.warn("S3 삭제 대기열 처리 실패: {}", e.getMessage());
+    }
+  }
+
+  private void process(List<Claimed> claimed) {
+    Set<String> failedKeys = s3Service.deleteFiles(claimed.stream().map(Claimed::key).toList());
+
+    List<Long> done = new ArrayList<>();
+    List<Long> failed = new ArrayList<>();
+    for (Claimed c : claimed) {
+      (failedKeys.contains(c.key()) ? failed : done).add(c.id());
+    }
+    if (!done.isEmpty()) {
+      repository.deleteAll(done);
+    }
+    if (!failed.isEmpty()) {
+      repository.retryLater(failed, backoffBase, backoffMax);
+      log.warn("S3 삭제 실패 {}개 - 나중에 다시 시도", failed.size());
+    }
+    log.info("S3 일괄 삭제: 성공 {}개, 실패 {}개", done.size(), failed.size());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -1,16 +1,43 @@
 package org.hh.heritagehunters.domain.post.service;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 /**
  * AWS S3 관련 작업을 담당하는 서비스 클래스
@@ -21,7 +48,11 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 @Slf4j
 public class S3Service {
 
+  /** DeleteObjects 한 번에 지울 수 있는 최대 키 수 (S3 제한) */
+  public static final int MAX_DELETE_BATCH = 1000;
+
   private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
 
   @Value("${cloud.aws.s3.bucket}")
   private String bucketName;
@@ -29,23 +60,45 @@ public class S3Service {
   @Value("${cloud.aws.region.static}")
   private String region;
 
+  /** S3 호환 저장소 주소 (비우면 AWS S3) - 파일 URL 도 이 주소 기준 */
+  @Value("${cloud.aws.s3.endpoint:}")
+  private String endpoint;
+
+  /** 이보다 큰 파일은 멀티파트 업로드 */
+  @Value("${cloud.aws.s3.multipart-threshold:8MB}")
+  private DataSize multipartThreshold;
+
+  /** 멀티파트 업로드의 파트 크기 (S3 최소 5MB, 마지막 파트 제외) */
+  @Value("${cloud.aws.s3.multipart-part-size:5MB}")
+  private DataSize partSize;
+
   /**
-   * S3에 파일을 업로드합니다
+   * 입력 스트림을 임시 파일 없이 그대로 S3에 업로드합니다
+   * - multipart-threshold 이하: 길이를 알려 주고 PutObject 한 번으로 스트리밍
+   * - 그보다 크면: 멀티파트 업로드 (파트 하나 크기만큼만 메모리에 읽어 올림)
    * @param key S3 저장 경로 (키)
-   * @param file 업로드할 파일
+   * @param in 업로드할 내용 (닫지 않음)
+   * @param contentLength 내용 길이 (byte)
+   * @param contentType MIME 타입 (null 가능)
    * @throws RuntimeException 업로드 실패 시
    */
-  public void uploadFile(String key, File file) {
-    log.debug("S3 업로드 시도: bucket={}, key={}", bucketName, key);
+  public void upload(String key, InputStream in, long contentLength, String contentType) {
+    log.debug("S3 업로드 시도: bucket={}, key={}, size={}", bucketName, key, contentLength);
 
     try {
-      s3Client.putObject(
-          PutObjectRequest.builder()
-              .bucket(bucketName)
-              .key(key)
-              .build(),
-          RequestBody.fromFile(file)
-      );
+      if (contentLength > multipartThreshold.toBytes()) {
+        uploadMultipart(key, in, contentType);
+      } else {
+        s3Client.putObject(
+            PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentLength(contentLength)
+                .contentType(contentType)
+                .build(),
+            RequestBody.fromInputStream(in, contentLength)
+        );
+      }
       log.info("S3 업로드 성공: {}", key);
 
     } catch (S3Exception s3e) {
@@ -65,6 +118,144 @@ public class S3Service {
     }
   }
 
+  /**
+   * 멀티파트 업로드 - 파트 크기 버퍼 하나를 재사용하며 스트림을 끝까지 올립니다 (실패 시 업로드 중단)
+   */
+  private void uploadMultipart(String key, InputStream in, String contentType) throws IOException {
+    String uploadId = s3Client.createMultipartUpload(
+        CreateMultipartUploadRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .contentType(contentType)
+            .build()
+    ).uploadId();
+
+    try {
+      List<CompletedPart> parts = new ArrayList<>();
+      byte[] buffer = new byte[(int) partSize.toBytes()];
+      int read;
+      while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+        int partNumber = parts.size() + 1;
+        // ByteArrayInputStream 은 mark/reset 이 되므로 SDK 재시도도 가능
+        String eTag = s3Client.uploadPart(
+            UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) read)
+                .build(),
+            RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)
+        ).eTag();
+        parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+      }
+
+      s3Client.completeMultipartUpload(
+          CompleteMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(key)
+              .uploadId(uploadId)
+              .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+              .build()
+      );
+      log.debug("S3 멀티파트 업로드 완료: key={}, parts={}", key, parts.size());
+
+    } catch (IOException | RuntimeException e) {
+      abortQuietly(key, uploadId);
+      throw e;
+    }
+  }
+
+  private void abortQuietly(String key, String uploadId) {
+    try {
+      s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest.builder()
+              .bucket(bucketName)
+              .key(key)
+              .uploadId(uploadId)
+              .build()
+      );
+    } catch (Exception e) {
+      log.warn("S3 멀티파트 업로드 중단 실패: key={}, reason={}", key, e.getMessage());
+    }
+  }
+
+  /**
+   * 브라우저가 직접 올릴 수 있도록 서명된 PUT URL 을 만듭니다 (앱 서버는 파일 내용을 받지 않음)
+   * - Content-Type 과 Content-Length 가 서명에 포함되므로 업로드 시 같은 값을 보내야 한다
+   * @param key 업로드될 S3 키
+   * @param contentType MIME 타입
+   * @param contentLength 파일 크기 (byte)
+   * @param ttl URL 유효 시간
+   * @return 서명된 요청 (URL, 함께 보낼 헤더, 만료 시각)
+   */
+  public PresignedPutObjectRequest presignUpload(String key, String contentType, long contentLength,
+      Duration ttl) {
+    return s3Presigner.presignPutObject(
+        PutObjectPresignRequest.builder()
+            .signatureDuration(ttl)
+            .putObjectRequest(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build())
+            .build()
+    );
+  }
+
+  /**
+   * 파일 정보(크기, 타입)를 조회합니다
+   * @param key S3 키
+   * @return 파일 정보 (없으면 empty)
+   * @throws RuntimeException 그 외 실패 시
+   */
+  public Optional<HeadObjectResponse> headFile(String key) {
+    try {
+      return Optional.of(s3Client.headObject(
+          HeadObjectRequest.builder()
+              .bucket(bucketName)
+              .key(key)
+              .build()
+      ));
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        return Optional.empty();
+      }
+      log.error("S3 파일 조회 실패: key={}, reason={}", key, e.getMessage());
+      throw new RuntimeException("S3 파일 조회 실패: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 같은 버킷 안에서 파일을 복사합니다 (서버 측 복사, 내용을 내려받지 않음)
+   * @param sourceKey 원본 키
+   * @param targetKey 대상 키
+   * @return 복사했으면 true, 원본이 없으면 false
+   * @throws RuntimeException 그 외 실패 시
+   */
+  public boolean copyFile(String sourceKey, String targetKey) {
+    try {
+      s3Client.copyObject(
+          CopyObjectRequest.builder()
+              .sourceBucket(bucketName)
+              .sourceKey(sourceKey)
+              .destinationBucket(bucketName)
+              .destinationKey(targetKey)
+              .build()
+      );
+      log.debug("S3 파일 복사 성공: {} -> {}", sourceKey, targetKey);
+      return true;
+
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        return false;
+      }
+      log.error("S3 파일 복사 실패: {} -> {}, reason={}", sourceKey, targetKey, e.getMessage());
+      throw new RuntimeException("S3 파일 복사 실패: " + e.getMessage(), e);
+    }
+  }
+
   /**
    * S3에서 파일을 삭제합니다
    * @param key 삭제할 파일의 S3 키
@@ -86,13 +277,55 @@ public class S3Service {
     }
   }
 
+  /**
+   * 여러 파일을 DeleteObjects 로 한 번에 삭제합니다 (요청당 최대 1000개씩 나눔)
+   * - 없는 키 삭제는 성공으로 본다
+   * @param keys 삭제할 S3 키
+   * @return 삭제하지 못한 키 (요청 자체가 실패한 묶음은 전부 포함, 모두 성공하면 빈 집합)
+   */
+  public Set<String> deleteFiles(Collection<String> keys) {
+    List<String> all = List.copyOf(keys);
+    Set<String> failed = new HashSet<>();
+    for (int from = 0; from < all.size(); from += MAX_DELETE_BATCH) {
+      List<String> chunk = all.subList(from, Math.min(from + MAX_DELETE_BATCH, all.size()));
+      try {
+        DeleteObjectsResponse response = s3Client.deleteObjects(
+            DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                    .objects(chunk.stream().map(k -> ObjectIdentifier.builder().key(k).build()).toList())
+                    .quiet(true) // 실패한 키만 응답에 담김
+                    .build())
+                .build()
+        );
+        response.errors().forEach(error -> {
+          log.warn("S3 파일 삭제 실패: key={}, code={}, reason={}", error.key(), error.code(), error.message());
+          failed.add(error.key());
+        });
+        log.debug("S3 일괄 삭제: 요청 {}개, 실패 {}개", chunk.size(), response.errors().size());
+
+      } catch (Exception e) {
+        log.error("S3 일괄 삭제 요청 실패: {}개, reason={}", chunk.size(), e.getMessage());
+        failed.addAll(chunk);
+      }
+    }
+    return failed;
+  }
+
+  /**
+   * S3 URL 이 이 버킷의 파일을 가리키는지 확인합니다 (소셜 로그인 프로필 이미지 등 외부 URL 구분)
+   */
+  public boolean isFileUrl(String url) {
+    return url != null && url.startsWith(baseUrl());
+  }
+
   /**
    * S3 파일의 공개 URL을 생성합니다
    * @param key S3 파일 키
    * @return 공개 접근 가능한 URL
    */
   public String getFileUrl(String key) {
-    return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+    return baseUrl() + key;
   }
 
   /**
@@ -101,7 +334,14 @@ public class S3Service {
    * @return 추출된 S3 키
    */
   public String extractKeyFromUrl(String imageUrl) {
-    String baseUrl = String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
-    return imageUrl.replace(baseUrl, "");
+    return imageUrl.replace(baseUrl(), "");
+  }
+
+  // S3 호환 저장소는 path-style (endpoint/bucket/key)
+  private String baseUrl() {
+    if (StringUtils.hasText(endpoint)) {
+      return endpoint.replaceAll("/+$", "") + "/" + bucketName + "/";
+    }
+    return String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
   }
 }
\ No newline at end of file
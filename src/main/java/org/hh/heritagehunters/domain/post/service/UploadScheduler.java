@@ -0,0 +1,242 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.TooManyRequestsException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.post.dto.response.UploadStatsResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.UploadStatsResponseDto.LatencyBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 이미지 업로드 실행기
+ * - 요청 단위로 먼저 자리를 받고(admit) 그 안에서 업로드를 실행한다
+ *   전체 자리(threads + queue-capacity)나 사용자당 한도가 차 있으면 기다리지 않고 바로 429 로 거절
+ *   → 몰려도 대기열/버퍼링된 업로드 파일이 한없이 늘지 않는다
+ * - 대기/실행 중 업로드 수, 받아들인 바이트, 완료/실패/거절 수, 업로드 시간 분포를 모아 snapshot 으로 보여준다
+ * - virtual-threads 가 켜져 있고 JDK 21 이상이면 가상 스레드로 실행 (자리 수만큼 동시에 실행, I/O 대기 위주라 적합)
+ */
+@Slf4j
+@Component
+public class UploadScheduler {
+
+  /** 업로드 시간 분포 구간 상한 (ms) - 이보다 길면 마지막 구간 */
+  private static final long[] LATENCY_BUCKETS_MS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000};
+
+  private final int threads;
+  private final int maxInFlight;
+  private final int perUserLimit;
+  private final boolean virtual;
+  private final ExecutorService executor;
+
+  private final Semaphore slots;
+  private final Map<Long, Integer> perUser = new ConcurrentHashMap<>();
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicLong bytesInFlight = new AtomicLong();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder rejectedBusy = new LongAdder();
+  private final LongAdder rejectedUserLimit = new LongAdder();
+  private final LongAdder latencySumMs = new LongAdder();
+  private final LongAdder[] latency = new LongAdder[LATENCY_BUCKETS_MS.length + 1];
+
+  public UploadScheduler(
+      @Value("${post.upload.threads:8}") int threads,
+      @Value("${post.upload.queue-capacity:32}") int queueCapacity,
+      @Value("${post.upload.per-user-limit:6}") int perUserLimit,
+      @Value("${post.upload.virtual-threads:false}") boolean virtualThreads) {
+    this.threads = threads;
+    this.maxInFlight = threads + queueCapacity;
+    this.perUserLimit = perUserLimit;
+    this.slots = new Semaphore(maxInFlight);
+    for (int i = 0; i < latency.length; i++) {
+      latency[i] = new LongAdder();
+    }
+
+    ExecutorService virtualExecutor = virtualThreads ? newVirtualThreadExecutor() : null;
+    this.virtual = virtualExecutor != null;
+    if (virtualExecutor != null) {
+      this.executor = virtualExecutor;
+    } else {
+      // 자리(slots)가 대기 수를 제한하므로 큐 자체는 크기 제한 없이 둠
+      AtomicInteger seq = new AtomicInteger();
+      this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(),
+          r -> {
+            Thread t = new Thread(r, "image-upload-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+          });
+    }
+    log.info("이미지 업로드 실행기: mode={}, threads={}, maxInFlight={}, perUserLimit={}",
+        virtual ? "virtual" : "platform", threads, maxInFlight, perUserLimit);
+  }
+
+  // 컴파일 대상이 Java 17 이라 리플렉션으로 찾음 (없으면 일반 스레드 풀)
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      log.warn("가상 스레드를 지원하지 않는 JDK - 일반 스레드 풀로 실행합니다 ({})", Runtime.version());
+      return null;
+    }
+  }
+
+  /**
+   * 업로드 자리를 받습니다 (기다리지 않음)
+   *
+   * @param userId 요청 사용자 ID
+   * @param tasks  이번 요청의 업로드 수
+   * @param bytes  이번 요청의 업로드 바이트 합
+   * @return 업로드가 모두 끝난 뒤 닫아야 하는 자리
+   * @throws BadRequestException 한 요청의 업로드 수가 전체 자리보다 많을 때 (다시 시도해도 받을 수 없음)
+   * @throws TooManyRequestsException 사용자 한도나 전체 자리가 찼을 때 (잠시 후 재시도)
+   */
+  public Permit admit(Long userId, int tasks, long bytes) {
+    if (tasks > maxInFlight) {
+      // 자리가 모두 비어도 tryAcquire 가 성공할 수 없으므로 429 대신 바로 거절
+      throw new BadRequestException(ErrorCode.TOO_MANY_IMAGES);
+    }
+    long key = userId == null ? -1L : userId;
+    if (!acquireUser(key, tasks)) {
+      rejectedUserLimit.increment();
+      throw new TooManyRequestsException(ErrorCode.UPLOAD_USER_LIMIT);
+    }
+    if (!slots.tryAcquire(tasks)) {
+      releaseUser(key, tasks);
+      rejectedBusy.increment();
+      log.warn("이미지 업로드 거절 (자리 없음): queued={}, active={}", queued.get(), active.get());
+      throw new TooManyRequestsException(ErrorCode.UPLOAD_BUSY);
+    }
+    bytesInFlight.addAndGet(bytes);
+    return new Permit(key, tasks, bytes);
+  }
+
+  /**
+   * 업로드 하나를 실행합니다 (admit 으로 받은 자리 안에서 호출)
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> upload) {
+    queued.incrementAndGet();
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        long started = System.nanoTime();
+        boolean ok = false;
+        try {
+          T result = upload.get();
+          ok = true;
+          return result;
+        } finally {
+          active.decrementAndGet();
+          record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), ok);
+        }
+      }, executor);
+    } catch (RejectedExecutionException e) {
+      // 종료 중
+      queued.decrementAndGet();
+      throw new TooManyRequestsException(ErrorCode.UPLOAD_BUSY);
+    }
+  }
+
+  public UploadStatsResponseDto snapshot() {
+    List<LatencyBucket> buckets = new ArrayList<>();
+    for (int i = 0; i < latency.length; i++) {
+      long le = i < LATENCY_BUCKETS_MS.length ? LATENCY_BUCKETS_MS[i] : -1;
+      buckets.add(new LatencyBucket(le, latency[i].sum()));
+    }
+    return new UploadStatsResponseDto(virtual ? "virtual" : "platform", threads, maxInFlight, perUserLimit,
+        queued.get(), active.get(), bytesInFlight.get(),
+        completed.sum(), failed.sum(), rejectedBusy.sum(), rejectedUserLimit.sum(),
+        latencySumMs.sum(), buckets);
+  }
+
+  private void record(long millis, boolean ok) {
+    (ok ? completed : failed).increment();
+    latencySumMs.add(millis);
+    int i = 0;
+    while (i < LATENCY_BUCKETS_MS.length && millis > LATENCY_BUCKETS_MS[i]) {
+      i++;
+    }
+    latency[i].increment();
+  }
+
+  // 진행 중인 업로드가 없으면 한도보다 많아도 받음 (한 요청의 이미지 수가 한도보다 큰 경우)
+  private boolean acquireUser(long key, int tasks) {
+    AtomicBoolean acquired = new AtomicBoolean();
+    perUser.compute(key, (k, current) -> {
+      int inFlight = current == null ? 0 : current;
+      if (inFlight > 0 && inFlight + tasks > perUserLimit) {
+        return current;
+      }
+      acquired.set(true);
+      return inFlight + tasks;
+    });
+    return acquired.get();
+  }
+
+  private void releaseUser(long key, int tasks) {
+    perUser.computeIfPresent(key, (k, current) -> current - tasks <= 0 ? null : current - tasks);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        log.warn("이미지 업로드 실행기 정상 종료 실패, 강제 종료");
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * admit 으로 받은 자리 - 요청의 업로드가 모두 끝나면 닫는다 (여러 번 닫아도 한 번만 반납)
+   */
+  public final class Permit implements AutoCloseable {
+
+    private final long userKey;
+    private final int tasks;
+    private final long bytes;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Permit(long userKey, int tasks, long bytes) {
+      this.userKey = userKey;
+      this.tasks = tasks;
+      this.bytes = bytes;
+    }
+
+    @Override
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        bytesInFlight.addAndGet(-bytes);
+        slots.release(tasks);
+        releaseUser(userKey, tasks);
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * - 상세 조회는 메모리의 게시글별 카운터(CounterDeltas)만 올리고, 주기적으로(그리고 종료 시) 한 번에 DB 에 더한다
+ *   → 조회마다 posts 행을 UPDATE 하지 않으므로 인기 글의 행 잠금 경합이 없다
+ * - 같은 사용자(세션)가 dedup-window 안에 다시 본 것은 세지 않는다 (0 이면 끔)
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+  /** 중복 조회 기록 최대 개수 (넘치면 비우고 다시 시작) */
+  private static final int MAX_SEEN = 100_000;
+
+  /** 게시글별 카운터 최대 개수 (넘치면 맵 교체) */
+  private static final int MAX_COUNTERS = 50_000;
+
+  private final PostCounterRepository repository;
+  private final long dedupWindowMillis;
+
+  private final CounterDeltas views = new CounterDeltas(MAX_COUNTERS);
+
+  // "viewerKey:postId" → 다시 셀 수 있는 시각
+  private final ConcurrentHashMap<String, Long> seen = new ConcurrentHashMap<>();
+
+  public ViewCountBuffer(PostCounterRepository repository,
+      @Value("${post.view-count.dedup-window:PT30M}") Duration dedupWindow) {
+    this.repository = repository;
+    this.dedupWindowMillis = dedupWindow.toMillis();
+  }
+
+  /**
+   * 조회 1회를 기록합니다
+   *
+   * @param postId    게시글 ID
+   * @param viewerKey 중복 조회 판별 키 (로그인 사용자/세션, null 이면 항상 셈)
+   * @return 이번 조회가 세어졌으면 true
+   */
+  public boolean record(Long postId, String viewerKey) {
+    if (viewerKey != null && dedupWindowMillis > 0) {
+      if (seen.size() >= MAX_SEEN) {
+        seen.clear();
+      }
+      // 확인과 기록을 한 번에 (같은 세션의 동시 조회 중 하나만 새 만료 시각을 기록하고 세어짐)
+      long now = System.currentTimeMillis();
+      boolean[] counted = {false};
+      seen.compute(viewerKey + ":" + postId, (key, until) -> {
+        if (until != null && until > now) {
+          return until;
+        }
+        counted[0] = true;
+        return now + dedupWindowMillis;
+      });
+      if (!counted[0]) {
+        return false;
+      }
+    }
+    views.add(postId, 1);
+    return true;
+  }
+
+  /**
+   * 아직 DB 에 반영되지 않은 조회수 (상세 화면 표시용)
+   */
+  public long pending(Long postId) {
+    return views.pending(postId);
+  }
+
+  @Scheduled(
+      initialDelayString = "${post.view-count.flush-interval:PT10S}",
+      fixedDelayString = "${post.view-count.flush-interval:PT10S}")
+  public synchronized void flush() {
+    Map<Long, Long> deltas = views.drain();
+    if (!deltas.isEmpty()) {
+      try {
+        repository.addDeltas(PostCounterRepository.Counter.VIEW, deltas);
+      } catch (Exception e) {
+        // 한 트랜잭션이라 아무것도 반영되지 않았음 → 전부 되돌려 다음 flush 에서 다시 시도
+        log.warn("조회수 반영 실패 ({}건): {}", deltas.size(), e.getMessage());
+        views.restore(deltas);
+      }
+    }
+
+    long now = System.currentTimeMillis();
+    seen.values().removeIf(until -> until <= now);
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
@@ -17,9 +17,12 @@ import org.hh.heritagehunters.common.security.CustomUserDetails;
 import org.hh.heritagehunters.domain.oauth.entity.User;
 import org.hh.heritagehunters.domain.oauth.service.UserFacade;
 import org.hh.heritagehunters.domain.post.application.PostFacade;
+import org.hh.heritagehunters.domain.post.dto.request.ImageUploadRequestDto;
 import org.hh.heritagehunters.domain.post.dto.response.PostListResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.PresignedUploadResponseDto;
 import org.hh.heritagehunters.domain.profile.dto.ProfileResponseDto;
 import org.hh.heritagehunters.domain.profile.dto.ProfileUpdateRequestDto;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -90,7 +93,7 @@ public class ProfileApiController {
       @ApiResponse(responseCode = "200", description = "프로필 수정 성공"),
       @ApiResponse(responseCode = "401", description = "로그인 필요",
           content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
-      @ApiResponse(responseCode = "403", description = "접근 권한 없음",
+      @ApiResponse(responseCode = "403", description = "접근 권한 없음 또는 CSRF 토큰 없음/불일치",
           content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
       @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음",
           content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
@@ -115,4 +118,67 @@ public class ProfileApiController {
     User updated = userFacade.updateProfile(userId, currentUserDetails.getUser(), requestDto, profileImage);
     return ResponseEntity.ok(ProfileResponseDto.from(updated));
   }
-}
\ No newline at end of file
+
+  @PostMapping("/image/presign")
+  @Operation(
+      summary = "프로필 사진 직접 업로드 URL 발급",
+      description = "S3 presigned PUT URL 을 발급합니다. 업로드 후 uploadId 로 프로필 사진 변경 API 를 호출합니다. "
+          + "API 클라이언트용이며 웹 프로필 화면은 multipart 업로드를 씁니다. "
+          + "세션 로그인 쿠키와 함께 CSRF 토큰을 헤더로 보내야 합니다 (GET /csrf 로 발급)."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "발급 성공"),
+      @ApiResponse(responseCode = "400", description = "이미지가 아니거나 크기 초과",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "401", description = "로그인 필요",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "403", description = "접근 권한 없음 또는 CSRF 토큰 없음/불일치",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  public PresignedUploadResponseDto presignProfileImage(
+      @Parameter(description = "사용자 ID", required = true, example = "1")
+      @PathVariable Long userId,
+      @Parameter(hidden = true)
+      @AuthenticationPrincipal CustomUserDetails currentUserDetails,
+      @Valid @RequestBody ImageUploadRequestDto request) {
+    User user = requireSelf(userId, currentUserDetails);
+    return postFacade.presignImages(user, List.of(request)).get(0);
+  }
+
+  @PutMapping("/image")
+  @Operation(
+      summary = "직접 업로드한 프로필 사진으로 변경",
+      description = "presigned URL 로 올린 이미지가 실제로 있는지 확인하고 프로필 사진으로 바꿉니다. "
+          + "세션 로그인 쿠키와 함께 CSRF 토큰을 헤더로 보내야 합니다 (GET /csrf 로 발급)."
+  )
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "프로필 사진 변경 성공"),
+      @ApiResponse(responseCode = "400", description = "업로드를 찾을 수 없거나 이미지가 아님 (IMAGE_UPLOAD_NOT_FOUND)",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "401", description = "로그인 필요",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class))),
+      @ApiResponse(responseCode = "403", description = "접근 권한 없음 또는 CSRF 토큰 없음/불일치",
+          content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
+  })
+  public ResponseEntity<ProfileResponseDto> updateProfileImage(
+      @Parameter(description = "사용자 ID", required = true, example = "1")
+      @PathVariable Long userId,
+      @Parameter(hidden = true)
+      @AuthenticationPrincipal CustomUserDetails currentUserDetails,
+      @Parameter(description = "프로필 사진 업로드 ID (발급 API 응답의 uploadId)", required = true)
+      @RequestParam("uploadId") Long uploadId) {
+    User user = requireSelf(userId, currentUserDetails);
+    User updated = userFacade.updateProfileImage(userId, user, uploadId);
+    return ResponseEntity.ok(ProfileResponseDto.from(updated));
+  }
+
+  private static User requireSelf(Long userId, CustomUserDetails currentUserDetails) {
+    if (currentUserDetails == null || currentUserDetails.getUser() == null) {
+      throw new UnauthorizedException(ErrorCode.LOGIN_REQUIRED);
+    }
+    if (!currentUserDetails.getUser().getId().equals(userId)) {
+      throw new ForbiddenException(ErrorCode.ACCESS_DENIED);
+    }
+    return currentUserDetails.getUser();
+  }
+}
@@ -1,7 +1,10 @@
 package org.hh.heritagehunters.domain.profile.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
-import java.util.List;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.common.exception.UnauthorizedException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
@@ -11,30 +14,34 @@ import org.hh.heritagehunters.domain.post.application.PostFacade;
 import org.hh.heritagehunters.domain.post.dto.CommentDto;
 import org.hh.heritagehunters.domain.post.dto.request.CommentCreateRequestDto;
 import org.hh.heritagehunters.domain.post.dto.request.PostContentUpdateRequestDto;
+import org.hh.heritagehunters.domain.post.dto.response.CommentPageResponseDto;
 import org.hh.heritagehunters.domain.post.dto.response.PostDetailResponseDto;
-import org.hh.heritagehunters.domain.post.service.PostReader;
 import org.hh.heritagehunters.domain.post.dto.response.LikeResponseDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/profile/{userId}/posts/{postId}")
 public class ProfileModalApiController {
 
   private final PostFacade postFacade;
-  private final PostReader postReader;
 
   // 프로필 상세 게시물 조회 (모달 열기)
   @GetMapping
   public PostDetailResponseDto getProfilePostDetail(
       @PathVariable Long userId,
       @PathVariable Long postId,
-      @AuthenticationPrincipal CustomUserDetails currentUserDetails) {
+      @AuthenticationPrincipal CustomUserDetails currentUserDetails,
+      HttpServletRequest request) {
 
     User currentUser = currentUserDetails != null ? currentUserDetails.getUser() : null;
-    return postFacade.detail(postId, currentUser);
+    // 세션을 새로 만들지 않음 (조회수 중복 판별용)
+    HttpSession session = request.getSession(false);
+    return postFacade.detail(postId, currentUser, session != null ? session.getId() : null);
   }
 
   // 게시글 수정 (본문 텍스트만 수정 가능)
@@ -57,24 +64,25 @@ public class ProfileModalApiController {
     return ResponseEntity.ok(postFacade.detail(postId, currentUserDetails.getUser()));
   }
 
-  // 댓글 조회
+  // 댓글 조회 (커서 페이지)
   @GetMapping("/comments")
-  public ResponseEntity<List<CommentDto>> getComments(
+  public ResponseEntity<CommentPageResponseDto> getComments(
       @PathVariable Long userId,
       @PathVariable Long postId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(50) int size,
       @AuthenticationPrincipal CustomUserDetails currentUserDetails) {
 
     if (currentUserDetails == null || currentUserDetails.getUser() == null) {
       throw new UnauthorizedException(ErrorCode.LOGIN_REQUIRED);
     }
 
-    List<CommentDto> comments = postReader.loadComments(postId).stream().map(CommentDto::from).toList();
-    return ResponseEntity.ok(comments);
+    return ResponseEntity.ok(postFacade.comments(postId, cursor, size));
   }
 
-  // 댓글 작성
+  // 댓글 작성 (추가된 댓글만 반환)
   @PostMapping("/comments")
-  public ResponseEntity<Void> createComment(
+  public ResponseEntity<CommentDto> createComment(
       @PathVariable Long userId,
       @PathVariable Long postId,
       @AuthenticationPrincipal CustomUserDetails currentUserDetails,
@@ -84,8 +92,7 @@ public class ProfileModalApiController {
       throw new UnauthorizedException(ErrorCode.LOGIN_REQUIRED);
     }
 
-    postFacade.addComment(postId, currentUserDetails.getUser(), requestDto);
-    return ResponseEntity.noContent().build();
+    return ResponseEntity.ok(postFacade.addComment(postId, currentUserDetails.getUser(), requestDto));
   }
 
   // 좋아요 토글 (소유자 조건 없음)
@@ -100,7 +107,7 @@ public class ProfileModalApiController {
     }
 
     boolean isLiked = postFacade.toggleLike(postId, currentUserDetails.getUser());
-    int likeCount = postReader.getById(postId).getLikeCount();
+    int likeCount = postFacade.likeCount(postId);
     return ResponseEntity.ok(new LikeResponseDto(isLiked, likeCount));
   }
 
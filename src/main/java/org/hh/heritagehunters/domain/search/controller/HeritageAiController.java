@@ -7,6 +7,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import org.hh.heritagehunters.common.exception.NotFoundException;
 import org.hh.heritagehunters.common.exception.payload.ErrorCode;
@@ -45,26 +47,30 @@ public class HeritageAiController {
           content = @Content(schema = @Schema(implementation = ApiExceptionHandler.ApiErrorResponse.class)))
   })
   @PostMapping("/{id}/ai")
-  public ResponseEntity<AiQuestionResponse> ask(
+  public CompletableFuture<ResponseEntity<AiQuestionResponse>> ask(
       @Parameter(description = "문화유산 ID", required = true, example = "1")
       @PathVariable Long id,
       @Parameter(description = "AI 질문 요청", required = true)
       @RequestBody AiAskRequest req
   ) {
+    // 업스트림을 기다리는 동안 요청 스레드를 붙잡지 않음 (비동기 응답)
+    return aiProxyService.ask(id, req)
+        .thenApply(ResponseEntity::ok)
+        .exceptionally(e -> toErrorResponse(e instanceof CompletionException && e.getCause() != null
+            ? e.getCause() : e));
+  }
 
-    try {
-      AiQuestionResponse resp = aiProxyService.ask(id, req);
-      return ResponseEntity.ok(resp);
-    } catch (NotFoundException e) {
+  private ResponseEntity<AiQuestionResponse> toErrorResponse(Throwable e) {
+    if (e instanceof NotFoundException) {
       return ResponseEntity.status(ErrorCode.RESOURCE_NOT_FOUND.getStatus())
           .body(new AiQuestionResponse(null, "유산 정보를 찾을 수 없습니다."));
-    } catch (IllegalArgumentException e) {
+    }
+    if (e instanceof IllegalArgumentException) {
       return ResponseEntity.badRequest()
           .body(new AiQuestionResponse(null, "지원하지 않는 요청 타입입니다."));
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
-          .body(new AiQuestionResponse(null, "AI 응답을 불러오지 못했어요."));
     }
+    return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+        .body(new AiQuestionResponse(null, "AI 응답을 불러오지 못했어요."));
   }
 
   @Operation(
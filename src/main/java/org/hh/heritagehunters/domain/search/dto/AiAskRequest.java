@@ -20,4 +20,6 @@ public class AiAskRequest {
   private String address;
   @Schema(description = "내용 (요약용 선택사항)", example = "궁궐의 역사")
   private String content;
+  @Schema(description = "캐시를 쓰지 않고 새로 요청 (새로고침 버튼)", example = "false")
+  private Boolean refresh;
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package org.hh.heritagehunters.domain.search.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 응답 캐시의 영속 계층 (재시작 후에도 쓰는 타입만, 기본은 요약)
+ * 행은 AiResponseCacheRepository(SQL)로만 다룬다 (엔티티는 테이블 정의용)
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "ai_response_cache", indexes = {
+    // 만료 행 정리
+    @Index(name = "idx_ai_response_cache_expires_at", columnList = "expires_at")
+})
+public class AiResponseCacheEntry {
+
+  /** SHA-256(타입 + 프롬프트) hex */
+  @Id
+  @Column(name = "cache_key", length = 64)
+  private String cacheKey;
+
+  @Column(name = "type", nullable = false, length = 16)
+  private String type;
+
+  @Column(name = "content", columnDefinition = "TEXT")
+  private String content;
+
+  @Column(name = "action_name", columnDefinition = "TEXT")
+  private String actionName;
+
+  @Column(name = "action_speak", columnDefinition = "TEXT")
+  private String actionSpeak;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
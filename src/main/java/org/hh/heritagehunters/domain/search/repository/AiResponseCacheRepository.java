@@ -0,0 +1,74 @@
+package org.hh.heritagehunters.domain.search.repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.hh.heritagehunters.domain.search.dto.AiAction;
+import org.hh.heritagehunters.domain.search.dto.AiQuestionResponse;
+import org.hh.heritagehunters.domain.search.dto.AiType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * AI 응답 캐시 영속 계층(ai_response_cache) SQL
+ * - 시간 비교는 DB 시계(now()) 기준
+ */
+@Repository
+public class AiResponseCacheRepository {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  public AiResponseCacheRepository(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /**
+   * 만료되지 않은 응답과 남은 유지 시간을 조회합니다
+   */
+  public Optional<Stored> find(String key) {
+    return jdbc.query("""
+        SELECT content, action_name, action_speak,
+               EXTRACT(EPOCH FROM (expires_at - now())) * 1000 AS remaining_ms
+        FROM ai_response_cache
+        WHERE cache_key = :key AND expires_at > now()
+        """, Map.of("key", key),
+        (rs, i) -> {
+          String actionName = rs.getString("action_name");
+          String actionSpeak = rs.getString("action_speak");
+          AiAction action = actionName == null && actionSpeak == null ? null : new AiAction(actionName, actionSpeak);
+          return new Stored(new AiQuestionResponse(action, rs.getString("content")), rs.getLong("remaining_ms"));
+        }).stream().findFirst();
+  }
+
+  /** 저장된 응답 (remainingMillis: 만료까지 남은 시간) */
+  public record Stored(AiQuestionResponse response, long remainingMillis) {
+  }
+
+  public void upsert(String key, AiType type, AiQuestionResponse response, Duration ttl) {
+    AiAction action = response.getAction();
+    jdbc.update("""
+        INSERT INTO ai_response_cache (cache_key, type, content, action_name, action_speak, expires_at, created_at)
+        VALUES (:key, :type, :content, :actionName, :actionSpeak, now() + make_interval(secs => :ttl), now())
+        ON CONFLICT (cache_key) DO UPDATE SET
+          content = EXCLUDED.content,
+          action_name = EXCLUDED.action_name,
+          action_speak = EXCLUDED.action_speak,
+          expires_at = EXCLUDED.expires_at,
+          created_at = EXCLUDED.created_at
+        """, new MapSqlParameterSource()
+        .addValue("key", key)
+        .addValue("type", type.name())
+        .addValue("content", response.getContent())
+        .addValue("actionName", action != null ? action.getName() : null)
+        .addValue("actionSpeak", action != null ? action.getSpeak() : null)
+        .addValue("ttl", ttl.toSeconds()));
+  }
+
+  /**
+   * @return 지운 행 수
+   */
+  public int deleteExpired() {
+    return jdbc.update("DELETE FROM ai_response_cache WHERE expires_at <= now()", Map.of());
+  }
+}
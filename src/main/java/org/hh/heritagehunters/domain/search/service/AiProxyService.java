@@ -2,6 +2,7 @@ package org.hh.heritagehunters.domain.search.service;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hh.heritagehunters.config.AiClientProperties;
@@ -16,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j  // logger
 @Service
@@ -25,22 +27,33 @@ public class AiProxyService {
   private final WebClient aiWebClient;
   private final AiClientProperties aiClientProperties;
   private final PromptBuilder promptBuilder;
+  private final AiResponseCache responseCache;
+
+  /**
+   * AI 질문 - 같은 (타입, 프롬프트)는 캐시된 응답을 쓰고, 동시 요청은 업스트림 호출 하나를 함께 기다린다
+   * - 요청 스레드를 막지 않고 CompletableFuture 로 돌려준다 (컨트롤러가 비동기로 응답)
+   *
+   * @return 응답 (지원하지 않는 타입이면 IllegalArgumentException, 업스트림 오류면 그 예외로 실패)
+   */
+  public CompletableFuture<AiQuestionResponse> ask(Long heritageId, AiAskRequest req) {
+    AiType type;
+    String prompt;
+    try {
+      type = AiType.from(req.getType());
+      prompt = promptBuilder.build(type, nvl(req.getName()), nvl(req.getAddress()), nvl(req.getContent()));
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(e);
+    }
 
-  public AiQuestionResponse ask(Long heritageId, AiAskRequest req) {
-    String prompt = promptBuilder.build(
-        AiType.from(req.getType()),
-        nvl(req.getName()),
-        nvl(req.getAddress()),
-        nvl(req.getContent())
-    );
-
-    String clientId = getClientId(req.getCode());
-
-    long start = System.currentTimeMillis(); // 요청 시각 측정
-    AiQuestionResponse response = performAskRequest(prompt, clientId);
-    logWithElapsed("AI 요청", req.getCode(), start,
-        String.format("\nprompt: %s\nresponse: %s", prompt, response.getContent()));
-    return response;
+    boolean refresh = Boolean.TRUE.equals(req.getRefresh());
+    return responseCache.get(type, prompt, refresh, () -> {
+      String clientId = getClientId(req.getCode());
+      long start = System.currentTimeMillis(); // 요청 시각 측정
+      return performAskRequest(prompt, clientId)
+          .doOnNext(response -> logWithElapsed("AI 요청", req.getCode(), start,
+              String.format("\nprompt: %s\nresponse: %s", prompt, response.getContent())))
+          .toFuture();
+    });
   }
 
   public void resetState(Long heritageId, AiResetRequest req) {
@@ -60,7 +73,7 @@ public class AiProxyService {
     logWithElapsed("AI 리셋", req.getCode(), start, "AI 리셋 완료");
   }
 
-  private AiQuestionResponse performAskRequest(String prompt, String clientId) {
+  private Mono<AiQuestionResponse> performAskRequest(String prompt, String clientId) {
     return aiWebClient.get()
         .uri(uriBuilder -> uriBuilder
             .path("/api/v1/question")
@@ -75,7 +88,9 @@ public class AiProxyService {
                     "Upstream error: " + res.statusCode() + " " + body)))
         )
         .bodyToMono(AiQuestionResponse.class)
-        .block(Duration.ofSeconds(60));
+        .timeout(Duration.ofSeconds(60))
+        // 완료 후 처리(캐시 DB 저장)는 blocking 이므로 네트워크 스레드 밖에서
+        .publishOn(Schedulers.boundedElastic());
   }
 
   private String getClientId(Integer code) {
@@ -0,0 +1,206 @@
+package org.hh.heritagehunters.domain.search.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.config.AiClientProperties;
+import org.hh.heritagehunters.domain.search.dto.AiQuestionResponse;
+import org.hh.heritagehunters.domain.search.dto.AiType;
+import org.hh.heritagehunters.domain.search.repository.AiResponseCacheRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 프록시 응답 캐시 - 키는 (타입, 프롬프트)
+ * - 메모리: 개수 기준 LRU + 타입별 TTL (ai.cache.ttl, 날씨는 짧게 요약은 길게)
+ * - DB(ai_response_cache): persistent-types 만 (기본 요약) → 재시작 후에도 첫 방문자가 기다리지 않음
+ * - 같은 키의 동시 요청은 진행 중인 업스트림 호출 하나를 함께 기다린다 (single-flight)
+ * 실패/빈 응답은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class AiResponseCache {
+
+  private final AiResponseCacheRepository repository;
+  private final AiClientProperties.Cache config;
+
+  // access-order LinkedHashMap = LRU
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+  // 진행 중인 업스트림 호출
+  private final Map<String, CompletableFuture<AiQuestionResponse>> inFlight = new ConcurrentHashMap<>();
+
+  public AiResponseCache(AiResponseCacheRepository repository, AiClientProperties properties) {
+    this.repository = repository;
+    this.config = properties.getCache();
+  }
+
+  private record Entry(AiQuestionResponse response, long expiresAt) {
+  }
+
+  /**
+   * 캐시된 응답을 돌려주거나, 없으면 loader 로 한 번만 불러 캐시합니다
+   *
+   * @param type    요청 타입 (TTL/영속 여부)
+   * @param prompt  업스트림에 보낼 프롬프트
+   * @param refresh true 면 캐시를 읽지 않고 새로 불러 덮어씀 (진행 중인 호출이 있으면 그 결과를 함께 받음)
+   * @param loader  업스트림 호출 (blocking 작업을 해도 되는 스레드에서 완료되어야 함 - 완료 시 DB 저장)
+   * @return 응답 (loader 가 실패하면 같은 예외로 실패)
+   */
+  public CompletableFuture<AiQuestionResponse> get(AiType type, String prompt, boolean refresh,
+      Supplier<CompletableFuture<AiQuestionResponse>> loader) {
+    String key = key(type, prompt);
+    if (!refresh) {
+      AiQuestionResponse cached = getLocal(key);
+      if (cached != null) {
+        return CompletableFuture.completedFuture(cached);
+      }
+    }
+
+    CompletableFuture<AiQuestionResponse> mine = new CompletableFuture<>();
+    CompletableFuture<AiQuestionResponse> running = inFlight.putIfAbsent(key, mine);
+    if (running != null) {
+      log.debug("AI 요청 합침: type={}", type);
+      // 호출한 쪽이 취소해도 원래 호출에는 영향 없도록 복사본을 돌려줌
+      return running.thenApply(r -> r);
+    }
+
+    try {
+      if (!refresh) {
+        // 확인과 등록 사이에 앞선 호출이 끝났을 수 있음
+        AiQuestionResponse cached = getLocal(key);
+        if (cached != null) {
+          finish(key, mine, cached, null);
+          return mine;
+        }
+        Optional<AiResponseCacheRepository.Stored> stored = loadPersistent(type, key);
+        if (stored.isPresent()) {
+          putLocal(key, stored.get().response(), stored.get().remainingMillis());
+          finish(key, mine, stored.get().response(), null);
+          return mine;
+        }
+      }
+      loader.get().whenComplete((response, error) -> {
+        if (error == null && cacheable(type, response)) {
+          store(type, key, response);
+        }
+        finish(key, mine, response, error);
+      });
+    } catch (RuntimeException e) {
+      finish(key, mine, null, e);
+    }
+    return mine;
+  }
+
+  // 다음 요청이 캐시를 보도록 진행 중 표시를 먼저 지우고 완료
+  private void finish(String key, CompletableFuture<AiQuestionResponse> mine, AiQuestionResponse response,
+      Throwable error) {
+    inFlight.remove(key, mine);
+    if (error != null) {
+      mine.completeExceptionally(error);
+    } else {
+      mine.complete(response);
+    }
+  }
+
+  private boolean cacheable(AiType type, AiQuestionResponse response) {
+    Duration ttl = config.getTtl().get(type);
+    return response != null && response.getContent() != null && !response.getContent().isBlank()
+        && ttl != null && !ttl.isZero() && !ttl.isNegative();
+  }
+
+  private void store(AiType type, String key, AiQuestionResponse response) {
+    Duration ttl = config.getTtl().get(type);
+    putLocal(key, response, ttl.toMillis());
+    if (config.getPersistentTypes().contains(type)) {
+      try {
+        repository.upsert(key, type, response, ttl);
+      } catch (Exception e) {
+        // 메모리 캐시는 유지
+        log.warn("AI 응답 캐시 저장 실패: type={}, reason={}", type, e.getMessage());
+      }
+    }
+  }
+
+  private Optional<AiResponseCacheRepository.Stored> loadPersistent(AiType type, String key) {
+    if (!config.getPersistentTypes().contains(type)) {
+      return Optional.empty();
+    }
+    try {
+      return repository.find(key);
+    } catch (Exception e) {
+      log.warn("AI 응답 캐시 조회 실패: type={}, reason={}", type, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private synchronized AiQuestionResponse getLocal(String key) {
+    Entry e = entries.get(key);
+    if (e == null) {
+      return null;
+    }
+    if (e.expiresAt() <= System.currentTimeMillis()) {
+      entries.remove(key);
+      return null;
+    }
+    return e.response();
+  }
+
+  private synchronized void putLocal(String key, AiQuestionResponse response, long ttlMillis) {
+    if (config.getMaxEntries() <= 0) {
+      return;
+    }
+    entries.put(key, new Entry(response, System.currentTimeMillis() + ttlMillis));
+    var it = entries.values().iterator();
+    while (entries.size() > config.getMaxEntries() && it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @Scheduled(
+      initialDelayString = "${ai.cache.purge-interval:PT1H}",
+      fixedDelayString = "${ai.cache.purge-interval:PT1H}")
+  public void purgeExpired() {
+    long now = System.currentTimeMillis();
+    synchronized (this) {
+      entries.values().removeIf(e -> e.expiresAt() <= now);
+    }
+    if (config.getPersistentTypes().isEmpty()) {
+      return;
+    }
+    try {
+      int deleted = repository.deleteExpired();
+      if (deleted > 0) {
+        log.info("만료된 AI 응답 캐시 {}건 삭제", deleted);
+      }
+    } catch (Exception e) {
+      log.warn("만료된 AI 응답 캐시 삭제 실패: {}", e.getMessage());
+    }
+  }
+
+  // 요약 프롬프트는 본문을 담아 길어지므로 해시로 고정 길이 키를 만든다
+  static String key(AiType type, String prompt) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(type.name().getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) '\n');
+      digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
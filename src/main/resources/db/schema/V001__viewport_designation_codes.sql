@@ -0,0 +1,30 @@
+-- 스키마 스크립트 (db/schema/V{번호}__{설명}.sql, 번호순 실행)
+-- - prod 프로필(ddl-auto: validate)이 기동할 때 Hibernate 검증보다 먼저 모두 실행한다 (spring.sql.init)
+-- - 매 기동마다 다시 실행되므로 모든 문장은 여러 번 실행해도 결과가 같아야 한다 (IF NOT EXISTS)
+-- - 이미 배포된 파일은 고치지 않고 새 번호의 파일을 추가한다
+-- - local 프로필(ddl-auto: update)은 엔티티 정의로 같은 테이블/인덱스를 만든다 (엔티티와 이름을 맞출 것)
+
+-- 뷰포트 종목 필터: designation 을 코드 단위로 분해한 값 (HeritageDesignationCode)
+CREATE TABLE IF NOT EXISTS heritage_designation_codes (
+  code        TEXT   NOT NULL,
+  heritage_id BIGINT NOT NULL,
+  PRIMARY KEY (code, heritage_id)
+);
+
+-- 첫 배포 직후 마커 인덱스가 만들어지기 전(DB 대체 경로)에도 필터가 동작하도록 비어 있을 때만 채움
+-- 이후에는 마커 인덱스 재빌드 때마다 ViewportLookupRepository 가 다시 채운다
+INSERT INTO heritage_designation_codes (heritage_id, code)
+SELECT DISTINCT h.id, btrim(d.code)
+FROM heritages h,
+     regexp_split_to_table(COALESCE(h.designation, ''), '[|,/]') AS d(code)
+WHERE btrim(d.code) <> ''
+  AND NOT EXISTS (SELECT 1 FROM heritage_designation_codes)
+ON CONFLICT DO NOTHING;
+
+-- 전시 중인 문화재 제외 NOT EXISTS(exhibited_at) 조회용 (ExhibitedAt)
+CREATE INDEX IF NOT EXISTS idx_exhibited_at_heritages_id ON exhibited_at (heritages_id);
+
+-- 이전 버전이 기동 시 만들던 사전 계산 컬럼/테이블 정리 (전시 여부는 exhibited_at 을 직접 조회)
+DROP INDEX IF EXISTS idx_heritages_geom_visible;
+ALTER TABLE heritages DROP COLUMN IF EXISTS is_exhibited;
+DROP TABLE IF EXISTS museum_designation_codes;
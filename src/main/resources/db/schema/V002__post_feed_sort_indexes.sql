@@ -0,0 +1,5 @@
+-- 게시글 피드 커서 조회(/posts/feed, 목록 정렬)용 (정렬 키, id) 복합 인덱스 (Post)
+CREATE INDEX IF NOT EXISTS idx_posts_created_at_id ON posts (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_posts_view_count_id ON posts (view_count, id);
+CREATE INDEX IF NOT EXISTS idx_posts_like_count_id ON posts (like_count, id);
+CREATE INDEX IF NOT EXISTS idx_posts_comment_count_id ON posts (comment_count, id);
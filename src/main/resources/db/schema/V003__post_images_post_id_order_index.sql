@@ -0,0 +1,2 @@
+-- 목록 썸네일(order_index = 0)/이미지 수 스칼라 서브쿼리용 (PostImage)
+CREATE INDEX IF NOT EXISTS idx_post_images_post_id_order ON post_images (post_id, order_index);
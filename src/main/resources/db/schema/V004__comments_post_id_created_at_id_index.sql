@@ -0,0 +1,2 @@
+-- 댓글 커서 페이지: post_id 로 좁힌 뒤 (created_at, id) 순서대로 읽음 (Comment)
+CREATE INDEX IF NOT EXISTS idx_comments_post_id_created_at_id ON comments (post_id, created_at, id);
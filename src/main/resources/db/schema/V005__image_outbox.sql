@@ -0,0 +1,13 @@
+-- 게시글 이미지 업로드 outbox (ImageOutbox) - 행은 ImageOutboxRepository(SQL)로만 다룬다
+CREATE TABLE IF NOT EXISTS image_outbox (
+  id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  staging_key TEXT         NOT NULL,
+  final_key   TEXT         NOT NULL,
+  status      VARCHAR(16)  NOT NULL,
+  post_id     BIGINT,
+  user_id     BIGINT,
+  created_at  TIMESTAMP(6) NOT NULL
+);
+
+-- 정리 작업(ImageOutboxWorker): 상태별로 오래된 행부터
+CREATE INDEX IF NOT EXISTS idx_image_outbox_status_created_at ON image_outbox (status, created_at);
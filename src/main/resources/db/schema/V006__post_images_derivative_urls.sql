@@ -0,0 +1,3 @@
+-- 게시글 이미지 파생본 URL (PostImage) - 파생본 도입 전 행은 null 로 남아 원본 url 을 그대로 쓴다
+ALTER TABLE post_images ADD COLUMN IF NOT EXISTS thumbnail_url TEXT;
+ALTER TABLE post_images ADD COLUMN IF NOT EXISTS detail_url TEXT;
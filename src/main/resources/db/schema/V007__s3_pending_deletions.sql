@@ -0,0 +1,11 @@
+-- 삭제 대기 중인 S3 객체 (PendingS3Deletion) - 행은 PendingS3DeletionRepository(SQL)로만 다룬다
+CREATE TABLE IF NOT EXISTS s3_pending_deletions (
+  id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  object_key      TEXT         NOT NULL,
+  attempts        INTEGER      NOT NULL,
+  next_attempt_at TIMESTAMP(6) NOT NULL,
+  created_at      TIMESTAMP(6) NOT NULL
+);
+
+-- 삭제 작업(S3DeletionQueue): 시도할 때가 된 행부터
+CREATE INDEX IF NOT EXISTS idx_s3_pending_deletions_next_attempt_at ON s3_pending_deletions (next_attempt_at);
@@ -0,0 +1,13 @@
+-- AI 응답 캐시 (AiResponseCacheEntry) - 행은 AiResponseCacheRepository(SQL)로만 다룬다
+CREATE TABLE IF NOT EXISTS ai_response_cache (
+  cache_key    VARCHAR(64)  PRIMARY KEY,
+  type         VARCHAR(16)  NOT NULL,
+  content      TEXT,
+  action_name  TEXT,
+  action_speak TEXT,
+  expires_at   TIMESTAMP(6) NOT NULL,
+  created_at   TIMESTAMP(6) NOT NULL
+);
+
+-- 만료 행 정리
+CREATE INDEX IF NOT EXISTS idx_ai_response_cache_expires_at ON ai_response_cache (expires_at);
@@ -4,6 +4,9 @@ let currentType = 'all';
 const gMarkers = [];
 const gInfoWindows = [];
 let allData = [];
+let serverClusters = []; // 서버 클러스터(/map/clusters) 결과
+let serverSingles = null; // 클러스터 응답일 때 묶이지 않은 개별 마커 (지도용, 목록은 allData)
+const MAX_SERVER_CLUSTER_ZOOM = 14; // MarkerClusterer.MAX_CLUSTER_ZOOM 과 같게 (초과면 서버가 묶지 않음)
 let clusterer = null;
 let searchMode = false; // ← 검색 결과 화면인지 여부
 
@@ -191,6 +194,17 @@ async function fetchSearchResults(q, type = currentType, limit = 30) {
   return res.json(); // MapMarkerDto[]
 }
 
+// 자동완성
+async function fetchSuggestions(q, limit = 10) {
+  const url = new URL('/map/suggest', window.location.origin);
+  url.searchParams.set('q', q);
+  url.searchParams.set('limit', String(Math.min(Math.max(limit, 1), 20))); // 1~20 클램프
+
+  const res = await fetch(url.toString(), { headers: { Accept: 'application/json' } });
+  if (!res.ok) throw new Error('자동완성 요청 실패: ' + res.status);
+  return res.json(); // SuggestionDto[]
+}
+
 // ------- Legacy endpoint loader (현재는 안 씀, 보관) -------
 async function loadMarkers(params = {}){
   const endpoint = document.querySelector('.map-root').dataset.endpoint || '/map';
@@ -204,12 +218,14 @@ async function loadMarkers(params = {}){
   if (!res.ok){ console.error('마커 로드 실패', res.status); return; }
 
   allData = await res.json();
+  serverClusters = [];
+  serverSingles = null;
   renderMarkers(allData);
   renderList(allData);
 }
 
 // ------- Markers / List -------
-function renderMarkers(list){
+function renderMarkers(list, { clientCluster = true } = {}){
   // === [NEW] 좌표 기준 그룹핑 유틸 ===
   function groupByPosition(items, precision = 6){
     const map = new Map();
@@ -296,7 +312,8 @@ function renderMarkers(list){
   // (1) 튜닝: 포인트 50개 이하이면 클러스터러 비활성화
   //  ※ 그룹핑 후 개수 기준으로 판단해야 하므로 list.length 대신 groups.length 사용
   const groups = groupByPosition(list, 6); // ← 좌표 소수 6자리로 묶기
-  const useClusterer = Boolean(window.markerClusterer?.MarkerClusterer) && groups.length > 50;
+  const useClusterer = clientCluster
+    && Boolean(window.markerClusterer?.MarkerClusterer) && groups.length > 50;
 
   groups.forEach(group => {
     const pos = group.pos;
@@ -465,6 +482,44 @@ function renderMarkers(list){
   }
 }
 
+// ------- Server clusters -------
+function renderServerClusters(clusters){
+  const MarkerCtor = GMap.Marker || google.maps.Marker;
+
+  clusters.forEach(c => {
+    const size = c.count <= 10 ? 22 : (c.count <= 100 ? 26 : 32);
+    // 박물관이 과반이면 파랑, 아니면 빨강
+    const bg = getTypeColor(c.museumCount * 2 > c.count ? 'museum' : 'heritage');
+
+    const mk = new MarkerCtor({
+      position: { lat: c.lat, lng: c.lng },
+      map,
+      title: `박물관 ${c.museumCount} · 문화재 ${c.heritageCount}`,
+      icon: {
+        path: google.maps.SymbolPath.CIRCLE,
+        scale: size / 2,
+        fillColor: bg,
+        fillOpacity: 0.85,
+        strokeColor: '#ffffff',
+        strokeWeight: 2,
+      },
+      label: { text: String(c.count), color: '#fff', fontSize: '11px', fontWeight: '700' },
+      zIndex: c.count,
+    });
+
+    // 클릭하면 소속 마커 영역으로 확대 (idle 에서 재조회)
+    mk.addListener('click', () => {
+      const bounds = new google.maps.LatLngBounds(
+        { lat: c.south, lng: c.west },
+        { lat: c.north, lng: c.east }
+      );
+      map.fitBounds(bounds, 80);
+    });
+
+    gMarkers.push(mk);
+  });
+}
+
 function renderList(list){
   const $list = document.getElementById('list'); if (!$list) return;
   $list.innerHTML = '';
@@ -627,6 +682,8 @@ function wireSearch(){
       // 검색 결과가 있을 때만 검색모드 전환 및 렌더
       searchMode = true;
       allData = list;
+      serverClusters = [];
+      serverSingles = null;
       const filtered = (window.__sidebar?.updateSidebar)
         ? window.__sidebar.updateSidebar(list)
         : list;
@@ -661,8 +718,31 @@ function wireSearch(){
 
   const run = smartDebounce(executeSearch, 300);
 
+  // 자동완성: 입력이 잠시 멈추면 제안 목록(datalist) 갱신
+  const $suggest = document.getElementById('searchSuggestions');
+  const updateSuggestions = async () => {
+    if (!$suggest) return;
+    const query = $q.value.trim();
+    if (!query) { $suggest.replaceChildren(); return; }
+    try {
+      const items = await fetchSuggestions(query, 10);
+      if ($q.value.trim() !== query) return; // 레이스 가드
+      $suggest.replaceChildren(...items.map(it => {
+        const opt = document.createElement('option');
+        opt.value = it.text;
+        return opt;
+      }));
+    } catch (e) {
+      console.warn(e);
+    }
+  };
+  const suggest = smartDebounce(updateSuggestions, 150);
+
   // 타이핑 중엔 조용히(silent) 검색: 알림/뷰 복귀/오토핏 없음
-  $q.addEventListener('input', () => run({ notify: false, autoFit: false }));
+  $q.addEventListener('input', () => {
+    suggest();
+    run({ notify: false, autoFit: false });
+  });
 
   // 엔터키 → 즉시 실행 + 안내/오토핏
   $q.addEventListener('keydown', (e) => {
@@ -760,6 +840,8 @@ async function initMap(){
       $q.setAttribute('aria-busy', 'true');
       const list = await fetchSearchResults(query, currentType, 50);
       allData = list;
+      serverClusters = [];
+      serverSingles = null;
       const filtered = (window.__sidebar?.updateSidebar)
         ? window.__sidebar.updateSidebar(list)
         : list;
@@ -806,7 +888,8 @@ window.__requestSidebarRerender = function () {
   const filtered = (window.__sidebar?.updateSidebar)
     ? window.__sidebar.updateSidebar(allData)
     : allData;
-  renderMarkers(filtered);
+  renderMarkers(serverSingles ?? filtered, { clientCluster: serverSingles === null });
+  renderServerClusters(serverClusters);
   renderList(filtered);
 };
 
@@ -854,8 +937,10 @@ async function fetchByViewport() {
   if (aborter) aborter.abort();
   aborter = new AbortController();
 
-  const url = new URL('/map/points', window.location.origin);
+  // 낮은 줌에서는 서버가 클러스터로 묶어서 내려준다 (높은 줌이면 개별 마커만)
+  const url = new URL('/map/clusters', window.location.origin);
   url.searchParams.set('bbox', reqStr);
+  url.searchParams.set('zoom', String(Math.round(map.getZoom())));
   url.searchParams.set('type', currentType); // 'all' | 'heritage' | 'museum'
   url.searchParams.set('limit', 250);
 
@@ -868,23 +953,37 @@ async function fetchByViewport() {
     desi.forEach(d => url.searchParams.append('designations', d)); // 종목 코드
   }
 
-  try {
-    const res = await fetch(url, {
-      signal: aborter.signal,
-      headers: { Accept: 'application/json' }
-    });
+  // 목록 패널/사이드바 개수는 클러스터에 묶인 지점까지 보여줘야 하므로 개별 지점(/map/points)을 함께 받는다
+  const pointsUrl = new URL(url);
+  pointsUrl.pathname = '/map/points';
+  pointsUrl.searchParams.delete('zoom');
 
-    if (!res.ok) {
-      console.warn('지점 로드 실패 (HTTP ' + res.status + ')');
+  try {
+    const headers = { Accept: 'application/json' };
+    // 서버가 클러스터로 묶지 않는 줌이면 개별 지점만 받으면 된다
+    const clusterZoom = Math.round(map.getZoom()) <= MAX_SERVER_CLUSTER_ZOOM;
+    const [res, pointsRes] = await Promise.all([
+      clusterZoom ? fetch(url, { signal: aborter.signal, headers }) : null,
+      fetch(pointsUrl, { signal: aborter.signal, headers })
+    ]);
+
+    const failed = [res, pointsRes].find(r => r && !r.ok);
+    if (failed) {
+      console.warn('지점 로드 실패 (HTTP ' + failed.status + ')');
       return;
     }
 
-    const list = await res.json();
+    const data = res ? await res.json() : { clustered: false }; // MapClusterResponseDto
+    const list = await pointsRes.json();
     allData = list;
+    serverClusters = data.clustered ? (data.clusters || []) : [];
+    serverSingles = data.clustered ? (data.markers || []) : null;
     const filtered = (window.__sidebar?.updateSidebar)
       ? window.__sidebar.updateSidebar(list)
       : list;
-    renderMarkers(filtered);
+    // 클러스터 응답이면 지도에는 서버 클러스터 + 묶이지 않은 마커만 그린다
+    renderMarkers(serverSingles ?? filtered, { clientCluster: serverSingles === null });
+    renderServerClusters(serverClusters);
     renderList(filtered);
 
   } catch (e) {
@@ -80,6 +80,8 @@ async function panToMyLocation(){
     }
 
     allData = list;
+    serverClusters = [];
+    serverSingles = null;
     const filtered = (window.__sidebar?.updateSidebar)
       ? window.__sidebar.updateSidebar(list)
       : list;
@@ -235,6 +235,90 @@
     tx.scrollIntoView({behavior: 'smooth', block: 'center'});
   }
 
+  // 댓글 더보기 (모달 내용이 교체되어도 동작하도록 document 에 위임)
+  document.addEventListener('click', (e) => {
+    const btn = e.target.closest('.comments-more');
+    if (btn) {
+      loadMoreComments(btn);
+    }
+  });
+
+  /**
+   * 다음 댓글 페이지를 불러와 목록 끝에 이어 붙입니다.
+   * 
+   * @description
+   * - 버튼의 data-cursor(이전 페이지 마지막 댓글)로 /posts/{id}/comments 를 조회
+   * - 마지막 페이지면 버튼을 제거하고, 아니면 다음 커서로 갱신
+   */
+  async function loadMoreComments(btn) {
+    if (btn.disabled) return;
+    btn.disabled = true;
+    try {
+      const params = new URLSearchParams({cursor: btn.dataset.cursor});
+      const response = await fetch(`/posts/${btn.dataset.postId}/comments?${params}`);
+      if (!response.ok) {
+        throw new Error(`댓글 조회 실패: ${response.status}`);
+      }
+      const page = await response.json();
+      const fmt = (await import('/common/js/utils/time_util.js')).formatRelativeTime;
+      page.comments.forEach(c => btn.before(createCommentItem(c, fmt)));
+      if (page.hasNext) {
+        btn.dataset.cursor = page.nextCursor;
+        btn.disabled = false;
+      } else {
+        btn.remove();
+      }
+    } catch (error) {
+      console.error('댓글 더보기 오류:', error);
+      btn.disabled = false;
+      showToastMessage('error', '댓글을 불러오지 못했습니다.');
+    }
+  }
+
+  /**
+   * 댓글 API 응답 한 건으로 상세 템플릿과 같은 구조의 댓글 요소를 만듭니다.
+   */
+  function createCommentItem(c, fmt) {
+    const item = document.createElement('div');
+    item.className = 'comment-item';
+
+    const avatar = document.createElement('div');
+    avatar.className = 'c-avatar';
+    if (c.userProfileImage) {
+      const img = document.createElement('img');
+      img.src = c.userProfileImage;
+      img.alt = c.userNickname;
+      avatar.appendChild(img);
+    } else {
+      const fallback = document.createElement('div');
+      fallback.className = 'avatar-fallback';
+      fallback.textContent = (c.userNickname || 'U').substring(0, 1);
+      avatar.appendChild(fallback);
+    }
+
+    const body = document.createElement('div');
+    body.className = 'c-body';
+    const head = document.createElement('div');
+    head.className = 'c-head';
+    const name = document.createElement('span');
+    name.className = 'c-name';
+    name.textContent = c.userNickname;
+    const time = document.createElement('time');
+    time.className = 'c-time relative-time';
+    time.dateTime = c.createdAt;
+    time.dataset.time = c.createdAt;
+    time.textContent = fmt(new Date(c.createdAt));
+    head.append(name, time);
+
+    const text = document.createElement('p');
+    text.className = 'c-text';
+    text.textContent = c.content; // textContent로 XSS 방지
+    body.append(head, text);
+
+    item.append(avatar, body);
+    return item;
+  }
+
   // 상대 시간
   /**
    * 상대 시간 표시를 초기화합니다.
@@ -662,16 +746,15 @@
    */
   function updatePostListCommentCount(postId) {
     try {
-      // 현재 모달의 댓글 개수 가져오기
+      // 현재 모달의 댓글 개수 가져오기 (목록은 첫 페이지만 있으므로 통계 영역의 댓글 수 사용)
       const modal = document.getElementById('postDetailModal');
       if (!modal) return;
       
-      const commentsList = modal.querySelector('.comments-list');
-      if (!commentsList) return;
-      
-      // 실제 댓글 아이템 개수 세기 (.no-comments 제외)
-      const commentItems = commentsList.querySelectorAll('.comment-item');
-      const newCommentCount = commentItems.length;
+      const commentStat = Array.from(modal.querySelectorAll('.stats .stat')).find(stat =>
+        stat.textContent.includes('댓글')
+      );
+      const newCommentCount = commentStat?.querySelector('b')?.textContent;
+      if (newCommentCount == null) return;
       
       // 게시글 리스트에서 해당 카드 찾기
       const postCards = document.querySelectorAll(`.post-card[data-post-id="${postId}"]`);
@@ -21,7 +21,8 @@ export default function initPostModal() {
   const comments = createComments({ ...state, renderDetail });
 
   function renderDetail(data) {
-    const commentCount = Array.isArray(data.comments) ? data.comments.length : data.commentCount ?? 0;
+    // 댓글은 첫 페이지만 내려오므로 서버의 댓글 수 사용
+    const commentCount = data.commentCount ?? (Array.isArray(data.comments) ? data.comments.length : 0);
     const newData = { ...data, commentCount };
 
     core.clearDetail();
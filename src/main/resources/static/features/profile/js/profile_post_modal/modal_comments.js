@@ -6,7 +6,8 @@ import { formatRelativeTime } from "/common/js/utils/time_util.js";
 export default function createComments(state) {
   const { modal, renderDetail } = state;
 
-  function renderComments({ comments = [], commentCount = 0 }) {
+  function renderComments(data) {
+    const { comments = [] } = data;
     const list = getEl("#commentList");
     const noCommentsHint = getEl("#noCommentsHint");
     list.innerHTML = "";
@@ -18,56 +19,89 @@ export default function createComments(state) {
       noCommentsHint.classList.add("hidden");
     }
 
-    comments.forEach((c) => {
-      const item = document.createElement("div");
-      item.className = "comment-item";
+    comments.forEach((c) => list.appendChild(createCommentItem(c)));
+    if (data.hasMoreComments) {
+      list.appendChild(createMoreButton(data));
+    }
+  }
 
-      // 아바타
-      const avatarDiv = document.createElement("div");
-      avatarDiv.className = "comment-avatar";
-      avatarDiv.dataset.userId = c.userId;
-      const avatarImg = document.createElement("img");
-      avatarImg.src = c.userProfileImage || `/images/profile/profile${(c.userId % 4) + 1}.png`;
-      avatarImg.alt = c.userNickname;
-      avatarDiv.appendChild(avatarImg);
+  // 다음 댓글 페이지를 불러와 이어 붙임 (data 도 함께 갱신해 다시 그려도 유지)
+  function createMoreButton(data) {
+    const btn = document.createElement("button");
+    btn.type = "button";
+    btn.className = "comments-more";
+    btn.textContent = "댓글 더보기";
+    btn.addEventListener("click", async () => {
+      btn.disabled = true;
+      try {
+        const params = new URLSearchParams({ cursor: data.commentsNextCursor });
+        const page = await getJSON(`/profile/${getUserIdFromUrl()}/posts/${modal.dataset.postId}/comments?${params}`);
+        page.comments.forEach((c) => btn.before(createCommentItem(c)));
+        data.comments = [...data.comments, ...page.comments];
+        data.commentsNextCursor = page.nextCursor;
+        data.hasMoreComments = page.hasNext;
+        if (page.hasNext) {
+          btn.disabled = false;
+        } else {
+          btn.remove();
+        }
+      } catch (err) {
+        console.error("댓글 더보기 실패:", err);
+        btn.disabled = false;
+      }
+    });
+    return btn;
+  }
 
-      // 내용
-      const contentDiv = document.createElement("div");
-      contentDiv.className = "comment-content";
+  function createCommentItem(c) {
+    const item = document.createElement("div");
+    item.className = "comment-item";
 
-      const headDiv = document.createElement("div");
-      headDiv.className = "comment-head";
+    // 아바타
+    const avatarDiv = document.createElement("div");
+    avatarDiv.className = "comment-avatar";
+    avatarDiv.dataset.userId = c.userId;
+    const avatarImg = document.createElement("img");
+    avatarImg.src = c.userProfileImage || `/images/profile/profile${(c.userId % 4) + 1}.png`;
+    avatarImg.alt = c.userNickname;
+    avatarDiv.appendChild(avatarImg);
 
-      const nameSpan = document.createElement("span");
-      nameSpan.className = "comment-name";
-      nameSpan.dataset.userId = c.userId;
-      nameSpan.textContent = c.userNickname;
+    // 내용
+    const contentDiv = document.createElement("div");
+    contentDiv.className = "comment-content";
 
-      const timeSpan = document.createElement("span");
-      timeSpan.className = "comment-time";
-      timeSpan.textContent = formatRelativeTime(c.createdAt);
+    const headDiv = document.createElement("div");
+    headDiv.className = "comment-head";
 
-      headDiv.append(nameSpan, timeSpan);
+    const nameSpan = document.createElement("span");
+    nameSpan.className = "comment-name";
+    nameSpan.dataset.userId = c.userId;
+    nameSpan.textContent = c.userNickname;
 
-      const textP = document.createElement("p");
-      textP.className = "comment-text";
-      textP.textContent = c.content; // textContent로 XSS 방지
+    const timeSpan = document.createElement("span");
+    timeSpan.className = "comment-time";
+    timeSpan.textContent = formatRelativeTime(c.createdAt);
 
-      contentDiv.append(headDiv, textP);
+    headDiv.append(nameSpan, timeSpan);
 
-      // 조립
-      item.append(avatarDiv, contentDiv);
+    const textP = document.createElement("p");
+    textP.className = "comment-text";
+    textP.textContent = c.content; // textContent로 XSS 방지
 
-      // 프로필 이동 이벤트
-      item.querySelectorAll("[data-user-id]").forEach((el) => {
-        el.addEventListener("click", () => {
-          const uid = el.getAttribute("data-user-id");
-          if (uid) window.location.href = `/profile/${uid}`;
-        });
-      });
+    contentDiv.append(headDiv, textP);
+
+    // 조립
+    item.append(avatarDiv, contentDiv);
 
-      list.appendChild(item);
+    // 프로필 이동 이벤트
+    item.querySelectorAll("[data-user-id]").forEach((el) => {
+      el.addEventListener("click", () => {
+        const uid = el.getAttribute("data-user-id");
+        if (uid) window.location.href = `/profile/${uid}`;
+      });
     });
+
+    return item;
   }
 
   function bindCommentForm(data) {
@@ -96,11 +130,13 @@ export default function createComments(state) {
       submitBtn.disabled = true;
       submitBtn.textContent = "등록 중...";
       try {
-        await postJSON(`/profile/${getUserIdFromUrl()}/posts/${modal.dataset.postId}/comments`, { content });
+        const comment = await postJSON(`/profile/${getUserIdFromUrl()}/posts/${modal.dataset.postId}/comments`, { content });
         ta.value = "";
         countEl.textContent = "0";
-        const comments = await getJSON(`/profile/${getUserIdFromUrl()}/posts/${modal.dataset.postId}/comments`);
-        renderDetail({ ...data, comments });
+        // 목록 전체를 다시 받지 않고 새 댓글만 이어 붙임
+        // (아직 안 불러온 페이지가 있으면 새 댓글은 그 뒤에 오므로 수만 올림)
+        const comments = data.hasMoreComments ? data.comments || [] : [...(data.comments || []), comment];
+        renderDetail({ ...data, comments, commentCount: (data.commentCount ?? 0) + 1 });
       } catch (err) {
         console.error("댓글 작성 실패:", err);
       } finally {
@@ -13,7 +13,7 @@ export default function createGallery(state) {
     thumbContainer.innerHTML = "";
     images.forEach((img, i) => {
       const thumb = document.createElement("img");
-      thumb.src = img.url;
+      thumb.src = img.thumbnailUrl || img.url;
       thumb.alt = `${i + 1}번 이미지`;
       thumb.loading = "lazy";
       thumb.classList.toggle("active", i === currentIndex);
@@ -29,7 +29,7 @@ export default function createGallery(state) {
     if (!imageList.length) return;
     const mainImg = getEl("#mainImage");
     const img = imageList[currentIndex];
-    mainImg.src = img.url;
+    mainImg.src = img.detailUrl || img.url;
     mainImg.alt = `${currentIndex + 1}번 이미지`;
     getEls("#thumbContainer img", modal).forEach((thumb, i) => {
       thumb.classList.toggle("active", i === currentIndex);
@@ -18,20 +18,21 @@ export const AI = {
     const res = await U.postJson(`/heritage/${heritageId}/ai/reset`, payload);
     if (!res.ok) throw new Error(`reset HTTP ${res.status}`);
   },
-  async fetchContent(heritageId, selector, type, code, base) {
+  // refresh: 새로고침 버튼 - 서버 캐시를 쓰지 않고 새로 요청
+  async fetchContent(heritageId, selector, type, code, base, refresh = false) {
     const btnSelector = `.ai-refresh[data-type="${type}"]`;
     UI.setLoading(selector, btnSelector);
     const start = performance.now();
     try {
       let json;
       try {
-        json = await AI.ask(heritageId, { type, code, ...base });
+        json = await AI.ask(heritageId, { type, code, refresh, ...base });
       } catch (e) {
         if (e && e.status === 429) {
           console.warn(`429 for code=${code}, blacklist & retry`);
           KeyRR.block(code);
           const retryCode = KeyRR.next();
-          json = await AI.ask(heritageId, { type, code: retryCode, ...base });
+          json = await AI.ask(heritageId, { type, code: retryCode, refresh, ...base });
         } else {
           throw e;
         }
@@ -69,7 +69,7 @@ export const App = {
         } catch (e) {
           console.warn("⚠️ reset 실패(계속 진행):", e.message);
         }
-        await AI.fetchContent(heritageId, selector, type, code, base);
+        await AI.fetchContent(heritageId, selector, type, code, base, true);
       });
     });
   },
@@ -0,0 +1,40 @@
+package org.hh.heritagehunters.common.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hh.heritagehunters.domain.oauth.service.CustomUserDetailsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = CsrfTokenController.class)
+@AutoConfigureMockMvc(addFilters = false) // 보안 필터 off - CsrfFilter 대신 요청 속성으로 토큰 전달
+class CsrfTokenControllerTest {
+
+  @Autowired
+  MockMvc mockMvc;
+
+  // CurrentUserAdvice가 주입받는 빈을 목으로 제공해 컨텍스트 로딩 오류 방지
+  @MockitoBean
+  CustomUserDetailsService customUserDetailsService;
+
+  @Test
+  @DisplayName("GET /csrf: 현재 세션 토큰의 헤더 이름/파라미터 이름/값을 돌려준다")
+  void csrfToken() throws Exception {
+    CsrfToken token = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "token-value");
+
+    mockMvc.perform(get("/csrf").requestAttr(CsrfToken.class.getName(), token))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.headerName").value("X-CSRF-TOKEN"))
+        .andExpect(jsonPath("$.parameterName").value("_csrf"))
+        .andExpect(jsonPath("$.token").value("token-value"));
+  }
+}
@@ -1,5 +1,6 @@
 package org.hh.heritagehunters.domain.map.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
 import org.hh.heritagehunters.domain.map.service.MapService;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -48,8 +50,8 @@ class MapControllerTest {
   @DisplayName("JSON: 단일 designation/region/era 파라미터 위임")
   void map_json_singleFilters() throws Exception {
     var dto = new MapMarkerDto(10L, "heritage", "숭례문", 37.56, 126.97, "서울특별시", "국보", 0.0);
-    given(mapService.getMarkers(eq("heritage"), anyList(), anyList(), anyList()))
-        .willReturn(List.of(dto));
+    given(mapService.getMarkersJson(eq("heritage"), anyList(), anyList(), anyList()))
+        .willReturn(new ObjectMapper().writeValueAsBytes(List.of(dto)));
 
     mockMvc.perform(get("/map")
             .accept(MediaType.APPLICATION_JSON)
@@ -65,7 +67,7 @@ class MapControllerTest {
     ArgumentCaptor<List<String>> dCap = ArgumentCaptor.forClass(List.class);
     ArgumentCaptor<List<String>> rCap = ArgumentCaptor.forClass(List.class);
     ArgumentCaptor<List<String>> eCap = ArgumentCaptor.forClass(List.class);
-    verify(mapService).getMarkers(eq("heritage"), dCap.capture(), rCap.capture(), eCap.capture());
+    verify(mapService).getMarkersJson(eq("heritage"), dCap.capture(), rCap.capture(), eCap.capture());
 
     assertThat(dCap.getValue()).containsExactly("국보");
     assertThat(rCap.getValue()).containsExactly("서울특별시");
@@ -76,13 +78,33 @@ class MapControllerTest {
   @Test
   @DisplayName("JSON: 파라미터 없으면 all/null 위임")
   void map_json_noParams_callsAll() throws Exception {
-    given(mapService.getMarkers(eq("all"), isNull(), isNull(), isNull()))
-        .willReturn(List.of());
+    given(mapService.getMarkersJson(eq("all"), isNull(), isNull(), isNull()))
+        .willReturn("[]".getBytes());
 
     mockMvc.perform(get("/map").accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(content().json("[]"));
 
-    verify(mapService).getMarkers(eq("all"), isNull(), isNull(), isNull());
+    verify(mapService).getMarkersJson(eq("all"), isNull(), isNull(), isNull());
   }
-}
\ No newline at end of file
+
+  @WithMockUser
+  @Test
+  @DisplayName("JSON: 스냅샷 버전으로 ETag 를 붙이고, If-None-Match 가 같으면 본문 없이 304")
+  void map_json_etag_notModified() throws Exception {
+    given(mapService.snapshotVersion()).willReturn(7L);
+    given(mapService.getMarkersJson(eq("all"), isNull(), isNull(), isNull()))
+        .willReturn("[]".getBytes());
+
+    mockMvc.perform(get("/map").accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"map-v7\""));
+
+    mockMvc.perform(get("/map")
+            .accept(MediaType.APPLICATION_JSON)
+            .header("If-None-Match", "\"map-v7\""))
+        .andExpect(status().isNotModified());
+
+    verify(mapService, times(1)).getMarkersJson(eq("all"), isNull(), isNull(), isNull());
+  }
+}
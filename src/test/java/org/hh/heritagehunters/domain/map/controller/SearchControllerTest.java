@@ -1,7 +1,9 @@
 package org.hh.heritagehunters.domain.map.controller;
 
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.dto.SuggestionDto;
 import org.hh.heritagehunters.domain.map.service.SearchService;
+import org.hh.heritagehunters.domain.map.service.SuggestService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -30,6 +32,9 @@ class SearchControllerTest {
   @MockitoBean
   SearchService searchService;
 
+  @MockitoBean
+  SuggestService suggestService;
+
   // 시큐리티 의존 목
   @MockitoBean
   org.hh.heritagehunters.domain.oauth.service.CustomUserDetailsService customUserDetailsService;
@@ -105,4 +110,26 @@ class SearchControllerTest {
 
     verify(searchService).search("창경궁", "all", 20);
   }
+
+  @WithMockUser
+  @Test
+  @DisplayName("자동완성: q, limit 전달 → 제안 목록 반환, limit 범위(1~20) 밖이면 400")
+  void suggest_ok_and_limit_checked() throws Exception {
+    given(suggestService.suggest("ㄱㅂ", 5))
+        .willReturn(List.of(new SuggestionDto("경복궁", "heritage", 1L, 12)));
+
+    mockMvc.perform(get("/map/suggest")
+            .param("q", "ㄱㅂ")
+            .param("limit", "5")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].text").value("경복궁"))
+        .andExpect(jsonPath("$[0].popularity").value(12));
+
+    mockMvc.perform(get("/map/suggest")
+            .param("q", "경")
+            .param("limit", "21")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+  }
 }
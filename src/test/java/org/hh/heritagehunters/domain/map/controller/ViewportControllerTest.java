@@ -1,6 +1,10 @@
 package org.hh.heritagehunters.domain.map.controller;
 
+import org.hh.heritagehunters.domain.map.dto.MapClusterDto;
+import org.hh.heritagehunters.domain.map.dto.MapClusterResponseDto;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.dto.MarkerChangesDto;
+import org.hh.heritagehunters.domain.map.index.NearbyCursor;
 import org.hh.heritagehunters.domain.map.service.ViewportService;
 import org.hh.heritagehunters.domain.oauth.service.CustomUserDetailsService;
 import org.junit.jupiter.api.DisplayName;
@@ -49,6 +53,7 @@ class ViewportControllerTest {
         .andExpect(content().json("[]"));
 
     verify(service).fetch(eq("33,125,39,132"), eq(2000), eq("all"), isNull(), isNull());
+    verify(service).markerVersion();
     verifyNoMoreInteractions(service);
   }
 
@@ -79,6 +84,7 @@ class ViewportControllerTest {
 
     verify(service).fetch(eq("33,125,39,132"), eq(10), eq("heritage"),
         eq(List.of("역사", "미술")), eq(List.of("국보")));
+    verify(service).markerVersion();
     verifyNoMoreInteractions(service);
   }
 
@@ -91,12 +97,80 @@ class ViewportControllerTest {
     verifyNoInteractions(service);
   }
 
+  @Test
+  @DisplayName("GET /map/points: 데이터셋 버전으로 ETag/X-Marker-Version 을 붙이고, If-None-Match 가 같으면 304")
+  void points_etag_notModified() throws Exception {
+    when(service.markerVersion()).thenReturn(5L);
+    when(service.fetch(anyString(), anyInt(), anyString(), isNull(), isNull()))
+        .thenReturn(List.of());
+
+    mockMvc.perform(get("/map/points")
+            .param("bbox", "33,125,39,132"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"markers-v5\""))
+        .andExpect(header().string(ViewportController.MARKER_VERSION_HEADER, "5"));
+
+    mockMvc.perform(get("/map/points")
+            .param("bbox", "33,125,39,132")
+            .header("If-None-Match", "\"markers-v5\""))
+        .andExpect(status().isNotModified());
+
+    verify(service, times(1)).fetch(anyString(), anyInt(), anyString(), isNull(), isNull());
+  }
+
+  // ---------- /map/markers/changes ----------
+
+  @Test
+  @DisplayName("GET /map/markers/changes: since 버전을 서비스로 전달하고 변경분 JSON 반환")
+  void changes_ok() throws Exception {
+    when(service.changes(3L)).thenReturn(new MarkerChangesDto(3L, 4L, false,
+        List.of(new MapMarkerDto(9L, "heritage", "석굴암", 35.79, 129.35, "경주", "국보", 0.0)),
+        List.of(), List.of("museum:2")));
+
+    mockMvc.perform(get("/map/markers/changes").param("since", "3"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.version", is(4)))
+        .andExpect(jsonPath("$.reset", is(false)))
+        .andExpect(jsonPath("$.added[0].id", is(9)))
+        .andExpect(jsonPath("$.removed[0]", is("museum:2")));
+  }
+
+  // ---------- /map/clusters ----------
+
+  @Test
+  @DisplayName("GET /map/clusters: zoom/limit/type/필터를 전달하고 클러스터 JSON을 반환")
+  void clusters_passesParams_andJson() throws Exception {
+    MapClusterResponseDto result = new MapClusterResponseDto(7, true,
+        List.of(new MapClusterDto(37.57, 126.98, 3, 1, 2, 37.5, 126.9, 37.6, 127.0)),
+        List.of(new MapMarkerDto(4L, "heritage", "범어사", 35.28, 129.06, "부산", "사적", 0.0)));
+    when(service.clusters(anyString(), anyInt(), anyInt(), anyString(), anyList(), isNull()))
+        .thenReturn(result);
+
+    mockMvc.perform(get("/map/clusters")
+            .param("bbox", "33,125,39,132")
+            .param("zoom", "7")
+            .param("limit", "50000") // 컨트롤러에서 2000으로 클램프
+            .param("museumCats", "역사"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.zoom", is(7)))
+        .andExpect(jsonPath("$.clustered", is(true)))
+        .andExpect(jsonPath("$.clusters", hasSize(1)))
+        .andExpect(jsonPath("$.clusters[0].count", is(3)))
+        .andExpect(jsonPath("$.clusters[0].museumCount", is(1)))
+        .andExpect(jsonPath("$.markers[0].id", is(4)));
+
+    verify(service).clusters(eq("33,125,39,132"), eq(7), eq(2000), eq("all"),
+        eq(List.of("역사")), isNull());
+    verify(service).markerVersion();
+    verifyNoMoreInteractions(service);
+  }
+
   // ---------- /map/nearby ----------
 
   @Test
   @DisplayName("GET /map/nearby: radius는 [100,10000]으로, limit은 [1,500]으로 클램프되어 서비스로 전달")
   void nearby_clampsRadiusAndLimit_andCallsService() throws Exception {
-    when(service.nearby(anyDouble(), anyDouble(), anyDouble(), anyInt(), anyString()))
+    when(service.nearby(anyDouble(), anyDouble(), anyDouble(), anyInt(), anyString(), any()))
         .thenReturn(List.of());
 
     mockMvc.perform(get("/map/nearby")
@@ -109,7 +183,7 @@ class ViewportControllerTest {
         .andExpect(status().isOk())
         .andExpect(content().json("[]"));
 
-    verify(service).nearby(eq(37.5), eq(127.0), eq(10_000.0), eq(500), eq("all"));
+    verify(service).nearby(eq(37.5), eq(127.0), eq(10_000.0), eq(500), eq("all"), isNull());
     verifyNoMoreInteractions(service);
   }
 
@@ -119,7 +193,7 @@ class ViewportControllerTest {
     List<MapMarkerDto> result = List.of(
         new MapMarkerDto(7L, "heritage", "불국사", 35.79, 129.33, "경주", "국보", 12.3)
     );
-    when(service.nearby(anyDouble(), anyDouble(), anyDouble(), anyInt(), anyString()))
+    when(service.nearby(anyDouble(), anyDouble(), anyDouble(), anyInt(), anyString(), any()))
         .thenReturn(result);
 
     mockMvc.perform(get("/map/nearby")
@@ -136,10 +210,31 @@ class ViewportControllerTest {
         .andExpect(jsonPath("$[0].name", is("불국사")))
         .andExpect(jsonPath("$[0].distanceMeters", is(12.3)));
 
-    verify(service).nearby(eq(37.56), eq(126.98), eq(1500.0), eq(50), eq("museum"));
+    verify(service).nearby(eq(37.56), eq(126.98), eq(1500.0), eq(50), eq("museum"), isNull());
     verifyNoMoreInteractions(service);
   }
 
+  @Test
+  @DisplayName("GET /map/nearby: cursor를 파싱해 서비스로 전달, 형식이 잘못되면 400")
+  void nearby_cursor() throws Exception {
+    when(service.nearby(anyDouble(), anyDouble(), anyDouble(), anyInt(), anyString(), any()))
+        .thenReturn(List.of());
+
+    mockMvc.perform(get("/map/nearby")
+            .param("lat", "37.56")
+            .param("lng", "126.98")
+            .param("cursor", "1250.5:heritage:42"))
+        .andExpect(status().isOk());
+    verify(service).nearby(eq(37.56), eq(126.98), eq(2000.0), eq(100), eq("all"),
+        eq(new NearbyCursor(1250.5, "heritage", 42L)));
+
+    mockMvc.perform(get("/map/nearby")
+            .param("lat", "37.56")
+            .param("lng", "126.98")
+            .param("cursor", "abc"))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @DisplayName("GET /map/nearby: lat 또는 lng가 NaN이면 IllegalArgumentException → 500")
   void nearby_nan_throws500() throws Exception {
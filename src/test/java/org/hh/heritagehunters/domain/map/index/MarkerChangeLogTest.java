@@ -0,0 +1,80 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.dto.MarkerChangesDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarkerChangeLogTest {
+
+  private static final MarkerRow MUSEUM = new MarkerRow(1L, "museum", "서울박물관", 37.57, 126.98, "서울", "역사", null);
+  private static final MarkerRow GYEONGBOK = new MarkerRow(1L, "heritage", "경복궁", 37.58, 126.97, "서울", "사적", "사적");
+  private static final MarkerRow BULGUKSA = new MarkerRow(2L, "heritage", "불국사", 35.79, 129.33, "경주", "국보", "국보");
+
+  private static MarkerIndex index(long version, MarkerRow... rows) {
+    return MarkerIndex.build(version, List.of(rows), Map.of());
+  }
+
+  private static List<String> keys(List<MapMarkerDto> markers) {
+    return markers.stream().map(MarkerChangeLog::key).toList();
+  }
+
+  @Test
+  @DisplayName("since: 한 단계의 추가/수정/삭제를 type:id 키로 구분")
+  void since_singleStep() {
+    MarkerChangeLog log = new MarkerChangeLog();
+    MarkerRow renamed = new MarkerRow(1L, "heritage", "경복궁(景福宮)", 37.58, 126.97, "서울", "사적", "사적");
+    log.record(index(1, MUSEUM, GYEONGBOK), index(2, renamed, BULGUKSA));
+
+    MarkerChangesDto out = log.since(1, 2);
+    assertThat(out.reset()).isFalse();
+    assertThat(keys(out.added())).containsExactly("heritage:2");
+    assertThat(keys(out.updated())).containsExactly("heritage:1");
+    assertThat(out.updated().get(0).name()).isEqualTo("경복궁(景福宮)");
+    assertThat(out.removed()).containsExactly("museum:1");
+  }
+
+  @Test
+  @DisplayName("since: 여러 단계를 합치면 추가 후 삭제는 사라지고, 삭제 후 재추가는 수정으로 보인다")
+  void since_mergesSteps() {
+    MarkerChangeLog log = new MarkerChangeLog();
+    MarkerIndex v1 = index(1, MUSEUM, GYEONGBOK);
+    MarkerIndex v2 = index(2, GYEONGBOK, BULGUKSA);
+    MarkerIndex v3 = index(3, MUSEUM, GYEONGBOK);
+    log.record(v1, v2);
+    log.record(v2, v3);
+
+    MarkerChangesDto out = log.since(1, 3);
+    assertThat(out.added()).isEmpty();
+    assertThat(keys(out.updated())).containsExactly("museum:1");
+    assertThat(out.removed()).isEmpty();
+
+    assertThat(log.since(2, 3).removed()).containsExactly("heritage:2");
+    assertThat(keys(log.since(2, 3).added())).containsExactly("museum:1");
+  }
+
+  @Test
+  @DisplayName("since: 같은 버전이면 빈 변경분, 이력에 없는 버전이면 reset")
+  void since_sameOrUnknownVersion() {
+    MarkerChangeLog log = new MarkerChangeLog();
+    log.record(null, index(1, MUSEUM));
+    assertThat(log.since(1, 1).reset()).isFalse();
+    assertThat(log.since(0, 1).reset()).isTrue();
+    assertThat(log.since(9, 1).reset()).isTrue();
+  }
+
+  @Test
+  @DisplayName("since: 이력 범위 안이라도 이 프로세스가 만든 버전이 아니면 reset (재시작 전/다른 인스턴스 버전)")
+  void since_foreignVersionInRange() {
+    MarkerChangeLog log = new MarkerChangeLog();
+    log.record(index(1_000, MUSEUM), index(2_000, MUSEUM, GYEONGBOK));
+    log.record(index(2_000, MUSEUM, GYEONGBOK), index(3_000, GYEONGBOK));
+
+    assertThat(log.since(1_500, 3_000).reset()).isTrue();
+    assertThat(log.since(2_000, 3_000).reset()).isFalse();
+  }
+}
@@ -0,0 +1,54 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.hh.heritagehunters.domain.map.dto.MapClusterDto;
+import org.hh.heritagehunters.domain.map.dto.MapClusterResponseDto;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarkerClustererTest {
+
+  private static MapMarkerDto marker(long id, String type, double lat, double lng) {
+    return new MapMarkerDto(id, type, "m" + id, lat, lng, "", "", 0.0);
+  }
+
+  private final List<MapMarkerDto> seoulAndBusan = List.of(
+      marker(1L, "museum", 37.570, 126.980),
+      marker(2L, "heritage", 37.572, 126.982),
+      marker(3L, "heritage", 37.574, 126.978),
+      marker(4L, "heritage", 35.100, 129.030)
+  );
+
+  @Test
+  @DisplayName("cluster: 낮은 줌에서 가까운 마커는 하나로 묶고 중심/개수/타입별 개수/영역을 계산")
+  void cluster_lowZoom() {
+    MapClusterResponseDto out = MarkerClusterer.cluster(seoulAndBusan, 7);
+
+    assertThat(out.clustered()).isTrue();
+    assertThat(out.clusters()).hasSize(1);
+    MapClusterDto c = out.clusters().get(0);
+    assertThat(c.count()).isEqualTo(3);
+    assertThat(c.museumCount()).isEqualTo(1);
+    assertThat(c.heritageCount()).isEqualTo(2);
+    assertThat(c.lat()).isCloseTo(37.572, org.assertj.core.data.Offset.offset(1e-9));
+    assertThat(c.south()).isEqualTo(37.570);
+    assertThat(c.north()).isEqualTo(37.574);
+    assertThat(c.west()).isEqualTo(126.978);
+    assertThat(c.east()).isEqualTo(126.982);
+
+    // 혼자 있는 부산 마커는 개별 마커로
+    assertThat(out.markers()).extracting(MapMarkerDto::id).containsExactly(4L);
+  }
+
+  @Test
+  @DisplayName("cluster: 줌이 높아지면 떨어진 마커는 더 이상 묶이지 않는다")
+  void cluster_highZoom() {
+    MapClusterResponseDto out = MarkerClusterer.cluster(seoulAndBusan, MarkerClusterer.MAX_CLUSTER_ZOOM);
+
+    assertThat(out.clusters()).isEmpty();
+    assertThat(out.markers()).extracting(MapMarkerDto::id).containsExactly(1L, 2L, 3L, 4L);
+  }
+}
@@ -0,0 +1,124 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarkerIndexTest {
+
+  private static MarkerIndex sample() {
+    return MarkerIndex.build(1L, List.of(
+        new MarkerRow(1L, "museum", "<b>서울박물관</b>", 37.57, 126.98, "서울", " 역사 ", null),
+        new MarkerRow(2L, "museum", "부산박물관", 35.10, 129.03, "부산", "미술", null),
+        new MarkerRow(10L, "heritage", "경복궁", 37.58, 126.97, "서울", "사적", "사적"),
+        new MarkerRow(11L, "heritage", "불국사", 35.79, 129.33, "경주", "국보", "국보|사적"),
+        new MarkerRow(12L, "heritage", "해운대", 35.16, 129.16, "부산", "", null)
+    ), Map.of(2L, List.of("보물 / 국보")));
+  }
+
+  @Test
+  @DisplayName("query: bbox 안의 마커만 박물관 → 문화재 순서로 반환, 문자열은 sanitize")
+  void query_bbox() {
+    List<MapMarkerDto> out = sample().query(37.0, 126.0, 38.0, 127.5, 100, "all", null, null);
+
+    assertThat(out).extracting(MapMarkerDto::id).containsExactly(1L, 10L);
+    assertThat(out.get(0).name()).doesNotContain("<b>");
+    assertThat(out.get(0).type()).isEqualTo("museum");
+  }
+
+  @Test
+  @DisplayName("query: type 필터와 limit 적용")
+  void query_typeAndLimit() {
+    MarkerIndex index = sample();
+
+    assertThat(index.query(33, 125, 39, 132, 100, "heritage", null, null))
+        .extracting(MapMarkerDto::id).containsExactly(10L, 11L, 12L);
+    assertThat(index.query(33, 125, 39, 132, 100, "museum", null, null))
+        .extracting(MapMarkerDto::id).containsExactly(1L, 2L);
+    assertThat(index.query(33, 125, 39, 132, 2, "all", null, null)).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("query: 박물관 카테고리는 trim 후 비교, 문화재는 영향 없음")
+  void query_museumCategory() {
+    List<MapMarkerDto> out = sample().query(33, 125, 39, 132, 100, "all", List.of("역사"), null);
+
+    assertThat(out).extracting(MapMarkerDto::id).containsExactly(1L, 10L, 11L, 12L);
+  }
+
+  @Test
+  @DisplayName("query: 종목 필터는 분리된 코드 기준, 박물관은 전시 문화재의 종목으로 매칭")
+  void query_designation() {
+    MarkerIndex index = sample();
+
+    assertThat(index.query(33, 125, 39, 132, 100, "all", null, List.of("사적")))
+        .extracting(MapMarkerDto::id).containsExactly(10L, 11L);
+    assertThat(index.query(33, 125, 39, 132, 100, "all", null, List.of("국보")))
+        .extracting(MapMarkerDto::id).containsExactly(2L, 11L);
+    assertThat(index.query(33, 125, 39, 132, 100, "all", null, List.of("없는종목"))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("빈 인덱스도 조회 가능")
+  void emptyIndex() {
+    MarkerIndex index = MarkerIndex.build(1L, List.of(), Map.of());
+
+    assertThat(index.size()).isZero();
+    assertThat(index.query(33, 125, 39, 132, 100, "all", null, null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("nearest: 반경 안의 마커를 가까운 순으로, type 필터와 k 적용, 거리값 채움")
+  void nearest_radiusTypeAndOrder() {
+    MarkerIndex index = sample();
+
+    List<MapMarkerDto> out = index.nearest(37.575, 126.975, 5_000, 10, "all", null);
+    assertThat(out).extracting(MapMarkerDto::id).containsExactly(10L, 1L);
+    assertThat(out.get(0).distanceMeters()).isGreaterThan(0).isLessThan(out.get(1).distanceMeters());
+
+    assertThat(index.nearest(35.12, 129.05, 20_000, 10, "heritage", null))
+        .extracting(MapMarkerDto::id).containsExactly(12L);
+    assertThat(index.nearest(35.12, 129.05, 20_000, 1, "all", null))
+        .extracting(MapMarkerDto::id).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("nearest: 무작위 점에서 전수 계산과 같은 결과, 커서로 이어 받은 페이지도 같은 순서")
+  void nearest_matchesBruteForce_andPagesByCursor() {
+    Random random = new Random(7);
+    List<MarkerRow> rows = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      rows.add(new MarkerRow(i % 50, i < 100 ? "museum" : "heritage", "m" + i,
+          37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4, "", "", null));
+    }
+    MarkerIndex index = MarkerIndex.build(1L, rows, Map.of());
+    double lat = 37.55, lng = 127.0, radius = 3_000;
+
+    List<MarkerRow> expected = rows.stream()
+        .filter(r -> GeoDistance.meters(lat, lng, r.lat(), r.lng()) <= radius)
+        .sorted(Comparator.<MarkerRow>comparingDouble(r -> GeoDistance.meters(lat, lng, r.lat(), r.lng()))
+            .thenComparing(r -> !r.isMuseum())
+            .thenComparingLong(MarkerRow::id))
+        .toList();
+
+    List<MapMarkerDto> paged = new ArrayList<>();
+    NearbyCursor cursor = null;
+    for (List<MapMarkerDto> page = index.nearest(lat, lng, radius, 37, "all", cursor);
+        !page.isEmpty();
+        page = index.nearest(lat, lng, radius, 37, "all", cursor)) {
+      paged.addAll(page);
+      cursor = NearbyCursor.after(page.get(page.size() - 1));
+    }
+
+    assertThat(expected).isNotEmpty();
+    assertThat(paged).extracting(MapMarkerDto::name)
+        .containsExactlyElementsOf(expected.stream().map(MarkerRow::name).toList());
+  }
+}
@@ -0,0 +1,54 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarkerSearchIndexTest {
+
+  private static final List<MarkerRow> ROWS = List.of(
+      new MarkerRow(1L, "museum", "국립중앙박물관", 37.52, 126.98, "서울 용산구", "역사", null),
+      new MarkerRow(2L, "museum", "경복궁 민속박물관", 37.58, 126.97, "서울 종로구", "민속", null),
+      new MarkerRow(10L, "heritage", "경복궁", 37.579, 126.977, "서울 종로구", "사적", "사적", "조선"),
+      new MarkerRow(11L, "heritage", "불국사", 35.79, 129.33, "경북 경주시", "국보", "국보", "통일신라")
+  );
+
+  private final MarkerSearchIndex search =
+      MarkerSearchIndex.build(MarkerIndex.build(1L, ROWS, Map.of()), ROWS);
+
+  private List<Long> ids(String q, String type) {
+    return search.search(q, type, 10).stream().map(MapMarkerDto::id).toList();
+  }
+
+  @Test
+  @DisplayName("search: 이름 일치 > 이름 접두 순으로 정렬, 공백은 무시")
+  void search_ranksByName() {
+    assertThat(ids("경복궁", "all")).containsExactly(10L, 2L);
+    assertThat(ids("경 복", "all")).containsExactly(10L, 2L);
+  }
+
+  @Test
+  @DisplayName("search: 접두 일치가 중간 포함보다 앞선다 (한 글자 검색)")
+  void search_singleChar() {
+    assertThat(ids("국", "all")).containsExactly(1L, 11L);
+  }
+
+  @Test
+  @DisplayName("search: 시대/주소 필드도 검색하고 type 필터를 적용")
+  void search_otherFields_andType() {
+    assertThat(ids("조선", "all")).containsExactly(10L);
+    assertThat(ids("종로", "museum")).containsExactly(2L);
+    assertThat(ids("박물관", "heritage")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("search: 일치 항목이 없거나 검색어가 공백이면 빈 결과")
+  void search_noMatch() {
+    assertThat(ids("xyz", "all")).isEmpty();
+    assertThat(ids("  ", "all")).isEmpty();
+  }
+}
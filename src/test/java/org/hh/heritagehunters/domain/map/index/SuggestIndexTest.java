@@ -0,0 +1,72 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hh.heritagehunters.domain.map.dto.SuggestionDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestIndexTest {
+
+  private static final List<SuggestRow> ROWS = List.of(
+      new SuggestRow(10L, "heritage", "경복궁", "景福宮", "서울", 12),
+      new SuggestRow(11L, "heritage", "경희궁", "慶熙宮", "서울", 3),
+      new SuggestRow(12L, "heritage", "불국사", "佛國寺", "경북", 30),
+      new SuggestRow(1L, "museum", "경복궁 민속박물관", null, "서울", 0)
+  );
+
+  private final SuggestIndex index = SuggestIndex.build(ROWS);
+
+  private List<String> texts(String q, int k) {
+    return index.suggest(q, k).stream().map(SuggestionDto::text).toList();
+  }
+
+  @Test
+  @DisplayName("suggest: 접두 일치 항목을 인기도 순으로, 같은 인기도면 짧은 이름 먼저")
+  void suggest_prefix_rankedByPopularity() {
+    assertThat(texts("경", 10)).containsExactly("경북", "경복궁", "경희궁", "경복궁 민속박물관");
+    assertThat(texts("경복", 10)).containsExactly("경복궁", "경복궁 민속박물관");
+    assertThat(texts("경", 2)).containsExactly("경북", "경복궁");
+  }
+
+  @Test
+  @DisplayName("suggest: 초성/한자/공백 무시 입력도 매칭")
+  void suggest_choseong_hanja_whitespace() {
+    assertThat(texts("ㄱㅂㄱ", 10)).containsExactly("경복궁", "경복궁 민속박물관");
+    assertThat(texts("佛", 10)).containsExactly("불국사");
+    assertThat(texts("경복궁민", 10)).containsExactly("경복궁 민속박물관");
+  }
+
+  @Test
+  @DisplayName("suggest: 지역은 한 항목으로 묶고 인기도는 소속 게시글 수 합")
+  void suggest_region_aggregated() {
+    List<SuggestionDto> out = index.suggest("서", 10);
+    assertThat(out).singleElement().satisfies(s -> {
+      assertThat(s.type()).isEqualTo("region");
+      assertThat(s.id()).isNull();
+      assertThat(s.popularity()).isEqualTo(15);
+    });
+  }
+
+  @Test
+  @DisplayName("suggest: 넓은 접두(미리 계산된 상위 K)도 스캔 결과와 같은 순서")
+  void suggest_precomputedTopK() {
+    List<SuggestRow> rows = new ArrayList<>();
+    for (int i = 0; i < SuggestIndex.SCAN_LIMIT + 50; i++) {
+      rows.add(new SuggestRow(i, "heritage", "가" + i, null, null, i));
+    }
+    SuggestIndex big = SuggestIndex.build(rows);
+    List<String> top = big.suggest("가", 3).stream().map(SuggestionDto::text).toList();
+    int max = SuggestIndex.SCAN_LIMIT + 49;
+    assertThat(top).containsExactly("가" + max, "가" + (max - 1), "가" + (max - 2));
+  }
+
+  @Test
+  @DisplayName("suggest: 일치 항목이 없거나 입력이 비면 빈 결과")
+  void suggest_empty() {
+    assertThat(texts("xyz", 10)).isEmpty();
+    assertThat(texts("  ", 10)).isEmpty();
+  }
+}
@@ -0,0 +1,26 @@
+package org.hh.heritagehunters.domain.map.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VersionClockTest {
+
+  @Test
+  @DisplayName("next: 빌드 시각(epoch ms) 기반이며 같은 ms 에 여러 번 불러도 항상 증가")
+  void next_epochBasedAndIncreasing() {
+    VersionClock clock = new VersionClock();
+    long before = System.currentTimeMillis();
+
+    long first = clock.next();
+    long second = clock.next();
+    long third = clock.next();
+
+    assertThat(first).isGreaterThanOrEqualTo(before);
+    assertThat(second).isGreaterThan(first);
+    assertThat(third).isGreaterThan(second);
+    // 새로 만든 발급기(재시작)도 1부터 다시 시작하지 않는다
+    assertThat(new VersionClock().next()).isGreaterThanOrEqualTo(before);
+  }
+}
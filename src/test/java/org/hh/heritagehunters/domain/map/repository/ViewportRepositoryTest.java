@@ -57,10 +57,11 @@ class ViewportRepositoryTest {
               assertThat(sql).contains("ST_Intersects(m.geom, ST_MakeEnvelope(:w,:s,:e,:n,4326))");
               // 카테고리 필터
               assertThat(sql).contains(":catsEmpty OR btrim(m.category) = ANY(:cats)");
-              // 종목(문화재) 필터 - 선택된 경우에만 exhibited_at EXISTS
+              // 종목(문화재) 필터 - 선택된 경우에만 전시품의 분해된 종목 코드 EXISTS
               assertThat(sql).contains("FROM exhibited_at ea");
-              assertThat(sql).contains("JOIN heritages h ON h.id = ea.heritages_id");
-              assertThat(sql).contains("regexp_split_to_table");
+              assertThat(sql).contains("JOIN heritage_designation_codes dc ON dc.heritage_id = ea.heritages_id");
+              assertThat(sql).contains("dc.code = ANY(:desigs)");
+              assertThat(sql).doesNotContain("regexp_split_to_table");
               assertThat(sql).doesNotContain("UNION ALL");
 
               assertThat(params.get("s")).isEqualTo(s);
@@ -138,7 +139,8 @@ class ViewportRepositoryTest {
             (sql, params) -> {
               assertThat(sql).contains("FROM heritages h");
               assertThat(sql).contains("NOT EXISTS (SELECT 1 FROM exhibited_at");
-              assertThat(sql).contains("regexp_split_to_table");
+              assertThat(sql).contains("FROM heritage_designation_codes dc");
+              assertThat(sql).doesNotContain("regexp_split_to_table");
               assertThat(params.get("desigsEmpty")).isEqualTo(false);
               String[] desigs = (String[]) params.get("desigs");
               assertThat(desigs).containsExactly("국보", "보물");
@@ -184,7 +186,8 @@ class ViewportRepositoryTest {
               assertThat(sql).contains("FROM heritages h");
               assertThat(sql).contains(":catsEmpty OR btrim(m.category) = ANY(:cats)");
               assertThat(sql).contains("NOT EXISTS (SELECT 1 FROM exhibited_at");
-              assertThat(sql).contains("regexp_split_to_table");
+              assertThat(sql).contains("FROM heritage_designation_codes dc");
+              assertThat(sql).doesNotContain("regexp_split_to_table");
 
               assertThat(params.get("catsEmpty")).isEqualTo(false);
               assertThat(params.get("desigsEmpty")).isEqualTo(false);
@@ -254,6 +257,9 @@ class ViewportRepositoryTest {
               assertThat(sql).contains("ST_DWithin");
               assertThat(sql).contains("ST_DistanceSphere");
               assertThat(sql).contains("ORDER BY distanceMeters ASC");
+              // geography 캐스팅 없이 도(degree) 범위로 인덱스 필터
+              assertThat(sql).doesNotContain("::geography");
+              assertThat((double) params.get("radiusDeg")).isGreaterThan(radius / 111_195.0);
               assertThat(params.get("lat")).isEqualTo(lat);
               assertThat(params.get("lng")).isEqualTo(lng);
               assertThat(params.get("radius")).isEqualTo(radius);
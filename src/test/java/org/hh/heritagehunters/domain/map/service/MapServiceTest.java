@@ -3,7 +3,9 @@ package org.hh.heritagehunters.domain.map.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
@@ -28,7 +30,7 @@ class MapServiceTest {
 
   @BeforeEach
   void setUp() {
-    mapService = new MapService(museumRepository, heritageRepository);
+    mapService = new MapService(museumRepository, heritageRepository, new ObjectMapper());
   }
 
   @Test
@@ -121,14 +123,13 @@ class MapServiceTest {
   }
 
   @Test
-  @DisplayName("heritage 필터: designation+region+era 다중값으로 필터링 요청을 위임한다")
+  @DisplayName("heritage 필터: designation+region+era 다중값을 스냅샷에서 교집합으로 필터링한다")
   void getMarkers_filtersHeritageByParams() {
-    var h = heritage(1L, "숭례문", 37.56, 126.97, "서울", "국보");
-    given(heritageRepository.findForMap(
-        List.of("국보"),
-        List.of("서울"),
-        List.of("조선시대")))
-        .willReturn(List.of(h));
+    var h1 = heritage(1L, "숭례문", 37.56, 126.97, "서울", "국보", "서울", "조선시대");
+    var h2 = heritage(2L, "석굴암", 35.79, 129.35, "경주", "국보", "경북", "통일신라");
+    var h3 = heritage(3L, "창덕궁", 37.58, 126.99, "서울", "사적", "서울", "조선시대");
+    given(museumRepository.findAll()).willReturn(List.of(museum(9L, "A", 37.0, 127.0, "addr", "cat")));
+    given(heritageRepository.findAll()).willReturn(List.of(h1, h2, h3));
 
     // when
     var res = mapService.getMarkers(
@@ -138,30 +139,55 @@ class MapServiceTest {
         List.of("조선시대"));
 
     // then
-    assertThat(res).hasSize(1);
+    assertThat(res).extracting(MapMarkerDto::id).containsExactly(1L);
     assertThat(res.get(0).type()).isEqualTo("heritage");
+
+    // 다중값은 OR, 필터 간에는 AND
+    assertThat(mapService.getMarkers("all", List.of("국보", "사적"), List.of("서울"), null))
+        .extracting(MapMarkerDto::id).containsExactly(9L, 1L, 3L);
   }
 
   @Test
-  @DisplayName("빈 필터는 null로 변환되어 전체 조회가 수행된다 (museum/heritage 모두)")
+  @DisplayName("빈 필터는 null로 변환되어 전체가 반환되고, 스냅샷은 한 번만 빌드된다")
   void getMarkers_emptyFiltersBecomeNull_forBothTypes() {
     // given
-    // museum 전체 조회 응답 준비
-    given(museumRepository.findAll()).willReturn(List.of());
-    // heritage 전체 조회 응답 준비
-    given(heritageRepository.findForMap(null, null, null)).willReturn(List.of());
+    given(museumRepository.findAll()).willReturn(List.of(museum(1L, "A", 37.0, 127.0, "addr", "cat")));
+    given(heritageRepository.findAll()).willReturn(List.of(heritage(10L, "C", 36.9, 127.2, "addr", "국보")));
 
     // when - museum 타입
     var museumRes = mapService.getMarkers("museum", List.of(), List.of(), List.of());
     // when - heritage 타입
     var heritageRes = mapService.getMarkers("heritage", List.of(), List.of(), List.of());
 
-    // then - 결과는 모두 비어 있음
-    assertThat(museumRes).isEmpty();
-    assertThat(heritageRes).isEmpty();
+    // then
+    assertThat(museumRes).extracting(MapMarkerDto::id).containsExactly(1L);
+    assertThat(heritageRes).extracting(MapMarkerDto::id).containsExactly(10L);
 
-    // then - repository 호출 검증
+    // then - repository 는 스냅샷 빌드 시 한 번만 호출
     org.mockito.Mockito.verify(museumRepository).findAll();
-    org.mockito.Mockito.verify(heritageRepository).findForMap(null, null, null);
+    org.mockito.Mockito.verify(heritageRepository).findAll();
+    org.mockito.Mockito.verifyNoMoreInteractions(museumRepository, heritageRepository);
+  }
+
+  @Test
+  @DisplayName("getMarkersJson: 같은 필터 조합이면 캐시된 바이트를 그대로 반환한다")
+  void getMarkersJson_cachesPerFilter() {
+    given(museumRepository.findAll()).willReturn(List.of());
+    given(heritageRepository.findAll()).willReturn(List.of(heritage(10L, "C", 36.9, 127.2, "addr", "국보")));
+
+    byte[] first = mapService.getMarkersJson("heritage", null, null, null);
+    byte[] second = mapService.getMarkersJson("heritage", null, null, null);
+
+    assertThat(second).isSameAs(first);
+    assertThat(new String(first, StandardCharsets.UTF_8))
+        .contains("\"id\":10").contains("\"category\":\"국보\"");
+  }
+
+  private Heritage heritage(Long id, String name, Double lat, Double lng, String address,
+      String designation, String region, String era) {
+    Heritage h = heritage(id, name, lat, lng, address, designation);
+    h.setRegion(region);
+    h.setEra(era);
+    return h;
   }
-}
\ No newline at end of file
+}
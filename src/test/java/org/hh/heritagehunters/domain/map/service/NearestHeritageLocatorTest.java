@@ -0,0 +1,140 @@
+package org.hh.heritagehunters.domain.map.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Optional;
+import org.hh.heritagehunters.domain.map.index.MarkerIndexReloadedEvent;
+import org.hh.heritagehunters.domain.map.index.MarkerRow;
+import org.hh.heritagehunters.domain.map.repository.MarkerIndexRepository;
+import org.hh.heritagehunters.domain.search.entity.Heritage;
+import org.hh.heritagehunters.domain.search.repository.HeritageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class NearestHeritageLocatorTest {
+
+  // 경복궁 / 덕수궁 (약 1.6km 떨어짐)
+  private static final MarkerRow GYEONGBOK = point(1L, 37.5796, 126.9770);
+  private static final MarkerRow DEOKSU = point(2L, 37.5658, 126.9751);
+
+  @Mock
+  MarkerIndexRepository markerIndexRepository;
+
+  @Mock
+  HeritageRepository heritageRepository;
+
+  @InjectMocks
+  NearestHeritageLocator locator;
+
+  private static MarkerRow point(long id, double lat, double lng) {
+    return new MarkerRow(id, "heritage", null, lat, lng, null, null, null);
+  }
+
+  private static Heritage heritage(long id) {
+    Heritage heritage = new Heritage();
+    heritage.setId(id);
+    return heritage;
+  }
+
+  @Test
+  @DisplayName("nearest: maxDistanceMeters 안에서 가장 가까운 문화유산, 범위 밖이면 empty")
+  void nearest_withinRange() {
+    given(markerIndexRepository.findHeritagePoints()).willReturn(List.of(GYEONGBOK, DEOKSU));
+    given(heritageRepository.findById(1L)).willReturn(Optional.of(heritage(1L)));
+
+    // 경복궁에서 약 100m
+    assertThat(locator.nearest(37.5787, 126.9770, 500)).map(Heritage::getId).contains(1L);
+    // 두 궁에서 모두 1km 이상 떨어진 곳
+    assertThat(locator.nearest(37.5400, 127.0500, 500)).isEmpty();
+
+    verify(heritageRepository, times(1)).findById(any());
+    // 인덱스는 한 번만 빌드
+    verify(markerIndexRepository, times(1)).findHeritagePoints();
+    verify(heritageRepository, never()).findNearestHeritages(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("nearest: 위도/경도가 null 이면 인덱스/DB 를 보지 않고 empty")
+  void nearest_nullCoordinates() {
+    assertThat(locator.nearest(null, 126.9770, 500)).isEmpty();
+    assertThat(locator.nearest(37.5796, null, 500)).isEmpty();
+    verifyNoInteractions(markerIndexRepository, heritageRepository);
+  }
+
+  @Test
+  @DisplayName("findHeritagePoints: 지도 인덱스와 달리 전시 중인 문화재도 포함 (exhibited_at 으로 거르지 않음)")
+  void heritagePoints_includeExhibited() {
+    NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+    given(jdbc.query(anyString(), anyMap(), any(RowMapper.class))).willReturn(List.of(GYEONGBOK));
+    MarkerIndexRepository repository = new MarkerIndexRepository(jdbc);
+
+    List<MarkerRow> points = repository.findHeritagePoints();
+    repository.findAllRows();
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(jdbc, times(3)).query(sql.capture(), anyMap(), any(RowMapper.class));
+    assertThat(sql.getAllValues().get(0)).contains("FROM heritages h").doesNotContain("exhibited_at");
+    // 지도 마커용 문화재 조회는 전시 중인 문화재를 뺀다 (비교 대상)
+    assertThat(sql.getAllValues().get(2)).contains("FROM heritages h").contains("exhibited_at");
+
+    // 전시 중이어서 지도에는 없는 문화재도 게시글 위치로 찾는다
+    given(markerIndexRepository.findHeritagePoints()).willReturn(points);
+    given(heritageRepository.findById(1L)).willReturn(Optional.of(heritage(1L)));
+    assertThat(locator.nearest(37.5796, 126.9770, 100)).map(Heritage::getId).contains(1L);
+  }
+
+  @Test
+  @DisplayName("nearest: 인덱스를 만들 수 없으면 DB 거리 계산(findNearestHeritages)으로 대체")
+  void nearest_fallsBackToDb() {
+    given(markerIndexRepository.findHeritagePoints()).willThrow(new IllegalStateException("db down"));
+    given(heritageRepository.findNearestHeritages(37.5796, 126.9770, 500.0)).willReturn(heritage(1L));
+    given(heritageRepository.findNearestHeritages(37.5400, 127.0500, 500.0)).willReturn(null);
+
+    assertThat(locator.nearest(37.5796, 126.9770, 500)).map(Heritage::getId).contains(1L);
+    assertThat(locator.nearest(37.5400, 127.0500, 500)).isEmpty();
+    // 실패한 인덱스는 기억하지 않고 다음 호출에서 다시 시도
+    verify(markerIndexRepository, times(2)).findHeritagePoints();
+    verify(heritageRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("onIndexReloaded: 새 인덱스로 교체하고, 재빌드에 실패하면 기존 인덱스를 계속 쓴다")
+  void onIndexReloaded_swapsOrKeeps() {
+    given(markerIndexRepository.findHeritagePoints())
+        .willReturn(List.of(GYEONGBOK))
+        .willReturn(List.of(DEOKSU))
+        .willThrow(new IllegalStateException("db down"));
+    given(heritageRepository.findById(anyLong())).willAnswer(inv -> Optional.of(heritage(inv.getArgument(0))));
+
+    assertThat(locator.nearest(37.5796, 126.9770, 100)).map(Heritage::getId).contains(1L);
+
+    locator.onIndexReloaded(new MarkerIndexReloadedEvent(null));
+    assertThat(locator.nearest(37.5796, 126.9770, 100)).isEmpty();
+    assertThat(locator.nearest(37.5658, 126.9751, 100)).map(Heritage::getId).contains(2L);
+
+    locator.onIndexReloaded(new MarkerIndexReloadedEvent(null));
+    assertThat(locator.nearest(37.5658, 126.9751, 100)).map(Heritage::getId).contains(2L);
+    verify(markerIndexRepository, times(3)).findHeritagePoints();
+    verify(heritageRepository, never()).findNearestHeritages(anyDouble(), anyDouble(), anyDouble());
+  }
+}
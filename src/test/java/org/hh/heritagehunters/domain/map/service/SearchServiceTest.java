@@ -23,6 +23,9 @@ class SearchServiceTest {
   @Mock
   SearchRepository searchRepository;
 
+  @Mock
+  MarkerIndexService markerIndexService; // currentSearch() == null → DB 검색 경로
+
   @InjectMocks
   SearchService searchService;
 
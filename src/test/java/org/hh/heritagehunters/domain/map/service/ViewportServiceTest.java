@@ -1,6 +1,10 @@
 package org.hh.heritagehunters.domain.map.service;
 
+import org.hh.heritagehunters.domain.map.dto.MapClusterResponseDto;
 import org.hh.heritagehunters.domain.map.dto.MapMarkerDto;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.index.MarkerRow;
+import org.hh.heritagehunters.domain.map.index.NearbyCursor;
 import org.hh.heritagehunters.domain.map.repository.ViewportRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,12 +24,14 @@ import static org.mockito.Mockito.*;
 class ViewportServiceTest {
 
   private ViewportRepository repo;
+  private MarkerIndexService markerIndexService;
   private ViewportService service;
 
   @BeforeEach
   void setUp() {
     repo = mock(ViewportRepository.class);
-    service = new ViewportService(repo);
+    markerIndexService = mock(MarkerIndexService.class); // current() == null → DB 조회 경로
+    service = new ViewportService(repo, markerIndexService);
   }
 
   @Test
@@ -108,6 +115,56 @@ class ViewportServiceTest {
     );
   }
 
+  @Test
+  @DisplayName("fetch: 인덱스가 준비되어 있으면 DB를 조회하지 않는다")
+  void fetch_usesIndex_whenLoaded() {
+    MarkerIndex index = MarkerIndex.build(1L, List.of(
+        new MarkerRow(1L, "museum", "A", 37.0, 127.0, "addr", "역사", null),
+        new MarkerRow(2L, "heritage", "B", 37.1, 127.1, "addr", "국보", "국보")
+    ), Map.of());
+    when(markerIndexService.current()).thenReturn(index);
+
+    List<MapMarkerDto> out = service.fetch("33,125,39,132", 10, "heritage", null, null);
+
+    assertThat(out).extracting(MapMarkerDto::id).containsExactly(2L);
+    verifyNoInteractions(repo);
+  }
+
+  @Test
+  @DisplayName("clusters: 인덱스가 없으면 DB 조회(최대 2000건) 결과를 클러스터링")
+  void clusters_fallsBackToRepo() {
+    when(repo.findByViewport(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+        anyInt(), anyString(), any(), any()))
+        .thenReturn(List.of(
+            new MapMarkerDto(1L, "museum", "A", 37.570, 126.980, "", "", 0.0),
+            new MapMarkerDto(2L, "heritage", "B", 37.572, 126.982, "", "", 0.0)
+        ));
+
+    MapClusterResponseDto out = service.clusters("33,125,39,132", 7, 100, null, List.of(), null);
+
+    assertThat(out.clustered()).isTrue();
+    assertThat(out.clusters()).hasSize(1);
+    assertThat(out.clusters().get(0).count()).isEqualTo(2);
+    verify(repo).findByViewport(eq(33.0), eq(125.0), eq(39.0), eq(132.0),
+        eq(2000), eq("all"), isNull(), isNull());
+    verifyNoMoreInteractions(repo);
+  }
+
+  @Test
+  @DisplayName("clusters: 최대 클러스터 줌 초과면 fetch 와 같은 개별 마커를 반환")
+  void clusters_highZoom_returnsMarkers() {
+    when(repo.findByViewport(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+        anyInt(), anyString(), any(), any()))
+        .thenReturn(List.of());
+
+    MapClusterResponseDto out = service.clusters("33,125,39,132", 17, 300, "museum", null, null);
+
+    assertThat(out.clustered()).isFalse();
+    assertThat(out.clusters()).isEmpty();
+    verify(repo).findByViewport(eq(33.0), eq(125.0), eq(39.0), eq(132.0),
+        eq(300), eq("museum"), isNull(), isNull());
+  }
+
   // ---------------- nearby ----------------
 
   @Test
@@ -148,4 +205,25 @@ class ViewportServiceTest {
     );
     verifyNoMoreInteractions(repo);
   }
+
+  @Test
+  @DisplayName("nearby: 인덱스가 있으면 DB 없이 거리순 조회, 커서 요청은 인덱스를 만들어서라도 인덱스로 처리")
+  void nearby_usesIndex_andCursorLoadsIndex() {
+    MarkerIndex index = MarkerIndex.build(1L, List.of(
+        new MarkerRow(1L, "museum", "서울박물관", 37.570, 126.980, "서울", "역사", null),
+        new MarkerRow(10L, "heritage", "경복궁", 37.576, 126.977, "서울", "사적", "사적")
+    ), Map.of());
+
+    when(markerIndexService.current()).thenReturn(index);
+    List<MapMarkerDto> first = service.nearby(37.576, 126.977, 2000, 1, "all");
+    assertThat(first).extracting(MapMarkerDto::id).containsExactly(10L);
+
+    when(markerIndexService.current()).thenReturn(null);
+    when(markerIndexService.currentOrLoad()).thenReturn(index);
+    List<MapMarkerDto> next = service.nearby(37.576, 126.977, 2000, 1, "all",
+        NearbyCursor.after(first.get(0)));
+    assertThat(next).extracting(MapMarkerDto::id).containsExactly(1L);
+
+    verifyNoInteractions(repo);
+  }
 }
@@ -0,0 +1,67 @@
+package org.hh.heritagehunters.domain.map.tile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.map.index.MarkerIndex;
+import org.hh.heritagehunters.domain.map.index.MarkerRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MvtEncoderTest {
+
+  private final MarkerIndex index = MarkerIndex.build(1L, List.of(
+      new MarkerRow(1L, "museum", "서울박물관", 37.57, 126.98, "서울", "역사", null),
+      new MarkerRow(10L, "heritage", "경복궁", 37.58, 126.97, "서울", "사적", "사적")
+  ), Map.of());
+
+  @Test
+  @DisplayName("bounds: 타일 영역(버퍼 포함)이 해당 좌표를 포함")
+  void bounds_containsPoint() {
+    // 서울은 z=7 에서 x=109, y=49
+    double[] b = MvtEncoder.bounds(7, 109, 49);
+
+    assertThat(b[0]).isLessThan(37.57);
+    assertThat(b[2]).isGreaterThan(37.58);
+    assertThat(b[1]).isLessThan(126.97);
+    assertThat(b[3]).isGreaterThan(126.98);
+  }
+
+  @Test
+  @DisplayName("encode: 박물관/문화재 레이어와 속성 문자열이 기록되고, 빈 타일은 0바이트")
+  void encode_layers() {
+    double[] b = MvtEncoder.bounds(7, 109, 49);
+    BitSet hits = index.select(b[0], b[1], b[2], b[3], "all", null, null);
+
+    byte[] tile = MvtEncoder.encode(index, hits, 7, 109, 49);
+    String raw = new String(tile, StandardCharsets.UTF_8);
+
+    assertThat(tile[0]).isEqualTo((byte) ((3 << 3) | 2)); // Tile.layers, length-delimited
+    assertThat(raw).contains("museums", "heritages", "서울박물관", "경복궁", "category");
+    assertThat(MvtEncoder.encode(index, new BitSet(), 7, 109, 49)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("filterKey: 기본 조합은 all, 필터 순서가 달라도 같은 키")
+  void filterKey_stable() {
+    assertThat(MapTileService.filterKey(null, null, List.of())).isEqualTo("all");
+    assertThat(MapTileService.filterKey("all", List.of("미술", "역사"), null))
+        .isEqualTo(MapTileService.filterKey("all", List.of("역사", " 미술"), null))
+        .isNotEqualTo(MapTileService.filterKey("museum", List.of("역사", "미술"), null));
+  }
+
+  @Test
+  @DisplayName("cacheable: 기본 조합의 국내 타일만 maxZoom 까지 파일 캐시")
+  void cacheable_onlyDefaultKoreanTilesUpToMaxZoom() {
+    String custom = MapTileService.filterKey("museum", List.of("역사"), null);
+
+    assertThat(MapTileService.cacheable(7, 109, 49, "all", 12)).isTrue();   // 서울
+    assertThat(MapTileService.cacheable(7, 109, 49, custom, 12)).isFalse(); // 필터 조합
+    assertThat(MapTileService.cacheable(12, (109 << 5) + 16, (49 << 5) + 16, "all", 12)).isTrue();
+    assertThat(MapTileService.cacheable(13, (109 << 6) + 32, (49 << 6) + 32, "all", 12)).isFalse(); // 줌 상한 초과
+    assertThat(MapTileService.cacheable(7, 0, 0, "all", 12)).isFalse();     // 국외
+  }
+}
@@ -0,0 +1,172 @@
+package org.hh.heritagehunters.domain.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.oauth.entity.User;
+import org.hh.heritagehunters.domain.post.dto.CommentDto;
+import org.hh.heritagehunters.domain.post.dto.PostFeedCursor;
+import org.hh.heritagehunters.domain.post.dto.request.CommentCreateRequestDto;
+import org.hh.heritagehunters.domain.post.dto.response.PostDetailResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.PostFeedResponseDto;
+import org.hh.heritagehunters.domain.post.dto.response.PostListResponseDto;
+import org.hh.heritagehunters.domain.post.entity.Comment;
+import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.repository.CommentListProjection;
+import org.hh.heritagehunters.domain.post.repository.PostListProjection;
+import org.hh.heritagehunters.domain.post.service.CommentService;
+import org.hh.heritagehunters.domain.post.service.ImageService;
+import org.hh.heritagehunters.domain.post.service.LikeCountBuffer;
+import org.hh.heritagehunters.domain.post.service.LikeService;
+import org.hh.heritagehunters.domain.post.service.PostFeedCache;
+import org.hh.heritagehunters.domain.post.service.PostReader;
+import org.hh.heritagehunters.domain.post.service.PostWriter;
+import org.hh.heritagehunters.domain.post.service.ViewCountBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PostFacadeTest {
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2025, 8, 5, 10, 30);
+
+  @Mock
+  PostReader postReader;
+
+  @Mock
+  PostFeedCache postFeedCache;
+
+  @Mock
+  ViewCountBuffer viewCountBuffer;
+
+  @Mock
+  LikeCountBuffer likeCountBuffer;
+
+  @Mock
+  PostWriter postWriter;
+
+  @Mock
+  ImageService imageService;
+
+  @Mock
+  LikeService likeService;
+
+  @Mock
+  CommentService commentService;
+
+  @InjectMocks
+  PostFacade postFacade;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(postFacade, "firstCommentPageSize", 2);
+  }
+
+  private static Post post() {
+    User author = new User();
+    author.setId(9L);
+    author.setNickname("작성자");
+    Post post = new Post();
+    post.setId(1L);
+    post.setUser(author);
+    return post;
+  }
+
+  private static CommentListProjection comment(long id) {
+    return new SpelAwareProxyProjectionFactory().createProjection(CommentListProjection.class,
+        Map.of("id", id, "content", "댓글 " + id, "createdAt", T0.plusSeconds(id), "userId", 1L,
+            "userNickname", "닉네임"));
+  }
+
+  @Test
+  @DisplayName("detail: 댓글 첫 페이지(first-page-size 건)와 다음 페이지 커서를 함께 내려준다")
+  void detail_embedsFirstCommentPage() {
+    given(postReader.getPostWithImages(1L)).willReturn(post());
+    given(postReader.getComments(1L, null, 2))
+        .willReturn(new SliceImpl<>(List.of(comment(1), comment(2)), PageRequest.ofSize(2), true));
+
+    PostDetailResponseDto dto = postFacade.detail(1L, null, "session");
+
+    assertThat(dto.getComments()).extracting(CommentDto::getId).containsExactly(1L, 2L);
+    assertThat(dto.isHasMoreComments()).isTrue();
+    // 마지막 댓글 (T0+2초, ID 2) 다음부터
+    assertThat(dto.getCommentsNextCursor()).isEqualTo("2025-08-05T10:30:02:2");
+    verify(viewCountBuffer).record(1L, "s:session");
+  }
+
+  @Test
+  @DisplayName("detail: 댓글이 첫 페이지에 다 들어가면 다음 커서 없이 hasMoreComments=false")
+  void detail_allCommentsOnFirstPage() {
+    given(postReader.getPostWithImages(1L)).willReturn(post());
+    given(postReader.getComments(1L, null, 2))
+        .willReturn(new SliceImpl<>(List.of(comment(1)), PageRequest.ofSize(2), false));
+
+    PostDetailResponseDto dto = postFacade.detail(1L, null, null);
+
+    assertThat(dto.getComments()).extracting(CommentDto::getId).containsExactly(1L);
+    assertThat(dto.isHasMoreComments()).isFalse();
+    assertThat(dto.getCommentsNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("addComment: 저장된 새 댓글 하나만 CommentDto 로 돌려주고 게시글/댓글 목록은 조회하지 않는다")
+  void addComment_returnsOnlyNewComment() {
+    User user = new User();
+    user.setId(7L);
+    user.setNickname("댓글러");
+    CommentCreateRequestDto request = new CommentCreateRequestDto("댓글");
+    Comment comment = Comment.create(user, null, "댓글");
+    comment.setId(11L);
+    comment.setCreatedAt(T0);
+    given(commentService.add(1L, user, request)).willReturn(comment);
+
+    CommentDto dto = postFacade.addComment(1L, user, request);
+
+    assertThat(dto).isEqualTo(new CommentDto(11L, "댓글", T0, 7L, "댓글러", null));
+    verifyNoInteractions(postReader);
+  }
+
+  private static PostListProjection feedRow(long id, int likeCount) {
+    return new SpelAwareProxyProjectionFactory().createProjection(PostListProjection.class,
+        Map.of("id", id, "createdAt", T0, "viewCount", 0, "likeCount", likeCount, "commentCount", 0));
+  }
+
+  @Test
+  @DisplayName("feed: 커서를 정렬 기준 타입으로 파싱해 넘기고, 다음 커서는 마지막 게시글의 (정렬 키 값, ID)")
+  void feed_buildsNextCursorFromLastRow() {
+    given(postReader.getFeed(null, null, "likeCount", "desc", new PostFeedCursor(5, 9L), 2))
+        .willReturn(new SliceImpl<>(List.of(feedRow(8, 5), feedRow(4, 3)), PageRequest.ofSize(2), true));
+
+    PostFeedResponseDto dto = postFacade.feed(null, null, null, "likeCount", "desc", "5:9", 2);
+
+    assertThat(dto.getPosts()).extracting(PostListResponseDto::getId).containsExactly(8L, 4L);
+    assertThat(dto.isHasNext()).isTrue();
+    assertThat(dto.getNextCursor()).isEqualTo("3:4");
+  }
+
+  @Test
+  @DisplayName("feed: 마지막 페이지면 nextCursor 없음")
+  void feed_lastPage() {
+    given(postReader.getFeed(null, null, "createdAt", "desc", null, 2))
+        .willReturn(new SliceImpl<>(List.of(feedRow(1, 0)), PageRequest.ofSize(2), false));
+
+    PostFeedResponseDto dto = postFacade.feed(null, null, null, "createdAt", "desc", null, 2);
+
+    assertThat(dto.isHasNext()).isFalse();
+    assertThat(dto.getNextCursor()).isNull();
+  }
+}
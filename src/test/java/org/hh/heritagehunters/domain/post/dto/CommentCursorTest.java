@@ -0,0 +1,61 @@
+package org.hh.heritagehunters.domain.post.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CommentCursorTest {
+
+  @Test
+  @DisplayName("toString → parse 왕복: 마이크로초까지 있는 작성일시")
+  void roundTrip_withFraction() {
+    CommentCursor cursor = new CommentCursor(LocalDateTime.of(2025, 8, 5, 10, 30, 0, 123_456_000), 42L);
+
+    assertThat(cursor.toString()).isEqualTo("2025-08-05T10:30:00.123456:42");
+    assertThat(CommentCursor.parse(cursor.toString())).isEqualTo(cursor);
+  }
+
+  @Test
+  @DisplayName("toString → parse 왕복: 초가 0 이면 LocalDateTime.toString 이 초를 생략해도 마지막 ':' 뒤를 ID 로 읽는다")
+  void roundTrip_withoutSeconds() {
+    CommentCursor cursor = new CommentCursor(LocalDateTime.of(2025, 8, 5, 10, 30), 42L);
+
+    assertThat(cursor.toString()).isEqualTo("2025-08-05T10:30:42");
+    assertThat(CommentCursor.parse("2025-08-05T10:30:42")).isEqualTo(cursor);
+    assertThat(CommentCursor.parse(" 2025-08-05T10:30:42 ")).isEqualTo(cursor);
+  }
+
+  @Test
+  @DisplayName("after: 이전 페이지 마지막 댓글의 (작성일시, ID)")
+  void after_lastComment() {
+    LocalDateTime createdAt = LocalDateTime.of(2025, 8, 5, 10, 30, 15);
+    CommentDto last = new CommentDto(7L, "내용", createdAt, 1L, "닉네임", null);
+
+    assertThat(CommentCursor.after(last)).isEqualTo(new CommentCursor(createdAt, 7L));
+  }
+
+  @Test
+  @DisplayName("parse: null/빈 문자열은 첫 페이지(null)")
+  void parse_blankIsFirstPage() {
+    assertThat(CommentCursor.parse(null)).isNull();
+    assertThat(CommentCursor.parse("")).isNull();
+    assertThat(CommentCursor.parse("   ")).isNull();
+  }
+
+  @Test
+  @DisplayName("parse: 형식이 잘못된 커서는 400 INVALID_INPUT_VALUE")
+  void parse_invalid() {
+    for (String raw : new String[] {"42", ":42", "2025-08-05T10:30:00:", "2025-08-05T10:30:00:abc",
+        "2025-13-05T10:30:00:42", "not-a-date:42", "2025-08-05:42"}) {
+      assertThatThrownBy(() -> CommentCursor.parse(raw))
+          .as(raw)
+          .isInstanceOf(BadRequestException.class)
+          .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+  }
+}
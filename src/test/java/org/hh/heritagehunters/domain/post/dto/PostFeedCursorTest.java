@@ -0,0 +1,77 @@
+package org.hh.heritagehunters.domain.post.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.post.repository.PostListProjection;
+import org.hh.heritagehunters.domain.post.repository.PostSortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+class PostFeedCursorTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 8, 5, 10, 30, 0, 123_456_000);
+
+  @Test
+  @DisplayName("parse: 작성일 정렬은 LocalDateTime, 초가 0 이라 생략된 값도 마지막 ':' 뒤를 ID 로 읽는다")
+  void parse_createdAt() {
+    assertThat(PostFeedCursor.parse("2025-08-05T10:30:00.123456:42", PostSortKey.CREATED_AT))
+        .isEqualTo(new PostFeedCursor(CREATED_AT, 42L));
+    assertThat(PostFeedCursor.parse("2025-08-05T10:30:42", PostSortKey.CREATED_AT))
+        .isEqualTo(new PostFeedCursor(LocalDateTime.of(2025, 8, 5, 10, 30), 42L));
+  }
+
+  @Test
+  @DisplayName("parse: 조회수/좋아요 수/댓글 수 정렬은 Integer 값")
+  void parse_counters() {
+    for (PostSortKey key : new PostSortKey[] {
+        PostSortKey.VIEW_COUNT, PostSortKey.LIKE_COUNT, PostSortKey.COMMENT_COUNT}) {
+      PostFeedCursor cursor = PostFeedCursor.parse("15:42", key);
+      assertThat(cursor).as(key.name()).isEqualTo(new PostFeedCursor(15, 42L));
+      assertThat(cursor.value()).as(key.name()).isInstanceOf(Integer.class);
+    }
+  }
+
+  @Test
+  @DisplayName("parse: null/빈 문자열은 첫 페이지(null)")
+  void parse_blankIsFirstPage() {
+    assertThat(PostFeedCursor.parse(null, PostSortKey.CREATED_AT)).isNull();
+    assertThat(PostFeedCursor.parse(" ", PostSortKey.LIKE_COUNT)).isNull();
+  }
+
+  @Test
+  @DisplayName("parse: 형식이 잘못되었거나 정렬 기준과 값 타입이 맞지 않으면 400 INVALID_INPUT_VALUE")
+  void parse_invalid() {
+    Map<String, PostSortKey> invalid = Map.of(
+        "42", PostSortKey.VIEW_COUNT,
+        ":42", PostSortKey.VIEW_COUNT,
+        "15:", PostSortKey.LIKE_COUNT,
+        "15:abc", PostSortKey.LIKE_COUNT,
+        "15:42", PostSortKey.CREATED_AT,                       // 작성일 정렬에 숫자 값
+        "2025-08-05T10:30:00:42", PostSortKey.COMMENT_COUNT,   // 숫자 정렬에 날짜 값
+        "99999999999:42", PostSortKey.VIEW_COUNT);              // int 범위 밖
+    invalid.forEach((raw, key) -> assertThatThrownBy(() -> PostFeedCursor.parse(raw, key))
+        .as("%s (%s)", raw, key)
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+  }
+
+  @Test
+  @DisplayName("after → toString → parse 왕복: 마지막 게시글의 정렬 키 값과 ID")
+  void after_roundTrip() {
+    PostListProjection last = new SpelAwareProxyProjectionFactory().createProjection(PostListProjection.class,
+        Map.of("id", 42L, "createdAt", CREATED_AT, "viewCount", 15, "likeCount", 3, "commentCount", 0));
+
+    for (PostSortKey key : PostSortKey.values()) {
+      PostFeedCursor cursor = PostFeedCursor.after(key, last);
+      assertThat(cursor.id()).isEqualTo(42L);
+      assertThat(PostFeedCursor.parse(cursor.toString(), key)).as(key.name()).isEqualTo(cursor);
+    }
+    assertThat(PostFeedCursor.after(PostSortKey.LIKE_COUNT, last).toString()).isEqualTo("3:42");
+  }
+}
@@ -0,0 +1,99 @@
+package org.hh.heritagehunters.domain.post.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageResizerTest {
+
+  private final ImageResizer resizer = new ImageResizer(80_000_000L, 0.82f);
+
+  @Test
+  @DisplayName("큰 이미지는 파생본별 긴 변 크기로 줄이고 비율을 유지한다")
+  void resize_scalesEachVariant() throws IOException {
+    Map<ImageVariant, byte[]> out = resizer.resize(new ByteArrayInputStream(png(4000, 3000)));
+
+    assertThat(out).containsOnlyKeys(ImageVariant.values());
+    BufferedImage thumb = read(out.get(ImageVariant.THUMBNAIL));
+    BufferedImage detail = read(out.get(ImageVariant.DETAIL));
+    assertThat(thumb.getWidth()).isEqualTo(400);
+    assertThat(thumb.getHeight()).isEqualTo(300);
+    assertThat(detail.getWidth()).isEqualTo(1280);
+    assertThat(detail.getHeight()).isEqualTo(960);
+  }
+
+  @Test
+  @DisplayName("파생본보다 작은 이미지는 확대하지 않는다")
+  void resize_doesNotUpscale() throws IOException {
+    Map<ImageVariant, byte[]> out = resizer.resize(new ByteArrayInputStream(png(300, 200)));
+
+    assertThat(read(out.get(ImageVariant.THUMBNAIL)).getWidth()).isEqualTo(300);
+    assertThat(read(out.get(ImageVariant.DETAIL)).getWidth()).isEqualTo(300);
+  }
+
+  @Test
+  @DisplayName("해상도가 max-pixels 를 넘거나 이미지가 아니면 실패한다")
+  void resize_rejectsHugeOrInvalid() {
+    ImageResizer small = new ImageResizer(1_000L, 0.82f);
+
+    assertThatThrownBy(() -> small.resize(new ByteArrayInputStream(png(100, 100))))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> resizer.resize(new ByteArrayInputStream("not an image".getBytes())))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("EXIF 방향 6(시계 90°)은 가로/세로를 바꾸고 왼쪽 위 픽셀이 오른쪽 위로 간다")
+  void orient_rotatesClockwise() {
+    BufferedImage image = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+    image.setRGB(0, 0, 0xFF0000);
+
+    BufferedImage rotated = ImageResizer.orient(image, 6);
+
+    assertThat(rotated.getWidth()).isEqualTo(2);
+    assertThat(rotated.getHeight()).isEqualTo(3);
+    assertThat(rotated.getRGB(1, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+  }
+
+  @Test
+  @DisplayName("Exif APP1 의 IFD0 에서 Orientation 태그를 읽는다 (빅/리틀 엔디언)")
+  void exifOrientation_readsTag() {
+    assertThat(ImageResizer.exifOrientation(exif(false, 6))).isEqualTo(6);
+    assertThat(ImageResizer.exifOrientation(exif(true, 8))).isEqualTo(8);
+    assertThat(ImageResizer.exifOrientation(new byte[] {'E', 'x', 'i', 'f'})).isZero();
+  }
+
+  private static byte[] png(int w, int h) throws IOException {
+    BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    return out.toByteArray();
+  }
+
+  private static BufferedImage read(byte[] jpeg) throws IOException {
+    return ImageIO.read(new ByteArrayInputStream(jpeg));
+  }
+
+  /** "Exif\0\0" + TIFF 헤더 + 항목 하나(Orientation)짜리 IFD0 */
+  private static byte[] exif(boolean littleEndian, int orientation) {
+    ByteBuffer b = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4);
+    b.put(new byte[] {'E', 'x', 'i', 'f', 0, 0});
+    b.order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    b.put(littleEndian ? (byte) 'I' : (byte) 'M').put(littleEndian ? (byte) 'I' : (byte) 'M');
+    b.putShort((short) 42).putInt(8);
+    b.putShort((short) 1);
+    b.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+    b.putInt(0);
+    return b.array();
+  }
+}
@@ -0,0 +1,63 @@
+package org.hh.heritagehunters.domain.post.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostSearchIndexTest {
+
+  private static final List<PostSearchRow> ROWS = List.of(
+      new PostSearchRow(1L, "경복궁 야간 개장 다녀왔어요", "서울 종로구", "경복궁"),
+      new PostSearchRow(2L, "불국사 단풍이 멋졌습니다", "경북 경주시", "불국사"),
+      new PostSearchRow(3L, "Gyeongbokgung Night Tour", "Seoul", null),
+      new PostSearchRow(4L, "석굴암 일출", "경북 경주시", "석굴암")
+  );
+
+  private final PostSearchIndex index = PostSearchIndex.build(ROWS);
+
+  private long[] search(String keyword) {
+    return index.search(PostSearchIndex.normalize(keyword));
+  }
+
+  @Test
+  @DisplayName("search: 2-gram 교집합 + 부분 문자열 확인으로 한글 중간 일치도 찾는다 (ID 오름차순)")
+  void search_koreanSubstring() {
+    assertThat(search("복궁")).containsExactly(1L);
+    assertThat(search("경주")).containsExactly(2L, 4L);
+    assertThat(search("단풍이 멋")).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("search: 한 글자 검색은 1-gram 으로 찾는다")
+  void search_singleChar() {
+    assertThat(search("암")).containsExactly(4L);
+    assertThat(search("궁")).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("search: 내용/문화유산 이름/위치 어느 필드든 일치, 대소문자/공백 무시, 이름이 null 이어도 색인")
+  void search_fieldsAndNormalization() {
+    assertThat(search("종로")).containsExactly(1L);           // 위치
+    assertThat(search("석굴암")).containsExactly(4L);         // 내용 + 이름
+    assertThat(search("night TOUR")).containsExactly(3L);
+    assertThat(search("seoul")).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("search: 필드 경계를 넘는 문자열은 일치하지 않고, 없는 n-gram 이나 빈 검색어는 빈 결과")
+  void search_noMatch() {
+    // 모든 2-gram 이 어딘가에 있어도 한 필드에 이어져 있지 않으면 제외
+    assertThat(search("개장서울")).isEmpty();
+    assertThat(search("xyz")).isEmpty();
+    assertThat(search("  ")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("matches: 색인과 같은 정규화로 한 행 일치 여부 판단")
+  void matches_row() {
+    assertThat(PostSearchIndex.matches(ROWS.get(0), PostSearchIndex.normalize("야간 개장"))).isTrue();
+    assertThat(PostSearchIndex.matches(ROWS.get(2), PostSearchIndex.normalize("경복궁"))).isFalse();
+  }
+}
@@ -0,0 +1,138 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.hh.heritagehunters.domain.post.dto.PostFeedCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 피드 커서(keyset) 조회 테스트 (실제 PostgreSQL)
+ * - 정렬 키 값이 같은 게시글이 섞여 있어도 (값, id) 행 비교로 페이지를 넘기면 빠짐/중복 없이 전체 순서와 같은지 본다
+ * - 다른 테스트 데이터와 섞이지 않도록 여기서 넣은 게시글 ID 로만 조회한다. Docker 가 없으면 건너뛴다.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Testcontainers(disabledWithoutDocker = true)
+class PostFeedRepositoryTest {
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2025, 8, 5, 10, 30);
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+      DockerImageName.parse("postgis/postgis:16-3.4-alpine").asCompatibleSubstituteFor("postgres"));
+
+  @Autowired
+  PostFeedRepository postFeedRepository;
+
+  @Autowired
+  NamedParameterJdbcTemplate jdbc;
+
+  private Long heritageId;
+  private Long userId;
+
+  /** 게시글 ID → (작성일, 좋아요 수) - 일부러 같은 값을 여러 개 둔다 */
+  private final Map<Long, Object[]> posts = new LinkedHashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    heritageId = jdbc.queryForObject(
+        "INSERT INTO heritages (name) VALUES ('피드 테스트 문화재') RETURNING id", Map.of(), Long.class);
+    userId = jdbc.queryForObject("""
+        INSERT INTO users (email, nickname, score, provider)
+        VALUES ('feed@test.local', 'feed-test', 0, 'local') RETURNING id
+        """, Map.of(), Long.class);
+
+    int[] minutes = {0, 5, 5, 5, 10, 20, 20};
+    int[] likes = {3, 0, 3, 7, 3, 0, 7};
+    for (int i = 0; i < minutes.length; i++) {
+      LocalDateTime createdAt = T0.plusMinutes(minutes[i]);
+      Long id = jdbc.queryForObject("""
+          INSERT INTO posts (user_id, heritage_id, content, location, created_at,
+                             view_count, comment_count, like_count)
+          VALUES (:userId, :heritageId, '내용', '장소', :createdAt, 0, 0, :likes) RETURNING id
+          """, Map.of("userId", userId, "heritageId", heritageId,
+          "createdAt", Timestamp.valueOf(createdAt), "likes", likes[i]), Long.class);
+      posts.put(id, new Object[] {createdAt, likes[i]});
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    Map<String, Object> ids = Map.of("postIds", List.copyOf(posts.keySet()), "userId", userId,
+        "heritageId", heritageId);
+    jdbc.update("DELETE FROM posts WHERE id IN (:postIds)", ids);
+    jdbc.update("DELETE FROM users WHERE id = :userId", ids);
+    jdbc.update("DELETE FROM heritages WHERE id = :heritageId", ids);
+  }
+
+  @Test
+  @DisplayName("작성일 내림차순: 같은 작성일은 id 내림차순, 커서로 넘긴 페이지를 이으면 전체 순서와 같다")
+  void createdAtDesc() {
+    assertPagesMatchFullOrder(PostSortKey.CREATED_AT, false, id -> posts.get(id)[0]);
+  }
+
+  @Test
+  @DisplayName("작성일 오름차순")
+  void createdAtAsc() {
+    assertPagesMatchFullOrder(PostSortKey.CREATED_AT, true, id -> posts.get(id)[0]);
+  }
+
+  @Test
+  @DisplayName("좋아요 수 내림차순: 정수 커서 값으로 같은 값 안에서도 id 로 이어진다")
+  void likeCountDesc() {
+    assertPagesMatchFullOrder(PostSortKey.LIKE_COUNT, false, id -> posts.get(id)[1]);
+  }
+
+  @Test
+  @DisplayName("좋아요 수 오름차순")
+  void likeCountAsc() {
+    assertPagesMatchFullOrder(PostSortKey.LIKE_COUNT, true, id -> posts.get(id)[1]);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void assertPagesMatchFullOrder(PostSortKey key, boolean asc, Function<Long, Object> valueOf) {
+    Comparator<Long> byValue = Comparator.comparing(id -> (Comparable) valueOf.apply(id));
+    Comparator<Long> order = byValue.thenComparing(Comparator.naturalOrder());
+    List<Long> expected = posts.keySet().stream().sorted(asc ? order : order.reversed()).toList();
+    long[] ids = posts.keySet().stream().mapToLong(Long::longValue).toArray();
+
+    // 첫 페이지 크기(2)로 한 번에 읽은 것은 전체 순서의 앞부분
+    assertThat(postFeedRepository.findFeedIds(null, ids, null, key, asc, null, 2))
+        .containsExactlyElementsOf(expected.subList(0, 2));
+
+    for (int size = 1; size <= 3; size++) {
+      List<Long> seen = new ArrayList<>();
+      PostFeedCursor after = null;
+      while (true) {
+        List<Long> page = postFeedRepository.findFeedIds(null, ids, null, key, asc, after, size);
+        seen.addAll(page);
+        if (page.size() < size) {
+          break;
+        }
+        Long last = page.get(page.size() - 1);
+        after = new PostFeedCursor(valueOf.apply(last), last);
+      }
+      assertThat(seen).as("%s %s size=%d", key, asc ? "asc" : "desc", size)
+          .containsExactlyElementsOf(expected);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package org.hh.heritagehunters.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 목록 조회 벤치마크: 엔티티 hydrate(기존) vs 목록 행 projection(현재)
+ * - 실제 DB(게시글 데이터 필요)에 붙어 실행하므로 기본 빌드에서는 꺼져 있다
+ * - 실행: mvn test -Dtest=PostListQueryBenchmarkTest -Dbench=true
+ * 페이지당 할당 바이트(스레드 기준), 소요 시간, 영속성 컨텍스트에 올라간 엔티티 수를 로그로 남긴다.
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class PostListQueryBenchmarkTest {
+
+  private static final int PAGE_SIZE = 16;
+  private static final int WARMUP = 20;
+  private static final int ROUNDS = 200;
+
+  // 기존 PostRepository.findPostsWithFilters 의 엔티티 경로 (이미지 컬렉션 fetch join)
+  private static final String ENTITY_QUERY = """
+      select distinct p from Post p
+        left join fetch p.user
+        left join fetch p.heritage
+        left join fetch p.images
+      order by p.createdAt desc
+      """;
+
+  @Autowired
+  EntityManager em;
+
+  @Autowired
+  PostRepository postRepository;
+
+  @Test
+  @DisplayName("첫 페이지 조회: projection 경로가 엔티티 경로보다 적게 할당하고 엔티티를 관리하지 않는다")
+  void compareFirstPage() {
+    Result entity = measure("entity", () -> em.createQuery(ENTITY_QUERY, Post.class)
+        .setFirstResult(0)
+        .setMaxResults(PAGE_SIZE)
+        .getResultList());
+    Result projection = measure("projection", () -> postRepository.findPostListWithFilters(
+        null, null, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent());
+
+    assertThat(projection.managedEntities()).isZero();
+    assertThat(projection.bytesPerPage()).isLessThan(entity.bytesPerPage());
+  }
+
+  private Result measure(String name, Supplier<List<?>> page) {
+    com.sun.management.ThreadMXBean mx =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long tid = Thread.currentThread().getId();
+    Session session = em.unwrap(Session.class);
+
+    for (int i = 0; i < WARMUP; i++) {
+      page.get();
+      em.clear();
+    }
+
+    long bytes = 0;
+    long nanos = 0;
+    int managed = 0;
+    for (int i = 0; i < ROUNDS; i++) {
+      long b0 = mx.getThreadAllocatedBytes(tid);
+      long t0 = System.nanoTime();
+      page.get();
+      nanos += System.nanoTime() - t0;
+      bytes += mx.getThreadAllocatedBytes(tid) - b0;
+      managed = Math.max(managed, session.getStatistics().getEntityCount());
+      em.clear();
+    }
+
+    Result result = new Result(bytes / ROUNDS, nanos / ROUNDS / 1_000, managed);
+    log.info("{} bytes/page={} us/page={} managedEntities={}",
+        name, result.bytesPerPage(), result.microsPerPage(), result.managedEntities());
+    return result;
+  }
+
+  private record Result(long bytesPerPage, long microsPerPage, int managedEntities) {
+  }
+}
@@ -0,0 +1,85 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.hh.heritagehunters.common.exception.NotFoundException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.oauth.entity.User;
+import org.hh.heritagehunters.domain.post.dto.request.CommentCreateRequestDto;
+import org.hh.heritagehunters.domain.post.entity.Comment;
+import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
+import org.hh.heritagehunters.domain.post.repository.CommentRepository;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository.Counter;
+import org.hh.heritagehunters.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  CommentRepository commentRepository;
+
+  @Mock
+  PostCounterRepository counterRepository;
+
+  @Mock
+  ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  CommentService commentService;
+
+  @Test
+  @DisplayName("add: comment_count UPDATE 가 0 행이면(게시글 없음) POST_NOT_FOUND, 댓글은 저장하지 않는다")
+  void add_missingPost() {
+    given(counterRepository.add(Counter.COMMENT, 1L, 1)).willReturn(false);
+
+    assertThatThrownBy(() -> commentService.add(1L, new User(), new CommentCreateRequestDto("댓글")))
+        .isInstanceOf(NotFoundException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+    verify(postRepository, never()).getReferenceById(any());
+    verify(commentRepository, never()).save(any());
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  @DisplayName("add: 댓글 하나를 게시글 참조 프록시에 연결해 저장하고 COMMENTED 를 발행한다 (게시글/댓글 목록은 읽지 않음)")
+  void add_savesOneComment() {
+    User user = new User();
+    user.setId(7L);
+    Post post = mock(Post.class);
+    given(counterRepository.add(Counter.COMMENT, 1L, 1)).willReturn(true);
+    given(postRepository.getReferenceById(1L)).willReturn(post);
+
+    Comment saved = commentService.add(1L, user, new CommentCreateRequestDto("댓글"));
+
+    ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+    verify(commentRepository, times(1)).save(captor.capture());
+    assertThat(captor.getValue()).isSameAs(saved);
+    assertThat(saved.getUser()).isSameAs(user);
+    assertThat(saved.getPost()).isSameAs(post);
+    assertThat(saved.getContent()).isEqualTo("댓글");
+    verify(eventPublisher).publishEvent(new PostChangedEvent(1L, PostChangedEvent.Type.COMMENTED));
+    // 참조 프록시만 연결 (post.getComments() 등으로 컬렉션을 로딩하지 않음)
+    verifyNoInteractions(post);
+  }
+}
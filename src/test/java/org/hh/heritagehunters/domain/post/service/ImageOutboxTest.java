@@ -0,0 +1,259 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.post.entity.ImageOutbox.Status;
+import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.image.ImageVariant;
+import org.hh.heritagehunters.domain.post.repository.ImageOutboxRepository;
+import org.hh.heritagehunters.domain.post.repository.StagedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 이미지 업로드 outbox 상태 전이 테스트
+ * - image_outbox 는 조건부 UPDATE 와 같은 의미의 메모리 표로 대신하고, ImageService/ImageOutboxWorker 는 실제 구현
+ * - STAGED → COMMITTED → (정식 경로 이동) 삭제, 오래된 STAGED 정리, 이동 실패 후 재시도를 본다
+ */
+class ImageOutboxTest {
+
+  private static final Duration STAGED_TTL = Duration.ofMinutes(30);
+  private static final Duration PROMOTE_DELAY = Duration.ofMinutes(1);
+
+  /** image_outbox 행 (id → 상태/작성 시각) */
+  private final Map<Long, Row> rows = new LinkedHashMap<>();
+  private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+  private static final class Row {
+    final StagedImage image;
+    Status status = Status.STAGED;
+    final Instant createdAt;
+
+    Row(StagedImage image, Instant createdAt) {
+      this.image = image;
+      this.createdAt = createdAt;
+    }
+  }
+
+  private final ImageOutboxRepository outbox = new ImageOutboxRepository(null) {
+    @Override
+    public StagedImage insert(String stagingKey, String finalKey, Long userId) {
+      StagedImage image = new StagedImage(rows.size() + 1L, stagingKey, finalKey, EnumSet.noneOf(ImageVariant.class));
+      rows.put(image.id(), new Row(image, now));
+      return image;
+    }
+
+    @Override
+    public int markCommitted(List<Long> ids, Long postId) {
+      int n = 0;
+      for (Long id : ids) {
+        Row row = rows.get(id);
+        if (row != null && row.status == Status.STAGED) {
+          row.status = Status.COMMITTED;
+          n++;
+        }
+      }
+      return n;
+    }
+
+    @Override
+    public boolean abandon(long id) {
+      Row row = rows.get(id);
+      if (row == null || row.status == Status.COMMITTED) {
+        return false;
+      }
+      row.status = Status.ABANDONED;
+      return true;
+    }
+
+    @Override
+    public void delete(long id) {
+      rows.remove(id);
+    }
+
+    @Override
+    public List<StagedImage> findOlderThan(Status status, Duration minAge, int limit) {
+      List<StagedImage> out = new ArrayList<>();
+      for (Row row : rows.values()) {
+        if (row.status == status && row.createdAt.isBefore(now.minus(minAge)) && out.size() < limit) {
+          out.add(row.image.withVariants(EnumSet.allOf(ImageVariant.class)));
+        }
+      }
+      return out;
+    }
+  };
+
+  private final ImageUploadService uploads = mock(ImageUploadService.class);
+  private final ImageDerivativeService derivatives = mock(ImageDerivativeService.class);
+  private final UploadScheduler scheduler = new UploadScheduler(2, 4, 4, false);
+
+  private ImageService imageService;
+  private ImageOutboxWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    given(uploads.newImageKey(anyString())).willAnswer(inv -> "posts/" + inv.getArgument(0));
+    given(uploads.getImageUrl(anyString())).willAnswer(inv -> "https://cdn/" + inv.getArgument(0));
+    given(uploads.moveImage(anyString(), anyString())).willReturn(true);
+    given(derivatives.derive(any())).willReturn(CompletableFuture.completedFuture(
+        Map.of(ImageVariant.THUMBNAIL, new byte[] {1})));
+
+    imageService = new ImageService(uploads, outbox, derivatives, scheduler, mock(S3DeletionQueue.class));
+    worker = new ImageOutboxWorker(outbox, imageService);
+    ReflectionTestUtils.setField(worker, "stagedTtl", STAGED_TTL);
+    ReflectionTestUtils.setField(worker, "promoteDelay", PROMOTE_DELAY);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdown();
+  }
+
+  private List<StagedImage> stage(String... names) {
+    List<MultipartFile> files = new ArrayList<>();
+    for (String name : names) {
+      files.add(new MockMultipartFile("images", name, "image/jpeg", new byte[] {1, 2, 3}));
+    }
+    return imageService.stage(7L, files);
+  }
+
+  private static Post post() {
+    Post post = new Post();
+    post.setId(100L);
+    return post;
+  }
+
+  @Test
+  @DisplayName("STAGED → COMMITTED → 정식 경로 이동 후 행 삭제")
+  void stagedCommittedPromoted() {
+    List<StagedImage> staged = stage("a.jpg");
+    StagedImage image = staged.get(0);
+    assertThat(image.stagingKey()).isEqualTo("staging/posts/a.jpg");
+    assertThat(image.variants()).containsExactly(ImageVariant.THUMBNAIL);
+    assertThat(rows.get(image.id()).status).isEqualTo(Status.STAGED);
+    verify(uploads).uploadImage(any(), anyString());
+    verify(uploads).uploadBytes("staging/posts/a.jpg_thumb.jpg", new byte[] {1}, "image/jpeg");
+
+    Post post = post();
+    imageService.attachStaged(post, staged);
+    assertThat(rows.get(image.id()).status).isEqualTo(Status.COMMITTED);
+    assertThat(post.getImages()).singleElement().satisfies(pi -> {
+      assertThat(pi.getUrl()).isEqualTo("https://cdn/posts/a.jpg");
+      assertThat(pi.getThumbnailUrl()).isEqualTo("https://cdn/posts/a.jpg_thumb.jpg");
+      assertThat(pi.getDetailUrl()).isNull();
+    });
+
+    imageService.promote(staged);
+    verify(uploads).moveImage("staging/posts/a.jpg", "posts/a.jpg");
+    verify(uploads).moveImage("staging/posts/a.jpg_thumb.jpg", "posts/a.jpg_thumb.jpg");
+    assertThat(rows).isEmpty();
+  }
+
+  @Test
+  @DisplayName("staged-ttl 이 지나도록 연결되지 않은 STAGED 는 정리 작업이 임시 객체와 행을 지운다")
+  void staleStagedDiscarded() {
+    StagedImage image = stage("a.jpg").get(0);
+
+    now = now.plus(STAGED_TTL.minusSeconds(1));
+    worker.run();
+    assertThat(rows).containsKey(image.id());
+    verify(uploads, never()).deleteImageByKey(anyString());
+
+    now = now.plusSeconds(2);
+    worker.run();
+    assertThat(rows).isEmpty();
+    verify(uploads).deleteImageByKey("staging/posts/a.jpg");
+    verify(uploads).deleteImageByKey("staging/posts/a.jpg_thumb.jpg");
+    verify(uploads).deleteImageByKey("staging/posts/a.jpg_detail.jpg");
+
+    // 정리된 뒤 늦게 도착한 게시글 커밋은 실패 (트랜잭션 롤백)
+    assertThatThrownBy(() -> imageService.attachStaged(post(), List.of(image)))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_UPLOAD_FAILED);
+  }
+
+  @Test
+  @DisplayName("커밋 후 이동에 실패하면 COMMITTED 로 남고, 정리 작업이 다시 옮긴 뒤 행을 지운다")
+  void failedPromoteRetried() {
+    List<StagedImage> staged = stage("a.jpg");
+    imageService.attachStaged(post(), staged);
+
+    willThrow(new IllegalStateException("s3 down"))
+        .given(uploads).moveImage("staging/posts/a.jpg", "posts/a.jpg");
+    imageService.promote(staged);
+    assertThat(rows.get(staged.get(0).id()).status).isEqualTo(Status.COMMITTED);
+
+    // 요청 스레드가 옮기는 중일 수 있는 promote-delay 안에서는 건드리지 않음
+    worker.run();
+    assertThat(rows).hasSize(1);
+
+    given(uploads.moveImage("staging/posts/a.jpg", "posts/a.jpg")).willReturn(true);
+    now = now.plus(PROMOTE_DELAY).plusSeconds(1);
+    worker.run();
+    assertThat(rows).isEmpty();
+    // 어떤 파생본을 올렸는지 모르므로 모두 옮겨 봄 (없는 키는 무시됨)
+    verify(uploads).moveImage("staging/posts/a.jpg_detail.jpg", "posts/a.jpg_detail.jpg");
+  }
+
+  @Test
+  @DisplayName("stage: 업로드가 하나라도 실패하면 올린 임시 객체와 행을 모두 지우고 IMAGE_UPLOAD_FAILED")
+  void stage_uploadFailureDiscardsAll() {
+    willThrow(new IllegalStateException("s3 down"))
+        .given(uploads).uploadImage(any(), eq("staging/posts/b.jpg"));
+
+    assertThatThrownBy(() -> stage("a.jpg", "b.jpg"))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_UPLOAD_FAILED);
+    assertThat(rows).isEmpty();
+    verify(uploads).deleteImageByKey("staging/posts/a.jpg");
+    verify(uploads).deleteImageByKey("staging/posts/b.jpg");
+  }
+
+  @Test
+  @DisplayName("stage: 이미지가 아닌 파일은 outbox 기록/업로드 전에 INVALID_IMAGE_FORMAT")
+  void stage_rejectsInvalidBeforeOutbox() {
+    List<MultipartFile> files = List.of(new MockMultipartFile("images", "a.txt", "text/plain", new byte[] {1}));
+
+    assertThatThrownBy(() -> imageService.stage(7L, files))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.INVALID_IMAGE_FORMAT);
+    assertThat(rows).isEmpty();
+    verify(uploads, never()).uploadImage(any(), anyString());
+  }
+
+  @Test
+  @DisplayName("이미 커밋된 이미지는 discard 가 지우지 않는다")
+  void discard_skipsCommitted() {
+    List<StagedImage> staged = stage("a.jpg");
+    imageService.attachStaged(post(), staged);
+
+    imageService.discard(staged);
+
+    assertThat(rows.get(staged.get(0).id()).status).isEqualTo(Status.COMMITTED);
+    verify(uploads, never()).deleteImageByKey(anyString());
+  }
+}
@@ -0,0 +1,151 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.post.entity.Post;
+import org.hh.heritagehunters.domain.post.entity.PostImage;
+import org.hh.heritagehunters.domain.post.image.ImageVariant;
+import org.hh.heritagehunters.domain.post.repository.ImageOutboxRepository;
+import org.hh.heritagehunters.domain.post.repository.StagedImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+
+  private static final long USER_ID = 7L;
+
+  @Mock
+  ImageUploadService imageUploadService;
+
+  @Mock
+  ImageOutboxRepository outboxRepository;
+
+  @Mock
+  ImageDerivativeService imageDerivativeService;
+
+  @Mock
+  UploadScheduler uploadScheduler;
+
+  @Mock
+  S3DeletionQueue s3DeletionQueue;
+
+  @InjectMocks
+  ImageService imageService;
+
+  private static StagedImage staged(long id) {
+    return new StagedImage(id, "staging/posts/" + id + ".jpg", "posts/" + id + ".jpg",
+        EnumSet.noneOf(ImageVariant.class));
+  }
+
+  private static HeadObjectResponse head(String contentType, long size) {
+    return HeadObjectResponse.builder().contentType(contentType).contentLength(size).build();
+  }
+
+  @Test
+  @DisplayName("confirm: 본인의 STAGED 업로드만 찾고, 실제로 올라온 이미지면 요청 순서대로 돌려준다 (중복 ID 는 한 번)")
+  void confirm_ownStagedImages() {
+    given(outboxRepository.findStaged(List.of(2L, 1L), USER_ID)).willReturn(List.of(staged(1), staged(2)));
+    given(imageUploadService.headImage(anyString())).willReturn(Optional.of(head("image/png", 1024)));
+
+    List<StagedImage> confirmed = imageService.confirm(USER_ID, List.of(2L, 1L, 2L));
+
+    assertThat(confirmed).extracting(StagedImage::id).containsExactly(2L, 1L);
+    verify(imageUploadService).headImage("staging/posts/1.jpg");
+    verify(imageUploadService).headImage("staging/posts/2.jpg");
+  }
+
+  @Test
+  @DisplayName("confirm: 다른 사용자의 업로드이거나 STAGED 가 아니어서 조회되지 않으면 IMAGE_UPLOAD_NOT_FOUND")
+  void confirm_rejectsForeignOrNotStaged() {
+    // findStaged 는 user_id/status 조건으로 걸러 본인 STAGED 행만 돌려준다
+    given(outboxRepository.findStaged(List.of(1L, 9L), USER_ID)).willReturn(List.of(staged(1)));
+    given(imageUploadService.headImage("staging/posts/1.jpg")).willReturn(Optional.of(head("image/jpeg", 10)));
+
+    assertThatThrownBy(() -> imageService.confirm(USER_ID, List.of(1L, 9L)))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_UPLOAD_NOT_FOUND);
+    verify(imageUploadService, never()).headImage("staging/posts/9.jpg");
+  }
+
+  @Test
+  @DisplayName("confirm: URL 만 받고 올리지 않은 업로드(HeadObject 없음)는 IMAGE_UPLOAD_NOT_FOUND")
+  void confirm_rejectsMissingObject() {
+    given(outboxRepository.findStaged(List.of(1L), USER_ID)).willReturn(List.of(staged(1)));
+    given(imageUploadService.headImage("staging/posts/1.jpg")).willReturn(Optional.empty());
+
+    assertThatThrownBy(() -> imageService.confirm(USER_ID, List.of(1L)))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_UPLOAD_NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("confirm: 올라온 객체의 Content-Type/크기가 이미지 조건에 맞지 않으면 거절")
+  void confirm_validatesHeadObject() {
+    given(outboxRepository.findStaged(List.of(1L), USER_ID)).willReturn(List.of(staged(1)));
+
+    given(imageUploadService.headImage("staging/posts/1.jpg")).willReturn(Optional.of(head("text/html", 10)));
+    assertThatThrownBy(() -> imageService.confirm(USER_ID, List.of(1L)))
+        .extracting("errorCode").isEqualTo(ErrorCode.INVALID_IMAGE_FORMAT);
+
+    given(imageUploadService.headImage("staging/posts/1.jpg")).willReturn(Optional.of(head("image/jpeg", 0)));
+    assertThatThrownBy(() -> imageService.confirm(USER_ID, List.of(1L)))
+        .extracting("errorCode").isEqualTo(ErrorCode.EMPTY_IMAGE_FILE);
+
+    given(imageUploadService.headImage("staging/posts/1.jpg"))
+        .willReturn(Optional.of(head("image/jpeg", 50L * 1024 * 1024 + 1)));
+    assertThatThrownBy(() -> imageService.confirm(USER_ID, List.of(1L)))
+        .extracting("errorCode").isEqualTo(ErrorCode.IMAGE_TOO_LARGE);
+  }
+
+  @Test
+  @DisplayName("confirm: 업로드가 없으면 빈 목록, 게시글 최대 이미지 수를 넘으면 조회 전에 TOO_MANY_IMAGES")
+  void confirm_emptyAndTooMany() {
+    assertThat(imageService.confirm(USER_ID, null)).isEmpty();
+    assertThat(imageService.confirm(USER_ID, List.of())).isEmpty();
+
+    assertThatThrownBy(() -> imageService.confirm(USER_ID, List.of(1L, 2L, 3L, 4L)))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.TOO_MANY_IMAGES);
+    verifyNoInteractions(outboxRepository, imageUploadService);
+  }
+
+  @Test
+  @DisplayName("attachStaged: 기존 이미지와 합쳐 게시글당 최대 수를 넘으면 outbox 를 커밋하지 않고 TOO_MANY_IMAGES")
+  void attachStaged_enforcesPerPostCap() {
+    Post post = new Post();
+    post.setId(100L);
+    post.setImages(new ArrayList<>(List.of(new PostImage(), new PostImage())));
+
+    assertThatThrownBy(() -> imageService.attachStaged(post, List.of(staged(1), staged(2))))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.TOO_MANY_IMAGES);
+    assertThat(post.getImages()).hasSize(2);
+    verify(outboxRepository, never()).markCommitted(anyList(), any());
+
+    given(imageUploadService.getImageUrl(anyString())).willAnswer(inv -> "https://cdn/" + inv.getArgument(0));
+    given(outboxRepository.markCommitted(List.of(1L), 100L)).willReturn(1);
+    imageService.attachStaged(post, List.of(staged(1)));
+    assertThat(post.getImages()).hasSize(3);
+    assertThat(post.getImages().get(2).getOrderIndex()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,139 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hh.heritagehunters.domain.oauth.entity.User;
+import org.hh.heritagehunters.domain.post.repository.LikeCommandRepository;
+import org.hh.heritagehunters.domain.post.repository.LikeRepository;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository;
+import org.hh.heritagehunters.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 좋아요 토글 / 버퍼 집계 단위 테스트 (DB, 트랜잭션 없음)
+ * - likes 테이블: ON CONFLICT DO NOTHING / DELETE RETURNING 과 같은 의미의 메모리 집합
+ * - posts.like_count: count + delta 를 적용하는 메모리 카운터
+ * 트랜잭션 동기화가 없으므로 증감분은 바로 버퍼에 들어간다 - 버퍼의 drain/flush 집계만 검증한다.
+ * 커밋 후 기록(afterCommit)과 재집계 경합은 LikeServiceTransactionTest 가 실제 PostgreSQL 로 검증한다.
+ */
+class LikeServiceConcurrencyTest {
+
+  private static final int THREADS = 16;
+  private static final int TOGGLES = 20_000;
+  private static final int USERS = 40;
+  private static final long POSTS = 5;
+
+  /** likes 행 (userId:postId) */
+  private final Set<String> likeRows = ConcurrentHashMap.newKeySet();
+  /** posts.like_count */
+  private final Map<Long, Long> storedCounts = new ConcurrentHashMap<>();
+
+  private final LikeCommandRepository likeCommands = new LikeCommandRepository(null) {
+    @Override
+    public boolean insertIfAbsent(Long userId, Long postId) {
+      return likeRows.add(userId + ":" + postId);
+    }
+
+    @Override
+    public boolean deleteIfPresent(Long userId, Long postId) {
+      return likeRows.remove(userId + ":" + postId);
+    }
+  };
+
+  private final PostCounterRepository counters = new PostCounterRepository(null) {
+    @Override
+    public int addDeltas(Counter counter, Map<Long, Long> deltas) {
+      deltas.forEach((id, d) -> storedCounts.merge(id, d, Long::sum));
+      return deltas.size();
+    }
+  };
+
+  @Test
+  @DisplayName("여러 스레드 토글 + flush 후 버퍼가 반영한 합 = 메모리 좋아요 행 수 (게시글별)")
+  void parallelToggles_keepCountsConsistent() throws Exception {
+    LikeCountBuffer buffer = new LikeCountBuffer(counters, event -> { });
+    PostRepository postRepository = mock(PostRepository.class);
+    when(postRepository.existsById(anyLong())).thenReturn(true);
+    LikeService service = new LikeService(postRepository, mock(LikeRepository.class), likeCommands, buffer);
+
+    List<User> users = new ArrayList<>();
+    for (long i = 1; i <= USERS; i++) {
+      User u = new User();
+      u.setId(i);
+      users.add(u);
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+    AtomicBoolean running = new AtomicBoolean(true);
+    Future<?> flusher = pool.submit(() -> {
+      while (running.get()) {
+        buffer.flush();
+      }
+    });
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      workers.add(pool.submit(() -> {
+        start.await();
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for (int i = 0; i < TOGGLES / THREADS; i++) {
+          // 적은 사용자/게시글에 몰아 같은 (user, post) 동시 토글이 자주 겹치게 함
+          service.toggle(1 + rnd.nextLong(POSTS), users.get(rnd.nextInt(USERS)));
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> w : workers) {
+      w.get(60, TimeUnit.SECONDS);
+    }
+    running.set(false);
+    flusher.get(10, TimeUnit.SECONDS);
+    pool.shutdown();
+    buffer.flush();
+
+    for (long postId = 1; postId <= POSTS; postId++) {
+      String suffix = ":" + postId;
+      long rows = likeRows.stream().filter(k -> k.endsWith(suffix)).count();
+      assertThat(storedCounts.getOrDefault(postId, 0L)).as("post %d", postId).isEqualTo(rows);
+      assertThat(buffer.pending(postId)).isZero();
+    }
+  }
+
+  @Test
+  @DisplayName("토글 결과는 직전 상태의 반대 (한 사용자 순차 호출)")
+  void toggle_flipsState() {
+    LikeCountBuffer buffer = new LikeCountBuffer(counters, event -> { });
+    PostRepository postRepository = mock(PostRepository.class);
+    when(postRepository.existsById(anyLong())).thenReturn(true);
+    LikeService service = new LikeService(postRepository, mock(LikeRepository.class), likeCommands, buffer);
+    User user = new User();
+    user.setId(1L);
+
+    assertThat(service.toggle(1L, user)).isTrue();
+    assertThat(buffer.pending(1L)).isEqualTo(1);
+    assertThat(service.toggle(1L, user)).isFalse();
+    assertThat(buffer.pending(1L)).isZero();
+    assertThat(service.toggle(1L, user)).isTrue();
+
+    buffer.flush();
+    assertThat(storedCounts.get(1L)).isEqualTo(1L);
+  }
+}
@@ -0,0 +1,142 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hh.heritagehunters.domain.oauth.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 좋아요 토글 동시성 테스트 (실제 PostgreSQL, 실제 트랜잭션)
+ * - LikeService 프록시를 거쳐 토글마다 트랜잭션이 열리고, 증감분은 커밋 뒤(afterCommit)에만 버퍼에 들어간다
+ * - 토글하는 동안 flush 와 재집계(recount)를 계속 돌려 커밋 ~ 버퍼 기록 사이에 끼어들게 한다
+ * 끝난 뒤 posts.like_count 가 likes 행 수와 같은지 본다. Docker 가 없으면 건너뛴다.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Testcontainers(disabledWithoutDocker = true)
+class LikeServiceTransactionTest {
+
+  private static final int THREADS = 16;
+  private static final int TOGGLES = 4_000;
+  private static final int USERS = 20;
+  private static final int POSTS = 4;
+
+  @Container
+  @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+      DockerImageName.parse("postgis/postgis:16-3.4-alpine").asCompatibleSubstituteFor("postgres"));
+
+  @Autowired
+  LikeService likeService;
+
+  @Autowired
+  LikeCountBuffer likeCountBuffer;
+
+  @Autowired
+  NamedParameterJdbcTemplate jdbc;
+
+  private Long heritageId;
+  private final List<User> users = new ArrayList<>();
+  private final List<Long> postIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    heritageId = jdbc.queryForObject(
+        "INSERT INTO heritages (name) VALUES ('좋아요 테스트 문화재') RETURNING id", Map.of(), Long.class);
+    for (int i = 0; i < USERS; i++) {
+      User user = new User();
+      user.setId(jdbc.queryForObject("""
+          INSERT INTO users (email, nickname, score, provider)
+          VALUES (:email, :nickname, 0, 'local') RETURNING id
+          """, Map.of("email", "like-" + i + "@test.local", "nickname", "like-" + i), Long.class));
+      users.add(user);
+    }
+    for (int i = 0; i < POSTS; i++) {
+      postIds.add(jdbc.queryForObject("""
+          INSERT INTO posts (user_id, heritage_id, content, location, created_at,
+                             view_count, comment_count, like_count)
+          VALUES (:userId, :heritageId, '내용', '장소', now(), 0, 0, 0) RETURNING id
+          """, Map.of("userId", users.get(0).getId(), "heritageId", heritageId), Long.class));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    Map<String, Object> ids = Map.of(
+        "postIds", postIds,
+        "userIds", users.stream().map(User::getId).toList(),
+        "heritageId", heritageId);
+    jdbc.update("DELETE FROM likes WHERE post_id IN (:postIds)", ids);
+    jdbc.update("DELETE FROM posts WHERE id IN (:postIds)", ids);
+    jdbc.update("DELETE FROM users WHERE id IN (:userIds)", ids);
+    jdbc.update("DELETE FROM heritages WHERE id = :heritageId", ids);
+  }
+
+  @Test
+  @DisplayName("동시 토글 + flush + 재집계 후 좋아요 수 = likes 행 수 (게시글별)")
+  void parallelToggles_withFlushAndRecount_keepCountsConsistent() throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+    AtomicBoolean running = new AtomicBoolean(true);
+    Future<?> counter = pool.submit(() -> {
+      int round = 0;
+      while (running.get()) {
+        if (++round % 5 == 0) {
+          likeCountBuffer.recount();
+        } else {
+          likeCountBuffer.flush();
+        }
+      }
+    });
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> workers = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      workers.add(pool.submit(() -> {
+        start.await();
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for (int i = 0; i < TOGGLES / THREADS; i++) {
+          likeService.toggle(postIds.get(rnd.nextInt(POSTS)), users.get(rnd.nextInt(USERS)));
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> w : workers) {
+      w.get(120, TimeUnit.SECONDS);
+    }
+    running.set(false);
+    counter.get(30, TimeUnit.SECONDS);
+    pool.shutdown();
+    likeCountBuffer.flush();
+
+    for (Long postId : postIds) {
+      Map<String, Object> row = jdbc.queryForMap("""
+          SELECT p.like_count AS stored, (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id) AS actual
+          FROM posts p WHERE p.id = :postId
+          """, Map.of("postId", postId));
+      assertThat(((Number) row.get("stored")).longValue()).as("post %d", postId)
+          .isEqualTo(((Number) row.get("actual")).longValue());
+      assertThat(likeCountBuffer.pending(postId)).isZero();
+    }
+  }
+}
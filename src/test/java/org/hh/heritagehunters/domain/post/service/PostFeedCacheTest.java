@@ -0,0 +1,163 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import org.hh.heritagehunters.domain.post.dto.response.PostListResponseDto;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent.Type;
+import org.hh.heritagehunters.domain.post.repository.PostSortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+class PostFeedCacheTest {
+
+  /** 본문 없는 게시글 1개짜리 페이지의 추정 크기 (페이지 256 + 게시글 320) */
+  private static final long ONE_POST_BYTES = 256 + 320;
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private static PostFeedCache.Key key(PostSortKey sort, int page) {
+    return new PostFeedCache.Key(null, null, sort, false, page, 16);
+  }
+
+  private static Page<PostListResponseDto> page(long... postIds) {
+    return new PageImpl<>(LongStream.of(postIds)
+        .mapToObj(id -> PostListResponseDto.builder().id(id).build())
+        .toList());
+  }
+
+  private Supplier<Page<PostListResponseDto>> loader(long... postIds) {
+    return () -> {
+      loads.incrementAndGet();
+      return page(postIds);
+    };
+  }
+
+  @Test
+  @DisplayName("get: TTL 안에서는 같은 키를 다시 읽지 않고, TTL 이 지나면 다시 읽는다")
+  void get_ttl() {
+    PostFeedCache cache = new PostFeedCache(1 << 20, Duration.ofMinutes(1), 5);
+    Page<PostListResponseDto> first = cache.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+    Page<PostListResponseDto> second = cache.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+
+    // TTL 0 이면 넣자마자 만료
+    PostFeedCache expiring = new PostFeedCache(1 << 20, Duration.ZERO, 5);
+    expiring.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+    expiring.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("get: 추정 바이트 합이 max-bytes 를 넘으면 가장 오래 안 쓴 항목부터 버리고, 혼자 넘치는 페이지는 넣지 않는다")
+  void get_evictsLeastRecentlyUsedByBytes() {
+    PostFeedCache cache = new PostFeedCache(ONE_POST_BYTES * 2, Duration.ofMinutes(1), 5);
+    cache.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+    cache.get(key(PostSortKey.CREATED_AT, 1), loader(2));
+    cache.get(key(PostSortKey.CREATED_AT, 0), loader(1));      // 0 페이지를 최근 사용으로
+    cache.get(key(PostSortKey.CREATED_AT, 2), loader(3));      // 1 페이지가 밀려남
+    assertThat(loads).hasValue(3);
+
+    cache.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+    cache.get(key(PostSortKey.CREATED_AT, 2), loader(3));
+    assertThat(loads).hasValue(3);
+    cache.get(key(PostSortKey.CREATED_AT, 1), loader(2));
+    assertThat(loads).hasValue(4);
+
+    // 게시글 3개짜리 페이지는 max-bytes 를 혼자 넘으므로 매번 읽음
+    cache.get(key(PostSortKey.VIEW_COUNT, 0), loader(1, 2, 3));
+    cache.get(key(PostSortKey.VIEW_COUNT, 0), loader(1, 2, 3));
+    assertThat(loads).hasValue(6);
+  }
+
+  @Test
+  @DisplayName("get: max-page 이상 페이지와 max-bytes 0 은 캐시하지 않는다")
+  void get_bypass() {
+    PostFeedCache cache = new PostFeedCache(1 << 20, Duration.ofMinutes(1), 2);
+    cache.get(key(PostSortKey.CREATED_AT, 2), loader(1));
+    cache.get(key(PostSortKey.CREATED_AT, 2), loader(1));
+
+    PostFeedCache disabled = new PostFeedCache(0, Duration.ofMinutes(1), 5);
+    disabled.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+    disabled.get(key(PostSortKey.CREATED_AT, 0), loader(1));
+
+    assertThat(loads).hasValue(4);
+  }
+
+  @Test
+  @DisplayName("onPostChanged: 작성/수정/삭제는 전체, 좋아요/댓글은 그 게시글이 담긴 항목과 해당 카운트 정렬만 비운다")
+  void onPostChanged_invalidation() {
+    PostFeedCache cache = new PostFeedCache(1 << 20, Duration.ofMinutes(1), 5);
+    PostFeedCache.Key latestWith1 = key(PostSortKey.CREATED_AT, 0);
+    PostFeedCache.Key latestWith2 = key(PostSortKey.CREATED_AT, 1);
+    PostFeedCache.Key byLikes = key(PostSortKey.LIKE_COUNT, 0);
+    PostFeedCache.Key byComments = key(PostSortKey.COMMENT_COUNT, 0);
+    Runnable fill = () -> {
+      cache.get(latestWith1, loader(1));
+      cache.get(latestWith2, loader(2));
+      cache.get(byLikes, loader(3));
+      cache.get(byComments, loader(4));
+    };
+    fill.run();
+    assertThat(loads).hasValue(4);
+
+    // 게시글 2 좋아요 → 2가 담긴 페이지 + 좋아요순 페이지
+    cache.onPostChanged(new PostChangedEvent(2L, Type.LIKED));
+    fill.run();
+    assertThat(loads).hasValue(6);
+
+    // 게시글 1 댓글 → 1이 담긴 페이지 + 댓글순 페이지
+    cache.onPostChanged(new PostChangedEvent(1L, Type.COMMENTED));
+    fill.run();
+    assertThat(loads).hasValue(8);
+
+    // 새 글 → 전체
+    cache.onPostChanged(new PostChangedEvent(99L, Type.CREATED));
+    fill.run();
+    assertThat(loads).hasValue(12);
+  }
+
+  @Test
+  @DisplayName("get: 읽는 동안 무효화가 일어나면 그 결과는 캐시하지 않는다 (세대 증가)")
+  void get_skipsResultLoadedAcrossInvalidation() {
+    PostFeedCache cache = new PostFeedCache(1 << 20, Duration.ofMinutes(1), 5);
+    PostFeedCache.Key key = key(PostSortKey.CREATED_AT, 0);
+
+    cache.get(key, () -> {
+      loads.incrementAndGet();
+      cache.onPostChanged(new PostChangedEvent(5L, Type.UPDATED)); // 읽는 중에 커밋된 변경
+      return page(5);
+    });
+    cache.get(key, loader(5));
+    cache.get(key, loader(5));
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("withLikedByCurrentUser: 사용자별 좋아요는 사본에만 덧씌워지고 캐시된 공유 본문은 그대로")
+  void withLikedByCurrentUser_doesNotLeakIntoCache() {
+    PostFeedCache cache = new PostFeedCache(1 << 20, Duration.ofMinutes(1), 5);
+    PostFeedCache.Key key = key(PostSortKey.CREATED_AT, 0);
+
+    Page<PostListResponseDto> shared = cache.get(key, loader(1, 2));
+    List<Long> liked = List.of(2L);
+    Page<PostListResponseDto> mine = shared.map(p -> p.withLikedByCurrentUser(liked.contains(p.getId())));
+
+    assertThat(mine.getContent()).extracting(PostListResponseDto::isLikedByCurrentUser)
+        .containsExactly(false, true);
+    assertThat(mine.getContent().get(0)).isSameAs(shared.getContent().get(0)); // 바뀌지 않은 행은 그대로 재사용
+    assertThat(cache.get(key, loader(1, 2)).getContent())
+        .extracting(PostListResponseDto::isLikedByCurrentUser)
+        .containsExactly(false, false);
+    assertThat(loads).hasValue(1);
+  }
+}
@@ -0,0 +1,168 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.hh.heritagehunters.domain.post.dto.CommentCursor;
+import org.hh.heritagehunters.domain.post.dto.PostFeedCursor;
+import org.hh.heritagehunters.domain.post.repository.CommentListProjection;
+import org.hh.heritagehunters.domain.post.repository.CommentRepository;
+import org.hh.heritagehunters.domain.post.repository.LikeRepository;
+import org.hh.heritagehunters.domain.post.repository.PostFeedRepository;
+import org.hh.heritagehunters.domain.post.repository.PostListProjection;
+import org.hh.heritagehunters.domain.post.repository.PostRepository;
+import org.hh.heritagehunters.domain.post.repository.PostSortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+@ExtendWith(MockitoExtension.class)
+class PostReaderTest {
+
+  @Mock
+  PostRepository postRepository;
+
+  @Mock
+  PostFeedRepository postFeedRepository;
+
+  @Mock
+  CommentRepository commentRepository;
+
+  @Mock
+  LikeRepository likeRepository;
+
+  @Mock
+  PostSearchService postSearchService;
+
+  @InjectMocks
+  PostReader postReader;
+
+  @Test
+  @DisplayName("getPage: 검색 색인이 없으면(null) 키워드를 LIKE 검색으로 넘긴다")
+  void getPage_fallsBackToLikeWithoutIndex() {
+    given(postSearchService.search("경복궁")).willReturn(null);
+    given(postRepository.findPostListWithFilters(eq("경복궁"), isNull(), any(Pageable.class)))
+        .willReturn(Page.empty());
+
+    postReader.getPage(" 경복궁 ", null, "createdAt", "desc", 0, 16);
+
+    verify(postRepository).findPostListWithFilters(eq("경복궁"), isNull(), any(Pageable.class));
+    verifyNoInteractions(postFeedRepository);
+  }
+
+  @Test
+  @DisplayName("getPage: 색인이 고른 ID 안에서만 정렬/페이지하고 LIKE 검색은 하지 않는다")
+  void getPage_usesIndexedIds() {
+    long[] matched = {3L, 7L};
+    given(postSearchService.search("경복궁")).willReturn(matched);
+    given(postFeedRepository.findPageIds(matched, null, PostSortKey.CREATED_AT, false, 0, 16))
+        .willReturn(List.of());
+
+    Page<PostListProjection> page = postReader.getPage("경복궁", null, "createdAt", "desc", 0, 16);
+
+    assertThat(page.getTotalElements()).isEqualTo(2);
+    verify(postRepository, never()).findPostListWithFilters(anyString(), any(), any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("getFeed: 색인이 없으면 키워드 LIKE, 색인이 비었으면 조회 없이 빈 결과")
+  void getFeed_fallbackAndEmptyMatch() {
+    given(postSearchService.search("경복궁")).willReturn(null);
+    given(postFeedRepository.findFeedIds(eq("경복궁"), isNull(), isNull(), any(), anyBoolean(), isNull(), anyInt()))
+        .willReturn(List.of());
+    postReader.getFeed("경복궁", null, "createdAt", "desc", null, 16);
+    verify(postFeedRepository).findFeedIds(eq("경복궁"), isNull(), isNull(), any(), anyBoolean(), isNull(), eq(17));
+
+    given(postSearchService.search("없는말")).willReturn(new long[0]);
+    assertThat(postReader.getFeed("없는말", null, "createdAt", "desc", null, 16)).isEmpty();
+    verify(postFeedRepository, never()).countIds(any(), any());
+    verify(postRepository, never()).findPostListByIdIn(any());
+    verify(postFeedRepository, never()).findPageIds(any(), any(), any(), anyBoolean(), anyLong(), anyInt());
+  }
+
+  private static final LocalDateTime T0 = LocalDateTime.of(2025, 8, 5, 10, 30);
+
+  private static CommentListProjection comment(long id) {
+    return new SpelAwareProxyProjectionFactory().createProjection(CommentListProjection.class,
+        Map.of("id", id, "content", "댓글 " + id, "createdAt", T0.plusSeconds(id), "userId", 1L,
+            "userNickname", "닉네임"));
+  }
+
+  @Test
+  @DisplayName("getComments: 첫 페이지는 size+1 건을 읽어 넘치면 size 건만 돌려주고 hasNext")
+  void getComments_firstPageReadsOneMore() {
+    given(commentRepository.findFirstPage(1L, PageRequest.of(0, 3)))
+        .willReturn(List.of(comment(1), comment(2), comment(3)));
+
+    Slice<CommentListProjection> slice = postReader.getComments(1L, null, 2);
+
+    assertThat(slice.getContent()).extracting(CommentListProjection::getId).containsExactly(1L, 2L);
+    assertThat(slice.hasNext()).isTrue();
+    verify(commentRepository, never()).findPageAfter(anyLong(), any(), anyLong(), any());
+  }
+
+  @Test
+  @DisplayName("getComments: 커서가 있으면 (작성일시, ID) 다음부터 읽고, size 이하면 마지막 페이지")
+  void getComments_afterCursorLastPage() {
+    CommentCursor after = new CommentCursor(T0.plusSeconds(2), 2L);
+    given(commentRepository.findPageAfter(1L, T0.plusSeconds(2), 2L, PageRequest.of(0, 3)))
+        .willReturn(List.of(comment(3), comment(4)));
+
+    Slice<CommentListProjection> slice = postReader.getComments(1L, after, 2);
+
+    assertThat(slice.getContent()).extracting(CommentListProjection::getId).containsExactly(3L, 4L);
+    assertThat(slice.hasNext()).isFalse();
+  }
+
+  private static PostListProjection post(long id) {
+    return new SpelAwareProxyProjectionFactory().createProjection(PostListProjection.class, Map.of("id", id));
+  }
+
+  @Test
+  @DisplayName("getFeed: size+1 건의 ID 를 읽어 넘치면 hasNext, 목록은 size 건을 ID 순서대로 (IN 조회 순서와 무관)")
+  void getFeed_readsOneMoreForHasNext() {
+    PostFeedCursor after = new PostFeedCursor(5, 9L);
+    given(postFeedRepository.findFeedIds(null, null, null, PostSortKey.LIKE_COUNT, false, after, 3))
+        .willReturn(List.of(8L, 4L, 6L));
+    given(postRepository.findPostListByIdIn(List.of(8L, 4L))).willReturn(List.of(post(4), post(8)));
+
+    Slice<PostListProjection> slice = postReader.getFeed(null, null, "likeCount", "desc", after, 2);
+
+    assertThat(slice.getContent()).extracting(PostListProjection::getId).containsExactly(8L, 4L);
+    assertThat(slice.hasNext()).isTrue();
+  }
+
+  @Test
+  @DisplayName("getFeed: size 건 이하면 마지막 페이지")
+  void getFeed_lastPage() {
+    given(postFeedRepository.findFeedIds(null, null, null, PostSortKey.CREATED_AT, true, null, 3))
+        .willReturn(List.of(1L, 2L));
+    given(postRepository.findPostListByIdIn(List.of(1L, 2L))).willReturn(List.of(post(1), post(2)));
+
+    Slice<PostListProjection> slice = postReader.getFeed(null, null, "createdAt", "asc", null, 2);
+
+    assertThat(slice.getContent()).extracting(PostListProjection::getId).containsExactly(1L, 2L);
+    assertThat(slice.hasNext()).isFalse();
+  }
+}
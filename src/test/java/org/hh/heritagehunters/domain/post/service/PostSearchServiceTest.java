@@ -0,0 +1,99 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent;
+import org.hh.heritagehunters.domain.post.event.PostChangedEvent.Type;
+import org.hh.heritagehunters.domain.post.index.PostSearchRow;
+import org.hh.heritagehunters.domain.post.repository.PostSearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchServiceTest {
+
+  private static final PostSearchRow GYEONGBOK = new PostSearchRow(1L, "경복궁 야간 개장", "서울 종로구", "경복궁");
+  private static final PostSearchRow BULGUKSA = new PostSearchRow(2L, "불국사 단풍", "경북 경주시", "불국사");
+
+  @Mock
+  PostSearchRepository repo;
+
+  @InjectMocks
+  PostSearchService service;
+
+  @Test
+  @DisplayName("search: 색인이 아직 없거나 빌드에 실패하면 null (호출 측이 LIKE 검색으로 대체)")
+  void search_withoutIndex_returnsNull() {
+    assertThat(service.search("경복궁")).isNull();
+
+    given(repo.findAllRows()).willThrow(new IllegalStateException("db down"));
+    service.warmUp();
+    assertThat(service.search("경복궁")).isNull();
+  }
+
+  @Test
+  @DisplayName("search: 빌드 후에는 색인으로 찾고, 공백뿐인 검색어는 빈 결과")
+  void search_afterBuild() {
+    given(repo.findAllRows()).willReturn(List.of(GYEONGBOK, BULGUKSA));
+    service.warmUp();
+
+    assertThat(service.search("종로")).containsExactly(1L);
+    assertThat(service.search("단 풍")).containsExactly(2L);
+    assertThat(service.search("   ")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("onPostChanged: 작성/수정/삭제는 최신 행으로 색인 결과를 덮어쓰고, 좋아요/댓글은 무시")
+  void onPostChanged_overlaysIndex() {
+    given(repo.findAllRows()).willReturn(List.of(GYEONGBOK, BULGUKSA));
+    service.warmUp();
+
+    // 새 글
+    given(repo.findRow(3L)).willReturn(Optional.of(new PostSearchRow(3L, "경복궁 수문장 교대식", "서울", "경복궁")));
+    service.onPostChanged(new PostChangedEvent(3L, Type.CREATED));
+    assertThat(service.search("경복궁")).containsExactlyInAnyOrder(1L, 3L);
+
+    // 수정으로 더 이상 일치하지 않게 된 글은 색인 결과에서 빠짐
+    given(repo.findRow(1L)).willReturn(Optional.of(new PostSearchRow(1L, "창덕궁 후원", "서울 종로구", "창덕궁")));
+    service.onPostChanged(new PostChangedEvent(1L, Type.UPDATED));
+    assertThat(service.search("경복궁")).containsExactly(3L);
+    assertThat(service.search("후원")).containsExactly(1L);
+
+    // 삭제
+    service.onPostChanged(new PostChangedEvent(2L, Type.DELETED));
+    assertThat(service.search("불국사")).isEmpty();
+
+    // 수정 직후 이미 지워진 글 (다시 읽을 행이 없음) → 삭제로 취급
+    given(repo.findRow(3L)).willReturn(Optional.empty());
+    service.onPostChanged(new PostChangedEvent(3L, Type.UPDATED));
+    assertThat(service.search("경복궁")).isEmpty();
+
+    service.onPostChanged(new PostChangedEvent(1L, Type.LIKED));
+    service.onPostChanged(new PostChangedEvent(1L, Type.COMMENTED));
+    verify(repo, never()).findRow(2L);
+  }
+
+  @Test
+  @DisplayName("refresh: 재빌드하면 그 전까지의 변경분은 버리고 새 색인만 본다")
+  void refresh_dropsOverlayRecordedBeforeRebuild() {
+    given(repo.findAllRows()).willReturn(List.of(GYEONGBOK, BULGUKSA));
+    service.warmUp();
+    service.onPostChanged(new PostChangedEvent(1L, Type.DELETED));
+    assertThat(service.search("경복궁")).isEmpty();
+
+    // 재빌드 시점의 전체 조회가 기준 (변경분이 남아 있으면 1 이 계속 빠졌을 것)
+    service.refresh();
+    assertThat(service.search("경복궁")).containsExactly(1L);
+    verify(repo, never()).findRow(anyLong());
+  }
+}
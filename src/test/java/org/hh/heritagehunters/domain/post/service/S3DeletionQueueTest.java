@@ -0,0 +1,160 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.hh.heritagehunters.domain.post.repository.PendingS3DeletionRepository;
+import org.hh.heritagehunters.domain.post.repository.PendingS3DeletionRepository.Claimed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeletionQueueTest {
+
+  private static final Duration LEASE = Duration.ofMinutes(5);
+  private static final Duration BACKOFF_BASE = Duration.ofSeconds(10);
+  private static final Duration BACKOFF_MAX = Duration.ofHours(1);
+
+  @Mock
+  PendingS3DeletionRepository repository;
+
+  @Mock
+  S3Service s3Service;
+
+  @InjectMocks
+  S3DeletionQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(queue, "lease", LEASE);
+    ReflectionTestUtils.setField(queue, "backoffBase", BACKOFF_BASE);
+    ReflectionTestUtils.setField(queue, "backoffMax", BACKOFF_MAX);
+  }
+
+  @AfterEach
+  void tearDown() {
+    queue.shutdown();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private static List<Claimed> claimed(long fromId, int count) {
+    return LongStream.range(fromId, fromId + count)
+        .mapToObj(id -> new Claimed(id, "posts/" + id + ".jpg"))
+        .toList();
+  }
+
+  @Test
+  @DisplayName("drain: 삭제된 키의 행은 지우고, deleteFiles 가 실패로 돌려준 키의 행은 retryLater 로 미룬다")
+  void drain_deletesDoneAndRetriesFailed() {
+    given(repository.claimDue(LEASE, S3Service.MAX_DELETE_BATCH)).willReturn(claimed(1, 3));
+    given(s3Service.deleteFiles(List.of("posts/1.jpg", "posts/2.jpg", "posts/3.jpg")))
+        .willReturn(Set.of("posts/2.jpg"));
+
+    queue.drain();
+
+    verify(repository).deleteAll(List.of(1L, 3L));
+    verify(repository).retryLater(List.of(2L), BACKOFF_BASE, BACKOFF_MAX);
+    // 한 배치가 가득 차지 않았으므로 다시 가져가지 않음
+    verify(repository, times(1)).claimDue(any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("drain: 모두 성공하면 retryLater 없이 행만 지운다")
+  void drain_allDeleted() {
+    given(repository.claimDue(LEASE, S3Service.MAX_DELETE_BATCH)).willReturn(claimed(1, 2));
+    given(s3Service.deleteFiles(anyCollection())).willReturn(Set.of());
+
+    queue.drain();
+
+    verify(repository).deleteAll(List.of(1L, 2L));
+    verify(repository, never()).retryLater(anyCollection(), any(), any());
+  }
+
+  @Test
+  @DisplayName("drain: 가져간 행이 1000개(가득 찬 배치)면 덜 찬 배치가 나올 때까지 계속 가져간다")
+  void drain_loopsWhileBatchIsFull() {
+    given(repository.claimDue(LEASE, S3Service.MAX_DELETE_BATCH))
+        .willReturn(claimed(1, S3Service.MAX_DELETE_BATCH))
+        .willReturn(claimed(1 + S3Service.MAX_DELETE_BATCH, S3Service.MAX_DELETE_BATCH))
+        .willReturn(claimed(1 + 2L * S3Service.MAX_DELETE_BATCH, 5));
+    given(s3Service.deleteFiles(anyCollection())).willReturn(Set.of());
+
+    queue.drain();
+
+    verify(repository, times(3)).claimDue(LEASE, S3Service.MAX_DELETE_BATCH);
+    verify(s3Service, times(3)).deleteFiles(anyCollection());
+    verify(repository, times(3)).deleteAll(anyCollection());
+  }
+
+  @Test
+  @DisplayName("drain: 가져갈 행이 없으면 S3 를 호출하지 않는다")
+  void drain_nothingDue() {
+    given(repository.claimDue(LEASE, S3Service.MAX_DELETE_BATCH)).willReturn(List.of());
+
+    queue.drain();
+
+    verifyNoInteractions(s3Service);
+    verify(repository, never()).deleteAll(anyCollection());
+  }
+
+  @Test
+  @DisplayName("drain: 처리 중 예외가 나도 던지지 않는다 (가져간 행은 lease 뒤 다시 시도)")
+  void drain_swallowsFailure() {
+    given(repository.claimDue(LEASE, S3Service.MAX_DELETE_BATCH)).willReturn(claimed(1, 1));
+    given(s3Service.deleteFiles(anyCollection())).willReturn(Set.of());
+    willThrow(new IllegalStateException("db down")).given(repository).deleteAll(anyCollection());
+
+    queue.drain();
+
+    verify(repository, never()).retryLater(anyCollection(), any(), any());
+  }
+
+  @Test
+  @DisplayName("enqueue: 트랜잭션 안이면 행만 남기고, 커밋 후에 삭제를 시작한다")
+  void enqueue_drainsAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    queue.enqueue(List.of("posts/1.jpg", "posts/2.jpg"));
+
+    verify(repository).insertAll(List.of("posts/1.jpg", "posts/2.jpg"));
+    List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    assertThat(synchronizations).hasSize(1);
+    verify(repository, never()).claimDue(any(), anyInt());
+
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+    verify(repository, timeout(1000)).claimDue(LEASE, S3Service.MAX_DELETE_BATCH);
+  }
+
+  @Test
+  @DisplayName("enqueue: 빈 목록이면 아무것도 하지 않는다")
+  void enqueue_empty() {
+    queue.enqueue(List.of());
+
+    verifyNoInteractions(repository, s3Service);
+  }
+}
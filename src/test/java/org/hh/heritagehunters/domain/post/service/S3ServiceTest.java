@@ -0,0 +1,304 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+/**
+ * 스트리밍 업로드 테스트 - 실제 S3 대신 메모리에 객체를 저장하는 S3Client 로 확인한다
+ */
+class S3ServiceTest {
+
+  private static final String BUCKET = "test-bucket";
+
+  private FakeS3Client s3;
+  private S3Service s3Service;
+
+  @BeforeEach
+  void setUp() {
+    s3 = new FakeS3Client();
+    // 서명은 로컬 계산이라 네트워크 없이 만들어짐
+    S3Presigner presigner = S3Presigner.builder()
+        .region(Region.AP_NORTHEAST_2)
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+        .build();
+    s3Service = new S3Service(s3, presigner);
+    ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+    ReflectionTestUtils.setField(s3Service, "region", "ap-northeast-2");
+    ReflectionTestUtils.setField(s3Service, "multipartThreshold", DataSize.ofBytes(64));
+    ReflectionTestUtils.setField(s3Service, "partSize", DataSize.ofBytes(20));
+  }
+
+  @Test
+  @DisplayName("임계값 이하는 PutObject 한 번으로 길이와 타입을 지정해 올린다")
+  void upload_small_singlePut() {
+    byte[] data = bytes(50);
+
+    s3Service.upload("posts/a.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg");
+
+    assertThat(s3.objects.get("posts/a.jpg")).isEqualTo(data);
+    assertThat(s3.putRequests).singleElement().satisfies(req -> {
+      assertThat(req.contentLength()).isEqualTo(50L);
+      assertThat(req.contentType()).isEqualTo("image/jpeg");
+    });
+    assertThat(s3.partSizes).isEmpty();
+  }
+
+  @Test
+  @DisplayName("임계값을 넘으면 파트 크기 단위로 멀티파트 업로드하고 순서대로 합친다")
+  void upload_large_multipart() {
+    byte[] data = bytes(105);
+
+    s3Service.upload("posts/b.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg");
+
+    assertThat(s3.objects.get("posts/b.jpg")).isEqualTo(data);
+    assertThat(s3.putRequests).isEmpty();
+    assertThat(s3.partSizes).containsExactly(20, 20, 20, 20, 20, 5);
+  }
+
+  @Test
+  @DisplayName("멀티파트 도중 스트림이 실패하면 업로드를 중단(abort)하고 객체를 남기지 않는다")
+  void upload_multipartFailure_aborts() {
+    byte[] data = bytes(105);
+    ByteArrayInputStream failing = new ByteArrayInputStream(data) {
+      @Override
+      public int read(byte[] b, int off, int len) {
+        if (pos >= 40) {
+          throw new UncheckedIOException(new IOException("connection reset"));
+        }
+        return super.read(b, off, len);
+      }
+    };
+
+    assertThatThrownBy(() -> s3Service.upload("posts/c.jpg", failing, data.length, "image/jpeg"))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(s3.aborted).containsExactly("posts/c.jpg");
+    assertThat(s3.objects).doesNotContainKey("posts/c.jpg");
+  }
+
+  @Test
+  @DisplayName("MultipartFile 은 임시 파일 없이 입력 스트림으로 올라가고 URL 을 돌려준다")
+  void uploadImage_streamsMultipartFile() {
+    ImageUploadService imageUploadService = new ImageUploadService(s3Service);
+    byte[] data = bytes(30);
+    MockMultipartFile file = new MockMultipartFile("images", "photo.png", "image/png", data);
+
+    String url = imageUploadService.uploadImage(file);
+
+    assertThat(url).startsWith("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/posts/");
+    String key = s3Service.extractKeyFromUrl(url);
+    assertThat(s3.objects.get(key)).isEqualTo(data);
+  }
+
+  @Test
+  @DisplayName("일괄 삭제는 1000개씩 DeleteObjects 로 나눠 보내고, 실패한 키만 돌려준다")
+  void deleteFiles_batchesAndReportsFailures() {
+    List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "posts/" + i + ".jpg").toList();
+    keys.forEach(k -> s3.objects.put(k, bytes(1)));
+    s3.deleteDenied.add("posts/7.jpg");
+
+    Set<String> failed = s3Service.deleteFiles(keys);
+
+    assertThat(s3.deleteBatchSizes).containsExactly(1000, 1000, 500);
+    assertThat(failed).containsExactly("posts/7.jpg");
+    assertThat(s3.objects).containsOnlyKeys("posts/7.jpg");
+  }
+
+  @Test
+  @DisplayName("DeleteObjects 요청 자체가 실패하면 그 묶음의 키를 모두 실패로 돌려준다")
+  void deleteFiles_requestFailure_failsWholeBatch() {
+    s3.failDeletes = true;
+
+    Set<String> failed = s3Service.deleteFiles(List.of("posts/a.jpg", "posts/b.jpg"));
+
+    assertThat(failed).containsExactlyInAnyOrder("posts/a.jpg", "posts/b.jpg");
+  }
+
+  @Test
+  @DisplayName("이 버킷의 URL 만 S3 파일 URL 로 본다")
+  void isFileUrl() {
+    assertThat(s3Service.isFileUrl(s3Service.getFileUrl("posts/a.jpg"))).isTrue();
+    assertThat(s3Service.isFileUrl("https://k.kakaocdn.net/profile.jpg")).isFalse();
+    assertThat(s3Service.isFileUrl(null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("presigned PUT URL 은 키를 가리키고 Content-Type/Content-Length 를 서명에 포함한다")
+  void presignUpload_signsTypeAndLength() {
+    PresignedPutObjectRequest request =
+        s3Service.presignUpload("staging/posts/a.jpg", "image/jpeg", 1234, Duration.ofMinutes(10));
+
+    assertThat(request.url().toString()).contains("staging/posts/a.jpg").contains("X-Amz-Signature=");
+    assertThat(request.signedHeaders()).containsKeys("content-type", "content-length");
+    assertThat(request.signedHeaders().get("content-length")).containsExactly("1234");
+  }
+
+  @Test
+  @DisplayName("S3 호환 저장소 주소를 지정하면 파일 URL 은 path-style 로 만든다")
+  void fileUrl_withEndpoint_isPathStyle() {
+    ReflectionTestUtils.setField(s3Service, "endpoint", "http://localhost:9000/");
+
+    String url = s3Service.getFileUrl("posts/a.jpg");
+
+    assertThat(url).isEqualTo("http://localhost:9000/" + BUCKET + "/posts/a.jpg");
+    assertThat(s3Service.isFileUrl(url)).isTrue();
+    assertThat(s3Service.extractKeyFromUrl(url)).isEqualTo("posts/a.jpg");
+  }
+
+  @Test
+  @DisplayName("파일 정보 조회는 없는 키면 empty 를 돌려준다")
+  void headFile() {
+    s3.objects.put("posts/a.jpg", bytes(10));
+
+    assertThat(s3Service.headFile("posts/a.jpg")).get()
+        .extracting(HeadObjectResponse::contentLength).isEqualTo(10L);
+    assertThat(s3Service.headFile("posts/missing.jpg")).isEmpty();
+  }
+
+  private static byte[] bytes(int n) {
+    byte[] data = new byte[n];
+    for (int i = 0; i < n; i++) {
+      data[i] = (byte) i;
+    }
+    return data;
+  }
+
+  /** 업로드/일괄 삭제 관련 호출만 구현한 메모리 S3 */
+  private static class FakeS3Client implements S3Client {
+
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    final List<PutObjectRequest> putRequests = new ArrayList<>();
+    final List<Integer> partSizes = new ArrayList<>();
+    final List<String> aborted = new ArrayList<>();
+    final List<Integer> deleteBatchSizes = new ArrayList<>();
+    final Set<String> deleteDenied = ConcurrentHashMap.newKeySet();
+    boolean failDeletes;
+    private final Map<String, TreeMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+      putRequests.add(request);
+      objects.put(request.key(), read(body));
+      return PutObjectResponse.builder().eTag("etag").build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+      String uploadId = "upload-" + request.key();
+      uploads.put(uploadId, new TreeMap<>());
+      return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+      byte[] part = read(body);
+      partSizes.add(part.length);
+      uploads.get(request.uploadId()).put(request.partNumber(), part);
+      return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+      TreeMap<Integer, byte[]> parts = uploads.remove(request.uploadId());
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (CompletedPart p : request.multipartUpload().parts()) {
+        out.writeBytes(parts.get(p.partNumber()));
+      }
+      objects.put(request.key(), out.toByteArray());
+      return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+      uploads.remove(request.uploadId());
+      aborted.add(request.key());
+      return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+      if (failDeletes) {
+        throw S3Exception.builder().message("service unavailable").statusCode(503).build();
+      }
+      List<S3Error> errors = new ArrayList<>();
+      deleteBatchSizes.add(request.delete().objects().size());
+      for (ObjectIdentifier object : request.delete().objects()) {
+        if (deleteDenied.contains(object.key())) {
+          errors.add(S3Error.builder().key(object.key()).code("AccessDenied").message("denied").build());
+        } else {
+          objects.remove(object.key());
+        }
+      }
+      return DeleteObjectsResponse.builder().errors(errors).build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+      byte[] data = objects.get(request.key());
+      if (data == null) {
+        throw S3Exception.builder().message("not found").statusCode(404).build();
+      }
+      return HeadObjectResponse.builder().contentLength((long) data.length).build();
+    }
+
+    @Override
+    public String serviceName() {
+      return "s3";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static byte[] read(RequestBody body) {
+      try (var in = body.contentStreamProvider().newStream()) {
+        return in.readAllBytes();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
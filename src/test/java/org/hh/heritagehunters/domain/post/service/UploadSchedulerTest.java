@@ -0,0 +1,117 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.hh.heritagehunters.common.exception.BadRequestException;
+import org.hh.heritagehunters.common.exception.TooManyRequestsException;
+import org.hh.heritagehunters.common.exception.payload.ErrorCode;
+import org.hh.heritagehunters.domain.post.dto.response.UploadStatsResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UploadSchedulerTest {
+
+  // threads 1 + queue 2 → 최대 3건, 사용자당 2건
+  private final UploadScheduler scheduler = new UploadScheduler(1, 2, 2, false);
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  @DisplayName("사용자 한도를 넘으면 UPLOAD_USER_LIMIT, 전체 자리가 차면 UPLOAD_BUSY 로 바로 거절한다")
+  void admit_rejectsFast() {
+    UploadScheduler.Permit first = scheduler.admit(1L, 2, 100);
+
+    assertThatThrownBy(() -> scheduler.admit(1L, 1, 10))
+        .isInstanceOf(TooManyRequestsException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_USER_LIMIT);
+
+    UploadScheduler.Permit second = scheduler.admit(2L, 1, 10);
+    assertThatThrownBy(() -> scheduler.admit(3L, 1, 10))
+        .isInstanceOf(TooManyRequestsException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.UPLOAD_BUSY);
+
+    UploadStatsResponseDto stats = scheduler.snapshot();
+    assertThat(stats.bytesInFlight()).isEqualTo(110);
+    assertThat(stats.rejectedUserLimit()).isEqualTo(1);
+    assertThat(stats.rejectedBusy()).isEqualTo(1);
+
+    first.close();
+    first.close(); // 두 번 닫아도 한 번만 반납
+    second.close();
+    assertThat(scheduler.snapshot().bytesInFlight()).isZero();
+    scheduler.admit(3L, 3, 0).close();
+  }
+
+  @Test
+  @DisplayName("진행 중인 업로드가 없으면 한 요청이 사용자 한도보다 많아도 받는다")
+  void admit_allowsSingleLargeRequest() {
+    scheduler.admit(1L, 3, 0).close();
+  }
+
+  @Test
+  @DisplayName("한 요청의 업로드 수가 전체 자리보다 많으면 429 가 아닌 TOO_MANY_IMAGES(400)로 거절하고 자리를 잡지 않는다")
+  void admit_rejectsRequestLargerThanCapacity() {
+    assertThatThrownBy(() -> scheduler.admit(1L, 4, 10))
+        .isInstanceOf(BadRequestException.class)
+        .extracting("errorCode").isEqualTo(ErrorCode.TOO_MANY_IMAGES);
+
+    UploadStatsResponseDto stats = scheduler.snapshot();
+    assertThat(stats.bytesInFlight()).isZero();
+    assertThat(stats.rejectedBusy()).isZero();
+    assertThat(stats.rejectedUserLimit()).isZero();
+    scheduler.admit(1L, 3, 0).close();
+  }
+
+  @Test
+  @DisplayName("실행 중/대기 중 수와 완료/실패, 시간 분포를 기록한다")
+  void submit_recordsStats() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    try (UploadScheduler.Permit permit = scheduler.admit(1L, 2, 0)) {
+      CompletableFuture<String> blocking = scheduler.submit(() -> {
+        await(release);
+        return "ok";
+      });
+      CompletableFuture<String> failing = scheduler.submit(() -> {
+        throw new IllegalStateException("boom");
+      });
+
+      waitUntil(() -> scheduler.snapshot().active() == 1 && scheduler.snapshot().queued() == 1);
+      release.countDown();
+      assertThat(blocking.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+      assertThat(failing).failsWithin(5, TimeUnit.SECONDS);
+    }
+
+    UploadStatsResponseDto stats = scheduler.snapshot();
+    assertThat(stats.completed()).isEqualTo(1);
+    assertThat(stats.failed()).isEqualTo(1);
+    assertThat(stats.active()).isZero();
+    assertThat(stats.queued()).isZero();
+    assertThat(stats.latency().stream().mapToLong(UploadStatsResponseDto.LatencyBucket::count).sum())
+        .isEqualTo(2);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package org.hh.heritagehunters.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository;
+import org.hh.heritagehunters.domain.post.repository.PostCounterRepository.Counter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 조회수 write-behind 버퍼 - DB 반영은 메모리 맵으로 대신한다
+ */
+class ViewCountBufferTest {
+
+  /** 반영된 조회수 (게시글 ID → 합계) */
+  private final Map<Long, Long> applied = new HashMap<>();
+  private boolean failing;
+
+  private final PostCounterRepository repository = new PostCounterRepository(null) {
+    @Override
+    public int addDeltas(Counter counter, Map<Long, Long> deltas) {
+      assertThat(counter).isEqualTo(Counter.VIEW);
+      if (failing) {
+        throw new IllegalStateException("db down");
+      }
+      deltas.forEach((id, d) -> applied.merge(id, d, Long::sum));
+      return deltas.size();
+    }
+  };
+
+  private ViewCountBuffer buffer(Duration dedupWindow) {
+    return new ViewCountBuffer(repository, dedupWindow);
+  }
+
+  @Test
+  @DisplayName("record: 같은 세션이 dedup-window 안에 다시 본 것은 세지 않고, 다른 세션/다른 글은 센다")
+  void record_dedupsWithinWindow() {
+    ViewCountBuffer buffer = buffer(Duration.ofMinutes(30));
+
+    assertThat(buffer.record(1L, "s1")).isTrue();
+    assertThat(buffer.record(1L, "s1")).isFalse();
+    assertThat(buffer.record(1L, "s2")).isTrue();
+    assertThat(buffer.record(2L, "s1")).isTrue();
+
+    assertThat(buffer.pending(1L)).isEqualTo(2);
+    assertThat(buffer.pending(2L)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("record: dedup-window 가 지난 뒤 다시 본 것은 센다")
+  void record_countsAfterWindow() throws InterruptedException {
+    ViewCountBuffer buffer = buffer(Duration.ofMillis(50));
+
+    assertThat(buffer.record(1L, "s1")).isTrue();
+    Thread.sleep(80);
+    assertThat(buffer.record(1L, "s1")).isTrue();
+    assertThat(buffer.pending(1L)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("record: viewerKey 가 null 이면 항상 센다")
+  void record_nullViewerAlwaysCounted() {
+    ViewCountBuffer buffer = buffer(Duration.ofMinutes(30));
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(buffer.record(1L, null)).isTrue();
+    }
+    assertThat(buffer.pending(1L)).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("record: 같은 세션의 동시 조회는 한 번만 센다")
+  void record_concurrentSameSessionCountedOnce() throws Exception {
+    ViewCountBuffer buffer = buffer(Duration.ofMinutes(30));
+    int threads = 16;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(pool.submit(() -> {
+          start.await();
+          return buffer.record(1L, "s1");
+        }));
+      }
+      start.countDown();
+
+      int counted = 0;
+      for (Future<Boolean> result : results) {
+        if (result.get(5, TimeUnit.SECONDS)) {
+          counted++;
+        }
+      }
+      assertThat(counted).isEqualTo(1);
+      assertThat(buffer.pending(1L)).isEqualTo(1);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("flush: 반영한 조회수는 pending 에서 빠지고, 반영 전까지는 pending 에 보인다")
+  void flush_appliesPending() {
+    ViewCountBuffer buffer = buffer(Duration.ZERO);
+    buffer.record(1L, "s1");
+    buffer.record(1L, "s1");
+    buffer.record(2L, null);
+    assertThat(buffer.pending(1L)).isEqualTo(2);
+    assertThat(applied).isEmpty();
+
+    buffer.flush();
+    assertThat(applied).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+    assertThat(buffer.pending(1L)).isZero();
+    assertThat(buffer.pending(2L)).isZero();
+  }
+
+  @Test
+  @DisplayName("flush: addDeltas 가 실패하면 꺼낸 조회수를 되돌려 다음 flush 에서 반영한다")
+  void flush_restoresOnFailure() {
+    ViewCountBuffer buffer = buffer(Duration.ZERO);
+    buffer.record(1L, null);
+    buffer.record(1L, null);
+
+    failing = true;
+    buffer.flush();
+    assertThat(applied).isEmpty();
+    assertThat(buffer.pending(1L)).isEqualTo(2);
+
+    buffer.record(1L, null);
+    failing = false;
+    buffer.flush();
+    assertThat(applied).containsExactlyEntriesOf(Map.of(1L, 3L));
+    assertThat(buffer.pending(1L)).isZero();
+  }
+}
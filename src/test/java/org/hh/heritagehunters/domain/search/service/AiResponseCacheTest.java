@@ -0,0 +1,130 @@
+package org.hh.heritagehunters.domain.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hh.heritagehunters.config.AiClientProperties;
+import org.hh.heritagehunters.domain.search.dto.AiQuestionResponse;
+import org.hh.heritagehunters.domain.search.dto.AiType;
+import org.hh.heritagehunters.domain.search.repository.AiResponseCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AI 응답 캐시 - DB 계층은 메모리 맵으로 대신한다
+ */
+class AiResponseCacheTest {
+
+  /** ai_response_cache 행 (만료 시간은 보지 않음) */
+  private final Map<String, AiQuestionResponse> stored = new ConcurrentHashMap<>();
+
+  private final AiResponseCacheRepository repository = new AiResponseCacheRepository(null) {
+    @Override
+    public Optional<Stored> find(String key) {
+      return Optional.ofNullable(stored.get(key)).map(r -> new Stored(r, 60_000));
+    }
+
+    @Override
+    public void upsert(String key, AiType type, AiQuestionResponse response, Duration ttl) {
+      stored.put(key, response);
+    }
+  };
+
+  private final AtomicInteger upstreamCalls = new AtomicInteger();
+  private AiClientProperties properties;
+  private AiResponseCache cache;
+
+  @BeforeEach
+  void setUp() {
+    properties = new AiClientProperties();
+    cache = new AiResponseCache(repository, properties);
+  }
+
+  private CompletableFuture<AiQuestionResponse> upstream(String content) {
+    upstreamCalls.incrementAndGet();
+    return CompletableFuture.completedFuture(new AiQuestionResponse(null, content));
+  }
+
+  @Test
+  @DisplayName("같은 타입+프롬프트는 두 번째부터 캐시된 응답을 쓰고, refresh 면 새로 부른다")
+  void get_cachesByTypeAndPrompt() {
+    assertThat(cache.get(AiType.news, "p", false, () -> upstream("a")).join().getContent()).isEqualTo("a");
+    assertThat(cache.get(AiType.news, "p", false, () -> upstream("b")).join().getContent()).isEqualTo("a");
+    assertThat(cache.get(AiType.weather, "p", false, () -> upstream("c")).join().getContent()).isEqualTo("c");
+
+    assertThat(cache.get(AiType.news, "p", true, () -> upstream("d")).join().getContent()).isEqualTo("d");
+    assertThat(cache.get(AiType.news, "p", false, () -> upstream("e")).join().getContent()).isEqualTo("d");
+    assertThat(upstreamCalls).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("동시에 들어온 같은 요청은 업스트림 호출 하나를 함께 기다린다")
+  void get_coalescesConcurrentRequests() {
+    CompletableFuture<AiQuestionResponse> pending = new CompletableFuture<>();
+    List<CompletableFuture<AiQuestionResponse>> results = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      results.add(cache.get(AiType.recommends, "p", false, () -> {
+        upstreamCalls.incrementAndGet();
+        return pending;
+      }));
+    }
+    assertThat(results).noneMatch(CompletableFuture::isDone);
+
+    pending.complete(new AiQuestionResponse(null, "shared"));
+
+    assertThat(results).allSatisfy(f ->
+        assertThat(f).succeedsWithin(1, TimeUnit.SECONDS).extracting(AiQuestionResponse::getContent)
+            .isEqualTo("shared"));
+    assertThat(upstreamCalls).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("실패와 빈 응답은 캐시하지 않는다")
+  void get_doesNotCacheFailures() {
+    CompletableFuture<AiQuestionResponse> failed =
+        cache.get(AiType.news, "p", false, () -> CompletableFuture.failedFuture(new IllegalStateException("502")));
+    assertThat(failed).isCompletedExceptionally();
+    cache.get(AiType.news, "p", false, () -> upstream(" ")).join();
+
+    assertThat(cache.get(AiType.news, "p", false, () -> upstream("ok")).join().getContent()).isEqualTo("ok");
+    assertThat(upstreamCalls).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("요약은 DB 에도 저장되어 새 인스턴스(재시작)에서도 업스트림 없이 쓴다")
+  void get_persistentTierSurvivesRestart() {
+    cache.get(AiType.summary, "본문", false, () -> upstream("요약")).join();
+    cache.get(AiType.weather, "주소", false, () -> upstream("맑음")).join();
+    assertThat(stored).hasSize(1);
+
+    AiResponseCache restarted = new AiResponseCache(repository, properties);
+    assertThat(restarted.get(AiType.summary, "본문", false, () -> upstream("다시")).join().getContent())
+        .isEqualTo("요약");
+    assertThat(restarted.get(AiType.weather, "주소", false, () -> upstream("흐림")).join().getContent())
+        .isEqualTo("흐림");
+    assertThat(upstreamCalls).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("메모리 캐시는 max-entries 를 넘으면 가장 오래 안 쓴 것부터 버린다")
+  void get_evictsLeastRecentlyUsed() {
+    properties.getCache().setMaxEntries(2);
+    cache.get(AiType.news, "1", false, () -> upstream("1")).join();
+    cache.get(AiType.news, "2", false, () -> upstream("2")).join();
+    cache.get(AiType.news, "1", false, () -> upstream("x")).join(); // 1 을 최근 사용으로
+    cache.get(AiType.news, "3", false, () -> upstream("3")).join();
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(AiType.news, "1", false, () -> upstream("1'")).join().getContent()).isEqualTo("1");
+    assertThat(cache.get(AiType.news, "2", false, () -> upstream("2'")).join().getContent()).isEqualTo("2'");
+  }
+}